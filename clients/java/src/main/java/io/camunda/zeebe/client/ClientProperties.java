@@ -158,5 +158,15 @@ public final class ClientProperties {
    */
   public static final String USE_DEFAULT_RETRY_POLICY = "zeebe.client.useDefaultRetryPolicy";
 
+  /**
+   * @see ZeebeClientBuilder#preferMsgPackVariables(boolean)
+   */
+  public static final String PREFER_MSGPACK_VARIABLES = "zeebe.client.preferMsgPackVariables";
+
+  /**
+   * @see ZeebeClientBuilder#jobCompletionLinger(Duration)
+   */
+  public static final String JOB_COMPLETION_LINGER = "zeebe.client.job.completionLinger";
+
   private ClientProperties() {}
 }
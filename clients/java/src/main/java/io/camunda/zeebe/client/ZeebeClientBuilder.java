@@ -223,6 +223,42 @@ public interface ZeebeClientBuilder {
   @Deprecated
   ZeebeClientBuilder preferRestOverGrpc(final boolean preferRestOverGrpc);
 
+  /**
+   * If enabled, the variables of activated jobs and of job completions are exchanged with the
+   * gateway as MessagePack, which is the format the broker stores them in, instead of JSON. This
+   * saves the gateway from converting the variables of every job, which matters for large payloads.
+   * False by default.
+   *
+   * <p>NOTE: this applies to job activation, job streaming and job completion over gRPC only. A
+   * gateway which doesn't support it ignores the flag and returns the variables as JSON, as usual.
+   * Completion variables are only sent as MessagePack for jobs which were activated with
+   * MessagePack variables, and which are completed with {@link
+   * io.camunda.zeebe.client.api.worker.JobClient#newCompleteCommand(
+   * io.camunda.zeebe.client.api.response.ActivatedJob)}; otherwise, the gateway may not support
+   * them, and they are sent as JSON. Variables given as objects or maps are serialized with the
+   * {@link io.camunda.zeebe.client.impl.ZeebeObjectMapper} configuration if the client uses one,
+   * variables given as JSON strings or streams are still sent as JSON.
+   *
+   * @param preferMsgPackVariables if true, the client exchanges job variables as MessagePack
+   * @return this builder for chaining
+   */
+  ZeebeClientBuilder preferMsgPackVariables(final boolean preferMsgPackVariables);
+
+  /**
+   * If set to a positive duration, the completions of jobs are held back up to this long and sent
+   * to the gateway together, with one CompleteJobs request, instead of one request per job. This
+   * reduces the number of requests of workers which complete many small jobs, at the cost of up to
+   * this much extra latency per completion. Zero by default, which sends every completion right
+   * away.
+   *
+   * <p>NOTE: this applies to job completions over gRPC only. If the gateway doesn't support
+   * CompleteJobs requests, the completions are sent one by one.
+   *
+   * @param linger how long a job completion may wait for other completions
+   * @return this builder for chaining
+   */
+  ZeebeClientBuilder jobCompletionLinger(final Duration linger);
+
   /**
    * @return a new {@link ZeebeClient} with the provided configuration options.
    */
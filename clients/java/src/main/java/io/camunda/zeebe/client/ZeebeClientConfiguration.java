@@ -155,4 +155,14 @@ public interface ZeebeClientConfiguration {
    */
   @ExperimentalApi("https://github.com/camunda/camunda/issues/16166")
   boolean preferRestOverGrpc();
+
+  /**
+   * @see ZeebeClientBuilder#preferMsgPackVariables(boolean)
+   */
+  boolean preferMsgPackVariables();
+
+  /**
+   * @see ZeebeClientBuilder#jobCompletionLinger(Duration)
+   */
+  Duration getJobCompletionLinger();
 }
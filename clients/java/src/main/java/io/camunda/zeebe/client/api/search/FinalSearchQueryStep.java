@@ -15,12 +15,37 @@
  */
 package io.camunda.zeebe.client.api.search;
 
+import io.camunda.zeebe.client.api.ZeebeFuture;
 import io.camunda.zeebe.client.api.command.FinalCommandStep;
 import io.camunda.zeebe.client.api.search.response.SearchQueryResponse;
+import io.camunda.zeebe.client.api.search.response.SearchResponsePage;
 import java.time.Duration;
+import java.util.function.Consumer;
 
 public interface FinalSearchQueryStep<T> extends FinalCommandStep<SearchQueryResponse<T>> {
 
   @Override
   FinalSearchQueryStep<T> requestTimeout(Duration requestTimeout);
+
+  /**
+   * Sends the search request, and passes each returned item to the given consumer as soon as it has
+   * been read from the response, instead of collecting all items in a list first. Prefer this over
+   * {@link #send()} for queries returning many items.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newProcessInstanceQuery()
+   *  .page((p) -> p.limit(1000))
+   *  .send(instance -> process(instance))
+   *  .join();
+   * </pre>
+   *
+   * <p>NOTE: the consumer is called on the client's I/O thread, so it should not block. If it
+   * throws an exception, the request is aborted and the returned future is completed exceptionally.
+   *
+   * @param itemConsumer receives the returned items, in order
+   * @return a future which is completed with the information about the returned page once all items
+   *     were passed to the consumer
+   */
+  ZeebeFuture<SearchResponsePage> send(Consumer<T> itemConsumer);
 }
@@ -232,6 +232,27 @@ public interface JobWorkerBuilderStep1 {
     @ExperimentalApi("https://github.com/camunda/camunda/issues/11231")
     JobWorkerBuilderStep3 streamTimeout(final Duration timeout);
 
+    /**
+     * Opt-in to execute the job handler on a new virtual thread per job, instead of on the client's
+     * job worker executor. A handler which blocks, e.g. on HTTP or database calls, then only parks
+     * its virtual thread, so that the worker can work on up to {@link #maxJobsActive(int)} jobs at
+     * the same time, using only a few carrier threads. The number of concurrently running handlers
+     * is limited to {@code maxJobsActive}.
+     *
+     * <p>NOTE: virtual threads require Java 21 or newer. Opening the worker fails with an {@link
+     * UnsupportedOperationException} on older Java runtimes.
+     *
+     * <p>NOTE: executing job handlers on virtual threads is still experimental, see the <a
+     * href="https://github.com/camunda/camunda/issues?q=is%3Aissue+virtual+threads+job+worker">tracking
+     * issues</a>.
+     *
+     * @param virtualThreadsEnabled whether to execute the job handler on virtual threads
+     * @return the builder for this worker
+     */
+    @ExperimentalApi(
+        "https://github.com/camunda/camunda/issues?q=is%3Aissue+virtual+threads+job+worker")
+    JobWorkerBuilderStep3 virtualThreadsEnabled(boolean virtualThreadsEnabled);
+
     /**
      * Sets the job worker metrics implementation to use. See {@link JobWorkerMetrics} for more.
      * Defaults to {@link JobWorkerMetrics#noop()}, an implementation which simply does nothing.
@@ -39,6 +39,15 @@ public interface JobWorkerMetrics {
    */
   default void jobHandled(final int count) {}
 
+  /**
+   * Called every time one or more jobs are rejected by the worker, because it is already handling
+   * the maximum number of jobs at the same time (see {@code maxJobsActive}). Rejected jobs are not
+   * handled, and are activated again once their timeout is over.
+   *
+   * @param count the amount of jobs that were rejected
+   */
+  default void jobRejected(final int count) {}
+
   /**
    * Returns a new builder for the Micrometer bridge.
    *
@@ -32,6 +32,7 @@ import io.micrometer.core.instrument.Tag;
  * <ul>
  *   <li>A counter for the jobs activated count
  *   <li>A counter for the jobs handled count
+ *   <li>A counter for the jobs rejected count
  * </ul>
  *
  * From these counters you can derive the rate of jobs activated, the rate of jobs handled, and
@@ -78,6 +79,14 @@ public interface MicrometerJobWorkerMetricsBuilder {
       public String asString() {
         return "zeebe.client.worker.job.handled";
       }
+    },
+
+    /** Counter backing the {@link JobWorkerMetrics#jobRejected(int)} count. */
+    JOB_REJECTED {
+      @Override
+      public String asString() {
+        return "zeebe.client.worker.job.rejected";
+      }
     }
   }
 }
@@ -26,12 +26,14 @@ import static io.camunda.zeebe.client.ClientProperties.DEFAULT_REQUEST_TIMEOUT;
 import static io.camunda.zeebe.client.ClientProperties.DEFAULT_TENANT_ID;
 import static io.camunda.zeebe.client.ClientProperties.GATEWAY_ADDRESS;
 import static io.camunda.zeebe.client.ClientProperties.GRPC_ADDRESS;
+import static io.camunda.zeebe.client.ClientProperties.JOB_COMPLETION_LINGER;
 import static io.camunda.zeebe.client.ClientProperties.JOB_WORKER_EXECUTION_THREADS;
 import static io.camunda.zeebe.client.ClientProperties.JOB_WORKER_MAX_JOBS_ACTIVE;
 import static io.camunda.zeebe.client.ClientProperties.KEEP_ALIVE;
 import static io.camunda.zeebe.client.ClientProperties.MAX_MESSAGE_SIZE;
 import static io.camunda.zeebe.client.ClientProperties.MAX_METADATA_SIZE;
 import static io.camunda.zeebe.client.ClientProperties.OVERRIDE_AUTHORITY;
+import static io.camunda.zeebe.client.ClientProperties.PREFER_MSGPACK_VARIABLES;
 import static io.camunda.zeebe.client.ClientProperties.PREFER_REST_OVER_GRPC;
 import static io.camunda.zeebe.client.ClientProperties.REST_ADDRESS;
 import static io.camunda.zeebe.client.ClientProperties.STREAM_ENABLED;
@@ -80,6 +82,8 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
       "ZEEBE_DEFAULT_JOB_WORKER_TENANT_IDS";
   public static final String DEFAULT_JOB_WORKER_NAME_VAR = "default";
   public static final String USE_DEFAULT_RETRY_POLICY_VAR = "ZEEBE_CLIENT_USE_DEFAULT_RETRY_POLICY";
+  public static final String PREFER_MSGPACK_VARIABLES_VAR = "ZEEBE_CLIENT_PREFER_MSGPACK_VARIABLES";
+  public static final String JOB_COMPLETION_LINGER_VAR = "ZEEBE_CLIENT_JOB_COMPLETION_LINGER";
   private static final String TENANT_ID_LIST_SEPARATOR = ",";
   private static final boolean DEFAULT_PREFER_REST_OVER_GRPC = false;
 
@@ -90,6 +94,7 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
   private URI restAddress = DEFAULT_REST_ADDRESS;
   private URI grpcAddress = DEFAULT_GRPC_ADDRESS;
   private boolean preferRestOverGrpc = DEFAULT_PREFER_REST_OVER_GRPC;
+  private boolean preferMsgPackVariables;
   private String defaultTenantId = CommandWithTenantStep.DEFAULT_TENANT_IDENTIFIER;
   private List<String> defaultJobWorkerTenantIds =
       Collections.singletonList(CommandWithTenantStep.DEFAULT_TENANT_IDENTIFIER);
@@ -100,6 +105,7 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
   private Duration defaultJobPollInterval = Duration.ofMillis(100);
   private Duration defaultMessageTimeToLive = Duration.ofHours(1);
   private Duration defaultRequestTimeout = Duration.ofSeconds(10);
+  private Duration jobCompletionLinger = Duration.ZERO;
   private boolean usePlaintextConnection = false;
   private String certificatePath;
   private CredentialsProvider credentialsProvider;
@@ -244,6 +250,16 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return preferRestOverGrpc;
   }
 
+  @Override
+  public boolean preferMsgPackVariables() {
+    return preferMsgPackVariables;
+  }
+
+  @Override
+  public Duration getJobCompletionLinger() {
+    return jobCompletionLinger;
+  }
+
   @Override
   public ZeebeClientBuilder withProperties(final Properties properties) {
     BuilderUtils.applyIfNotNull(
@@ -345,6 +361,16 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
         USE_DEFAULT_RETRY_POLICY,
         value -> useDefaultRetryPolicy(Boolean.parseBoolean(value)));
 
+    BuilderUtils.applyIfNotNull(
+        properties,
+        PREFER_MSGPACK_VARIABLES,
+        value -> preferMsgPackVariables(Boolean.parseBoolean(value)));
+
+    BuilderUtils.applyIfNotNull(
+        properties,
+        JOB_COMPLETION_LINGER,
+        value -> jobCompletionLinger(Duration.ofMillis(Long.parseLong(value))));
+
     return this;
   }
 
@@ -514,6 +540,18 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return this;
   }
 
+  @Override
+  public ZeebeClientBuilder preferMsgPackVariables(final boolean preferMsgPackVariables) {
+    this.preferMsgPackVariables = preferMsgPackVariables;
+    return this;
+  }
+
+  @Override
+  public ZeebeClientBuilder jobCompletionLinger(final Duration linger) {
+    jobCompletionLinger = linger;
+    return this;
+  }
+
   @Override
   public ZeebeClient build() {
     if (applyEnvironmentVariableOverrides) {
@@ -571,6 +609,13 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
 
     BuilderUtils.applyIfNotNull(
         USE_DEFAULT_RETRY_POLICY_VAR, value -> useDefaultRetryPolicy(Boolean.parseBoolean(value)));
+
+    BuilderUtils.applyIfNotNull(
+        PREFER_MSGPACK_VARIABLES_VAR, value -> preferMsgPackVariables(Boolean.parseBoolean(value)));
+
+    BuilderUtils.applyIfNotNull(
+        JOB_COMPLETION_LINGER_VAR,
+        value -> jobCompletionLinger(Duration.ofMillis(Long.parseLong(value))));
   }
 
   @Override
@@ -595,6 +640,8 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     BuilderUtils.appendProperty(sb, "ownsJobWorkerExecutor", ownsJobWorkerExecutor);
     BuilderUtils.appendProperty(sb, "streamEnabled", streamEnabled);
     BuilderUtils.appendProperty(sb, "preferRestOverGrpc", preferRestOverGrpc);
+    BuilderUtils.appendProperty(sb, "preferMsgPackVariables", preferMsgPackVariables);
+    BuilderUtils.appendProperty(sb, "jobCompletionLinger", jobCompletionLinger);
 
     return sb.toString();
   }
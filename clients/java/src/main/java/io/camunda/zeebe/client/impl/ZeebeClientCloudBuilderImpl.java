@@ -269,6 +269,18 @@ public class ZeebeClientCloudBuilderImpl
     return this;
   }
 
+  @Override
+  public ZeebeClientBuilder preferMsgPackVariables(final boolean preferMsgPackVariables) {
+    innerBuilder.preferMsgPackVariables(preferMsgPackVariables);
+    return this;
+  }
+
+  @Override
+  public ZeebeClientBuilder jobCompletionLinger(final Duration linger) {
+    innerBuilder.jobCompletionLinger(linger);
+    return this;
+  }
+
   @Override
   public ZeebeClient build() {
     innerBuilder.grpcAddress(determineGrpcAddress());
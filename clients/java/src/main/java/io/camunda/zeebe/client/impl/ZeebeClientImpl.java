@@ -79,6 +79,7 @@ import io.camunda.zeebe.client.impl.search.UserTaskQueryImpl;
 import io.camunda.zeebe.client.impl.util.ExecutorResource;
 import io.camunda.zeebe.client.impl.util.VersionUtil;
 import io.camunda.zeebe.client.impl.worker.JobClientImpl;
+import io.camunda.zeebe.client.impl.worker.JobCompletionBatcher;
 import io.camunda.zeebe.client.impl.worker.JobWorkerBuilderImpl;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
@@ -93,6 +94,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -484,8 +486,21 @@ public final class ZeebeClientImpl implements ZeebeClient {
   }
 
   private JobClient newJobClient() {
+    JobCompletionBatcher completionBatcher = null;
+    final Duration completionLinger = config.getJobCompletionLinger();
+    if (completionLinger != null && !completionLinger.isZero() && !completionLinger.isNegative()) {
+      completionBatcher =
+          new JobCompletionBatcher(asyncStub, executorResource.executor(), completionLinger);
+      // closed before the channel, so that pending completions are still sent
+      closeables.add(completionBatcher);
+    }
     return new JobClientImpl(
-        asyncStub, httpClient, config, jsonMapper, credentialsProvider::shouldRetryRequest);
+        asyncStub,
+        httpClient,
+        config,
+        jsonMapper,
+        credentialsProvider::shouldRetryRequest,
+        completionBatcher);
   }
 
   @Override
@@ -495,7 +510,7 @@ public final class ZeebeClientImpl implements ZeebeClient {
 
   @Override
   public CompleteJobCommandStep1 newCompleteCommand(final ActivatedJob job) {
-    return newCompleteCommand(job.getKey());
+    return jobClient.newCompleteCommand(job);
   }
 
   @Override
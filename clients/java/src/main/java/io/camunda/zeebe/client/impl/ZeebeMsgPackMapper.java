@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.camunda.zeebe.client.api.JsonMapper;
+import io.camunda.zeebe.client.api.command.InternalClientException;
+import java.io.IOException;
+import java.util.Map;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+/**
+ * Serializes job variables to and from MessagePack, for clients which exchange variables with the
+ * gateway as MessagePack instead of JSON.
+ *
+ * <p>If the client uses a {@link ZeebeObjectMapper}, its configuration (e.g. registered modules) is
+ * applied to MessagePack as well. Any other {@link JsonMapper} is honored by converting through
+ * JSON, which gives up on the savings but keeps the mapping the same.
+ */
+public final class ZeebeMsgPackMapper {
+
+  private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE =
+      new TypeReference<Map<String, Object>>() {};
+
+  private static final ObjectMapper DEFAULT_MSGPACK_MAPPER =
+      new ObjectMapper(new MessagePackFactory())
+          .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+          .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private static final ObjectMapper JSON_TREE_MAPPER = new ObjectMapper();
+
+  private final ObjectMapper msgPackMapper;
+  // set if the objects have to be mapped by a custom JSON mapper
+  private final JsonMapper jsonMapper;
+
+  ZeebeMsgPackMapper(final ObjectMapper msgPackMapper, final JsonMapper jsonMapper) {
+    this.msgPackMapper = msgPackMapper;
+    this.jsonMapper = jsonMapper;
+  }
+
+  public static ZeebeMsgPackMapper of(final JsonMapper jsonMapper) {
+    if (jsonMapper instanceof ZeebeObjectMapper) {
+      return ((ZeebeObjectMapper) jsonMapper).getMsgPackMapper();
+    }
+    return new ZeebeMsgPackMapper(DEFAULT_MSGPACK_MAPPER, jsonMapper);
+  }
+
+  public byte[] toMsgPack(final Object value) {
+    try {
+      if (jsonMapper != null) {
+        return msgPackMapper.writeValueAsBytes(JSON_TREE_MAPPER.readTree(jsonMapper.toJson(value)));
+      }
+      return msgPackMapper.writeValueAsBytes(value);
+    } catch (final IOException e) {
+      throw new InternalClientException(
+          String.format("Failed to serialize object '%s' to MessagePack", value), e);
+    }
+  }
+
+  public Map<String, Object> fromMsgPackAsMap(final byte[] msgPack) {
+    try {
+      return msgPackMapper.readValue(msgPack, MAP_TYPE_REFERENCE);
+    } catch (final IOException e) {
+      throw new InternalClientException(
+          "Failed to deserialize MessagePack to 'Map<String, Object>'", e);
+    }
+  }
+
+  public <T> T fromMsgPack(final byte[] msgPack, final Class<T> typeClass) {
+    if (jsonMapper != null) {
+      return jsonMapper.fromJson(toJson(msgPack), typeClass);
+    }
+
+    try {
+      return msgPackMapper.readValue(msgPack, typeClass);
+    } catch (final IOException e) {
+      throw new InternalClientException(
+          String.format("Failed to deserialize MessagePack to class '%s'", typeClass), e);
+    }
+  }
+
+  public String toJson(final byte[] msgPack) {
+    try {
+      return msgPackMapper.readTree(msgPack).toString();
+    } catch (final IOException e) {
+      throw new InternalClientException("Failed to convert MessagePack to json", e);
+    }
+  }
+}
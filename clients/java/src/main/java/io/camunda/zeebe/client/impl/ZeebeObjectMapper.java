@@ -25,6 +25,7 @@ import io.camunda.zeebe.client.api.command.InternalClientException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
 
 public final class ZeebeObjectMapper implements JsonMapper {
 
@@ -35,6 +36,7 @@ public final class ZeebeObjectMapper implements JsonMapper {
       new TypeReference<Map<String, String>>() {};
 
   private final ObjectMapper objectMapper;
+  private volatile ZeebeMsgPackMapper msgPackMapper;
 
   public ZeebeObjectMapper() {
     this(new ObjectMapper());
@@ -47,6 +49,17 @@ public final class ZeebeObjectMapper implements JsonMapper {
         .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
   }
 
+  /**
+   * @return a mapper which serializes variables to MessagePack with the configuration of this
+   *     mapper
+   */
+  ZeebeMsgPackMapper getMsgPackMapper() {
+    if (msgPackMapper == null) {
+      msgPackMapper = new ZeebeMsgPackMapper(objectMapper.copyWith(new MessagePackFactory()), null);
+    }
+    return msgPackMapper;
+  }
+
   @Override
   public <T> T fromJson(final String json, final Class<T> typeClass) {
     try {
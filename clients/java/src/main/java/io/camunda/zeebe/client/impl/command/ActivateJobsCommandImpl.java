@@ -79,6 +79,7 @@ public final class ActivateJobsCommandImpl
     timeout(config.getDefaultJobTimeout());
     workerName(config.getDefaultJobWorkerName());
     useRest = config.preferRestOverGrpc();
+    grpcRequestObjectBuilder.setMsgPackVariables(config.preferMsgPackVariables());
     defaultTenantIds = new HashSet<>(config.getDefaultJobWorkerTenantIds());
     customTenantIds = new HashSet<>();
   }
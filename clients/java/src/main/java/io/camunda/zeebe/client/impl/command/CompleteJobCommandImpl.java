@@ -15,6 +15,7 @@
  */
 package io.camunda.zeebe.client.impl.command;
 
+import com.google.protobuf.UnsafeByteOperations;
 import io.camunda.zeebe.client.CredentialsProvider.StatusCode;
 import io.camunda.zeebe.client.api.JsonMapper;
 import io.camunda.zeebe.client.api.ZeebeFuture;
@@ -22,7 +23,9 @@ import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
 import io.camunda.zeebe.client.api.command.FinalCommandStep;
 import io.camunda.zeebe.client.api.response.CompleteJobResponse;
 import io.camunda.zeebe.client.impl.RetriableClientFutureImpl;
+import io.camunda.zeebe.client.impl.ZeebeMsgPackMapper;
 import io.camunda.zeebe.client.impl.response.CompleteJobResponseImpl;
+import io.camunda.zeebe.client.impl.worker.JobCompletionBatcher;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
@@ -38,6 +41,8 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
   private final GatewayStub asyncStub;
   private final Builder builder;
   private final Predicate<StatusCode> retryPredicate;
+  private final ZeebeMsgPackMapper msgPackMapper;
+  private final JobCompletionBatcher completionBatcher;
   private Duration requestTimeout;
 
   public CompleteJobCommandImpl(
@@ -46,10 +51,33 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
       final long key,
       final Duration requestTimeout,
       final Predicate<StatusCode> retryPredicate) {
+    this(asyncStub, jsonMapper, key, requestTimeout, retryPredicate, false);
+  }
+
+  public CompleteJobCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final long key,
+      final Duration requestTimeout,
+      final Predicate<StatusCode> retryPredicate,
+      final boolean msgPackVariables) {
+    this(asyncStub, jsonMapper, key, requestTimeout, retryPredicate, msgPackVariables, null);
+  }
+
+  public CompleteJobCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final long key,
+      final Duration requestTimeout,
+      final Predicate<StatusCode> retryPredicate,
+      final boolean msgPackVariables,
+      final JobCompletionBatcher completionBatcher) {
     super(jsonMapper);
     this.asyncStub = asyncStub;
     this.requestTimeout = requestTimeout;
     this.retryPredicate = retryPredicate;
+    msgPackMapper = msgPackVariables ? ZeebeMsgPackMapper.of(jsonMapper) : null;
+    this.completionBatcher = completionBatcher;
     builder = CompleteJobRequest.newBuilder();
     builder.setJobKey(key);
   }
@@ -78,13 +106,33 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
   private void send(
       final CompleteJobRequest request,
       final StreamObserver<GatewayOuterClass.CompleteJobResponse> streamObserver) {
+    if (completionBatcher != null) {
+      completionBatcher.complete(request, requestTimeout, streamObserver);
+      return;
+    }
+
     asyncStub
         .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
         .completeJob(request, streamObserver);
   }
 
+  @Override
+  public CompleteJobCommandStep1 variables(final Object variables) {
+    if (msgPackMapper == null) {
+      return super.variables(variables);
+    }
+
+    // objects are serialized to MessagePack right away, the gateway passes them on as they are
+    ArgumentUtil.ensureNotNull("variables", variables);
+    builder.clearVariables();
+    builder.setVariablesMsgPack(
+        UnsafeByteOperations.unsafeWrap(msgPackMapper.toMsgPack(variables)));
+    return this;
+  }
+
   @Override
   protected CompleteJobCommandStep1 setVariablesInternal(final String variables) {
+    builder.clearVariablesMsgPack();
     builder.setVariables(variables);
     return this;
   }
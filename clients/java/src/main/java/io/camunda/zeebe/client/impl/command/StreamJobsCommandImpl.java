@@ -66,6 +66,7 @@ public final class StreamJobsCommandImpl
     this.jsonMapper = jsonMapper;
     this.retryPredicate = retryPredicate;
     builder = StreamActivatedJobsRequest.newBuilder();
+    builder.setMsgPackVariables(config.preferMsgPackVariables());
 
     timeout(config.getDefaultJobTimeout());
     workerName(config.getDefaultJobWorkerName());
@@ -15,6 +15,8 @@
  */
 package io.camunda.zeebe.client.impl.http;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.json.async.NonBlockingByteBufferJsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -44,12 +46,22 @@ import org.apache.hc.core5.http.nio.entity.AbstractBinAsyncEntityConsumer;
  * up the POJOs. The resources (incl. the underlying buffer) are released when the request context
  * is closed.
  *
+ * <p>Optionally, the elements of the top level {@code items} array of a successful response can be
+ * streamed to an {@link ItemHandler} as soon as each of them is complete, instead of being
+ * buffered. The response body is then built from the remaining fields only, which keeps the memory
+ * usage bounded by the size of a single item, regardless of how many items are returned.
+ *
  * @param <T> the type of the successful response body
  */
 final class ApiEntityConsumer<T> extends AbstractBinAsyncEntityConsumer<ApiEntity<T>> {
+  private static final String ITEMS_FIELD = "items";
+  // the items array is a field of the top level object
+  private static final int ITEMS_DEPTH = 2;
+
   private final ObjectMapper json;
   private final Class<T> type;
   private final int maxCapacity;
+  private final ItemHandler itemHandler;
 
   private NonBlockingByteBufferJsonParser parser;
   private TokenBuffer buffer;
@@ -58,10 +70,24 @@ final class ApiEntityConsumer<T> extends AbstractBinAsyncEntityConsumer<ApiEntit
   private boolean isUnknownContentType;
   private byte[] nonJsonBody;
 
+  private int depth;
+  private boolean isItemsNext;
+  private boolean isInItems;
+  private TokenBuffer itemBuffer;
+
   ApiEntityConsumer(final ObjectMapper json, final Class<T> type, final int maxCapacity) {
+    this(json, type, maxCapacity, null);
+  }
+
+  ApiEntityConsumer(
+      final ObjectMapper json,
+      final Class<T> type,
+      final int maxCapacity,
+      final ItemHandler itemHandler) {
     this.json = json;
     this.type = type;
     this.maxCapacity = maxCapacity;
+    this.itemHandler = itemHandler;
   }
 
   @Override
@@ -102,6 +128,12 @@ final class ApiEntityConsumer<T> extends AbstractBinAsyncEntityConsumer<ApiEntit
 
   @Override
   protected int capacityIncrement() {
+    // streamed items are handed off as soon as they are complete, so only the current item is
+    // buffered at any time
+    if (isStreamingItems()) {
+      return maxCapacity;
+    }
+
     return maxCapacity - bufferedBytes;
   }
 
@@ -135,6 +167,15 @@ final class ApiEntityConsumer<T> extends AbstractBinAsyncEntityConsumer<ApiEntit
       }
     }
 
+    if (itemBuffer != null) {
+      try {
+        itemBuffer.close();
+      } catch (final IOException e) {
+        // log but otherwise ignore
+      }
+      itemBuffer = null;
+    }
+
     bufferedBytes = 0;
   }
 
@@ -150,7 +191,11 @@ final class ApiEntityConsumer<T> extends AbstractBinAsyncEntityConsumer<ApiEntit
     parser.feedInput(src);
     JsonToken jsonToken = parser.nextToken();
     while (jsonToken != null && jsonToken != JsonToken.NOT_AVAILABLE) {
-      buffer.copyCurrentEvent(parser);
+      if (isStreamingItems()) {
+        consumeToken(jsonToken);
+      } else {
+        buffer.copyCurrentEvent(parser);
+      }
       jsonToken = parser.nextToken();
     }
 
@@ -158,4 +203,87 @@ final class ApiEntityConsumer<T> extends AbstractBinAsyncEntityConsumer<ApiEntit
       parser.endOfInput();
     }
   }
+
+  private boolean isStreamingItems() {
+    return itemHandler != null && isResponse;
+  }
+
+  private void consumeToken(final JsonToken token) throws IOException {
+    if (itemBuffer != null) {
+      itemBuffer.copyCurrentEvent(parser);
+      updateDepth(token);
+      handleItemIfComplete();
+      return;
+    }
+
+    if (isInItems) {
+      if (token == JsonToken.END_ARRAY) {
+        isInItems = false;
+        depth--;
+        return;
+      }
+
+      itemBuffer = new TokenBuffer(parser, json.getDeserializationContext());
+      itemBuffer.copyCurrentEvent(parser);
+      updateDepth(token);
+      handleItemIfComplete();
+      return;
+    }
+
+    if (isItemsNext) {
+      isItemsNext = false;
+      if (token == JsonToken.START_ARRAY) {
+        isInItems = true;
+        depth++;
+        return;
+      }
+
+      if (token != JsonToken.VALUE_NULL) {
+        throw new JsonParseException(
+            parser, String.format("Expected '%s' to be an array, but got %s", ITEMS_FIELD, token));
+      }
+
+      return;
+    }
+
+    if (depth == ITEMS_DEPTH - 1
+        && token == JsonToken.FIELD_NAME
+        && ITEMS_FIELD.equals(parser.currentName())) {
+      isItemsNext = true;
+      return;
+    }
+
+    buffer.copyCurrentEvent(parser);
+    updateDepth(token);
+  }
+
+  private void updateDepth(final JsonToken token) {
+    if (token.isStructStart()) {
+      depth++;
+    } else if (token.isStructEnd()) {
+      depth--;
+    }
+  }
+
+  private void handleItemIfComplete() throws IOException {
+    if (depth != ITEMS_DEPTH) {
+      return;
+    }
+
+    try (final TokenBuffer item = itemBuffer) {
+      itemBuffer = null;
+      itemHandler.onItem(item.asParserOnFirstToken());
+    }
+  }
+
+  /** Receives the streamed items of a response, one at a time, in the order they were returned. */
+  @FunctionalInterface
+  interface ItemHandler {
+
+    /**
+     * @param item a parser over a single, complete item; only valid for the duration of the call
+     * @throws IOException if the item cannot be read
+     */
+    void onItem(JsonParser item) throws IOException;
+  }
 }
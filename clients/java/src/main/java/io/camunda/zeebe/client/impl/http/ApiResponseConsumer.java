@@ -37,7 +37,11 @@ final class ApiResponseConsumer<T>
     extends AbstractAsyncResponseConsumer<ApiResponse<T>, ApiEntity<T>> {
 
   ApiResponseConsumer(final ObjectMapper jsonMapper, final Class<T> type, final int maxCapacity) {
-    super(new ApiEntityConsumer<>(jsonMapper, type, maxCapacity));
+    this(new ApiEntityConsumer<>(jsonMapper, type, maxCapacity));
+  }
+
+  ApiResponseConsumer(final ApiEntityConsumer<T> entityConsumer) {
+    super(entityConsumer);
   }
 
   @Override
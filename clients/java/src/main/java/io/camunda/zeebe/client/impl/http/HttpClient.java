@@ -21,6 +21,8 @@ import io.camunda.zeebe.client.api.command.ClientException;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
 import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
 import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
@@ -122,6 +124,41 @@ public final class HttpClient implements AutoCloseable {
     sendRequest(Method.POST, path, body, requestConfig, responseType, transformer, result);
   }
 
+  /**
+   * Sends a POST request, and streams the elements of the top level {@code items} array of the
+   * response to the given consumer as soon as each of them is parsed, instead of materializing all
+   * of them first. The remaining fields of the response are then passed to the transformer, with
+   * the items omitted.
+   *
+   * <p>NOTE: the item consumer is called on the I/O dispatcher thread, and should therefore not
+   * block. If the request is retried, e.g. after refreshing credentials, items are only streamed
+   * from the successful response.
+   */
+  public <HttpT, ItemT, RespT> void postStreamingItems(
+      final String path,
+      final String body,
+      final RequestConfig requestConfig,
+      final Class<HttpT> responseType,
+      final Class<ItemT> itemType,
+      final Consumer<ItemT> itemConsumer,
+      final JsonResponseTransformer<HttpT, RespT> transformer,
+      final HttpZeebeFuture<RespT> result) {
+    sendRequest(
+        Method.POST,
+        path,
+        body,
+        requestConfig,
+        () ->
+            new ApiResponseConsumer<>(
+                new ApiEntityConsumer<>(
+                    jsonMapper,
+                    responseType,
+                    maxMessageSize,
+                    item -> itemConsumer.accept(jsonMapper.readValue(item, itemType)))),
+        transformer,
+        result);
+  }
+
   public <RespT> void patch(
       final String path,
       final String body,
@@ -143,6 +180,24 @@ public final class HttpClient implements AutoCloseable {
       final Class<HttpT> responseType,
       final JsonResponseTransformer<HttpT, RespT> transformer,
       final HttpZeebeFuture<RespT> result) {
+    sendRequest(
+        httpMethod,
+        path,
+        body,
+        requestConfig,
+        () -> new ApiResponseConsumer<>(jsonMapper, responseType, maxMessageSize),
+        transformer,
+        result);
+  }
+
+  private <HttpT, RespT> void sendRequest(
+      final Method httpMethod,
+      final String path,
+      final String body,
+      final RequestConfig requestConfig,
+      final Supplier<ApiResponseConsumer<HttpT>> responseConsumer,
+      final JsonResponseTransformer<HttpT, RespT> transformer,
+      final HttpZeebeFuture<RespT> result) {
     final URI target = buildRequestURI(path);
     final Runnable retryAction =
         () -> {
@@ -151,7 +206,7 @@ public final class HttpClient implements AutoCloseable {
             return;
           }
 
-          sendRequest(httpMethod, path, body, requestConfig, responseType, transformer, result);
+          sendRequest(httpMethod, path, body, requestConfig, responseConsumer, transformer, result);
         };
 
     final SimpleRequestBuilder requestBuilder =
@@ -174,7 +229,7 @@ public final class HttpClient implements AutoCloseable {
     result.transportFuture(
         client.execute(
             SimpleRequestProducer.create(request),
-            new ApiResponseConsumer<>(jsonMapper, responseType, maxMessageSize),
+            responseConsumer.get(),
             new ApiCallback<>(
                 result, transformer, credentialsProvider::shouldRetryRequest, retryAction)));
   }
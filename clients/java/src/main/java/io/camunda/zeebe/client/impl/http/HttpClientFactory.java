@@ -41,6 +41,7 @@ import javax.net.ssl.SSLSession;
 import javax.net.ssl.TrustManagerFactory;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.config.RequestConfig.Builder;
+import org.apache.hc.client5.http.config.TlsConfig;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
@@ -55,6 +56,7 @@ import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.config.CharCodingConfig;
 import org.apache.hc.core5.http.message.BasicHeader;
 import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
 import org.apache.hc.core5.net.URIBuilder;
 import org.apache.hc.core5.ssl.SSLContexts;
 import org.apache.hc.core5.util.TimeValue;
@@ -129,7 +131,10 @@ public class HttpClientFactory {
             .setHostnameVerifier(hostnameVerifier)
             .build();
     final PoolingAsyncClientConnectionManager connectionManager =
-        PoolingAsyncClientConnectionManagerBuilder.create().setTlsStrategy(tlsStrategy).build();
+        PoolingAsyncClientConnectionManagerBuilder.create()
+            .setTlsStrategy(tlsStrategy)
+            .setDefaultTlsConfig(createTlsConfig())
+            .build();
 
     return HttpAsyncClients.custom()
         .setConnectionManager(connectionManager)
@@ -151,6 +156,16 @@ public class HttpClientFactory {
         .setHardCancellationEnabled(false);
   }
 
+  /**
+   * Negotiates HTTP/2 via ALPN over TLS, falling back to HTTP/1.1 if the server does not support
+   * it. With HTTP/2, concurrent requests are multiplexed over a single connection to the gateway,
+   * instead of each occupying its own pooled connection. Plaintext connections keep using HTTP/1.1,
+   * as HTTP/2 with prior knowledge would fail against servers or proxies which don't support it.
+   */
+  private TlsConfig createTlsConfig() {
+    return TlsConfig.custom().setVersionPolicy(HttpVersionPolicy.NEGOTIATE).build();
+  }
+
   private SSLContext createSslContext() {
     if (config.isPlaintextConnectionEnabled() || config.getCaCertificatePath() == null) {
       return SSLContexts.createDefault();
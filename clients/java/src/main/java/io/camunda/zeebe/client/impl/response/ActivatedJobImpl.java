@@ -19,6 +19,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.camunda.zeebe.client.api.JsonMapper;
 import io.camunda.zeebe.client.api.command.ClientException;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.impl.ZeebeMsgPackMapper;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
 import java.util.HashMap;
 import java.util.Map;
@@ -28,6 +29,7 @@ import java.util.stream.Collectors;
 public final class ActivatedJobImpl implements ActivatedJob {
 
   @JsonIgnore private final JsonMapper jsonMapper;
+  @JsonIgnore private final ZeebeMsgPackMapper msgPackMapper;
 
   private final long key;
   private final String type;
@@ -42,8 +44,10 @@ public final class ActivatedJobImpl implements ActivatedJob {
   private final String worker;
   private final int retries;
   private final long deadline;
-  private final String variables;
+  // set instead of the JSON variables, if the gateway returned the variables as MessagePack
+  @JsonIgnore private final byte[] variablesMsgPack;
 
+  private String variables;
   private Map<String, Object> variablesAsMap;
 
   public ActivatedJobImpl(final JsonMapper jsonMapper, final GatewayOuterClass.ActivatedJob job) {
@@ -60,7 +64,15 @@ public final class ActivatedJobImpl implements ActivatedJob {
     worker = job.getWorker();
     retries = job.getRetries();
     deadline = job.getDeadline();
-    variables = job.getVariables();
+    if (job.getVariablesMsgPack().isEmpty()) {
+      msgPackMapper = null;
+      variablesMsgPack = null;
+      variables = job.getVariables();
+    } else {
+      // the variables are only converted to JSON if requested as such
+      msgPackMapper = ZeebeMsgPackMapper.of(jsonMapper);
+      variablesMsgPack = job.getVariablesMsgPack().toByteArray();
+    }
     processInstanceKey = job.getProcessInstanceKey();
     bpmnProcessId = job.getBpmnProcessId();
     processDefinitionVersion = job.getProcessDefinitionVersion();
@@ -90,6 +102,8 @@ public final class ActivatedJobImpl implements ActivatedJob {
     worker = getOrEmpty(job.getWorker());
     retries = getOrEmpty(job.getRetries());
     deadline = getOrEmpty(job.getDeadline());
+    msgPackMapper = null;
+    variablesMsgPack = null;
     variablesAsMap = job.getVariables() == null ? new HashMap<>() : job.getVariables();
     variables = jsonMapper.toJson(variablesAsMap);
     processInstanceKey = getOrEmpty(job.getProcessInstanceKey());
@@ -161,21 +175,38 @@ public final class ActivatedJobImpl implements ActivatedJob {
     return deadline;
   }
 
+  /**
+   * @return true if the gateway returned the variables as MessagePack, i.e. it supports exchanging
+   *     variables as MessagePack
+   */
+  public boolean hasMsgPackVariables() {
+    return variablesMsgPack != null;
+  }
+
   @Override
   public String getVariables() {
+    if (variables == null) {
+      variables = msgPackMapper.toJson(variablesMsgPack);
+    }
     return variables;
   }
 
   @Override
   public Map<String, Object> getVariablesAsMap() {
     if (variablesAsMap == null) {
-      variablesAsMap = jsonMapper.fromJsonAsMap(variables);
+      variablesAsMap =
+          variablesMsgPack != null
+              ? msgPackMapper.fromMsgPackAsMap(variablesMsgPack)
+              : jsonMapper.fromJsonAsMap(variables);
     }
     return variablesAsMap;
   }
 
   @Override
   public <T> T getVariablesAsType(final Class<T> variableType) {
+    if (variablesMsgPack != null) {
+      return msgPackMapper.fromMsgPack(variablesMsgPack, variableType);
+    }
     return jsonMapper.fromJson(variables, variableType);
   }
 
@@ -28,9 +28,12 @@ import io.camunda.zeebe.client.api.search.ProcessInstanceSort;
 import io.camunda.zeebe.client.api.search.SearchRequestPage;
 import io.camunda.zeebe.client.api.search.response.ProcessInstance;
 import io.camunda.zeebe.client.api.search.response.SearchQueryResponse;
+import io.camunda.zeebe.client.api.search.response.SearchResponsePage;
 import io.camunda.zeebe.client.impl.http.HttpClient;
 import io.camunda.zeebe.client.impl.http.HttpZeebeFuture;
+import io.camunda.zeebe.client.impl.search.response.ProcessInstanceImpl;
 import io.camunda.zeebe.client.protocol.rest.ProcessInstanceFilterRequest;
+import io.camunda.zeebe.client.protocol.rest.ProcessInstanceItem;
 import io.camunda.zeebe.client.protocol.rest.ProcessInstanceSearchQueryRequest;
 import io.camunda.zeebe.client.protocol.rest.ProcessInstanceSearchQueryResponse;
 import io.camunda.zeebe.client.protocol.rest.SearchQueryPageRequest;
@@ -116,4 +119,19 @@ public class ProcessInstanceQueryImpl
         result);
     return result;
   }
+
+  @Override
+  public ZeebeFuture<SearchResponsePage> send(final Consumer<ProcessInstance> itemConsumer) {
+    final HttpZeebeFuture<SearchResponsePage> result = new HttpZeebeFuture<>();
+    httpClient.postStreamingItems(
+        "/process-instances/search",
+        jsonMapper.toJson(request),
+        httpRequestConfig.build(),
+        ProcessInstanceSearchQueryResponse.class,
+        ProcessInstanceItem.class,
+        item -> itemConsumer.accept(new ProcessInstanceImpl(item)),
+        response -> SearchResponseMapper.toSearchResponsePage(response.getPage()),
+        result);
+    return result;
+  }
 }
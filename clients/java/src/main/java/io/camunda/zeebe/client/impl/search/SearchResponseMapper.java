@@ -71,7 +71,7 @@ public final class SearchResponseMapper {
     return new SearchQueryResponseImpl<>(instances, page);
   }
 
-  private static SearchResponsePage toSearchResponsePage(
+  public static SearchResponsePage toSearchResponsePage(
       final SearchQueryPageResponse pageResponse) {
     return new SearchResponsePageImpl(
         pageResponse.getTotalItems(),
@@ -41,10 +41,13 @@ import io.camunda.zeebe.client.api.search.UserTaskFilter;
 import io.camunda.zeebe.client.api.search.UserTaskQuery;
 import io.camunda.zeebe.client.api.search.UserTaskSort;
 import io.camunda.zeebe.client.api.search.response.SearchQueryResponse;
+import io.camunda.zeebe.client.api.search.response.SearchResponsePage;
 import io.camunda.zeebe.client.api.search.response.UserTask;
 import io.camunda.zeebe.client.impl.http.HttpClient;
 import io.camunda.zeebe.client.impl.http.HttpZeebeFuture;
+import io.camunda.zeebe.client.impl.search.response.UserTaskImpl;
 import io.camunda.zeebe.client.protocol.rest.UserTaskFilterRequest;
+import io.camunda.zeebe.client.protocol.rest.UserTaskItem;
 import io.camunda.zeebe.client.protocol.rest.UserTaskSearchQueryRequest;
 import io.camunda.zeebe.client.protocol.rest.UserTaskSearchQueryResponse;
 import java.time.Duration;
@@ -87,6 +90,21 @@ public class UserTaskQueryImpl
     return result;
   }
 
+  @Override
+  public HttpZeebeFuture<SearchResponsePage> send(final Consumer<UserTask> itemConsumer) {
+    final HttpZeebeFuture<SearchResponsePage> result = new HttpZeebeFuture<>();
+    httpClient.postStreamingItems(
+        "/user-tasks/search",
+        jsonMapper.toJson(request),
+        httpRequestConfig.build(),
+        UserTaskSearchQueryResponse.class,
+        UserTaskItem.class,
+        item -> itemConsumer.accept(new UserTaskImpl(item)),
+        response -> SearchResponseMapper.toSearchResponsePage(response.getPage()),
+        result);
+    return result;
+  }
+
   @Override
   public UserTaskQuery filter(final UserTaskFilter value) {
     final UserTaskFilterRequest filter = provideSearchRequestProperty(value);
@@ -31,6 +31,7 @@ import io.camunda.zeebe.client.impl.command.FailJobCommandImpl;
 import io.camunda.zeebe.client.impl.command.StreamJobsCommandImpl;
 import io.camunda.zeebe.client.impl.command.ThrowErrorCommandImpl;
 import io.camunda.zeebe.client.impl.http.HttpClient;
+import io.camunda.zeebe.client.impl.response.ActivatedJobImpl;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import java.util.function.Predicate;
 
@@ -41,6 +42,7 @@ public final class JobClientImpl implements JobClient {
   private final ZeebeClientConfiguration config;
   private final JsonMapper jsonMapper;
   private final Predicate<StatusCode> retryPredicate;
+  private final JobCompletionBatcher completionBatcher;
 
   public JobClientImpl(
       final GatewayStub asyncStub,
@@ -48,22 +50,54 @@ public final class JobClientImpl implements JobClient {
       final ZeebeClientConfiguration config,
       final JsonMapper jsonMapper,
       final Predicate<StatusCode> retryPredicate) {
+    this(asyncStub, httpClient, config, jsonMapper, retryPredicate, null);
+  }
+
+  /**
+   * @param completionBatcher sends the completions of jobs together, or null to send each one right
+   *     away
+   */
+  public JobClientImpl(
+      final GatewayStub asyncStub,
+      final HttpClient httpClient,
+      final ZeebeClientConfiguration config,
+      final JsonMapper jsonMapper,
+      final Predicate<StatusCode> retryPredicate,
+      final JobCompletionBatcher completionBatcher) {
     this.asyncStub = asyncStub;
     this.httpClient = httpClient;
     this.config = config;
     this.jsonMapper = jsonMapper;
     this.retryPredicate = retryPredicate;
+    this.completionBatcher = completionBatcher;
   }
 
   @Override
   public CompleteJobCommandStep1 newCompleteCommand(final long jobKey) {
-    return new CompleteJobCommandImpl(
-        asyncStub, jsonMapper, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
+    return newCompleteCommand(jobKey, false);
   }
 
   @Override
   public CompleteJobCommandStep1 newCompleteCommand(final ActivatedJob job) {
-    return newCompleteCommand(job.getKey());
+    // only a gateway which returned the variables as MessagePack is known to accept them as such,
+    // an older one would ignore them and complete the job without variables
+    final boolean msgPackVariables =
+        config.preferMsgPackVariables()
+            && job instanceof ActivatedJobImpl
+            && ((ActivatedJobImpl) job).hasMsgPackVariables();
+    return newCompleteCommand(job.getKey(), msgPackVariables);
+  }
+
+  private CompleteJobCommandStep1 newCompleteCommand(
+      final long jobKey, final boolean msgPackVariables) {
+    return new CompleteJobCommandImpl(
+        asyncStub,
+        jsonMapper,
+        jobKey,
+        config.getDefaultRequestTimeout(),
+        retryPredicate,
+        msgPackVariables,
+        completionBatcher);
   }
 
   @Override
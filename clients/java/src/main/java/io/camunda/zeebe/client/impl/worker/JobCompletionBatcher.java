@@ -0,0 +1,230 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.stub.StreamObserver;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds back job completions for a short linger time and sends them to the gateway together, with
+ * one CompleteJobs request. A batch is sent once the linger time of its first completion passed, or
+ * as soon as it is full.
+ *
+ * <p>Each completion keeps its own response observer, which receives the result of its job as if
+ * the job was completed on its own. If the gateway doesn't know CompleteJobs requests, all
+ * following completions are sent one by one.
+ */
+public final class JobCompletionBatcher implements Closeable {
+
+  /** Well below the gateway's limit, to keep requests with variables below the message size. */
+  static final int MAX_BATCH_SIZE = 100;
+
+  private final GatewayStub asyncStub;
+  private final ScheduledExecutorService executor;
+  private final Duration linger;
+  private final int maxBatchSize;
+
+  private List<PendingCompletion> pendingCompletions = new ArrayList<>();
+  private volatile boolean batchingSupported = true;
+  private boolean closed;
+
+  public JobCompletionBatcher(
+      final GatewayStub asyncStub, final ScheduledExecutorService executor, final Duration linger) {
+    this(asyncStub, executor, linger, MAX_BATCH_SIZE);
+  }
+
+  JobCompletionBatcher(
+      final GatewayStub asyncStub,
+      final ScheduledExecutorService executor,
+      final Duration linger,
+      final int maxBatchSize) {
+    this.asyncStub = asyncStub;
+    this.executor = executor;
+    this.linger = linger;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public void complete(
+      final CompleteJobRequest request,
+      final Duration requestTimeout,
+      final StreamObserver<CompleteJobResponse> responseObserver) {
+    final PendingCompletion completion =
+        new PendingCompletion(request, requestTimeout, responseObserver);
+    if (!batchingSupported) {
+      completeSingle(completion);
+      return;
+    }
+
+    final List<PendingCompletion> fullBatch;
+    synchronized (this) {
+      if (closed) {
+        fullBatch = null;
+      } else {
+        final List<PendingCompletion> batch = pendingCompletions;
+        batch.add(completion);
+        if (batch.size() == 1) {
+          executor.schedule(() -> flush(batch), linger.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        if (batch.size() < maxBatchSize) {
+          return;
+        }
+        fullBatch = takePendingCompletions();
+      }
+    }
+
+    if (fullBatch == null) {
+      completeSingle(completion);
+    } else {
+      send(fullBatch);
+    }
+  }
+
+  @Override
+  public void close() {
+    final List<PendingCompletion> batch;
+    synchronized (this) {
+      closed = true;
+      batch = takePendingCompletions();
+    }
+    send(batch);
+  }
+
+  private void flush(final List<PendingCompletion> batch) {
+    synchronized (this) {
+      // the batch may have been sent already, because it was full
+      if (pendingCompletions != batch) {
+        return;
+      }
+      takePendingCompletions();
+    }
+    send(batch);
+  }
+
+  private List<PendingCompletion> takePendingCompletions() {
+    final List<PendingCompletion> batch = pendingCompletions;
+    pendingCompletions = new ArrayList<>();
+    return batch;
+  }
+
+  private void send(final List<PendingCompletion> batch) {
+    if (batch.isEmpty()) {
+      return;
+    } else if (batch.size() == 1 || !batchingSupported) {
+      batch.forEach(this::completeSingle);
+      return;
+    }
+
+    final CompleteJobsRequest.Builder request = CompleteJobsRequest.newBuilder();
+    Duration requestTimeout = Duration.ZERO;
+    for (final PendingCompletion completion : batch) {
+      request.addJobs(completion.request);
+      if (completion.requestTimeout.compareTo(requestTimeout) > 0) {
+        requestTimeout = completion.requestTimeout;
+      }
+    }
+
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJobs(request.build(), new BatchResponseObserver(batch));
+  }
+
+  private void completeSingle(final PendingCompletion completion) {
+    asyncStub
+        .withDeadlineAfter(completion.requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJob(completion.request, completion.responseObserver);
+  }
+
+  private static final class PendingCompletion {
+
+    private final CompleteJobRequest request;
+    private final Duration requestTimeout;
+    private final StreamObserver<CompleteJobResponse> responseObserver;
+
+    private PendingCompletion(
+        final CompleteJobRequest request,
+        final Duration requestTimeout,
+        final StreamObserver<CompleteJobResponse> responseObserver) {
+      this.request = request;
+      this.requestTimeout = requestTimeout;
+      this.responseObserver = responseObserver;
+    }
+  }
+
+  private final class BatchResponseObserver implements StreamObserver<CompleteJobsResponse> {
+
+    private final List<PendingCompletion> batch;
+    private int completedJobs;
+
+    private BatchResponseObserver(final List<PendingCompletion> batch) {
+      this.batch = batch;
+    }
+
+    @Override
+    public void onNext(final CompleteJobsResponse response) {
+      // the results are in the order of the request
+      final int resultCount = Math.min(response.getResultsCount(), batch.size());
+      for (; completedJobs < resultCount; completedJobs++) {
+        final CompleteJobResult result = response.getResults(completedJobs);
+        final StreamObserver<CompleteJobResponse> responseObserver =
+            batch.get(completedJobs).responseObserver;
+        if (result.getCode() == Code.OK.value()) {
+          responseObserver.onNext(CompleteJobResponse.getDefaultInstance());
+          responseObserver.onCompleted();
+        } else {
+          responseObserver.onError(
+              Status.fromCodeValue(result.getCode())
+                  .withDescription(result.getMessage())
+                  .asRuntimeException());
+        }
+      }
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      final List<PendingCompletion> remainingJobs = batch.subList(completedJobs, batch.size());
+      if (Status.fromThrowable(error).getCode() == Code.UNIMPLEMENTED) {
+        batchingSupported = false;
+        remainingJobs.forEach(JobCompletionBatcher.this::completeSingle);
+      } else {
+        remainingJobs.forEach(completion -> completion.responseObserver.onError(error));
+      }
+    }
+
+    @Override
+    public void onCompleted() {
+      final List<PendingCompletion> remainingJobs = batch.subList(completedJobs, batch.size());
+      remainingJobs.forEach(
+          completion ->
+              completion.responseObserver.onError(
+                  Status.INTERNAL
+                      .withDescription("Expected a result for the job, but the gateway sent none")
+                      .asRuntimeException()));
+    }
+  }
+}
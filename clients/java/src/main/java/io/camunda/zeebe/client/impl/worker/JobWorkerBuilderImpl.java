@@ -59,6 +59,7 @@ public final class JobWorkerBuilderImpl
   private BackoffSupplier backoffSupplier;
   private boolean enableStreaming;
   private Duration streamingTimeout;
+  private boolean virtualThreadsEnabled;
   private JobWorkerMetrics metrics = JobWorkerMetrics.noop();
 
   public JobWorkerBuilderImpl(
@@ -158,6 +159,12 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 virtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+    return this;
+  }
+
   @Override
   public JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics) {
     this.metrics = metrics == null ? JobWorkerMetrics.noop() : metrics;
@@ -186,6 +193,10 @@ public final class JobWorkerBuilderImpl
             maxJobsActive);
 
     final Executor jobExecutor;
+    final Executor handlerExecutor =
+        virtualThreadsEnabled
+            ? new VirtualThreadExecutor("zeebe-job-handler-" + jobType + "-")
+            : executorService;
     if (enableStreaming) {
       if (streamingTimeout != null) {
         ensurePositive("streamingTimeout", streamingTimeout);
@@ -202,10 +213,14 @@ public final class JobWorkerBuilderImpl
               streamingTimeout,
               backoffSupplier,
               executorService);
-      jobExecutor = new BlockingExecutor(executorService, maxJobsActive, timeout);
+      jobExecutor = new BlockingExecutor(handlerExecutor, maxJobsActive, timeout);
     } else {
       jobStreamer = JobStreamer.noop();
-      jobExecutor = executorService;
+      // virtual threads are not bounded by a pool, so limit the handlers running at the same time
+      jobExecutor =
+          virtualThreadsEnabled
+              ? new BlockingExecutor(handlerExecutor, maxJobsActive, timeout)
+              : executorService;
     }
 
     final JobWorkerImpl jobWorker =
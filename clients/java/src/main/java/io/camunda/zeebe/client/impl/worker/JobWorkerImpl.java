@@ -264,6 +264,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
         return;
       }
 
+      metrics.jobRejected(1);
       LOG.warn(ERROR_MSG, job.getKey(), e);
     }
   }
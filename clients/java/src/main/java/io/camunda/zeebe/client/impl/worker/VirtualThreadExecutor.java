@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runs every command on a new virtual thread. Virtual threads are only available as of Java 21,
+ * while the client is built for Java 8, which is why the thread factory is looked up reflectively.
+ */
+final class VirtualThreadExecutor implements Executor {
+
+  private final ThreadFactory threadFactory;
+
+  VirtualThreadExecutor(final String threadNamePrefix) {
+    threadFactory = newVirtualThreadFactory(threadNamePrefix);
+  }
+
+  @Override
+  public void execute(final Runnable command) {
+    final Thread thread = threadFactory.newThread(command);
+    if (thread == null) {
+      throw new RejectedExecutionException(
+          "Expected to start a virtual thread, but none was created");
+    }
+    thread.start();
+  }
+
+  private static ThreadFactory newVirtualThreadFactory(final String threadNamePrefix) {
+    try {
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      final Method name = builderClass.getMethod("name", String.class, long.class);
+      final Method factory = builderClass.getMethod("factory");
+      return (ThreadFactory) factory.invoke(name.invoke(builder, threadNamePrefix, 0L));
+    } catch (final ReflectiveOperationException e) {
+      throw new UnsupportedOperationException(
+          "Expected to execute job handlers on virtual threads, but they are not available in this"
+              + " Java runtime; they require Java 21 or newer",
+          e);
+    }
+  }
+}
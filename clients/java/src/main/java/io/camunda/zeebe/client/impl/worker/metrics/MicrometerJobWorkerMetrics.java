@@ -23,13 +23,18 @@ public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
 
   private final Counter jobActivatedCounter;
   private final Counter jobHandledCounter;
+  private final Counter jobRejectedCounter;
 
   public MicrometerJobWorkerMetrics(
-      final Counter jobActivatedCounter, final Counter jobHandledCounter) {
+      final Counter jobActivatedCounter,
+      final Counter jobHandledCounter,
+      final Counter jobRejectedCounter) {
     this.jobActivatedCounter =
         Objects.requireNonNull(jobActivatedCounter, "must specify a job activated counter");
     this.jobHandledCounter =
         Objects.requireNonNull(jobHandledCounter, "must specify a job handled counter");
+    this.jobRejectedCounter =
+        Objects.requireNonNull(jobRejectedCounter, "must specify a job rejected counter");
   }
 
   @Override
@@ -41,4 +46,9 @@ public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
   public void jobHandled(final int count) {
     jobHandledCounter.increment(count);
   }
+
+  @Override
+  public void jobRejected(final int count) {
+    jobRejectedCounter.increment(count);
+  }
 }
@@ -44,6 +44,8 @@ public final class MicrometerJobWorkerMetricsBuilderImpl
   public JobWorkerMetrics build() {
     final Counter jobActivatedCounter = meterRegistry.counter(Names.JOB_ACTIVATED.asString(), tags);
     final Counter jobHandledCounter = meterRegistry.counter(Names.JOB_HANDLED.asString(), tags);
-    return new MicrometerJobWorkerMetrics(jobActivatedCounter, jobHandledCounter);
+    final Counter jobRejectedCounter = meterRegistry.counter(Names.JOB_REJECTED.asString(), tags);
+    return new MicrometerJobWorkerMetrics(
+        jobActivatedCounter, jobHandledCounter, jobRejectedCounter);
   }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many jobs per second a worker handles with a handler which blocks for a few
+ * milliseconds, e.g. on an HTTP call, when executing the handler on the job worker thread pool
+ * compared to a virtual thread per job. Each invocation hands as many jobs to the executor as the
+ * worker holds at most, as the job worker would after activating them.
+ *
+ * <p>Run it with the JMH runner, e.g. {@code org.openjdk.jmh.Main JobHandlerExecutionBenchmark}.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JobHandlerExecutionBenchmark {
+
+  private static final int MAX_JOBS_ACTIVE = 2_000;
+  private static final long HANDLER_BLOCKING_MILLIS = 10;
+
+  /** The number of job worker threads; irrelevant for virtual threads. */
+  @Param({"1", "8"})
+  public int threads;
+
+  @Param({"false", "true"})
+  public boolean virtualThreads;
+
+  private ScheduledExecutorService executorService;
+  private Executor jobExecutor;
+
+  @Setup
+  public void setup() {
+    executorService = Executors.newScheduledThreadPool(threads);
+    jobExecutor =
+        virtualThreads
+            ? new BlockingExecutor(
+                new VirtualThreadExecutor("benchmark-handler-"),
+                MAX_JOBS_ACTIVE,
+                Duration.ofMinutes(1))
+            : executorService;
+  }
+
+  @TearDown
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MAX_JOBS_ACTIVE)
+  public void handleBlockingJobs() throws InterruptedException {
+    final CountDownLatch handled = new CountDownLatch(MAX_JOBS_ACTIVE);
+    for (int i = 0; i < MAX_JOBS_ACTIVE; i++) {
+      jobExecutor.execute(
+          () -> {
+            try {
+              Thread.sleep(HANDLER_BLOCKING_MILLIS);
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            handled.countDown();
+          });
+    }
+    handled.await();
+  }
+}
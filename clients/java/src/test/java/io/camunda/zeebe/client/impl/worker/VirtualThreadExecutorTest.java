@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadExecutorTest {
+
+  @Test
+  public void shouldExecuteOnNamedThread() {
+    // given
+    final VirtualThreadExecutor executor = new VirtualThreadExecutor("handler-");
+    final CompletableFuture<String> threadName = new CompletableFuture<>();
+
+    // when
+    executor.execute(() -> threadName.complete(Thread.currentThread().getName()));
+
+    // then
+    assertThat(threadName.join()).startsWith("handler-");
+  }
+
+  @Test
+  public void shouldExecuteBlockingCommandsConcurrently() throws InterruptedException {
+    // given
+    final int commands = 1_000;
+    final VirtualThreadExecutor executor = new VirtualThreadExecutor("handler-");
+    final CountDownLatch started = new CountDownLatch(commands);
+    final CountDownLatch finished = new CountDownLatch(commands);
+
+    // when - every command blocks until all of them are started
+    for (int i = 0; i < commands; i++) {
+      executor.execute(
+          () -> {
+            started.countDown();
+            try {
+              started.await();
+              finished.countDown();
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+    }
+
+    // then
+    assertThat(finished.await(30, TimeUnit.SECONDS)).isTrue();
+  }
+}
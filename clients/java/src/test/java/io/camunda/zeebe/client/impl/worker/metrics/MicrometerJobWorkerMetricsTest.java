@@ -58,6 +58,17 @@ final class MicrometerJobWorkerMetricsTest {
         .has(hasCount(3));
   }
 
+  @Test
+  void shouldCountRejectedJobs() {
+    // when
+    metrics.jobRejected(2);
+
+    // then
+    Assertions.assertThat(meterRegistry).has(hasCounter(Names.JOB_REJECTED, tags));
+    Assertions.assertThat(meterRegistry.counter(Names.JOB_REJECTED.asString(), tags))
+        .has(hasCount(2));
+  }
+
   private Condition<MeterRegistry> hasCounter(final Names name, final Iterable<Tag> tags) {
     return VerboseCondition.verboseCondition(
         registry -> registry.find(name.asString()).tags(tags).counter() != null,
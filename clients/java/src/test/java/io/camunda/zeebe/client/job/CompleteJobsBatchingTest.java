@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.ClientStatusException;
+import io.camunda.zeebe.client.api.response.CompleteJobResponse;
+import io.camunda.zeebe.client.util.RecordingGatewayService;
+import io.camunda.zeebe.client.util.TestEnvironmentRule;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class CompleteJobsBatchingTest {
+
+  @Rule
+  public final TestEnvironmentRule rule =
+      new TestEnvironmentRule(builder -> builder.jobCompletionLinger(Duration.ofMillis(500)));
+
+  private RecordingGatewayService gatewayService;
+  private ZeebeClient client;
+
+  @Before
+  public void setUp() {
+    gatewayService = rule.getGatewayService();
+    client = rule.getClient();
+  }
+
+  @Test
+  public void shouldCompleteJobsWithOneRequest() {
+    // when
+    final ZeebeFuture<CompleteJobResponse> first = client.newCompleteCommand(1).send();
+    final ZeebeFuture<CompleteJobResponse> second =
+        client.newCompleteCommand(2).variables("{\"foo\":\"bar\"}").send();
+    final ZeebeFuture<CompleteJobResponse> third = client.newCompleteCommand(3).send();
+    first.join();
+    second.join();
+    third.join();
+
+    // then
+    assertThat(gatewayService.getRequests(CompleteJobRequest.class)).isEmpty();
+    assertThat(gatewayService.getRequests(CompleteJobsRequest.class))
+        .singleElement()
+        .satisfies(
+            request -> {
+              assertThat(request.getJobsList())
+                  .extracting(CompleteJobRequest::getJobKey)
+                  .containsExactly(1L, 2L, 3L);
+              assertThat(request.getJobs(1).getVariables()).isEqualTo("{\"foo\":\"bar\"}");
+            });
+  }
+
+  @Test
+  public void shouldFailCompletionWithResultOfItsJob() {
+    // given
+    gatewayService.addRequestHandler(
+        CompleteJobsRequest.class,
+        request ->
+            CompleteJobsResponse.newBuilder()
+                .addResults(CompleteJobResult.newBuilder().setJobKey(1))
+                .addResults(
+                    CompleteJobResult.newBuilder()
+                        .setJobKey(2)
+                        .setCode(Code.NOT_FOUND.value())
+                        .setMessage("expected"))
+                .build());
+
+    // when
+    final ZeebeFuture<CompleteJobResponse> first = client.newCompleteCommand(1).send();
+    final ZeebeFuture<CompleteJobResponse> second = client.newCompleteCommand(2).send();
+
+    // then
+    first.join();
+    assertThatThrownBy(second::join)
+        .isInstanceOf(ClientStatusException.class)
+        .hasMessageContaining("expected")
+        .extracting(e -> ((ClientStatusException) e).getStatusCode())
+        .isEqualTo(Code.NOT_FOUND);
+  }
+
+  @Test
+  public void shouldCompleteJobsOneByOneIfGatewayDoesNotSupportBatches() {
+    // given
+    gatewayService.addRequestHandler(
+        CompleteJobsRequest.class, () -> Status.UNIMPLEMENTED.asRuntimeException());
+
+    // when
+    final ZeebeFuture<CompleteJobResponse> first = client.newCompleteCommand(1).send();
+    final ZeebeFuture<CompleteJobResponse> second = client.newCompleteCommand(2).send();
+    first.join();
+    second.join();
+    client.newCompleteCommand(3).send().join();
+
+    // then
+    assertThat(gatewayService.getRequests(CompleteJobsRequest.class)).hasSize(1);
+    assertThat(
+            gatewayService.getRequests(CompleteJobRequest.class).stream()
+                .map(CompleteJobRequest::getJobKey)
+                .collect(Collectors.toList()))
+        .containsExactlyInAnyOrder(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldSendSingleCompletionAsIs() {
+    // when
+    client.newCompleteCommand(1).send().join();
+
+    // then
+    assertThat(gatewayService.getRequests(CompleteJobsRequest.class)).isEmpty();
+    assertThat(gatewayService.getRequests(CompleteJobRequest.class))
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(1L);
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.response.ActivateJobsResponse;
+import io.camunda.zeebe.client.util.JsonUtil;
+import io.camunda.zeebe.client.util.RecordingGatewayService;
+import io.camunda.zeebe.client.util.TestEnvironmentRule;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+public final class MsgPackVariablesTest {
+
+  private static final ObjectMapper MSGPACK_MAPPER = new ObjectMapper(new MessagePackFactory());
+
+  @Rule
+  public final TestEnvironmentRule rule =
+      new TestEnvironmentRule(builder -> builder.preferMsgPackVariables(true));
+
+  private RecordingGatewayService gatewayService;
+  private ZeebeClient client;
+
+  @Before
+  public void setUp() {
+    gatewayService = rule.getGatewayService();
+    client = rule.getClient();
+  }
+
+  @Test
+  public void shouldRequestMsgPackVariables() {
+    // when
+    client.newActivateJobsCommand().jobType("foo").maxJobsToActivate(3).send().join();
+
+    // then
+    final ActivateJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getMsgPackVariables()).isTrue();
+  }
+
+  @Test
+  public void shouldReadMsgPackVariables() throws IOException {
+    // given
+    final Map<String, Object> variables = new HashMap<>();
+    variables.put("key", "val");
+    variables.put("bar", 3);
+    gatewayService.onActivateJobsRequest(
+        ActivatedJob.newBuilder()
+            .setKey(12)
+            .setType("foo")
+            .setVariablesMsgPack(ByteString.copyFrom(MSGPACK_MAPPER.writeValueAsBytes(variables)))
+            .build());
+
+    // when
+    final ActivateJobsResponse response =
+        client.newActivateJobsCommand().jobType("foo").maxJobsToActivate(3).send().join();
+
+    // then
+    final io.camunda.zeebe.client.api.response.ActivatedJob job = response.getJobs().get(0);
+    assertThat(job.getVariablesAsMap()).isEqualTo(variables);
+    assertThat(job.getVariable("bar")).isEqualTo(3);
+    assertThat(job.getVariablesAsType(POJO.class).getKey()).isEqualTo("val");
+    JsonUtil.assertEquality(job.getVariables(), "{\"key\": \"val\", \"bar\": 3}");
+  }
+
+  @Test
+  public void shouldCompleteWithMsgPackVariables() throws IOException {
+    // given
+    final Map<String, Object> variables = Collections.singletonMap("key", "val");
+    gatewayService.onActivateJobsRequest(
+        ActivatedJob.newBuilder()
+            .setKey(12)
+            .setType("foo")
+            .setVariablesMsgPack(ByteString.copyFrom(MSGPACK_MAPPER.writeValueAsBytes(variables)))
+            .build());
+    final io.camunda.zeebe.client.api.response.ActivatedJob job =
+        client
+            .newActivateJobsCommand()
+            .jobType("foo")
+            .maxJobsToActivate(1)
+            .send()
+            .join()
+            .getJobs()
+            .get(0);
+
+    // when
+    client.newCompleteCommand(job).variables(variables).send().join();
+
+    // then
+    final CompleteJobRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobKey()).isEqualTo(12);
+    assertThat(request.getVariables()).isEmpty();
+    assertThat(
+            MSGPACK_MAPPER.readValue(
+                request.getVariablesMsgPack().toByteArray(),
+                new TypeReference<Map<String, Object>>() {}))
+        .isEqualTo(variables);
+  }
+
+  @Test
+  public void shouldCompleteWithJsonVariablesIfActivatedWithJson() {
+    // given
+    final Map<String, Object> variables = Collections.singletonMap("key", "val");
+    gatewayService.onActivateJobsRequest(
+        ActivatedJob.newBuilder()
+            .setKey(12)
+            .setType("foo")
+            .setVariables(JsonUtil.toJson(variables))
+            .build());
+    final io.camunda.zeebe.client.api.response.ActivatedJob job =
+        client
+            .newActivateJobsCommand()
+            .jobType("foo")
+            .maxJobsToActivate(1)
+            .send()
+            .join()
+            .getJobs()
+            .get(0);
+
+    // when
+    client.newCompleteCommand(job).variables(variables).send().join();
+
+    // then
+    final CompleteJobRequest request = gatewayService.getLastRequest();
+    assertThat(request.getVariablesMsgPack().isEmpty()).isTrue();
+    JsonUtil.assertEquality(request.getVariables(), JsonUtil.toJson(variables));
+  }
+
+  @Test
+  public void shouldCompleteByKeyWithJsonVariables() {
+    // given
+    final Map<String, Object> variables = Collections.singletonMap("key", "val");
+
+    // when
+    client.newCompleteCommand(12).variables(variables).send().join();
+
+    // then
+    final CompleteJobRequest request = gatewayService.getLastRequest();
+    assertThat(request.getVariablesMsgPack().isEmpty()).isTrue();
+    JsonUtil.assertEquality(request.getVariables(), JsonUtil.toJson(variables));
+  }
+
+  @Test
+  public void shouldCompleteWithJsonStringVariables() {
+    // given
+    final String json = JsonUtil.toJson(Collections.singletonMap("key", "val"));
+
+    // when
+    client.newCompleteCommand(12).variables(json).send().join();
+
+    // then
+    final CompleteJobRequest request = gatewayService.getLastRequest();
+    assertThat(request.getVariablesMsgPack().isEmpty()).isTrue();
+    JsonUtil.assertEquality(request.getVariables(), json);
+  }
+
+  public static class POJO {
+
+    private String key;
+
+    public String getKey() {
+      return key;
+    }
+
+    public void setKey(final String key) {
+      this.key = key;
+    }
+  }
+}
@@ -16,9 +16,21 @@
 package io.camunda.zeebe.client.usertask;
 
 import static org.assertj.core.api.Assertions.assertThat;
-
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.client.api.command.ProblemException;
+import io.camunda.zeebe.client.api.search.response.SearchResponsePage;
+import io.camunda.zeebe.client.api.search.response.UserTask;
+import io.camunda.zeebe.client.protocol.rest.ProblemDetail;
+import io.camunda.zeebe.client.protocol.rest.SearchQueryPageResponse;
+import io.camunda.zeebe.client.protocol.rest.UserTaskItem;
 import io.camunda.zeebe.client.protocol.rest.UserTaskSearchQueryRequest;
+import io.camunda.zeebe.client.protocol.rest.UserTaskSearchQueryResponse;
 import io.camunda.zeebe.client.util.ClientRestTest;
+import io.camunda.zeebe.client.util.RestGatewayPaths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 public final class SearchUserTaskTest extends ClientRestTest {
@@ -132,4 +144,43 @@ public final class SearchUserTaskTest extends ClientRestTest {
         gatewayService.getLastRequest(UserTaskSearchQueryRequest.class);
     assertThat(request.getFilter().getTenantIds()).isEqualTo("tenant1");
   }
+
+  @Test
+  void shouldStreamSearchUserTaskItems() {
+    // given
+    gatewayService.onUserTaskSearchRequest(
+        new UserTaskSearchQueryResponse()
+            .items(
+                Arrays.asList(
+                    new UserTaskItem().key(1L).assignee("demo"), new UserTaskItem().key(2L)))
+            .page(new SearchQueryPageResponse().totalItems(2L)));
+    final List<UserTask> userTasks = new ArrayList<>();
+
+    // when
+    final SearchResponsePage page =
+        client.newUserTaskQuery().filter(f -> f.state("created")).send(userTasks::add).join();
+
+    // then
+    assertThat(userTasks).extracting(UserTask::getKey).containsExactly(1L, 2L);
+    assertThat(userTasks.get(0).getAssignee()).isEqualTo("demo");
+    assertThat(page.totalItems()).isEqualTo(2L);
+    final UserTaskSearchQueryRequest request =
+        gatewayService.getLastRequest(UserTaskSearchQueryRequest.class);
+    assertThat(request.getFilter().getState()).isEqualTo("created");
+  }
+
+  @Test
+  void shouldFailStreamingOnProblem() {
+    // given
+    gatewayService.errorOnRequest(
+        RestGatewayPaths.getUserTaskSearchUrl(),
+        () -> new ProblemDetail().title("Bad Request").status(400));
+    final List<UserTask> userTasks = new ArrayList<>();
+
+    // when / then
+    assertThatThrownBy(() -> client.newUserTaskQuery().send(userTasks::add).join())
+        .hasCauseInstanceOf(ProblemException.class)
+        .hasMessageContaining("Failed with code 400: 'Bad Request'");
+    assertThat(userTasks).isEmpty();
+  }
 }
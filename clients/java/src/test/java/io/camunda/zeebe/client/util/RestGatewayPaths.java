@@ -28,6 +28,7 @@ public class RestGatewayPaths {
   private static final String URL_USER_TASK_UNASSIGNMENT =
       REST_API_PATH + "/user-tasks/%s/assignee";
   private static final String URL_USER_TASK_UPDATE = REST_API_PATH + "/user-tasks/%s";
+  private static final String URL_USER_TASK_SEARCH = REST_API_PATH + "/user-tasks/search";
 
   /**
    * @return the topology request URL
@@ -74,4 +75,11 @@ public class RestGatewayPaths {
   public static String getUserTaskUpdateUrl(final long userTaskKey) {
     return String.format(URL_USER_TASK_UPDATE, userTaskKey);
   }
+
+  /**
+   * @return the user task search request URL
+   */
+  public static String getUserTaskSearchUrl() {
+    return URL_USER_TASK_SEARCH;
+  }
 }
@@ -23,6 +23,7 @@ import io.camunda.zeebe.client.impl.ZeebeObjectMapper;
 import io.camunda.zeebe.client.protocol.rest.JobActivationResponse;
 import io.camunda.zeebe.client.protocol.rest.ProblemDetail;
 import io.camunda.zeebe.client.protocol.rest.TopologyResponse;
+import io.camunda.zeebe.client.protocol.rest.UserTaskSearchQueryResponse;
 import java.util.List;
 import java.util.function.Supplier;
 import org.assertj.core.api.Assertions;
@@ -69,6 +70,19 @@ public class RestGatewayService {
                 .willReturn(WireMock.okJson(JSON_MAPPER.toJson(topologyResponse))));
   }
 
+  /**
+   * Register the given response for user task search requests.
+   *
+   * @param searchResponse the response to provide upon a user task search request
+   */
+  public void onUserTaskSearchRequest(final UserTaskSearchQueryResponse searchResponse) {
+    mockInfo
+        .getWireMock()
+        .register(
+            WireMock.post(RestGatewayPaths.getUserTaskSearchUrl())
+                .willReturn(WireMock.okJson(JSON_MAPPER.toJson(searchResponse))));
+  }
+
   /**
    * Fetch the last request that was served and convert it to the request target type.
    *
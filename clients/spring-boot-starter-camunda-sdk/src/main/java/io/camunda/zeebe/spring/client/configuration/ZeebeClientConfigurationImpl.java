@@ -320,6 +320,17 @@ public class ZeebeClientConfigurationImpl implements ZeebeClientConfiguration {
     return camundaClientProperties.getZeebe().isPreferRestOverGrpc();
   }
 
+  @Override
+  public boolean preferMsgPackVariables() {
+    return camundaClientProperties.getZeebe().isPreferMsgPackVariables();
+  }
+
+  @Override
+  public Duration getJobCompletionLinger() {
+    final Duration linger = camundaClientProperties.getZeebe().getJobCompletionLinger();
+    return linger != null ? linger : DEFAULT.getJobCompletionLinger();
+  }
+
   private CredentialsProvider credentialsProvider() {
     final ClientMode clientMode = camundaClientProperties.getMode();
     if (ClientMode.selfManaged.equals(clientMode) || ClientMode.saas.equals(clientMode)) {
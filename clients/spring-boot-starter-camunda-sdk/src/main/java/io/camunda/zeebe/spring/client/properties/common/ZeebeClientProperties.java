@@ -32,6 +32,8 @@ public class ZeebeClientProperties extends ApiProperties {
   private ZeebeWorkerValue defaults;
   private Map<String, ZeebeWorkerValue> override;
   private boolean preferRestOverGrpc;
+  private boolean preferMsgPackVariables;
+  private Duration jobCompletionLinger;
   private URI grpcAddress;
   private URI restAddress;
 
@@ -123,6 +125,22 @@ public class ZeebeClientProperties extends ApiProperties {
     this.preferRestOverGrpc = preferRestOverGrpc;
   }
 
+  public boolean isPreferMsgPackVariables() {
+    return preferMsgPackVariables;
+  }
+
+  public void setPreferMsgPackVariables(final boolean preferMsgPackVariables) {
+    this.preferMsgPackVariables = preferMsgPackVariables;
+  }
+
+  public Duration getJobCompletionLinger() {
+    return jobCompletionLinger;
+  }
+
+  public void setJobCompletionLinger(final Duration jobCompletionLinger) {
+    this.jobCompletionLinger = jobCompletionLinger;
+  }
+
   public URI getGrpcAddress() {
     return grpcAddress;
   }
@@ -46,10 +46,12 @@ public final class BrokerClientConfiguration {
             cluster.getMessagingService(),
             cluster.getEventService(),
             scheduler,
-            topologyManager);
+            topologyManager,
+            config.loadAwareDispatch());
     brokerClient.start().forEach(ActorFuture::join);
     return brokerClient;
   }
 
-  public static record BrokerClientTimeoutConfiguration(Duration requestTimeout) {}
+  public static record BrokerClientTimeoutConfiguration(
+      Duration requestTimeout, boolean loadAwareDispatch) {}
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.application.commons.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.atomix.cluster.ClusterConfig;
 import io.camunda.application.commons.actor.ActorSchedulerConfiguration.SchedulerConfiguration;
 import io.camunda.application.commons.broker.client.BrokerClientConfiguration.BrokerClientTimeoutConfiguration;
@@ -16,10 +17,15 @@ import io.camunda.application.commons.job.JobHandlerConfiguration.ActivateJobHan
 import io.camunda.zeebe.broker.clustering.ClusterConfigFactory;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.gateway.RestApiCompositeFilter;
+import io.camunda.zeebe.gateway.impl.configuration.FairQueuingCfg;
 import io.camunda.zeebe.gateway.impl.configuration.FilterCfg;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
+import io.camunda.zeebe.gateway.impl.flowcontrol.FairQueuingLimiter;
+import io.camunda.zeebe.gateway.metrics.FairQueuingMetrics;
 import io.camunda.zeebe.gateway.rest.ConditionalOnRestGatewayEnabled;
+import io.camunda.zeebe.gateway.rest.impl.filters.FairQueuingFilter;
 import io.camunda.zeebe.gateway.rest.impl.filters.FilterRepository;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.Filter;
 import java.time.Duration;
 import java.util.List;
@@ -27,9 +33,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.context.LifecycleProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
 import org.springframework.web.filter.CompositeFilter;
 
 @Configuration(proxyBeanMethods = false)
@@ -63,8 +71,9 @@ public final class BrokerBasedConfiguration {
 
   @Bean
   public BrokerClientTimeoutConfiguration brokerClientConfig() {
+    final var cluster = properties.getGateway().getCluster();
     return new BrokerClientTimeoutConfiguration(
-        properties.getGateway().getCluster().getRequestTimeout());
+        cluster.getRequestTimeout(), cluster.isLoadAwareDispatch());
   }
 
   @Bean
@@ -86,6 +95,27 @@ public final class BrokerBasedConfiguration {
     return new RestApiCompositeFilter(filters);
   }
 
+  /**
+   * The fair queuing filter is registered on its own, instead of as part of the composite filter,
+   * as it continues queued requests through an async dispatch. It runs before the composite filter,
+   * so that the configured filters only see admitted requests.
+   */
+  @ConditionalOnRestGatewayEnabled
+  @Bean
+  public FilterRegistrationBean<FairQueuingFilter> fairQueuingFilter(
+      final ObjectMapper objectMapper) {
+    final FairQueuingCfg fairQueuing = properties.getGateway().getFairQueuing();
+    final var registration =
+        new FilterRegistrationBean<>(
+            new FairQueuingFilter(
+                new FairQueuingLimiter(fairQueuing, new FairQueuingMetrics("rest")), objectMapper));
+    registration.setEnabled(fairQueuing.isEnabled());
+    registration.addUrlPatterns(FairQueuingFilter.URL_PATTERNS);
+    registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+    registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+    return registration;
+  }
+
   @Bean
   public ActivateJobHandlerConfiguration activateJobHandlerConfiguration() {
     return new ActivateJobHandlerConfiguration(
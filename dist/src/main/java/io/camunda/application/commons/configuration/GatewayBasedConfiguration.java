@@ -7,6 +7,7 @@
  */
 package io.camunda.application.commons.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.atomix.cluster.ClusterConfig;
 import io.atomix.cluster.MemberConfig;
 import io.atomix.cluster.NodeConfig;
@@ -20,12 +21,17 @@ import io.camunda.application.commons.configuration.GatewayBasedConfiguration.Ga
 import io.camunda.application.commons.job.JobHandlerConfiguration.ActivateJobHandlerConfiguration;
 import io.camunda.zeebe.gateway.RestApiCompositeFilter;
 import io.camunda.zeebe.gateway.impl.configuration.ClusterCfg;
+import io.camunda.zeebe.gateway.impl.configuration.FairQueuingCfg;
 import io.camunda.zeebe.gateway.impl.configuration.FilterCfg;
 import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
 import io.camunda.zeebe.gateway.impl.configuration.MembershipCfg;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
+import io.camunda.zeebe.gateway.impl.flowcontrol.FairQueuingLimiter;
+import io.camunda.zeebe.gateway.metrics.FairQueuingMetrics;
 import io.camunda.zeebe.gateway.rest.ConditionalOnRestGatewayEnabled;
+import io.camunda.zeebe.gateway.rest.impl.filters.FairQueuingFilter;
 import io.camunda.zeebe.gateway.rest.impl.filters.FilterRepository;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.Filter;
 import java.time.Duration;
 import java.util.Collection;
@@ -36,9 +42,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.context.LifecycleProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
 import org.springframework.web.filter.CompositeFilter;
 
 @Configuration(proxyBeanMethods = false)
@@ -74,6 +82,27 @@ public final class GatewayBasedConfiguration {
     return new RestApiCompositeFilter(filters);
   }
 
+  /**
+   * The fair queuing filter is registered on its own, instead of as part of the composite filter,
+   * as it continues queued requests through an async dispatch. It runs before the composite filter,
+   * so that the configured filters only see admitted requests.
+   */
+  @ConditionalOnRestGatewayEnabled
+  @Bean
+  public FilterRegistrationBean<FairQueuingFilter> fairQueuingFilter(
+      final ObjectMapper objectMapper) {
+    final FairQueuingCfg fairQueuing = properties.getFairQueuing();
+    final var registration =
+        new FilterRegistrationBean<>(
+            new FairQueuingFilter(
+                new FairQueuingLimiter(fairQueuing, new FairQueuingMetrics("rest")), objectMapper));
+    registration.setEnabled(fairQueuing.isEnabled());
+    registration.addUrlPatterns(FairQueuingFilter.URL_PATTERNS);
+    registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+    registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+    return registration;
+  }
+
   @Bean
   public ActivateJobHandlerConfiguration activateJobHandlerConfiguration() {
     return new ActivateJobHandlerConfiguration(
@@ -84,7 +113,9 @@ public final class GatewayBasedConfiguration {
 
   @Bean
   public BrokerClientTimeoutConfiguration brokerClientConfig() {
-    return new BrokerClientTimeoutConfiguration(properties.getCluster().getRequestTimeout());
+    final var cluster = properties.getCluster();
+    return new BrokerClientTimeoutConfiguration(
+        cluster.getRequestTimeout(), cluster.isLoadAwareDispatch());
   }
 
   @Bean
@@ -137,7 +168,10 @@ public final class GatewayBasedConfiguration {
         .setProbeInterval(config.getProbeInterval())
         .setProbeTimeout(config.getProbeTimeout())
         .setSuspectProbes(config.getSuspectProbes())
-        .setSyncInterval(config.getSyncInterval());
+        .setSyncInterval(config.getSyncInterval())
+        .setPiggybackUpdates(config.isPiggybackUpdates())
+        .setMaxPiggybackUpdates(config.getMaxPiggybackUpdates())
+        .setRetransmitMultiplier(config.getRetransmitMultiplier());
   }
 
   private BootstrapDiscoveryConfig discoveryConfig(final Collection<String> contactPoints) {
@@ -155,6 +189,9 @@ public final class GatewayBasedConfiguration {
     final var messaging =
         new MessagingConfig()
             .setCompressionAlgorithm(cluster.getMessageCompression())
+            .setWriteCoalescingEnabled(cluster.isMessageCoalescing())
+            .setWriteCoalescingBudget(
+                Math.toIntExact(cluster.getMessageCoalescingBudget().toBytes()))
             .setInterfaces(Collections.singletonList(cluster.getHost()))
             .setPort(cluster.getPort());
 
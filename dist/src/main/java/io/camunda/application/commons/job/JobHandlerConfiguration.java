@@ -70,7 +70,8 @@ public class JobHandlerConfiguration {
           brokerClient,
           config.maxMessageSize().toBytes(),
           ResponseMapper::toActivateJobsResponse,
-          RuntimeException::new);
+          RuntimeException::new,
+          config.longPolling().getPartitionFanOut());
     }
   }
 
@@ -82,6 +83,7 @@ public class JobHandlerConfiguration {
         .setLongPollingTimeout(config.longPolling().getTimeout())
         .setProbeTimeoutMillis(config.longPolling().getProbeTimeout())
         .setMinEmptyResponses(config.longPolling().getMinEmptyResponses())
+        .setPartitionFanOut(config.longPolling().getPartitionFanOut())
         .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
         .setNoJobsReceivedExceptionProvider(RuntimeException::new)
         .setRequestCanceledExceptionProvider(RuntimeException::new)
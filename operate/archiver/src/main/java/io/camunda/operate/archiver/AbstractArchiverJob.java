@@ -32,7 +32,7 @@ public abstract class AbstractArchiverJob implements ArchiverJob {
   private final BackoffIdleStrategy idleStrategy;
   private final BackoffIdleStrategy errorStrategy;
   private boolean shutdown = false;
-  @Autowired private OperateProperties operateProperties;
+  @Autowired protected OperateProperties operateProperties;
 
   public AbstractArchiverJob() {
     idleStrategy = new BackoffIdleStrategy(2_000, 1.2f, 60_000);
@@ -47,7 +47,7 @@ public abstract class AbstractArchiverJob implements ArchiverJob {
             (count) -> {
               errorStrategy.reset();
 
-              if (count >= operateProperties.getArchiver().getRolloverBatchSize()) {
+              if (count >= getFullBatchSize()) {
                 idleStrategy.reset();
               } else {
                 idleStrategy.idle();
@@ -83,6 +83,14 @@ public abstract class AbstractArchiverJob implements ArchiverJob {
     return getNextBatch().thenCompose(this::archiveBatch);
   }
 
+  /**
+   * @return the number of archived documents from which on the next batch is archived without
+   *     idling, as there are probably more documents to archive
+   */
+  protected int getFullBatchSize() {
+    return operateProperties.getArchiver().getRolloverBatchSize();
+  }
+
   @PreDestroy
   public void shutdown() {
     shutdown = true;
@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.archiver;
+
+import java.time.Duration;
+
+/**
+ * Adapts the size of archive batches to the time it takes to reindex and delete them: the size is
+ * halved after a batch which took longer than the target duration, and increased by a quarter after
+ * a full batch which took less than half of it. A target duration of zero keeps the size constant.
+ */
+public class ArchiveBatchSizer {
+
+  private final int maxBatchSize;
+  private final Duration targetDuration;
+  private int batchSize;
+
+  public ArchiveBatchSizer(
+      final int initialBatchSize, final int maxBatchSize, final Duration targetDuration) {
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.targetDuration = targetDuration;
+    batchSize = Math.max(1, Math.min(initialBatchSize, this.maxBatchSize));
+  }
+
+  public synchronized int get() {
+    return batchSize;
+  }
+
+  /** Adapts the batch size to the duration it took to archive the given number of instances. */
+  public synchronized void record(final int archivedCount, final Duration duration) {
+    if (targetDuration.isZero()) {
+      return;
+    }
+
+    if (duration.compareTo(targetDuration) > 0) {
+      batchSize = Math.max(1, batchSize / 2);
+    } else if (archivedCount >= batchSize
+        && duration.multipliedBy(2).compareTo(targetDuration) < 0) {
+      batchSize = Math.min(maxBatchSize, batchSize + Math.max(1, batchSize / 4));
+    }
+  }
+}
@@ -15,6 +15,15 @@ public interface ArchiverRepository {
 
   CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch(List<Integer> partitionIds);
 
+  CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch(
+      List<Integer> partitionIds, int batchSize);
+
+  /**
+   * @return the end date (in epoch milliseconds) of the oldest finished process instance of the
+   *     given partitions which is due for archiving, or {@code null} if there is none
+   */
+  CompletableFuture<Long> getOldestArchivableEndDate(List<Integer> partitionIds);
+
   void setIndexLifeCycle(final String destinationIndexName);
 
   CompletableFuture<Void> deleteDocuments(
@@ -19,6 +19,7 @@ import static org.elasticsearch.index.query.QueryBuilders.termQuery;
 import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
 import static org.elasticsearch.index.reindex.AbstractBulkByScrollRequest.AUTO_SLICES;
 import static org.elasticsearch.search.aggregations.AggregationBuilders.dateHistogram;
+import static org.elasticsearch.search.aggregations.AggregationBuilders.min;
 import static org.elasticsearch.search.aggregations.AggregationBuilders.topHits;
 import static org.elasticsearch.search.aggregations.PipelineAggregatorBuilders.bucketSort;
 
@@ -54,6 +55,7 @@ import org.elasticsearch.search.SearchHits;
 import org.elasticsearch.search.aggregations.AggregationBuilder;
 import org.elasticsearch.search.aggregations.bucket.histogram.DateHistogramInterval;
 import org.elasticsearch.search.aggregations.bucket.histogram.Histogram;
+import org.elasticsearch.search.aggregations.metrics.Min;
 import org.elasticsearch.search.aggregations.metrics.TopHits;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.sort.FieldSortBuilder;
@@ -71,6 +73,7 @@ import org.springframework.stereotype.Component;
 public class ElasticsearchArchiverRepository implements ArchiverRepository {
   public static final int INTERNAL_SCROLL_KEEP_ALIVE_MS =
       30000; // this scroll timeout value is used for reindex and delete queries
+  private static final String OLDEST_END_DATE_AGG = "oldestEndDateAgg";
   private static final Logger LOGGER =
       LoggerFactory.getLogger(ElasticsearchArchiverRepository.class);
 
@@ -148,7 +151,14 @@ public class ElasticsearchArchiverRepository implements ArchiverRepository {
   @Override
   public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch(
       final List<Integer> partitionIds) {
-    final var aggregation = createFinishedInstancesAggregation(DATES_AGG, INSTANCES_AGG);
+    return getProcessInstancesNextBatch(
+        partitionIds, operateProperties.getArchiver().getRolloverBatchSize());
+  }
+
+  @Override
+  public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch(
+      final List<Integer> partitionIds, final int batchSize) {
+    final var aggregation = createFinishedInstancesAggregation(DATES_AGG, INSTANCES_AGG, batchSize);
     final var searchRequest = createFinishedInstancesSearchRequest(aggregation, partitionIds);
     final Function<Throwable, String> errorMessage =
         t ->
@@ -158,6 +168,22 @@ public class ElasticsearchArchiverRepository implements ArchiverRepository {
     return searchAsync(searchRequest, errorMessage);
   }
 
+  @Override
+  public CompletableFuture<Long> getOldestArchivableEndDate(final List<Integer> partitionIds) {
+    final var searchRequest =
+        createFinishedInstancesSearchRequest(
+            min(OLDEST_END_DATE_AGG).field(ListViewTemplate.END_DATE), partitionIds);
+    return sendSearchRequest(searchRequest)
+        .thenApply(
+            response -> {
+              final Min oldestEndDate = response.getAggregations().get(OLDEST_END_DATE_AGG);
+              // the minimum of no values is infinity
+              return Double.isInfinite(oldestEndDate.getValue())
+                  ? null
+                  : (long) oldestEndDate.getValue();
+            });
+  }
+
   @Override
   public void setIndexLifeCycle(final String destinationIndexName) {
     try {
@@ -333,7 +359,7 @@ public class ElasticsearchArchiverRepository implements ArchiverRepository {
   }
 
   private AggregationBuilder createFinishedInstancesAggregation(
-      final String datesAggName, final String instancesAggName) {
+      final String datesAggName, final String instancesAggName, final int batchSize) {
     return dateHistogram(datesAggName)
         .field(ListViewTemplate.END_DATE)
         .calendarInterval(
@@ -346,7 +372,7 @@ public class ElasticsearchArchiverRepository implements ArchiverRepository {
         // we need process instance ids, also taking into account batch size
         .subAggregation(
             topHits(instancesAggName)
-                .size(operateProperties.getArchiver().getRolloverBatchSize())
+                .size(batchSize)
                 .sort(ListViewTemplate.ID, SortOrder.ASC)
                 .fetchSource(ListViewTemplate.ID, null));
   }
@@ -13,6 +13,7 @@ import static io.camunda.operate.schema.SchemaManager.OPERATE_DELETE_ARCHIVED_IN
 import static io.camunda.operate.schema.templates.BatchOperationTemplate.END_DATE;
 import static io.camunda.operate.store.opensearch.dsl.AggregationDSL.bucketSortAggregation;
 import static io.camunda.operate.store.opensearch.dsl.AggregationDSL.dateHistogramAggregation;
+import static io.camunda.operate.store.opensearch.dsl.AggregationDSL.minAggregation;
 import static io.camunda.operate.store.opensearch.dsl.AggregationDSL.topHitsAggregation;
 import static io.camunda.operate.store.opensearch.dsl.AggregationDSL.withSubaggregations;
 import static io.camunda.operate.store.opensearch.dsl.QueryDSL.and;
@@ -62,6 +63,7 @@ import org.springframework.stereotype.Component;
 public class OpensearchArchiverRepository implements ArchiverRepository {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(OpensearchArchiverRepository.class);
+  private static final String OLDEST_END_DATE_AGG = "oldestEndDateAgg";
   @Autowired protected RichOpenSearchClient richOpenSearchClient;
 
   @Autowired
@@ -105,9 +107,22 @@ public class OpensearchArchiverRepository implements ArchiverRepository {
 
   private SearchRequest.Builder nextBatchSearchRequestBuilder(
       final String index, final String idColumn, final String endDateField, final Query query) {
+    return nextBatchSearchRequestBuilder(
+        index,
+        idColumn,
+        endDateField,
+        query,
+        operateProperties.getArchiver().getRolloverBatchSize());
+  }
+
+  private SearchRequest.Builder nextBatchSearchRequestBuilder(
+      final String index,
+      final String idColumn,
+      final String endDateField,
+      final Query query,
+      final int rollOverBatchSize) {
     final var format = operateProperties.getArchiver().getElsRolloverDateFormat();
     final var interval = operateProperties.getArchiver().getRolloverInterval();
-    final var rollOverBatchSize = operateProperties.getArchiver().getRolloverBatchSize();
 
     final Aggregation agg =
         withSubaggregations(
@@ -151,29 +166,61 @@ public class OpensearchArchiverRepository implements ArchiverRepository {
   @Override
   public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch(
       final List<Integer> partitionIds) {
-    final Query query =
-        constantScore(
-            and(
-                lte(
-                    ListViewTemplate.END_DATE,
-                    operateProperties.getArchiver().getArchivingTimepoint()),
-                term(
-                    ListViewTemplate.JOIN_RELATION,
-                    ListViewTemplate.PROCESS_INSTANCE_JOIN_RELATION),
-                intTerms(ListViewTemplate.PARTITION_ID, partitionIds)));
+    return getProcessInstancesNextBatch(
+        partitionIds, operateProperties.getArchiver().getRolloverBatchSize());
+  }
 
+  @Override
+  public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch(
+      final List<Integer> partitionIds, final int batchSize) {
     final var searchRequestBuilder =
         nextBatchSearchRequestBuilder(
             processInstanceTemplate.getFullQualifiedName(),
             ListViewTemplate.ID,
             ListViewTemplate.END_DATE,
-            query);
+            finishedInstancesQuery(partitionIds),
+            batchSize);
 
     return search(
         searchRequestBuilder,
         e -> "Failed to search in " + batchOperationTemplate.getFullQualifiedName());
   }
 
+  @Override
+  public CompletableFuture<Long> getOldestArchivableEndDate(final List<Integer> partitionIds) {
+    final var searchRequestBuilder =
+        searchRequestBuilder(processInstanceTemplate.getFullQualifiedName())
+            .query(finishedInstancesQuery(partitionIds))
+            .aggregations(
+                OLDEST_END_DATE_AGG, minAggregation(ListViewTemplate.END_DATE)._toAggregation())
+            .size(0)
+            .requestCache(false);
+
+    return richOpenSearchClient
+        .async()
+        .doc()
+        .search(
+            searchRequestBuilder,
+            Object.class,
+            e -> "Failed to search in " + processInstanceTemplate.getFullQualifiedName())
+        .thenApply(
+            response -> {
+              final Double oldestEndDate =
+                  response.aggregations().get(OLDEST_END_DATE_AGG).min().value();
+              return oldestEndDate == null || oldestEndDate.isInfinite()
+                  ? null
+                  : oldestEndDate.longValue();
+            });
+  }
+
+  private Query finishedInstancesQuery(final List<Integer> partitionIds) {
+    return constantScore(
+        and(
+            lte(ListViewTemplate.END_DATE, operateProperties.getArchiver().getArchivingTimepoint()),
+            term(ListViewTemplate.JOIN_RELATION, ListViewTemplate.PROCESS_INSTANCE_JOIN_RELATION),
+            intTerms(ListViewTemplate.PARTITION_ID, partitionIds)));
+  }
+
   @Override
   public void setIndexLifeCycle(final String destinationIndexName) {
     try {
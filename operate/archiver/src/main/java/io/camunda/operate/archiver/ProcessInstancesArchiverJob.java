@@ -12,9 +12,13 @@ import static org.springframework.beans.factory.config.BeanDefinition.SCOPE_PROT
 import io.camunda.operate.Metrics;
 import io.camunda.operate.schema.templates.ListViewTemplate;
 import io.camunda.operate.schema.templates.ProcessInstanceDependant;
+import io.camunda.operate.util.CollectionUtil;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,11 +42,69 @@ public class ProcessInstancesArchiverJob extends AbstractArchiverJob {
 
   @Autowired private ArchiverRepository archiverRepository;
 
+  private List<List<Integer>> partitionSlices;
+  private ArchiveBatchSizer batchSizer;
+  private volatile long lag;
+
   public ProcessInstancesArchiverJob(final Archiver archiver, final List<Integer> partitionIds) {
     this.partitionIds = partitionIds;
     this.archiver = archiver;
   }
 
+  @PostConstruct
+  public void init() {
+    final var archiverProperties = operateProperties.getArchiver();
+    final int sliceCount =
+        Math.max(1, Math.min(archiverProperties.getParallelBatches(), partitionIds.size()));
+    partitionSlices =
+        IntStream.range(0, sliceCount)
+            .mapToObj(i -> CollectionUtil.splitAndGetSublist(partitionIds, sliceCount, i))
+            .filter(slice -> !slice.isEmpty())
+            .toList();
+    batchSizer =
+        new ArchiveBatchSizer(
+            archiverProperties.getRolloverBatchSize(),
+            archiverProperties.getMaxRolloverBatchSize(),
+            Duration.ofMillis(archiverProperties.getTargetBatchDuration()));
+
+    if (isParallel()) {
+      final String partitions = partitionIds.toString();
+      metrics.registerGauge(
+          Metrics.GAUGE_ARCHIVER_LAG, this, job -> job.lag, Metrics.TAG_KEY_PARTITION, partitions);
+      metrics.registerGauge(
+          Metrics.GAUGE_ARCHIVER_BATCH_SIZE,
+          batchSizer,
+          ArchiveBatchSizer::get,
+          Metrics.TAG_KEY_PARTITION,
+          partitions);
+    }
+  }
+
+  /**
+   * Archives one batch per partition slice concurrently, each sized by the batch sizer, and updates
+   * the archiving lag on the way. Without parallel batches and adaptive sizing, a single batch of
+   * the configured rollover batch size is archived.
+   */
+  @Override
+  public CompletableFuture<Integer> archiveNextBatch() {
+    if (!isParallel()) {
+      return super.archiveNextBatch();
+    }
+
+    updateLag();
+    final int batchSize = batchSizer.get();
+    final List<CompletableFuture<Integer>> sliceFutures =
+        partitionSlices.stream()
+            .map(
+                slice ->
+                    archiverRepository
+                        .getProcessInstancesNextBatch(slice, batchSize)
+                        .thenCompose(this::archiveBatchTimed))
+            .toList();
+    return CompletableFuture.allOf(sliceFutures.toArray(new CompletableFuture[0]))
+        .thenApply(v -> sliceFutures.stream().mapToInt(CompletableFuture::join).sum());
+  }
+
   @Override
   public CompletableFuture<Integer> archiveBatch(final ArchiveBatch archiveBatch) {
     final CompletableFuture<Integer> archiveBatchFuture;
@@ -83,6 +145,44 @@ public class ProcessInstancesArchiverJob extends AbstractArchiverJob {
     return archiverRepository.getProcessInstancesNextBatch(partitionIds);
   }
 
+  @Override
+  protected int getFullBatchSize() {
+    return isParallel() ? batchSizer.get() : super.getFullBatchSize();
+  }
+
+  private boolean isParallel() {
+    return operateProperties.getArchiver().getParallelBatches() > 1
+        || operateProperties.getArchiver().getTargetBatchDuration() > 0;
+  }
+
+  private CompletableFuture<Integer> archiveBatchTimed(final ArchiveBatch archiveBatch) {
+    final long start = System.nanoTime();
+    return archiveBatch(archiveBatch)
+        .thenApply(
+            count -> {
+              if (count > 0) {
+                batchSizer.record(count, Duration.ofNanos(System.nanoTime() - start));
+              }
+              return count;
+            });
+  }
+
+  private void updateLag() {
+    archiverRepository
+        .getOldestArchivableEndDate(partitionIds)
+        .thenAccept(
+            oldestEndDate ->
+                lag =
+                    oldestEndDate == null
+                        ? 0
+                        : Math.max(0, System.currentTimeMillis() - oldestEndDate))
+        .exceptionally(
+            t -> {
+              LOGGER.debug("Failed to update the archiver lag", t);
+              return null;
+            });
+  }
+
   private CompletableFuture<Void> moveDependableDocuments(
       final String finishDate, final List<Object> processInstanceKeys) {
     final var dependableFutures = new ArrayList<CompletableFuture<Void>>();
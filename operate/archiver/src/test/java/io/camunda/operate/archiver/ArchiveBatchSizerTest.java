@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.archiver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class ArchiveBatchSizerTest {
+
+  private static final Duration TARGET = Duration.ofSeconds(1);
+
+  @Test
+  public void testKeepSizeWithoutTarget() {
+    final ArchiveBatchSizer sizer = new ArchiveBatchSizer(100, 1000, Duration.ZERO);
+
+    sizer.record(100, Duration.ofMinutes(1));
+
+    assertThat(sizer.get()).isEqualTo(100);
+  }
+
+  @Test
+  public void testDecreaseSizeAfterSlowBatch() {
+    final ArchiveBatchSizer sizer = new ArchiveBatchSizer(100, 1000, TARGET);
+
+    sizer.record(100, Duration.ofSeconds(2));
+    assertThat(sizer.get()).isEqualTo(50);
+
+    sizer.record(50, Duration.ofSeconds(2));
+    assertThat(sizer.get()).isEqualTo(25);
+  }
+
+  @Test
+  public void testIncreaseSizeAfterFastFullBatch() {
+    final ArchiveBatchSizer sizer = new ArchiveBatchSizer(100, 1000, TARGET);
+
+    sizer.record(100, Duration.ofMillis(100));
+
+    assertThat(sizer.get()).isEqualTo(125);
+  }
+
+  @Test
+  public void testKeepSizeAfterFastPartialBatch() {
+    final ArchiveBatchSizer sizer = new ArchiveBatchSizer(100, 1000, TARGET);
+
+    sizer.record(10, Duration.ofMillis(100));
+
+    assertThat(sizer.get()).isEqualTo(100);
+  }
+
+  @Test
+  public void testKeepSizeWithinBounds() {
+    final ArchiveBatchSizer sizer = new ArchiveBatchSizer(2, 3, TARGET);
+
+    sizer.record(2, Duration.ofMillis(100));
+    sizer.record(3, Duration.ofMillis(100));
+    assertThat(sizer.get()).isEqualTo(3);
+
+    for (int i = 0; i < 5; i++) {
+      sizer.record(3, Duration.ofSeconds(2));
+    }
+    assertThat(sizer.get()).isEqualTo(1);
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.operate;
 
+import io.camunda.operate.util.LongKeyedLruCache;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -48,10 +50,16 @@ public class Metrics {
       "events.processed.finished.process.instances";
   public static final String COUNTER_NAME_COMMANDS = "commands";
   public static final String COUNTER_NAME_ARCHIVED = "archived.process.instances";
+  public static final String COUNTER_NAME_CACHE_HITS = "cache.hits";
+  public static final String COUNTER_NAME_CACHE_MISSES = "cache.misses";
+  public static final String COUNTER_NAME_CACHE_EVICTIONS = "cache.evictions";
   // Gauges:
   public static final String GAUGE_IMPORT_QUEUE_SIZE = "import.queue.size";
   public static final String GAUGE_BPMN_MODEL_COUNT = OPERATE_NAMESPACE + "model.bpmn.count";
   public static final String GAUGE_DMN_MODEL_COUNT = OPERATE_NAMESPACE + "model.dmn.count";
+  public static final String GAUGE_CACHE_SIZE = "cache.size";
+  public static final String GAUGE_ARCHIVER_LAG = "archiver.lag";
+  public static final String GAUGE_ARCHIVER_BATCH_SIZE = "archiver.batch.size";
   // Tags
   // -----
   //  Keys:
@@ -98,6 +106,24 @@ public class Metrics {
     registerGauge(name, queue, q -> q.size(), tags);
   }
 
+  /**
+   * Registers the hits, misses, evictions and size of the given cache, tagged with the cache name.
+   * The hit rate follows from the hits and misses.
+   */
+  public void registerCacheMetrics(String cacheName, LongKeyedLruCache<?> cache) {
+    FunctionCounter.builder(OPERATE_NAMESPACE + COUNTER_NAME_CACHE_HITS, cache, c -> c.hits())
+        .tags(TAG_KEY_NAME, cacheName)
+        .register(registry);
+    FunctionCounter.builder(OPERATE_NAMESPACE + COUNTER_NAME_CACHE_MISSES, cache, c -> c.misses())
+        .tags(TAG_KEY_NAME, cacheName)
+        .register(registry);
+    FunctionCounter.builder(
+            OPERATE_NAMESPACE + COUNTER_NAME_CACHE_EVICTIONS, cache, c -> c.evictions())
+        .tags(TAG_KEY_NAME, cacheName)
+        .register(registry);
+    registerGauge(GAUGE_CACHE_SIZE, cache, c -> c.size(), TAG_KEY_NAME, cacheName);
+  }
+
   public Timer getTimer(String name, String... tags) {
     return registry.timer(name, tags);
   }
@@ -49,6 +49,26 @@ public class ArchiverProperties {
    */
   private int delayBetweenRuns = 2000;
 
+  /**
+   * Number of batches of finished process instances each archiver thread archives concurrently. The
+   * partitions of the thread are split into this many slices, each of which is archived from its
+   * own oldest date bucket.
+   */
+  private int parallelBatches = 1;
+
+  /**
+   * Target duration (in milliseconds) for reindexing and deleting one batch of process instances.
+   * When set, the batch size is decreased after slower batches and increased after faster ones,
+   * within the range of 1 to maxRolloverBatchSize. 0 disables the adaption.
+   */
+  private int targetBatchDuration = 0;
+
+  /**
+   * Upper bound of the adapted batch size. Batches of more than 100 instances require to increase
+   * the index.max_inner_result_window setting of the list view indices.
+   */
+  private int maxRolloverBatchSize = 100;
+
   public String getIlmMinAgeForDeleteArchivedIndices() {
     return ilmMinAgeForDeleteArchivedIndices;
   }
@@ -132,4 +152,28 @@ public class ArchiverProperties {
   public void setDelayBetweenRuns(int delayBetweenRuns) {
     this.delayBetweenRuns = delayBetweenRuns;
   }
+
+  public int getParallelBatches() {
+    return parallelBatches;
+  }
+
+  public void setParallelBatches(int parallelBatches) {
+    this.parallelBatches = parallelBatches;
+  }
+
+  public int getTargetBatchDuration() {
+    return targetBatchDuration;
+  }
+
+  public void setTargetBatchDuration(int targetBatchDuration) {
+    this.targetBatchDuration = targetBatchDuration;
+  }
+
+  public int getMaxRolloverBatchSize() {
+    return maxRolloverBatchSize;
+  }
+
+  public void setMaxRolloverBatchSize(int maxRolloverBatchSize) {
+    this.maxRolloverBatchSize = maxRolloverBatchSize;
+  }
 }
@@ -47,6 +47,12 @@ public class ImportProperties {
 
   private int flowNodeTreeCacheSize = DEFAULT_FLOW_NODE_TREE_CACHE_SIZE;
 
+  /**
+   * Stores the cached flow node tree paths as arrays of keys instead of strings, which takes less
+   * than half of the memory, at the cost of rebuilding the string on each cache hit.
+   */
+  private boolean compactFlowNodeTreeCache = false;
+
   private int importPositionUpdateInterval = DEFAULT_IMPORT_POSITION_UPDATE_INTERVAL;
 
   /** Indicates, whether loading of Zeebe data should start on startup. */
@@ -75,6 +81,40 @@ public class ImportProperties {
 
   private int maxEmptyRuns = DEFAULT_MAX_EMPTY_RUNS;
 
+  /**
+   * When enabled, import jobs of value types which do not depend on each other are imported in
+   * parallel, while jobs of dependent value types (e.g. incidents on process instances) wait until
+   * their prerequisites on the same partition caught up. Free import threads go to the value types
+   * with the largest import backlog first.
+   */
+  private boolean dependencyAwareScheduling = false;
+
+  /**
+   * With dependency aware scheduling, import jobs which wait longer than this (in milliseconds) go
+   * first, regardless of the import backlog of their value type.
+   */
+  private int schedulerStarvationThreshold = 5000;
+
+  /**
+   * Number of batches each records reader reads ahead, while the previous batches are imported. 0
+   * disables reading ahead.
+   */
+  private int prefetchSize = 0;
+
+  /**
+   * Reads of Zeebe records which take longer than this (in milliseconds) decrease the batch size
+   * for the following reads. 0 disables the adaption.
+   */
+  private int slowReadThreshold = 0;
+
+  /**
+   * Interval (in milliseconds) in which the importer polls the latest exported positions, which the
+   * Zeebe exporter publishes when its index.exportedPosition option is enabled. Readers which back
+   * off because they found no new records are woken up as soon as the position of their partition
+   * advances. 0 disables polling, readers then only back off by readerBackoff.
+   */
+  private int exportedPositionPollInterval = 0;
+
   public boolean isStartLoadingDataOnStartup() {
     return startLoadingDataOnStartup;
   }
@@ -169,6 +209,15 @@ public class ImportProperties {
     this.flowNodeTreeCacheSize = flowNodeTreeCacheSize;
   }
 
+  public boolean isCompactFlowNodeTreeCache() {
+    return compactFlowNodeTreeCache;
+  }
+
+  public ImportProperties setCompactFlowNodeTreeCache(final boolean compactFlowNodeTreeCache) {
+    this.compactFlowNodeTreeCache = compactFlowNodeTreeCache;
+    return this;
+  }
+
   public int getVariableSizeThreshold() {
     return variableSizeThreshold;
   }
@@ -212,4 +261,49 @@ public class ImportProperties {
     this.maxEmptyRuns = maxEmptyRuns;
     return this;
   }
+
+  public boolean isDependencyAwareScheduling() {
+    return dependencyAwareScheduling;
+  }
+
+  public ImportProperties setDependencyAwareScheduling(final boolean dependencyAwareScheduling) {
+    this.dependencyAwareScheduling = dependencyAwareScheduling;
+    return this;
+  }
+
+  public int getSchedulerStarvationThreshold() {
+    return schedulerStarvationThreshold;
+  }
+
+  public ImportProperties setSchedulerStarvationThreshold(final int schedulerStarvationThreshold) {
+    this.schedulerStarvationThreshold = schedulerStarvationThreshold;
+    return this;
+  }
+
+  public int getPrefetchSize() {
+    return prefetchSize;
+  }
+
+  public ImportProperties setPrefetchSize(final int prefetchSize) {
+    this.prefetchSize = prefetchSize;
+    return this;
+  }
+
+  public int getSlowReadThreshold() {
+    return slowReadThreshold;
+  }
+
+  public ImportProperties setSlowReadThreshold(final int slowReadThreshold) {
+    this.slowReadThreshold = slowReadThreshold;
+    return this;
+  }
+
+  public int getExportedPositionPollInterval() {
+    return exportedPositionPollInterval;
+  }
+
+  public ImportProperties setExportedPositionPollInterval(final int exportedPositionPollInterval) {
+    this.exportedPositionPollInterval = exportedPositionPollInterval;
+    return this;
+  }
 }
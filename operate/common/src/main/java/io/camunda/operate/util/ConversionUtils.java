@@ -42,6 +42,50 @@ public class ConversionUtils {
     return aString == null || aString.isEmpty();
   }
 
+  /**
+   * Encodes a tree path of keys, e.g. {@code 2251799813685249/2251799813685251}, compactly as an
+   * array of the keys.
+   *
+   * @return the keys of the tree path, or {@code null} if it contains entries which are not keys
+   */
+  public static long[] toKeysOrNull(String treePath) {
+    if (treePath == null || treePath.isEmpty()) {
+      return null;
+    }
+    final String[] entries = treePath.split("/");
+    final long[] keys = new long[entries.length];
+    try {
+      for (int i = 0; i < entries.length; i++) {
+        keys[i] = Long.parseLong(entries[i]);
+      }
+    } catch (NumberFormatException e) {
+      return null;
+    }
+    return keys;
+  }
+
+  /** Decodes a tree path which was encoded by {@link #toKeysOrNull(String)}. */
+  public static String toTreePath(long[] keys) {
+    final StringBuilder treePath = new StringBuilder(keys.length * 17);
+    for (int i = 0; i < keys.length; i++) {
+      if (i > 0) {
+        treePath.append('/');
+      }
+      treePath.append(keys[i]);
+    }
+    return treePath.toString();
+  }
+
+  /**
+   * Appends a key to a tree path which was encoded by {@link #toKeysOrNull(String)}, without
+   * decoding it.
+   */
+  public static long[] appendKey(long[] keys, long key) {
+    final long[] childKeys = Arrays.copyOf(keys, keys.length + 1);
+    childKeys[keys.length] = key;
+    return childKeys;
+  }
+
   public static <A> String[] toStringArray(A[] arr) {
     return Arrays.copyOf(arr, arr.length, String[].class);
   }
@@ -0,0 +1,223 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.util;
+
+import java.util.Arrays;
+
+/**
+ * A bounded cache with primitive {@code long} keys, which evicts the least recently used entry once
+ * it is full.
+ *
+ * <p>Unlike a {@link SoftHashMap} keyed by the string representation of Zeebe keys, lookups do not
+ * allocate and the eviction does not depend on the garbage collector: the cache always retains the
+ * {@code capacity} most recently used entries. All storage is allocated upfront, using open
+ * addressing with linear probing for the lookup and an index based doubly linked list for the
+ * recency order.
+ *
+ * <p>{@code null} values are not cached. The cache counts its hits, misses and evictions, see
+ * {@link io.camunda.operate.Metrics#registerCacheMetrics(String, LongKeyedLruCache)}.
+ *
+ * <p>This implementation is thread-safe.
+ *
+ * @param <V> the type of the cached values
+ */
+public class LongKeyedLruCache<V> {
+
+  private static final int NONE = -1;
+  private static final int EMPTY_SLOT = 0;
+
+  private final int capacity;
+
+  // entries, addressed by index
+  private final long[] keys;
+  private final Object[] values;
+  private final int[] previous;
+  private final int[] next;
+
+  // hash table of entry indexes + 1, such that 0 marks an empty slot
+  private final int[] slots;
+  private final int mask;
+
+  private int size;
+  private int mostRecent = NONE;
+  private int leastRecent = NONE;
+
+  private long hits;
+  private long misses;
+  private long evictions;
+
+  public LongKeyedLruCache(final int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(
+          "Expected capacity to be greater than 0, but was " + capacity);
+    }
+
+    this.capacity = capacity;
+    keys = new long[capacity];
+    values = new Object[capacity];
+    previous = new int[capacity];
+    next = new int[capacity];
+    // keep the load factor at or below 0.5 to keep probe sequences short
+    slots = new int[Integer.highestOneBit(capacity) << 2];
+    mask = slots.length - 1;
+  }
+
+  /**
+   * @return the value cached for the key, or {@code null} if there is none
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized V get(final long key) {
+    final int entry = findEntry(key);
+    if (entry == NONE) {
+      misses++;
+      return null;
+    }
+
+    hits++;
+    moveToFront(entry);
+    return (V) values[entry];
+  }
+
+  /**
+   * Caches the value for the key, evicting the least recently used entry if the cache is full.
+   * {@code null} values are ignored.
+   */
+  public synchronized void put(final long key, final V value) {
+    if (value == null) {
+      return;
+    }
+
+    int entry = findEntry(key);
+    if (entry != NONE) {
+      values[entry] = value;
+      moveToFront(entry);
+      return;
+    }
+
+    if (size == capacity) {
+      // reuse the entry of the least recently used key
+      entry = leastRecent;
+      removeSlot(keys[entry]);
+      unlink(entry);
+      evictions++;
+    } else {
+      entry = size++;
+    }
+
+    keys[entry] = key;
+    values[entry] = value;
+    insertSlot(key, entry);
+    linkFirst(entry);
+  }
+
+  public synchronized void clear() {
+    Arrays.fill(slots, EMPTY_SLOT);
+    Arrays.fill(values, null);
+    size = 0;
+    mostRecent = NONE;
+    leastRecent = NONE;
+  }
+
+  public synchronized int size() {
+    return size;
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  public synchronized long hits() {
+    return hits;
+  }
+
+  public synchronized long misses() {
+    return misses;
+  }
+
+  public synchronized long evictions() {
+    return evictions;
+  }
+
+  private int findEntry(final long key) {
+    for (int slot = slotOf(key); slots[slot] != EMPTY_SLOT; slot = (slot + 1) & mask) {
+      final int entry = slots[slot] - 1;
+      if (keys[entry] == key) {
+        return entry;
+      }
+    }
+    return NONE;
+  }
+
+  private void insertSlot(final long key, final int entry) {
+    int slot = slotOf(key);
+    while (slots[slot] != EMPTY_SLOT) {
+      slot = (slot + 1) & mask;
+    }
+    slots[slot] = entry + 1;
+  }
+
+  private void removeSlot(final long key) {
+    int slot = slotOf(key);
+    while (keys[slots[slot] - 1] != key) {
+      slot = (slot + 1) & mask;
+    }
+    slots[slot] = EMPTY_SLOT;
+
+    // shift back the following entries of the probe sequence, which could no longer be found
+    // through the now empty slot
+    for (int candidate = (slot + 1) & mask;
+        slots[candidate] != EMPTY_SLOT;
+        candidate = (candidate + 1) & mask) {
+      final int home = slotOf(keys[slots[candidate] - 1]);
+      if (((candidate - home) & mask) >= ((candidate - slot) & mask)) {
+        slots[slot] = slots[candidate];
+        slots[candidate] = EMPTY_SLOT;
+        slot = candidate;
+      }
+    }
+  }
+
+  private int slotOf(final long key) {
+    final long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  private void moveToFront(final int entry) {
+    if (entry != mostRecent) {
+      unlink(entry);
+      linkFirst(entry);
+    }
+  }
+
+  private void linkFirst(final int entry) {
+    previous[entry] = NONE;
+    next[entry] = mostRecent;
+    if (mostRecent != NONE) {
+      previous[mostRecent] = entry;
+    }
+    mostRecent = entry;
+    if (leastRecent == NONE) {
+      leastRecent = entry;
+    }
+  }
+
+  private void unlink(final int entry) {
+    final int before = previous[entry];
+    final int after = next[entry];
+    if (before == NONE) {
+      mostRecent = after;
+    } else {
+      next[before] = after;
+    }
+    if (after == NONE) {
+      leastRecent = before;
+    } else {
+      previous[after] = before;
+    }
+  }
+}
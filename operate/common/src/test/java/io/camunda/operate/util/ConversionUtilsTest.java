@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import org.junit.Test;
+
+public class ConversionUtilsTest {
+
+  private static final String TREE_PATH = "2251799813685249/2251799813685251/2251799813685253";
+
+  @Test
+  public void testEncodeAndDecodeTreePath() {
+    final long[] keys = ConversionUtils.toKeysOrNull(TREE_PATH);
+
+    assertThat(keys).containsExactly(2251799813685249L, 2251799813685251L, 2251799813685253L);
+    assertThat(ConversionUtils.toTreePath(keys)).isEqualTo(TREE_PATH);
+  }
+
+  @Test
+  public void testDoNotEncodeTreePathWithoutKeys() {
+    assertThat(ConversionUtils.toKeysOrNull("PI_2251799813685249/FN_task")).isNull();
+    assertThat(ConversionUtils.toKeysOrNull("")).isNull();
+    assertThat(ConversionUtils.toKeysOrNull(null)).isNull();
+  }
+
+  @Test
+  public void testAppendKey() {
+    final long[] parentKeys = ConversionUtils.toKeysOrNull(TREE_PATH);
+
+    final long[] keys = ConversionUtils.appendKey(parentKeys, 2251799813685255L);
+
+    assertThat(ConversionUtils.toTreePath(keys)).isEqualTo(TREE_PATH + "/2251799813685255");
+    assertThat(parentKeys).hasSize(3);
+  }
+
+  @Test
+  public void testAppendKeyAllocatesOnlyTheChildKeys() {
+    // given
+    assumeTrue(
+        ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+            && threads.isThreadAllocatedMemorySupported()
+            && threads.isThreadAllocatedMemoryEnabled());
+    final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final LongKeyedLruCache<Object> cache = new LongKeyedLruCache<>(1);
+    cache.put(1L, ConversionUtils.toKeysOrNull(TREE_PATH));
+    final int iterations = 100_000;
+    final long[][] children = new long[iterations][];
+
+    // when - extending the tree path of a cache hit, as the importer does for child flow nodes
+    final long threadId = Thread.currentThread().threadId();
+    final long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < iterations; i++) {
+      children[i] = ConversionUtils.appendKey((long[]) cache.get(1L), i);
+    }
+    final long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    // then - only the array of four keys (16 bytes header + 32 bytes) is allocated per hit,
+    // decoding the cached tree path to a string alone would take more than 100 bytes
+    assertThat(allocated / iterations).isLessThanOrEqualTo(56);
+    assertThat(children[iterations - 1]).hasSize(4);
+  }
+}
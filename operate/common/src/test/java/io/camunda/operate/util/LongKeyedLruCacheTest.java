@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+public class LongKeyedLruCacheTest {
+
+  @Test
+  public void testGetAndPut() {
+    final LongKeyedLruCache<String> cache = new LongKeyedLruCache<>(2);
+    cache.put(1L, "one");
+    cache.put(2L, "two");
+
+    assertThat(cache.get(1L)).isEqualTo("one");
+    assertThat(cache.get(2L)).isEqualTo("two");
+    assertThat(cache.get(3L)).isNull();
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void testPutReplacesValue() {
+    final LongKeyedLruCache<String> cache = new LongKeyedLruCache<>(2);
+    cache.put(1L, "one");
+    cache.put(1L, "uno");
+
+    assertThat(cache.get(1L)).isEqualTo("uno");
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsed() {
+    final LongKeyedLruCache<String> cache = new LongKeyedLruCache<>(2);
+    cache.put(1L, "one");
+    cache.put(2L, "two");
+    cache.get(1L);
+
+    cache.put(3L, "three");
+
+    assertThat(cache.get(2L)).isNull();
+    assertThat(cache.get(1L)).isEqualTo("one");
+    assertThat(cache.get(3L)).isEqualTo("three");
+    assertThat(cache.evictions()).isEqualTo(1);
+  }
+
+  @Test
+  public void testCountHitsAndMisses() {
+    final LongKeyedLruCache<String> cache = new LongKeyedLruCache<>(2);
+    cache.put(1L, "one");
+
+    cache.get(1L);
+    cache.get(1L);
+    cache.get(2L);
+
+    assertThat(cache.hits()).isEqualTo(2);
+    assertThat(cache.misses()).isEqualTo(1);
+  }
+
+  @Test
+  public void testIgnoreNullValues() {
+    final LongKeyedLruCache<String> cache = new LongKeyedLruCache<>(2);
+    cache.put(1L, null);
+
+    assertThat(cache.get(1L)).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void testClear() {
+    final LongKeyedLruCache<String> cache = new LongKeyedLruCache<>(2);
+    cache.put(1L, "one");
+
+    cache.clear();
+
+    assertThat(cache.get(1L)).isNull();
+    assertThat(cache.size()).isZero();
+    cache.put(2L, "two");
+    assertThat(cache.get(2L)).isEqualTo("two");
+  }
+
+  @Test
+  public void testBehaveLikeLinkedHashMap() {
+    final int capacity = 100;
+    final LongKeyedLruCache<Long> cache = new LongKeyedLruCache<>(capacity);
+    final Map<Long, Long> expected =
+        new LinkedHashMap<>(capacity, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<Long, Long> eldest) {
+            return size() > capacity;
+          }
+        };
+    final Random random = new Random(42);
+
+    for (int i = 0; i < 100_000; i++) {
+      // a narrow key range causes collisions, hits and evictions alike
+      final long key = random.nextInt(300);
+      if (random.nextBoolean()) {
+        cache.put(key, (long) i);
+        expected.put(key, (long) i);
+      } else {
+        assertThat(cache.get(key)).isEqualTo(expected.get(key));
+      }
+    }
+
+    assertThat(cache.size()).isEqualTo(expected.size());
+    expected.forEach((key, value) -> assertThat(cache.get(key)).isEqualTo(value));
+  }
+
+  @Test
+  public void testFailOnInvalidCapacity() {
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> new LongKeyedLruCache<>(0));
+  }
+}
@@ -10,6 +10,7 @@ package io.camunda.operate.zeebeimport.v8_5.processors;
 import static io.camunda.operate.zeebeimport.util.ImportUtil.tenantOrDefault;
 import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.*;
 
+import io.camunda.operate.Metrics;
 import io.camunda.operate.entities.FlowNodeInstanceEntity;
 import io.camunda.operate.entities.FlowNodeState;
 import io.camunda.operate.entities.FlowNodeType;
@@ -20,7 +21,7 @@ import io.camunda.operate.store.BatchRequest;
 import io.camunda.operate.store.FlowNodeStore;
 import io.camunda.operate.util.ConversionUtils;
 import io.camunda.operate.util.DateUtil;
-import io.camunda.operate.util.SoftHashMap;
+import io.camunda.operate.util.LongKeyedLruCache;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
@@ -50,13 +51,16 @@ public class FlowNodeInstanceZeebeRecordProcessor {
   @Autowired protected FlowNodeStore flowNodeStore;
   @Autowired private FlowNodeInstanceTemplate flowNodeInstanceTemplate;
   @Autowired private OperateProperties operateProperties;
+  @Autowired private Metrics metrics;
 
-  // treePath by flowNodeInstanceKey cache
-  private Map<String, String> treePathCache;
+  // treePath by flowNodeInstanceKey cache, holding arrays of keys if compact tree paths are enabled
+  private LongKeyedLruCache<Object> treePathCache;
 
   @PostConstruct
   private void init() {
-    treePathCache = new SoftHashMap<>(operateProperties.getImporter().getFlowNodeTreeCacheSize());
+    treePathCache =
+        new LongKeyedLruCache<>(operateProperties.getImporter().getFlowNodeTreeCacheSize());
+    metrics.registerCacheMetrics("flowNodeInstanceTreePath.v8_5", treePathCache);
   }
 
   public void processIncidentRecord(final Record record, final BatchRequest batchRequest)
@@ -168,10 +172,21 @@ public class FlowNodeInstanceZeebeRecordProcessor {
 
     if (entity.getTreePath() == null) {
 
-      final String parentTreePath = getParentTreePath(record, recordValue);
-      entity.setTreePath(
-          String.join("/", parentTreePath, ConversionUtils.toStringOrNull(record.getKey())));
-      entity.setLevel(parentTreePath.split("/").length);
+      final Object parentTreePath = getParentTreePath(record, recordValue);
+      if (parentTreePath instanceof final long[] parentKeys) {
+        // compact tree paths are extended without decoding the cached parent tree path
+        final long[] keys = ConversionUtils.appendKey(parentKeys, record.getKey());
+        treePathCache.put(record.getKey(), keys);
+        entity.setTreePath(ConversionUtils.toTreePath(keys));
+        entity.setLevel(parentKeys.length);
+      } else {
+        final String treePath =
+            String.join(
+                "/", (String) parentTreePath, ConversionUtils.toStringOrNull(record.getKey()));
+        cacheTreePath(record.getKey(), treePath);
+        entity.setTreePath(treePath);
+        entity.setLevel(((String) parentTreePath).split("/").length);
+      }
     }
 
     if (AI_FINISH_STATES.contains(intentStr)) {
@@ -198,22 +213,24 @@ public class FlowNodeInstanceZeebeRecordProcessor {
     return entity;
   }
 
-  private String getParentTreePath(
+  /**
+   * @return the tree path of the parent flow node instance, as array of keys if it is cached
+   *     compactly, otherwise as string
+   */
+  private Object getParentTreePath(
       final Record record, final ProcessInstanceRecordValue recordValue) {
-    String parentTreePath;
+    Object parentTreePath;
     // if scopeKey differs from processInstanceKey, then it's inner tree level and we need to search
     // for parent 1st
     if (recordValue.getFlowScopeKey() == recordValue.getProcessInstanceKey()) {
-      parentTreePath = ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey());
+      parentTreePath =
+          operateProperties.getImporter().isCompactFlowNodeTreeCache()
+              ? new long[] {recordValue.getProcessInstanceKey()}
+              : ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey());
     } else {
       // find parent flow node instance
-      parentTreePath = null;
       // search in cache
-      if (treePathCache.get(ConversionUtils.toStringOrNull(recordValue.getFlowScopeKey()))
-          != null) {
-        parentTreePath =
-            treePathCache.get(ConversionUtils.toStringOrNull(recordValue.getFlowScopeKey()));
-      }
+      parentTreePath = treePathCache.get(recordValue.getFlowScopeKey());
       // query from ELS
       if (parentTreePath == null) {
         parentTreePath = flowNodeStore.findParentTreePathFor(recordValue.getFlowScopeKey());
@@ -229,12 +246,17 @@ public class FlowNodeInstanceZeebeRecordProcessor {
         parentTreePath = ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey());
       }
     }
-    treePathCache.put(
-        ConversionUtils.toStringOrNull(record.getKey()),
-        String.join("/", parentTreePath, ConversionUtils.toStringOrNull(record.getKey())));
     return parentTreePath;
   }
 
+  private void cacheTreePath(final long flowNodeInstanceKey, final String treePath) {
+    final long[] keys =
+        operateProperties.getImporter().isCompactFlowNodeTreeCache()
+            ? ConversionUtils.toKeysOrNull(treePath)
+            : null;
+    treePathCache.put(flowNodeInstanceKey, keys != null ? keys : treePath);
+  }
+
   private boolean canOptimizeFlowNodeInstanceIndexing(final FlowNodeInstanceEntity entity) {
     final var startDate = entity.getStartDate();
     final var endDate = entity.getEndDate();
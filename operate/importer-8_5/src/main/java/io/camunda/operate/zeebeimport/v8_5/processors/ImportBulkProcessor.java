@@ -9,9 +9,8 @@ package io.camunda.operate.zeebeimport.v8_5.processors;
 
 import static io.camunda.operate.util.CollectionUtil.map;
 
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.SimpleType;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.camunda.operate.Metrics;
 import io.camunda.operate.entities.HitEntity;
 import io.camunda.operate.exceptions.OperateRuntimeException;
@@ -76,36 +75,26 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
 
   @Autowired private ImportStore importStore;
 
-  private ObjectMapper localObjectMapper;
+  private ObjectReader recordReader;
 
-  private static <T> T fromSearchHit(
-      final String searchHitString, final ObjectMapper objectMapper, final JavaType valueType) {
-    final T entity;
+  private static Record fromSearchHit(final HitEntity hit, final ObjectReader recordReader) {
     try {
-      entity = objectMapper.readValue(searchHitString, valueType);
+      // read the raw source bytes, to avoid decoding every record into a string first
+      return recordReader.readValue(hit.getSource());
     } catch (final IOException e) {
       LOGGER.error(
-          String.format(
-              "Error while reading entity of type %s from indices!", valueType.toString()),
-          e);
+          String.format("Error while reading entity of type %s from indices!", Record.class), e);
       throw new OperateRuntimeException(
-          String.format("Error while reading entity of type %s from indices!", valueType), e);
+          String.format("Error while reading entity of type %s from indices!", Record.class), e);
     }
-    return entity;
   }
 
   @Override
   protected void processZeebeRecords(final ImportBatch importBatch, final BatchRequest batchRequest)
       throws PersistenceException {
     final List<HitEntity> hits = importBatch.getHits();
-    final List<Record> zeebeRecords =
-        map(
-            hits,
-            hit ->
-                fromSearchHit(
-                    hit.getSourceAsString(),
-                    getLocalObjectMapper(),
-                    SimpleType.constructUnsafe(Record.class)));
+    final ObjectReader recordReader = getRecordReader();
+    final List<Record> zeebeRecords = map(hits, hit -> fromSearchHit(hit, recordReader));
 
     LOGGER.debug(
         "Writing {} Zeebe records to indices, version={}, importValueType={}, partition={}",
@@ -188,11 +177,13 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
         groupedRecordsPerFlowNodeInst, batchRequest, concurrencyMode);
   }
 
-  private ObjectMapper getLocalObjectMapper() {
-    if (localObjectMapper == null) {
-      localObjectMapper = objectMapper.copy().registerModule(new ZeebeProtocolModule());
+  private ObjectReader getRecordReader() {
+    if (recordReader == null) {
+      // readers are immutable and thread safe, and cache the record deserializer once resolved
+      recordReader =
+          objectMapper.copy().registerModule(new ZeebeProtocolModule()).readerFor(Record.class);
     }
-    return localObjectMapper;
+    return recordReader;
   }
 
   private void processDecisionRecords(
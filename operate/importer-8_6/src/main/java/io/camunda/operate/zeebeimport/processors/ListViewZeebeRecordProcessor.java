@@ -28,6 +28,7 @@ import static io.camunda.operate.util.LambdaExceptionUtil.rethrowConsumer;
 import static io.camunda.operate.zeebeimport.util.ImportUtil.tenantOrDefault;
 import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.*;
 
+import io.camunda.operate.Metrics;
 import io.camunda.operate.cache.ProcessCache;
 import io.camunda.operate.entities.FlowNodeState;
 import io.camunda.operate.entities.FlowNodeType;
@@ -95,34 +96,37 @@ public class ListViewZeebeRecordProcessor {
 
   @Autowired private MetricsStore metricsStore;
 
+  @Autowired private Metrics metrics;
+
   // treePath by processInstanceKey cache
-  private Map<String, String> treePathCache;
-  // flowNodeId by flowNodeInstanceId cache for call activities
-  private Map<String, String> callActivityIdCache;
+  private LongKeyedLruCache<String> treePathCache;
+  // flowNodeId by flowNodeInstanceKey cache for call activities
+  private LongKeyedLruCache<String> callActivityIdCache;
 
-  private Map<String, String> getTreePathCache() {
+  private LongKeyedLruCache<String> getTreePathCache() {
     if (treePathCache == null) {
       // cache must be able to contain all possible processInstanceKeys with there treePaths before
       // the data is persisted: import batch size * number of partitions processed by current import
       // node
-      treePathCache =
-          new SoftHashMap<>(
-              operateProperties.getElasticsearch().getBatchSize()
-                  * partitionHolder.getPartitionIds().size());
+      treePathCache = new LongKeyedLruCache<>(getCacheSize());
+      metrics.registerCacheMetrics("processInstanceTreePath", treePathCache);
     }
     return treePathCache;
   }
 
-  private Map<String, String> getCallActivityIdCache() {
+  private LongKeyedLruCache<String> getCallActivityIdCache() {
     if (callActivityIdCache == null) {
-      callActivityIdCache =
-          new SoftHashMap<>(
-              operateProperties.getElasticsearch().getBatchSize()
-                  * partitionHolder.getPartitionIds().size());
+      callActivityIdCache = new LongKeyedLruCache<>(getCacheSize());
+      metrics.registerCacheMetrics("callActivityId", callActivityIdCache);
     }
     return callActivityIdCache;
   }
 
+  private int getCacheSize() {
+    return operateProperties.getElasticsearch().getBatchSize()
+        * partitionHolder.getPartitionIds().size();
+  }
+
   public void processIncidentRecord(final Record record, final BatchRequest batchRequest)
       throws PersistenceException {
     processIncidentRecord(record, batchRequest, false);
@@ -257,6 +261,15 @@ public class ListViewZeebeRecordProcessor {
       final boolean concurrencyMode)
       throws PersistenceException {
 
+    // load the processes of the whole batch at once, instead of one by one
+    processCache.prefetch(
+        records.values().stream()
+            .flatMap(List::stream)
+            .map(Record::getValue)
+            .filter(this::isProcessEvent)
+            .map(ProcessInstanceRecordValue::getProcessDefinitionKey)
+            .toList());
+
     final Map<String, String> treePathMap = new HashMap<>();
     for (final Map.Entry<Long, List<Record<ProcessInstanceRecordValue>>> wiRecordsEntry :
         records.entrySet()) {
@@ -558,8 +571,7 @@ public class ListViewZeebeRecordProcessor {
               .startTreePath(ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey()))
               .toString();
       piEntity.setTreePath(treePath);
-      getTreePathCache()
-          .put(ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey()), treePath);
+      getTreePathCache().put(recordValue.getProcessInstanceKey(), treePath);
     }
     return piEntity;
   }
@@ -575,16 +587,8 @@ public class ListViewZeebeRecordProcessor {
   }
 
   private String getTreePathForCalledProcess(final ProcessInstanceRecordValue recordValue) {
-    String parentTreePath = null;
-
     // search in cache
-    if (getTreePathCache()
-            .get(ConversionUtils.toStringOrNull(recordValue.getParentProcessInstanceKey()))
-        != null) {
-      parentTreePath =
-          getTreePathCache()
-              .get(ConversionUtils.toStringOrNull(recordValue.getParentProcessInstanceKey()));
-    }
+    String parentTreePath = getTreePathCache().get(recordValue.getParentProcessInstanceKey());
     // query from ELS
     if (parentTreePath == null) {
       parentTreePath =
@@ -593,7 +597,8 @@ public class ListViewZeebeRecordProcessor {
     if (parentTreePath != null) {
       final String flowNodeInstanceId =
           ConversionUtils.toStringOrNull(recordValue.getParentElementInstanceKey());
-      final String callActivityId = getCallActivityId(flowNodeInstanceId);
+      final String callActivityId =
+          getCallActivityId(recordValue.getParentElementInstanceKey(), flowNodeInstanceId);
       final String treePath =
           new TreePath(parentTreePath)
               .appendEntries(
@@ -601,8 +606,7 @@ public class ListViewZeebeRecordProcessor {
                   flowNodeInstanceId,
                   ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey()))
               .toString();
-      getTreePathCache()
-          .put(ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey()), treePath);
+      getTreePathCache().put(recordValue.getProcessInstanceKey(), treePath);
       return treePath;
     } else {
       LOGGER.warn(
@@ -612,17 +616,17 @@ public class ListViewZeebeRecordProcessor {
           new TreePath()
               .startTreePath(ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey()))
               .toString();
-      getTreePathCache()
-          .put(ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey()), treePath);
+      getTreePathCache().put(recordValue.getProcessInstanceKey(), treePath);
       return treePath;
     }
   }
 
-  private String getCallActivityId(final String flowNodeInstanceId) {
-    String callActivityId = getCallActivityIdCache().get(flowNodeInstanceId);
+  private String getCallActivityId(
+      final long flowNodeInstanceKey, final String flowNodeInstanceId) {
+    String callActivityId = getCallActivityIdCache().get(flowNodeInstanceKey);
     if (callActivityId == null) {
       callActivityId = flowNodeStore.getFlowNodeIdByFlowNodeInstanceId(flowNodeInstanceId);
-      getCallActivityIdCache().put(flowNodeInstanceId, callActivityId);
+      getCallActivityIdCache().put(flowNodeInstanceKey, callActivityId);
     }
     return callActivityId;
   }
@@ -719,7 +723,7 @@ public class ListViewZeebeRecordProcessor {
                 : recordValue.getBpmnElementType().name()));
 
     if (FlowNodeType.CALL_ACTIVITY.equals(entity.getActivityType())) {
-      getCallActivityIdCache().put(entity.getId(), entity.getActivityId());
+      getCallActivityIdCache().put(entity.getKey(), entity.getActivityId());
     }
 
     // set parent
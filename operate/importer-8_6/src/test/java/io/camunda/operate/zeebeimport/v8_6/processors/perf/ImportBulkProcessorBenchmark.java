@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport.v8_6.processors.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.type.SimpleType;
+import io.camunda.operate.entities.HitEntity;
+import io.camunda.operate.zeebe.ImportValueType;
+import io.camunda.operate.zeebeimport.ImportBatch;
+import io.camunda.zeebe.protocol.jackson.ZeebeProtocolModule;
+import io.camunda.zeebe.protocol.record.ImmutableRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.BpmnEventType;
+import io.camunda.zeebe.protocol.record.value.ImmutableProcessInstanceRecordValue;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares decoding an import batch from source strings, as the importer used to, with decoding it
+ * from the raw source bytes through a shared {@link ObjectReader}, as {@code ImportBulkProcessor}
+ * does now. Both variants also look up the last processed position of the batch.
+ *
+ * <p>By default, the batch consists of generated process instance records. To replay a recorded
+ * batch instead, pass a file with one exported record source per line via {@code
+ * -Dbenchmark.recordedBatch=<path>}.
+ */
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ImportBulkProcessorBenchmark {
+  private static final String RECORDED_BATCH_PROPERTY = "benchmark.recordedBatch";
+
+  @Param({"500", "2000"})
+  public int batchSize;
+
+  private ObjectMapper objectMapper;
+  private ObjectReader recordReader;
+  private List<String> sourceStrings;
+  private List<byte[]> sources;
+
+  @Setup
+  public void setup() throws IOException {
+    objectMapper = new ObjectMapper().registerModule(new ZeebeProtocolModule());
+    recordReader = objectMapper.readerFor(Record.class);
+
+    final List<String> recorded = readRecordedBatch();
+    sourceStrings = new ArrayList<>(batchSize);
+    sources = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      final String source =
+          recorded.isEmpty()
+              ? objectMapper.writeValueAsString(newRecord(i))
+              : recorded.get(i % recorded.size());
+      sourceStrings.add(source);
+      sources.add(source.getBytes());
+    }
+  }
+
+  @Benchmark
+  public void decodeFromStrings(final Blackhole blackhole) throws IOException {
+    for (final String source : sourceStrings) {
+      blackhole.consume(objectMapper.readValue(source, SimpleType.constructUnsafe(Record.class)));
+    }
+
+    final ObjectNode lastHit = objectMapper.readValue(sourceStrings.getLast(), ObjectNode.class);
+    blackhole.consume(lastHit.get("position").longValue());
+  }
+
+  @Benchmark
+  public void decodeFromBytes(final Blackhole blackhole) throws IOException {
+    final List<HitEntity> hits = new ArrayList<>(sources.size());
+    for (final byte[] source : sources) {
+      final HitEntity hit = new HitEntity().setSource(source);
+      hits.add(hit);
+      blackhole.consume(recordReader.<Record<?>>readValue(hit.getSource()));
+    }
+
+    final ImportBatch batch =
+        new ImportBatch(1, ImportValueType.PROCESS_INSTANCE, hits, "benchmark");
+    blackhole.consume(batch.getLastProcessedPosition(objectMapper));
+  }
+
+  private static List<String> readRecordedBatch() throws IOException {
+    final String path = System.getProperty(RECORDED_BATCH_PROPERTY);
+    if (path == null) {
+      return List.of();
+    }
+    return Files.readAllLines(Path.of(path)).stream().filter(line -> !line.isBlank()).toList();
+  }
+
+  private static Record<?> newRecord(final int index) {
+    final long processInstanceKey = 2251799813685249L + index / 10;
+    return ImmutableRecord.builder()
+        .withPosition(index + 1)
+        .withSourceRecordPosition(index)
+        .withKey(processInstanceKey + index)
+        .withTimestamp(System.currentTimeMillis())
+        .withPartitionId(1)
+        .withRecordType(RecordType.EVENT)
+        .withIntent(ProcessInstanceIntent.ELEMENT_ACTIVATED)
+        .withValueType(ValueType.PROCESS_INSTANCE)
+        .withBrokerVersion("8.6.0")
+        .withValue(
+            ImmutableProcessInstanceRecordValue.builder()
+                .withBpmnProcessId("benchmark-process")
+                .withVersion(1)
+                .withProcessDefinitionKey(2251799813685248L)
+                .withProcessInstanceKey(processInstanceKey)
+                .withElementId("task-" + index % 10)
+                .withFlowScopeKey(processInstanceKey)
+                .withBpmnElementType(BpmnElementType.SERVICE_TASK)
+                .withBpmnEventType(BpmnEventType.UNSPECIFIED)
+                .withParentProcessInstanceKey(-1)
+                .withParentElementInstanceKey(-1)
+                .withTenantId("<default>")
+                .build())
+        .build();
+  }
+}
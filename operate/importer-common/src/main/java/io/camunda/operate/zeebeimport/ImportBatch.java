@@ -7,8 +7,9 @@
  */
 package io.camunda.operate.zeebeimport;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.camunda.operate.entities.HitEntity;
 import io.camunda.operate.zeebe.ImportValueType;
 import io.camunda.operate.zeebe.ZeebeESConstants;
@@ -104,13 +105,23 @@ public class ImportBatch {
 
   private long getLastProcessed(
       final String fieldName, final ObjectMapper objectMapper, final Long defaultValue) {
-    try {
-      if (hits != null && hits.size() != 0) {
-        final ObjectNode node =
-            objectMapper.readValue(hits.get(hits.size() - 1).getSourceAsString(), ObjectNode.class);
-        if (node.has(fieldName)) {
-          return node.get(fieldName).longValue();
+    if (hits == null || hits.isEmpty()) {
+      return defaultValue;
+    }
+
+    // stream over the top level fields only, instead of building a tree of the whole record
+    try (final JsonParser parser =
+        objectMapper.getFactory().createParser(hits.get(hits.size() - 1).getSource())) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return defaultValue;
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String currentField = parser.currentName();
+        final JsonToken value = parser.nextToken();
+        if (fieldName.equals(currentField)) {
+          return value.isNumeric() ? parser.getLongValue() : defaultValue;
         }
+        parser.skipChildren();
       }
     } catch (IOException e) {
       LOGGER.warn(
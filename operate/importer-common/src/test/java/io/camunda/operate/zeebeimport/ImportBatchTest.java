@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.operate.entities.HitEntity;
+import io.camunda.operate.zeebe.ImportValueType;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.Test;
+
+public class ImportBatchTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  public void shouldReadLastProcessedPositionFromLastHit() {
+    // given
+    final ImportBatch batch =
+        newBatch(
+            hit("{\"position\":1,\"sequence\":10}"),
+            hit("{\"key\":5,\"position\":2,\"sequence\":20}"));
+
+    // when - then
+    assertThat(batch.getLastProcessedPosition(objectMapper)).isEqualTo(2L);
+    assertThat(batch.getLastProcessedSequence(objectMapper)).isEqualTo(20L);
+  }
+
+  @Test
+  public void shouldIgnoreNestedFieldsWithSameName() {
+    // given
+    final ImportBatch batch =
+        newBatch(hit("{\"value\":{\"position\":99,\"items\":[{\"position\":98}]},\"position\":3}"));
+
+    // when - then
+    assertThat(batch.getLastProcessedPosition(objectMapper)).isEqualTo(3L);
+  }
+
+  @Test
+  public void shouldReturnDefaultIfFieldIsMissing() {
+    // given
+    final ImportBatch batch = newBatch(hit("{\"position\":3}"));
+
+    // when - then
+    assertThat(batch.getLastProcessedSequence(objectMapper)).isEqualTo(0L);
+    assertThat(newBatch().getLastProcessedPosition(objectMapper)).isEqualTo(0L);
+  }
+
+  @Test
+  public void shouldReadPositionFromSourceString() {
+    // given
+    final ImportBatch batch = newBatch(new HitEntity().setSourceAsString("{\"position\":7}"));
+
+    // when - then
+    assertThat(batch.getLastProcessedPosition(objectMapper)).isEqualTo(7L);
+  }
+
+  private static HitEntity hit(final String source) {
+    return new HitEntity().setSource(source.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static ImportBatch newBatch(final HitEntity... hits) {
+    return new ImportBatch(1, ImportValueType.PROCESS_INSTANCE, List.of(hits), "index");
+  }
+}
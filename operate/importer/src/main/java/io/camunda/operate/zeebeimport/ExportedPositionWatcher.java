@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import io.camunda.operate.conditions.DatabaseInfo;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.store.ZeebeStore;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Polls the positions of the latest exported records, which the Zeebe exporter publishes per
+ * partition, and wakes up the records readers of a partition as soon as its position advances. New
+ * records are then imported right away, instead of after the reader backoff.
+ *
+ * <p>The record indices may be refreshed later than the exported position index, so the readers of
+ * a partition are woken up once more on the following poll, in case they found nothing the first
+ * time.
+ */
+@Component
+public class ExportedPositionWatcher {
+
+  /** Appended to the Zeebe index prefix, as by the exporter's RecordIndexRouter. */
+  public static final String EXPORTED_POSITION_INDEX_SUFFIX = "_exported-position";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ExportedPositionWatcher.class);
+
+  private final Map<Integer, Long> exportedPositions = new HashMap<>();
+  private Set<Integer> previouslyAdvancedPartitions = new HashSet<>();
+
+  @Autowired private OperateProperties operateProperties;
+
+  @Autowired private ZeebeStore zeebeStore;
+
+  @Autowired private RecordsReaderHolder recordsReaderHolder;
+
+  @Autowired
+  @Qualifier("recordsReaderThreadPoolExecutor")
+  private ThreadPoolTaskScheduler readersExecutor;
+
+  public void start() {
+    final int pollInterval = operateProperties.getImporter().getExportedPositionPollInterval();
+    if (pollInterval > 0) {
+      LOGGER.info("INIT: Poll exported positions every {} ms", pollInterval);
+      readersExecutor.scheduleWithFixedDelay(this::poll, Duration.ofMillis(pollInterval));
+    }
+  }
+
+  synchronized void poll() {
+    try {
+      final Set<Integer> advancedPartitions = new HashSet<>();
+      zeebeStore
+          .getExportedPositions(getExportedPositionIndex())
+          .forEach(
+              (partitionId, position) -> {
+                final Long previousPosition = exportedPositions.put(partitionId, position);
+                if (previousPosition != null && position > previousPosition) {
+                  advancedPartitions.add(partitionId);
+                }
+              });
+
+      final Set<Integer> partitionsToWakeUp = new HashSet<>(advancedPartitions);
+      partitionsToWakeUp.addAll(previouslyAdvancedPartitions);
+      previouslyAdvancedPartitions = advancedPartitions;
+
+      if (!partitionsToWakeUp.isEmpty()) {
+        recordsReaderHolder.getAllRecordsReaders().stream()
+            .filter(reader -> partitionsToWakeUp.contains(reader.getPartitionId()))
+            .forEach(RecordsReader::wakeUp);
+      }
+    } catch (final Exception e) {
+      // the readers keep backing off as usual
+      LOGGER.warn("Error occurred while polling exported positions: {}", e.getMessage());
+    }
+  }
+
+  private String getExportedPositionIndex() {
+    final String prefix =
+        DatabaseInfo.isOpensearch()
+            ? operateProperties.getZeebeOpensearch().getPrefix()
+            : operateProperties.getZeebeElasticsearch().getPrefix();
+    return prefix + EXPORTED_POSITION_INDEX_SUFFIX;
+  }
+}
@@ -11,13 +11,18 @@ import io.camunda.operate.entities.meta.ImportPositionEntity;
 import io.camunda.operate.property.OperateProperties;
 import io.camunda.operate.store.ImportStore;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,11 +32,19 @@ import org.springframework.context.annotation.DependsOn;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Component;
 
+/**
+ * Keeps track of the import positions and persists them write-behind: the latest imported and
+ * post-imported position per alias and partition is kept in memory and all of them are written in
+ * one bulk request every import position update interval, as well as on shutdown. After a restart,
+ * at most the records of one interval are imported again, which is safe as the import is
+ * idempotent.
+ */
 @Component
 @DependsOn("schemaStartup")
 public class ImportPositionHolder {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ImportPositionHolder.class);
+  private static final long SHUTDOWN_FLUSH_TIMEOUT_SECONDS = 10;
 
   // this is the in-memory only storage
   private final Map<String, ImportPositionEntity> lastScheduledPositions = new HashMap<>();
@@ -42,7 +55,12 @@ public class ImportPositionHolder {
   private final Map<String, ImportPositionEntity> inflightImportPositions = new HashMap<>();
   private final Map<String, ImportPositionEntity> inflightPostImportPositions = new HashMap<>();
 
+  // plain positions of the latest scheduled and imported batches, used to measure the backlog
+  private final Map<String, Long> scheduledPositions = new ConcurrentHashMap<>();
+  private final Map<String, Long> importedPositions = new ConcurrentHashMap<>();
+
   private ScheduledFuture<?> scheduledImportPositionUpdateTask;
+  private volatile boolean shutdown = false;
   private final ReentrantLock inflightImportPositionLock = new ReentrantLock();
 
   @Autowired private OperateProperties operateProperties;
@@ -67,7 +85,26 @@ public class ImportPositionHolder {
     return importStore.getConcurrencyMode();
   }
 
+  @PreDestroy
+  public void shutdown() {
+    LOGGER.info("Persist pending import positions before shutdown...");
+    shutdown = true;
+    try {
+      cancelScheduledImportPositionUpdateTask()
+          .thenRunAsync(this::flushImportPositions, importPositionUpdateExecutor)
+          .get(SHUTDOWN_FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOGGER.warn("Interrupted while persisting pending import positions", e);
+    } catch (final ExecutionException | TimeoutException e) {
+      LOGGER.warn("Failed to persist pending import positions on shutdown", e);
+    }
+  }
+
   public void scheduleImportPositionUpdateTask() {
+    if (shutdown) {
+      return;
+    }
     final var interval = operateProperties.getImporter().getImportPositionUpdateInterval();
     scheduledImportPositionUpdateTask =
         importPositionUpdateExecutor.schedule(
@@ -98,6 +135,10 @@ public class ImportPositionHolder {
       final ImportPositionEntity latestLoadedPosition =
           getLatestLoadedPosition(aliasTemplate, partitionId);
       lastScheduledPositions.put(key, latestLoadedPosition);
+      if (latestLoadedPosition != null) {
+        scheduledPositions.putIfAbsent(key, latestLoadedPosition.getPosition());
+        importedPositions.putIfAbsent(key, latestLoadedPosition.getPosition());
+      }
       return latestLoadedPosition;
     }
   }
@@ -106,7 +147,9 @@ public class ImportPositionHolder {
       final String aliasName,
       final int partitionId,
       final ImportPositionEntity importPositionEntity) {
-    lastScheduledPositions.put(getKey(aliasName, partitionId), importPositionEntity);
+    final String key = getKey(aliasName, partitionId);
+    lastScheduledPositions.put(key, importPositionEntity);
+    scheduledPositions.merge(key, importPositionEntity.getPosition(), Math::max);
   }
 
   public ImportPositionEntity getLatestLoadedPosition(
@@ -121,6 +164,7 @@ public class ImportPositionHolder {
           final var partition = lastProcessedPosition.getPartitionId();
           // update only import fields (not post import)
           final String key = getKey(aliasName, partition);
+          importedPositions.merge(key, lastProcessedPosition.getPosition(), Math::max);
           ImportPositionEntity importPosition = inflightImportPositions.get(key);
           if (importPosition == null) {
             importPosition = lastProcessedPosition;
@@ -134,6 +178,33 @@ public class ImportPositionHolder {
         });
   }
 
+  /**
+   * @return the position of the latest batch which was imported for the given alias and partition,
+   *     or 0 if nothing was imported since the start
+   */
+  public long getImportedPosition(final String aliasTemplate, final int partitionId) {
+    return importedPositions.getOrDefault(getKey(aliasTemplate, partitionId), 0L);
+  }
+
+  /**
+   * @return the position of the latest batch which was scheduled for the given alias and partition,
+   *     or 0 if nothing was scheduled since the start
+   */
+  public long getScheduledPosition(final String aliasTemplate, final int partitionId) {
+    return scheduledPositions.getOrDefault(getKey(aliasTemplate, partitionId), 0L);
+  }
+
+  /**
+   * Returns the import backlog of the given alias and partition, i.e. the distance in log positions
+   * between the latest batch which was read and scheduled and the latest batch which was imported.
+   */
+  public long getImportBacklog(final String aliasTemplate, final int partitionId) {
+    return Math.max(
+        0,
+        getScheduledPosition(aliasTemplate, partitionId)
+            - getImportedPosition(aliasTemplate, partitionId));
+  }
+
   public void recordLatestPostImportedPosition(
       final ImportPositionEntity lastPostImportedPosition) {
     withInflightImportPositionLock(
@@ -154,6 +225,13 @@ public class ImportPositionHolder {
   }
 
   public void updateImportPositions() {
+    flushImportPositions();
+
+    // self scheduling just for the case the interval is set too short
+    scheduleImportPositionUpdateTask();
+  }
+
+  private void flushImportPositions() {
     withInflightImportPositionLock(
         () -> {
           pendingImportPositionUpdates.putAll(inflightImportPositions);
@@ -162,6 +240,11 @@ public class ImportPositionHolder {
           inflightPostImportPositions.clear();
         });
 
+    if (pendingImportPositionUpdates.isEmpty() && pendingPostImportPositionUpdates.isEmpty()) {
+      // nothing was imported since the last update
+      return;
+    }
+
     final var result =
         importStore.updateImportPositions(
             pendingImportPositionUpdates.values().stream().toList(),
@@ -173,13 +256,12 @@ public class ImportPositionHolder {
       pendingImportPositionUpdates.clear();
       pendingPostImportPositionUpdates.clear();
     }
-
-    // self scheduling just for the case the interval is set too short
-    scheduleImportPositionUpdateTask();
   }
 
   public void clearCache() {
     lastScheduledPositions.clear();
+    scheduledPositions.clear();
+    importedPositions.clear();
     pendingImportPositionUpdates.clear();
     pendingPostImportPositionUpdates.clear();
 
@@ -0,0 +1,298 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.zeebe.ImportValueType;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Submits the import jobs of all records readers to the import thread pool.
+ *
+ * <p>By default, jobs are submitted in the order in which the readers schedule them. With
+ * dependency aware scheduling enabled, a job is held back until all records of its prerequisite
+ * value types, which precede the job's records on the same partition, are imported, e.g. incidents
+ * wait for the process instances they refer to. Value types without such a dependency import in
+ * parallel. Whenever an import thread becomes free, it goes to the ready job with the largest
+ * import backlog, as measured by the {@link ImportPositionHolder}, unless a job is waiting longer
+ * than the configured starvation threshold already.
+ *
+ * <p>A prerequisite counts as caught up once it imported all records up to the job's position, or
+ * once its reader found no new records in a read which started when the job's records were already
+ * read, i.e. when the {@link #getReadPosition(int) read position} of the partition was at least the
+ * job's position, and everything it scheduled until then is imported. Readers of prerequisites
+ * which a job waits for are woken up, so that the job doesn't wait for their backoff.
+ */
+@Component
+public class ImportScheduler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ImportScheduler.class);
+
+  private static final Map<ImportValueType, Set<ImportValueType>> PREREQUISITES =
+      Map.of(
+          ImportValueType.PROCESS_INSTANCE, Set.of(ImportValueType.PROCESS),
+          ImportValueType.INCIDENT, Set.of(ImportValueType.PROCESS_INSTANCE),
+          ImportValueType.DECISION, Set.of(ImportValueType.DECISION_REQUIREMENTS),
+          ImportValueType.DECISION_EVALUATION, Set.of(ImportValueType.DECISION));
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final List<ImportTask> pendingTasks = new ArrayList<>();
+  private final Map<String, EmptyRead> latestEmptyReads = new ConcurrentHashMap<>();
+  private final Map<Integer, Long> readPositions = new ConcurrentHashMap<>();
+  private int runningTasks;
+
+  @Autowired
+  @Qualifier("importThreadPoolExecutor")
+  private ThreadPoolTaskExecutor importExecutor;
+
+  @Autowired private ImportPositionHolder importPositionHolder;
+
+  @Autowired private OperateProperties operateProperties;
+
+  @Autowired private RecordsReaderHolder recordsReaderHolder;
+
+  /**
+   * Wraps the execution of the given import job, such that it can be submitted via {@link
+   * #submit(Callable)}, possibly multiple times if the job is retried.
+   */
+  public Callable<Boolean> task(final ImportJob job, final Callable<Boolean> execution) {
+    final ImportTask task = new ImportTask(job, execution);
+    readPositions.merge(task.partitionId(), task.position(), Math::max);
+    return task;
+  }
+
+  /**
+   * Submits the task to the import thread pool, as soon as its prerequisites are met and a thread
+   * is available. Tasks which were not created via {@link #task(ImportJob, Callable)} are submitted
+   * right away.
+   */
+  public void submit(final Callable<Boolean> task) {
+    if (!isDependencyAware() || !(task instanceof final ImportTask importTask)) {
+      importExecutor.submit(task);
+      return;
+    }
+
+    withLock(
+        () -> {
+          importTask.submittedAt = OffsetDateTime.now();
+          pendingTasks.add(importTask);
+        });
+    dispatch();
+    wakeUpPrerequisites(importTask);
+  }
+
+  /**
+   * Returns the highest position of all records which were read on the given partition so far, by
+   * any reader. Since records are exported in the order of their positions, a read which starts
+   * afterwards sees all records up to this position.
+   */
+  public long getReadPosition(final int partitionId) {
+    return readPositions.getOrDefault(partitionId, 0L);
+  }
+
+  /**
+   * Records that the reader of the given partition and value type found no new records, i.e. that
+   * the value type is caught up up to the given read position, once everything scheduled until now
+   * is imported.
+   *
+   * @param readPosition the {@link #getReadPosition(int) read position} of the partition when the
+   *     read started
+   * @return true if a job waits for records of the value type beyond the read position, i.e. if the
+   *     reader should read again right away instead of backing off
+   */
+  public boolean recordEmptyRead(
+      final int partitionId, final ImportValueType importValueType, final long readPosition) {
+    if (!isDependencyAware()) {
+      return false;
+    }
+
+    final long scheduledPosition =
+        importPositionHolder.getScheduledPosition(importValueType.getAliasTemplate(), partitionId);
+    latestEmptyReads.put(
+        getKey(importValueType, partitionId), new EmptyRead(readPosition, scheduledPosition));
+    dispatch();
+
+    final AtomicBoolean waiting = new AtomicBoolean();
+    withLock(
+        () ->
+            waiting.set(
+                pendingTasks.stream()
+                    .anyMatch(
+                        task ->
+                            task.partitionId() == partitionId
+                                && task.position() > readPosition
+                                && PREREQUISITES
+                                    .getOrDefault(task.importValueType(), Set.of())
+                                    .contains(importValueType))));
+    return waiting.get();
+  }
+
+  private boolean isDependencyAware() {
+    return operateProperties.getImporter().isDependencyAwareScheduling();
+  }
+
+  private void dispatch() {
+    withLock(
+        () -> {
+          final int threadsCount = operateProperties.getImporter().getThreadsCount();
+          while (runningTasks < threadsCount) {
+            final ImportTask next = nextReadyTask();
+            if (next == null) {
+              break;
+            }
+
+            pendingTasks.remove(next);
+            runningTasks++;
+            importExecutor.submit(() -> run(next));
+          }
+        });
+  }
+
+  private Boolean run(final ImportTask task) throws Exception {
+    try {
+      return task.call();
+    } finally {
+      withLock(() -> runningTasks--);
+      // the finished task may have been the prerequisite for others
+      dispatch();
+    }
+  }
+
+  private void wakeUpPrerequisites(final ImportTask task) {
+    for (final ImportValueType prerequisite :
+        PREREQUISITES.getOrDefault(task.importValueType(), Set.of())) {
+      if (!isCaughtUp(prerequisite, task)) {
+        // a reader which backs off after an empty read reads again right away
+        final RecordsReader reader =
+            recordsReaderHolder.getRecordsReader(task.partitionId(), prerequisite);
+        if (reader != null) {
+          reader.wakeUp();
+        }
+      }
+    }
+  }
+
+  private ImportTask nextReadyTask() {
+    final Duration starvationThreshold =
+        Duration.ofMillis(operateProperties.getImporter().getSchedulerStarvationThreshold());
+    final OffsetDateTime starvedBefore = OffsetDateTime.now().minus(starvationThreshold);
+    final Comparator<ImportTask> byWaitingTime = Comparator.comparing(ImportTask::submittedAt);
+    final List<ImportTask> readyTasks = pendingTasks.stream().filter(this::isReady).toList();
+
+    final var starvedTask =
+        readyTasks.stream()
+            .filter(task -> task.submittedAt().isBefore(starvedBefore))
+            .min(byWaitingTime);
+    if (starvedTask.isPresent()) {
+      return starvedTask.get();
+    }
+
+    return readyTasks.stream()
+        .min(Comparator.comparingLong(ImportTask::backlog).reversed().thenComparing(byWaitingTime))
+        .orElse(null);
+  }
+
+  private boolean isReady(final ImportTask task) {
+    for (final ImportValueType prerequisite :
+        PREREQUISITES.getOrDefault(task.importValueType(), Set.of())) {
+      if (!isCaughtUp(prerequisite, task)) {
+        LOGGER.trace(
+            "Delay import of {} on partition {}, waiting for {}",
+            task.importValueType(),
+            task.partitionId(),
+            prerequisite);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isCaughtUp(final ImportValueType prerequisite, final ImportTask task) {
+    final long importedPosition =
+        importPositionHolder.getImportedPosition(
+            prerequisite.getAliasTemplate(), task.partitionId());
+    if (importedPosition >= task.position()) {
+      return true;
+    }
+
+    final EmptyRead emptyRead = latestEmptyReads.get(getKey(prerequisite, task.partitionId()));
+    return emptyRead != null
+        && emptyRead.readPosition() >= task.position()
+        && importedPosition >= emptyRead.scheduledPosition();
+  }
+
+  private String getKey(final ImportValueType importValueType, final int partitionId) {
+    return String.format("%s-%d", importValueType.getAliasTemplate(), partitionId);
+  }
+
+  private void withLock(final Runnable action) {
+    try {
+      lock.lock();
+      action.run();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private record EmptyRead(long readPosition, long scheduledPosition) {}
+
+  private final class ImportTask implements Callable<Boolean> {
+    private final ImportJob job;
+    private final Callable<Boolean> execution;
+    private final long position;
+    private OffsetDateTime submittedAt;
+
+    private ImportTask(final ImportJob job, final Callable<Boolean> execution) {
+      this.job = job;
+      this.execution = execution;
+      position = job.getLastProcessedPosition().getPosition();
+    }
+
+    @Override
+    public Boolean call() throws Exception {
+      return execution.call();
+    }
+
+    private int partitionId() {
+      return job.getImportBatch().getPartitionId();
+    }
+
+    private ImportValueType importValueType() {
+      return job.getImportBatch().getImportValueType();
+    }
+
+    private long position() {
+      return position;
+    }
+
+    private OffsetDateTime submittedAt() {
+      return submittedAt;
+    }
+
+    private long backlog() {
+      return importPositionHolder.getImportBacklog(
+          importValueType().getAliasTemplate(), partitionId());
+    }
+  }
+}
@@ -30,6 +30,12 @@ public interface RecordsReader extends Runnable {
 
   BlockingQueue<Callable<Boolean>> getImportJobs();
 
+  /**
+   * Runs the reader right away if it is currently backing off because it found no new data, e.g.
+   * because new records were exported for its partition.
+   */
+  void wakeUp();
+
   /**
    * This method is based on Zeebe class
    * https://github.com/camunda/camunda/blob/cd37a352991e2fc763b7b1b0f5dc5b68ef7637e1/exporters/elasticsearch-exporter/src/main/java/io/camunda/zeebe/exporter/RecordSequence.java
@@ -33,6 +33,8 @@ public class ZeebeImporter {
 
   @Autowired private RecordsReaderHolder recordsReaderHolder;
 
+  @Autowired private ExportedPositionWatcher exportedPositionWatcher;
+
   @Autowired
   @Qualifier("recordsReaderThreadPoolExecutor")
   private ThreadPoolTaskScheduler recordsReaderThreadPoolExecutor;
@@ -43,6 +45,7 @@ public class ZeebeImporter {
   public void startImportingData() {
     if (operateProperties.getImporter().isStartLoadingDataOnStartup()) {
       scheduleReaders();
+      exportedPositionWatcher.start();
       zeebePostImporter.start();
     }
   }
@@ -15,6 +15,7 @@ import static io.camunda.operate.util.ThreadUtil.sleepFor;
 import static org.elasticsearch.index.query.QueryBuilders.*;
 import static org.springframework.beans.factory.config.BeanDefinition.SCOPE_PROTOTYPE;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.operate.Metrics;
 import io.camunda.operate.conditions.ElasticsearchCondition;
 import io.camunda.operate.entities.HitEntity;
@@ -27,6 +28,7 @@ import io.camunda.operate.util.BackoffIdleStrategy;
 import io.camunda.operate.util.NumberThrottleable;
 import io.camunda.operate.zeebe.ImportValueType;
 import io.camunda.operate.zeebeimport.*;
+import io.camunda.operate.zeebeimport.ImportBatchPrefetcher.Cursor;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.time.Duration;
@@ -39,17 +41,21 @@ import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.locks.ReentrantLock;
 import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.search.ClosePointInTimeRequest;
+import org.elasticsearch.action.search.OpenPointInTimeRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
-import org.elasticsearch.action.search.SearchScrollRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.RangeQueryBuilder;
 import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.builder.PointInTimeBuilder;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.sort.SortOrder;
 import org.slf4j.Logger;
@@ -59,7 +65,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Scope;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Component;
 
@@ -99,9 +104,12 @@ public class ElasticsearchRecordsReader implements RecordsReader {
 
   private BackoffIdleStrategy errorStrategy;
 
-  @Autowired
-  @Qualifier("importThreadPoolExecutor")
-  private ThreadPoolTaskExecutor importExecutor;
+  private ImportBatchPrefetcher prefetcher;
+
+  /** The next run, while the reader backs off because there was no new data, guarded by this. */
+  private ScheduledFuture<?> scheduledIdleRun;
+
+  @Autowired private ImportScheduler importScheduler;
 
   @Autowired
   @Qualifier("recordsReaderThreadPoolExecutor")
@@ -117,6 +125,10 @@ public class ElasticsearchRecordsReader implements RecordsReader {
 
   @Autowired private BeanFactory beanFactory;
 
+  @Autowired
+  @Qualifier("operateObjectMapper")
+  private ObjectMapper objectMapper;
+
   @Autowired private Metrics metrics;
 
   @Autowired(required = false)
@@ -140,6 +152,14 @@ public class ElasticsearchRecordsReader implements RecordsReader {
     countEmptyRuns = 0;
     errorStrategy =
         new BackoffIdleStrategy(operateProperties.getImporter().getReaderBackoff(), 1.2f, 10_000);
+    prefetcher =
+        new ImportBatchPrefetcher(
+            this::readNextBatch,
+            readersExecutor,
+            operateProperties.getImporter().getPrefetchSize(),
+            batchSizeThrottle,
+            Duration.ofMillis(operateProperties.getImporter().getSlowReadThreshold()),
+            objectMapper);
   }
 
   @Override
@@ -155,6 +175,7 @@ public class ElasticsearchRecordsReader implements RecordsReader {
   public void readAndScheduleNextBatch(final boolean autoContinue) {
     final int readerBackoff = operateProperties.getImporter().getReaderBackoff();
     final boolean useOnlyPosition = operateProperties.getImporter().isUseOnlyPosition();
+    long readPosition = 0;
     try {
       metrics.registerGaugeQueueSize(
           GAUGE_IMPORT_QUEUE_SIZE,
@@ -164,22 +185,27 @@ public class ElasticsearchRecordsReader implements RecordsReader {
           TAG_KEY_TYPE,
           importValueType.name());
       final ImportBatch importBatch;
+      readPosition = importScheduler.getReadPosition(partitionId);
       final ImportPositionEntity latestPosition =
           importPositionHolder.getLatestScheduledPosition(
               importValueType.getAliasTemplate(), partitionId);
       if (!useOnlyPosition && latestPosition != null && latestPosition.getSequence() > 0) {
         LOGGER.debug("Use import for {} ( {} ) by sequence", importValueType.name(), partitionId);
-        importBatch = readNextBatchBySequence(latestPosition.getSequence());
+        importBatch = prefetcher.read(new Cursor(true, latestPosition.getSequence()));
       } else if (latestPosition != null) {
         LOGGER.debug("Use import for {} ( {} ) by position", importValueType.name(), partitionId);
-        importBatch = readNextBatchByPositionAndPartition(latestPosition.getPosition(), null);
+        importBatch = prefetcher.read(new Cursor(false, latestPosition.getPosition()));
       } else {
         LOGGER.debug("latestPosition is null, importBatch was not initialized");
         importBatch = null;
       }
       Integer nextRunDelay = null;
       if (importBatch == null || importBatch.getHits() == null || importBatch.getHits().isEmpty()) {
-        nextRunDelay = readerBackoff;
+        // read again right away if a dependent job waits for records which may not be read yet
+        nextRunDelay =
+            importScheduler.recordEmptyRead(partitionId, importValueType, readPosition)
+                ? null
+                : readerBackoff;
       } else {
         final var importJob = createImportJob(latestPosition, importBatch);
         if (!scheduleImportJob(importJob, !autoContinue)) {
@@ -194,18 +220,20 @@ public class ElasticsearchRecordsReader implements RecordsReader {
       }
       errorStrategy.reset();
       if (autoContinue) {
-        rescheduleReader(nextRunDelay);
+        rescheduleReader(nextRunDelay, true);
       }
     } catch (final NoSuchIndexException ex) {
+      // nothing was exported yet, so there is nothing dependent value types need to wait for
+      importScheduler.recordEmptyRead(partitionId, importValueType, readPosition);
       // if no index found, we back off current reader
       if (autoContinue) {
-        rescheduleReader(readerBackoff);
+        rescheduleReader(readerBackoff, true);
       }
     } catch (final Exception ex) {
       LOGGER.error(ex.getMessage(), ex);
       if (autoContinue) {
         errorStrategy.idle();
-        rescheduleReader((int) errorStrategy.idleTime());
+        rescheduleReader((int) errorStrategy.idleTime(), false);
       }
     }
   }
@@ -356,56 +384,101 @@ public class ElasticsearchRecordsReader implements RecordsReader {
     return readNextBatchBySequence(sequence, null);
   }
 
-  private HitEntity[] read(final SearchRequest searchRequest, final boolean scrollNeeded)
+  private ImportBatch readNextBatch(final Cursor cursor) throws NoSuchIndexException {
+    return cursor.bySequence()
+        ? readNextBatchBySequence(cursor.value())
+        : readNextBatchByPositionAndPartition(cursor.value(), null);
+  }
+
+  private HitEntity[] read(final SearchRequest searchRequest, final boolean pagingNeeded)
       throws IOException {
-    String scrollId = null;
+    if (pagingNeeded) {
+      return readPages(searchRequest);
+    }
+
+    final SearchResponse response = zeebeEsClient.search(searchRequest, requestOptions);
+    checkForFailedShards(response);
+    return Arrays.stream(response.getHits().getHits())
+        .map(this::searchHitToOperateHit)
+        .toArray(HitEntity[]::new);
+  }
+
+  /**
+   * Reads all hits page by page, using search after on a point in time. Unlike a scroll, this keeps
+   * no search context with prepared results per page in Elasticsearch, and each page continues
+   * right after the sort value of the previous one.
+   */
+  private HitEntity[] readPages(final SearchRequest searchRequest) throws IOException {
+    final TimeValue keepAlive = TimeValue.timeValueMillis(SCROLL_KEEP_ALIVE_MS);
+    final SearchSourceBuilder source = searchRequest.source();
+    String pointInTimeId =
+        zeebeEsClient
+            .openPointInTime(
+                new OpenPointInTimeRequest(searchRequest.indices())
+                    .keepAlive(keepAlive)
+                    .routing(searchRequest.routing()),
+                requestOptions)
+            .getPointInTimeId();
     try {
       final List<HitEntity> searchHits = new ArrayList<>();
-
-      if (scrollNeeded) {
-        searchRequest.scroll(TimeValue.timeValueMillis(SCROLL_KEEP_ALIVE_MS));
-      }
-      SearchResponse response = zeebeEsClient.search(searchRequest, requestOptions);
-      checkForFailedShards(response);
-
-      searchHits.addAll(
-          Arrays.stream(response.getHits().getHits()).map(this::searchHitToOperateHit).toList());
-
-      if (scrollNeeded) {
-        scrollId = response.getScrollId();
-        do {
-          final SearchScrollRequest scrollRequest = new SearchScrollRequest(scrollId);
-          scrollRequest.scroll(TimeValue.timeValueMillis(SCROLL_KEEP_ALIVE_MS));
-
-          response = zeebeEsClient.scroll(scrollRequest, requestOptions);
-          checkForFailedShards(response);
-
-          scrollId = response.getScrollId();
-          searchHits.addAll(
-              Arrays.stream(response.getHits().getHits())
-                  .map(this::searchHitToOperateHit)
-                  .toList());
-        } while (response.getHits().getHits().length != 0);
-      }
+      SearchHit[] hits;
+      do {
+        source.pointInTimeBuilder(new PointInTimeBuilder(pointInTimeId).setKeepAlive(keepAlive));
+        // the point in time determines the indices and routing of the search
+        final SearchResponse response =
+            zeebeEsClient.search(
+                new SearchRequest().source(source).requestCache(false), requestOptions);
+        checkForFailedShards(response);
+
+        hits = response.getHits().getHits();
+        Arrays.stream(hits).map(this::searchHitToOperateHit).forEach(searchHits::add);
+        if (hits.length > 0) {
+          source.searchAfter(hits[hits.length - 1].getSortValues());
+        }
+        if (response.pointInTimeId() != null) {
+          pointInTimeId = response.pointInTimeId();
+        }
+      } while (hits.length == source.size());
       return searchHits.toArray(new HitEntity[0]);
     } finally {
-      if (scrollId != null) {
-        clearScroll(scrollId, zeebeEsClient);
-      }
+      closePointInTime(pointInTimeId);
+    }
+  }
+
+  private void closePointInTime(final String pointInTimeId) {
+    try {
+      zeebeEsClient.closePointInTime(new ClosePointInTimeRequest(pointInTimeId), requestOptions);
+    } catch (final Exception e) {
+      LOGGER.warn("Error occurred when closing the point in time with id [{}]", pointInTimeId, e);
     }
   }
 
   private HitEntity searchHitToOperateHit(final SearchHit searchHit) {
+    // keep the raw source bytes, the processors parse them without an intermediate string
+    final var sourceRef = searchHit.getSourceRef();
     return new HitEntity()
         .setIndex(searchHit.getIndex())
-        .setSourceAsString(searchHit.getSourceAsString());
+        .setSource(sourceRef == null ? null : BytesReference.toBytes(sourceRef));
   }
 
-  private void rescheduleReader(final Integer readerDelay) {
+  private synchronized void rescheduleReader(final Integer readerDelay, final boolean idle) {
     if (readerDelay != null) {
-      readersExecutor.schedule(
-          this, Date.from(OffsetDateTime.now().plus(readerDelay, ChronoUnit.MILLIS).toInstant()));
+      final ScheduledFuture<?> run =
+          readersExecutor.schedule(
+              this,
+              Date.from(OffsetDateTime.now().plus(readerDelay, ChronoUnit.MILLIS).toInstant()));
+      scheduledIdleRun = idle ? run : null;
     } else {
+      scheduledIdleRun = null;
+      readersExecutor.submit(this);
+    }
+  }
+
+  @Override
+  public synchronized void wakeUp() {
+    // only a run which did not start yet can be cancelled, so the reader never runs twice
+    if (scheduledIdleRun != null && scheduledIdleRun.cancel(false)) {
+      scheduledIdleRun = null;
       readersExecutor.submit(this);
     }
   }
@@ -455,12 +528,7 @@ public class ElasticsearchRecordsReader implements RecordsReader {
 
   private ImportBatch createImportBatch(final SearchResponse searchResponse) {
     final SearchHit[] hits = searchResponse.getHits().getHits();
-    final List<HitEntity> newHits =
-        Arrays.stream(hits)
-            .map(
-                h ->
-                    new HitEntity().setIndex(h.getIndex()).setSourceAsString(h.getSourceAsString()))
-            .toList();
+    final List<HitEntity> newHits = Arrays.stream(hits).map(this::searchHitToOperateHit).toList();
     String indexName = null;
     if (hits.length > 0) {
       indexName = hits[hits.length - 1].getIndex();
@@ -554,39 +622,41 @@ public class ElasticsearchRecordsReader implements RecordsReader {
   }
 
   private Callable<Boolean> executeJob(final ImportJob job) {
-    return () -> {
-      try {
-        final var imported = job.call();
-        if (imported) {
-          executeNext();
-          rescheduleRecordsReaderIfNecessary();
-        } else {
-          // retry the same job
-          sleepFor(2000L);
-          execute(active);
-        }
-        return imported;
-      } catch (final Exception ex) {
-        LOGGER.error("Exception occurred when importing data: " + ex.getMessage(), ex);
-        // retry the same job
-        sleepFor(2000L);
-        execute(active);
-        return false;
-      }
-    };
+    return importScheduler.task(
+        job,
+        () -> {
+          try {
+            final var imported = job.call();
+            if (imported) {
+              executeNext();
+              rescheduleRecordsReaderIfNecessary();
+            } else {
+              // retry the same job
+              sleepFor(2000L);
+              execute(active);
+            }
+            return imported;
+          } catch (final Exception ex) {
+            LOGGER.error("Exception occurred when importing data: " + ex.getMessage(), ex);
+            // retry the same job
+            sleepFor(2000L);
+            execute(active);
+            return false;
+          }
+        });
   }
 
   private void executeNext() {
     active = importJobs.poll();
     if (active != null) {
-      importExecutor.submit(active);
+      importScheduler.submit(active);
       // TODO what to do with failing jobs
       LOGGER.debug("Submitted next job");
     }
   }
 
   private void execute(final Callable<Boolean> job) {
-    importExecutor.submit(job);
+    importScheduler.submit(job);
     // TODO what to do with failing jobs
     LOGGER.debug("Submitted the same job");
   }
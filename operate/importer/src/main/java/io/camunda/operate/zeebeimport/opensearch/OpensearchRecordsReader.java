@@ -35,23 +35,27 @@ import io.camunda.operate.util.ElasticsearchUtil;
 import io.camunda.operate.util.NumberThrottleable;
 import io.camunda.operate.zeebe.ImportValueType;
 import io.camunda.operate.zeebeimport.ImportBatch;
+import io.camunda.operate.zeebeimport.ImportBatchPrefetcher;
+import io.camunda.operate.zeebeimport.ImportBatchPrefetcher.Cursor;
 import io.camunda.operate.zeebeimport.ImportJob;
 import io.camunda.operate.zeebeimport.ImportListener;
 import io.camunda.operate.zeebeimport.ImportPositionHolder;
+import io.camunda.operate.zeebeimport.ImportScheduler;
 import io.camunda.operate.zeebeimport.RecordsReader;
 import jakarta.annotation.PostConstruct;
-import java.io.IOException;
-import java.io.StringWriter;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 import org.opensearch.client.opensearch._types.OpenSearchException;
 import org.opensearch.client.opensearch._types.SortOrder;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
@@ -65,7 +69,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Scope;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Component;
 
@@ -100,9 +103,12 @@ public class OpensearchRecordsReader implements RecordsReader {
 
   private BackoffIdleStrategy errorStrategy;
 
-  @Autowired
-  @Qualifier("importThreadPoolExecutor")
-  private ThreadPoolTaskExecutor importExecutor;
+  private ImportBatchPrefetcher prefetcher;
+
+  /** The next run, while the reader backs off because there was no new data, guarded by this. */
+  private ScheduledFuture<?> scheduledIdleRun;
+
+  @Autowired private ImportScheduler importScheduler;
 
   @Autowired
   @Qualifier("recordsReaderThreadPoolExecutor")
@@ -116,6 +122,10 @@ public class OpensearchRecordsReader implements RecordsReader {
 
   @Autowired private BeanFactory beanFactory;
 
+  @Autowired
+  @Qualifier("operateObjectMapper")
+  private ObjectMapper objectMapper;
+
   @Autowired private Metrics metrics;
 
   @Autowired(required = false)
@@ -139,6 +149,14 @@ public class OpensearchRecordsReader implements RecordsReader {
     countEmptyRuns = 0;
     errorStrategy =
         new BackoffIdleStrategy(operateProperties.getImporter().getReaderBackoff(), 1.2f, 10_000);
+    prefetcher =
+        new ImportBatchPrefetcher(
+            this::readNextBatch,
+            readersExecutor,
+            operateProperties.getImporter().getPrefetchSize(),
+            batchSizeThrottle,
+            Duration.ofMillis(operateProperties.getImporter().getSlowReadThreshold()),
+            objectMapper);
   }
 
   @Override
@@ -154,6 +172,7 @@ public class OpensearchRecordsReader implements RecordsReader {
   public void readAndScheduleNextBatch(final boolean autoContinue) {
     final int readerBackoff = operateProperties.getImporter().getReaderBackoff();
     final boolean useOnlyPosition = operateProperties.getImporter().isUseOnlyPosition();
+    long readPosition = 0;
     try {
       metrics.registerGaugeQueueSize(
           GAUGE_IMPORT_QUEUE_SIZE,
@@ -163,15 +182,16 @@ public class OpensearchRecordsReader implements RecordsReader {
           TAG_KEY_TYPE,
           importValueType.name());
       final ImportBatch importBatch;
+      readPosition = importScheduler.getReadPosition(partitionId);
       final ImportPositionEntity latestPosition =
           importPositionHolder.getLatestScheduledPosition(
               importValueType.getAliasTemplate(), partitionId);
       if (!useOnlyPosition && latestPosition != null && latestPosition.getSequence() > 0) {
         LOGGER.debug("Use import for {} ( {} ) by sequence", importValueType.name(), partitionId);
-        importBatch = readNextBatchBySequence(latestPosition.getSequence());
+        importBatch = prefetcher.read(new Cursor(true, latestPosition.getSequence()));
       } else if (latestPosition != null) {
         LOGGER.debug("Use import for {} ( {} ) by position", importValueType.name(), partitionId);
-        importBatch = readNextBatchByPositionAndPartition(latestPosition.getPosition(), null);
+        importBatch = prefetcher.read(new Cursor(false, latestPosition.getPosition()));
       } else {
         LOGGER.debug("latestPosition is null, importBatch was not initialized");
         importBatch = null;
@@ -180,7 +200,11 @@ public class OpensearchRecordsReader implements RecordsReader {
       if (importBatch == null
           || importBatch.getHits() == null
           || importBatch.getHits().size() == 0) {
-        nextRunDelay = readerBackoff;
+        // read again right away if a dependent job waits for records which may not be read yet
+        nextRunDelay =
+            importScheduler.recordEmptyRead(partitionId, importValueType, readPosition)
+                ? null
+                : readerBackoff;
       } else {
         final var importJob = createImportJob(latestPosition, importBatch);
         if (!scheduleImportJob(importJob, !autoContinue)) {
@@ -195,18 +219,20 @@ public class OpensearchRecordsReader implements RecordsReader {
       }
       errorStrategy.reset();
       if (autoContinue) {
-        rescheduleReader(nextRunDelay);
+        rescheduleReader(nextRunDelay, true);
       }
     } catch (final NoSuchIndexException ex) {
+      // nothing was exported yet, so there is nothing dependent value types need to wait for
+      importScheduler.recordEmptyRead(partitionId, importValueType, readPosition);
       // if no index found, we back off current reader
       if (autoContinue) {
-        rescheduleReader(readerBackoff);
+        rescheduleReader(readerBackoff, true);
       }
     } catch (final Exception ex) {
       LOGGER.error(ex.getMessage(), ex);
       if (autoContinue) {
         errorStrategy.idle();
-        rescheduleReader((int) errorStrategy.idleTime());
+        rescheduleReader((int) errorStrategy.idleTime(), false);
       }
     }
   }
@@ -252,16 +278,17 @@ public class OpensearchRecordsReader implements RecordsReader {
       }
     }
 
-    final var searchRequestBuilder =
-        searchRequestBuilder(aliasName)
-            .routing(String.valueOf(partitionId))
-            .requestCache(false)
-            .size(Math.min(maxNumberOfHits, QUERY_MAX_SIZE))
-            .sort(sortOptions(ImportPositionIndex.SEQUENCE, SortOrder.Asc))
-            .query(gtLte(ImportPositionIndex.SEQUENCE, sequence, lessThanEqualsSequence));
-    final boolean scrollNeeded = maxNumberOfHits >= ElasticsearchUtil.QUERY_MAX_SIZE;
+    final Supplier<SearchRequest.Builder> searchRequestBuilder =
+        () ->
+            searchRequestBuilder(aliasName)
+                .routing(String.valueOf(partitionId))
+                .requestCache(false)
+                .size(Math.min(maxNumberOfHits, QUERY_MAX_SIZE))
+                .sort(sortOptions(ImportPositionIndex.SEQUENCE, SortOrder.Asc))
+                .query(gtLte(ImportPositionIndex.SEQUENCE, sequence, lessThanEqualsSequence));
+    final boolean pagingNeeded = maxNumberOfHits >= ElasticsearchUtil.QUERY_MAX_SIZE;
     try {
-      final HitEntity[] hits = withTimerSearchHits(() -> read(searchRequestBuilder, scrollNeeded));
+      final HitEntity[] hits = withTimerSearchHits(() -> read(searchRequestBuilder, pagingNeeded));
       if (hits.length == 0) {
         countEmptyRuns++;
       } else {
@@ -336,7 +363,7 @@ public class OpensearchRecordsReader implements RecordsReader {
               () ->
                   zeebeRichOpenSearchClient
                       .doc()
-                      .search(searchRequestBuilder, Object.class)
+                      .search(searchRequestBuilder, RawJsonSource.class)
                       .hits()
                       .hits()
                       .stream()
@@ -387,45 +414,72 @@ public class OpensearchRecordsReader implements RecordsReader {
     return readNextBatchBySequence(sequence, null);
   }
 
+  private ImportBatch readNextBatch(final Cursor cursor) throws NoSuchIndexException {
+    return cursor.bySequence()
+        ? readNextBatchBySequence(cursor.value())
+        : readNextBatchByPositionAndPartition(cursor.value(), null);
+  }
+
   private HitEntity[] read(
-      final SearchRequest.Builder searchRequestBuilder, final boolean scrollNeeded)
-      throws IOException {
-    final List<Hit<Object>> hits =
-        scrollNeeded
-            ? zeebeRichOpenSearchClient
-                .doc()
-                .scrollHits(searchRequestBuilder, Object.class)
-                .values()
-            : zeebeRichOpenSearchClient
-                .doc()
-                .search(searchRequestBuilder, Object.class)
-                .hits()
-                .hits();
-
-    return hits.stream().map(this::searchHitToOperateHit).toArray(HitEntity[]::new);
-  }
-
-  private void rescheduleReader(final Integer readerDelay) {
+      final Supplier<SearchRequest.Builder> searchRequestBuilder, final boolean pagingNeeded) {
+    if (!pagingNeeded) {
+      return zeebeRichOpenSearchClient
+          .doc()
+          .search(searchRequestBuilder.get(), RawJsonSource.class)
+          .hits()
+          .hits()
+          .stream()
+          .map(this::searchHitToOperateHit)
+          .toArray(HitEntity[]::new);
+    }
+
+    // Page by searching after the sort value of the previous page, which unlike a scroll keeps no
+    // search context. The pages are consistent without a point in time, as the records of a
+    // partition are routed to one shard, sorted by a unique value and only appended.
+    final List<HitEntity> searchHits = new ArrayList<>();
+    List<String> searchAfter = null;
+    List<Hit<RawJsonSource>> hits;
+    do {
+      final SearchRequest.Builder page = searchRequestBuilder.get();
+      if (searchAfter != null) {
+        page.searchAfter(searchAfter);
+      }
+      hits = zeebeRichOpenSearchClient.doc().search(page, RawJsonSource.class).hits().hits();
+      hits.stream().map(this::searchHitToOperateHit).forEach(searchHits::add);
+      if (!hits.isEmpty()) {
+        searchAfter = hits.get(hits.size() - 1).sort();
+      }
+    } while (hits.size() == QUERY_MAX_SIZE);
+    return searchHits.toArray(new HitEntity[0]);
+  }
+
+  private synchronized void rescheduleReader(final Integer readerDelay, final boolean idle) {
     if (readerDelay != null) {
-      readersExecutor.schedule(
-          this, Date.from(OffsetDateTime.now().plus(readerDelay, ChronoUnit.MILLIS).toInstant()));
+      final ScheduledFuture<?> run =
+          readersExecutor.schedule(
+              this,
+              Date.from(OffsetDateTime.now().plus(readerDelay, ChronoUnit.MILLIS).toInstant()));
+      scheduledIdleRun = idle ? run : null;
     } else {
+      scheduledIdleRun = null;
+      readersExecutor.submit(this);
+    }
+  }
+
+  @Override
+  public synchronized void wakeUp() {
+    // only a run which did not start yet can be cancelled, so the reader never runs twice
+    if (scheduledIdleRun != null && scheduledIdleRun.cancel(false)) {
+      scheduledIdleRun = null;
       readersExecutor.submit(this);
     }
   }
 
-  private HitEntity searchHitToOperateHit(final Hit<?> searchHit) {
+  private HitEntity searchHitToOperateHit(final Hit<RawJsonSource> searchHit) {
     if (searchHit.source() == null) {
       return null;
     }
-    final var stringWriter = new StringWriter();
-    try {
-      new ObjectMapper().writeValue(stringWriter, searchHit.source());
-    } catch (final IOException e) {
-      throw new RuntimeException(e);
-    }
-    final var jsonString = stringWriter.toString();
-    return new HitEntity().setIndex(searchHit.index()).setSourceAsString(jsonString);
+    return new HitEntity().setIndex(searchHit.index()).setSource(searchHit.source().getBytes());
   }
 
   private ImportJob createImportJob(
@@ -515,39 +569,41 @@ public class OpensearchRecordsReader implements RecordsReader {
   }
 
   private Callable<Boolean> executeJob(final ImportJob job) {
-    return () -> {
-      try {
-        final var imported = job.call();
-        if (imported) {
-          executeNext();
-          rescheduleRecordsReaderIfNecessary();
-        } else {
-          // retry the same job
-          sleepFor(2000L);
-          execute(active);
-        }
-        return imported;
-      } catch (final Exception ex) {
-        LOGGER.error("Exception occurred when importing data: " + ex.getMessage(), ex);
-        // retry the same job
-        sleepFor(2000L);
-        execute(active);
-        return false;
-      }
-    };
+    return importScheduler.task(
+        job,
+        () -> {
+          try {
+            final var imported = job.call();
+            if (imported) {
+              executeNext();
+              rescheduleRecordsReaderIfNecessary();
+            } else {
+              // retry the same job
+              sleepFor(2000L);
+              execute(active);
+            }
+            return imported;
+          } catch (final Exception ex) {
+            LOGGER.error("Exception occurred when importing data: " + ex.getMessage(), ex);
+            // retry the same job
+            sleepFor(2000L);
+            execute(active);
+            return false;
+          }
+        });
   }
 
   private void executeNext() {
     active = importJobs.poll();
     if (active != null) {
-      importExecutor.submit(active);
+      importScheduler.submit(active);
       // TODO what to do with failing jobs
       LOGGER.debug("Submitted next job");
     }
   }
 
   private void execute(final Callable<Boolean> job) {
-    importExecutor.submit(job);
+    importScheduler.submit(job);
     // TODO what to do with failing jobs
     LOGGER.debug("Submitted the same job");
   }
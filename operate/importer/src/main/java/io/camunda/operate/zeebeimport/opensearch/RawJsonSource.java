@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport.opensearch;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Search hit document which keeps the source as raw JSON bytes. The tokens of the source are copied
+ * as they are parsed from the response, so the source is never materialized as a map before the
+ * importer decodes it into a record.
+ */
+@JsonDeserialize(using = RawJsonSource.Deserializer.class)
+final class RawJsonSource {
+
+  private final byte[] bytes;
+
+  private RawJsonSource(final byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  byte[] getBytes() {
+    return bytes;
+  }
+
+  static final class Deserializer extends JsonDeserializer<RawJsonSource> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Override
+    public RawJsonSource deserialize(final JsonParser parser, final DeserializationContext ctxt)
+        throws IOException {
+      final var output = new ByteArrayOutputStream();
+      try (final JsonGenerator generator = JSON_FACTORY.createGenerator(output)) {
+        generator.copyCurrentStructure(parser);
+      }
+      return new RawJsonSource(output.toByteArray());
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.store.ZeebeStore;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ExportedPositionWatcherTest {
+
+  private final RecordsReader partitionOneReader = reader(1);
+  private final RecordsReader partitionTwoReader = reader(2);
+
+  @Spy private OperateProperties operateProperties = new OperateProperties();
+  @Mock private ZeebeStore zeebeStore;
+  @Mock private RecordsReaderHolder recordsReaderHolder;
+  @InjectMocks private ExportedPositionWatcher exportedPositionWatcher;
+
+  @Before
+  public void setUp() {
+    when(recordsReaderHolder.getAllRecordsReaders())
+        .thenReturn(Set.of(partitionOneReader, partitionTwoReader));
+  }
+
+  @Test
+  public void shouldNotWakeUpReadersOnFirstPoll() {
+    // when
+    givenExportedPositions(Map.of(1, 10L, 2, 10L));
+    exportedPositionWatcher.poll();
+
+    // then
+    verify(partitionOneReader, never()).wakeUp();
+    verify(partitionTwoReader, never()).wakeUp();
+  }
+
+  @Test
+  public void shouldWakeUpReadersOfAdvancedPartition() {
+    // given
+    givenExportedPositions(Map.of(1, 10L, 2, 10L));
+    exportedPositionWatcher.poll();
+
+    // when
+    givenExportedPositions(Map.of(1, 20L, 2, 10L));
+    exportedPositionWatcher.poll();
+
+    // then
+    verify(partitionOneReader, times(1)).wakeUp();
+    verify(partitionTwoReader, never()).wakeUp();
+  }
+
+  @Test
+  public void shouldWakeUpReadersOnceMoreOnFollowingPoll() {
+    // given
+    givenExportedPositions(Map.of(1, 10L));
+    exportedPositionWatcher.poll();
+    givenExportedPositions(Map.of(1, 20L));
+    exportedPositionWatcher.poll();
+
+    // when - the position did not advance any further
+    exportedPositionWatcher.poll();
+    exportedPositionWatcher.poll();
+
+    // then
+    verify(partitionOneReader, times(2)).wakeUp();
+  }
+
+  @Test
+  public void shouldNotFailOnStoreError() {
+    // given
+    when(zeebeStore.getExportedPositions(anyString()))
+        .thenThrow(new IllegalStateException("expected"));
+
+    // when
+    exportedPositionWatcher.poll();
+
+    // then
+    verify(partitionOneReader, never()).wakeUp();
+  }
+
+  private void givenExportedPositions(final Map<Integer, Long> positions) {
+    when(zeebeStore.getExportedPositions("zeebe-record_exported-position")).thenReturn(positions);
+  }
+
+  private static RecordsReader reader(final int partitionId) {
+    final RecordsReader reader = mock(RecordsReader.class);
+    when(reader.getPartitionId()).thenReturn(partitionId);
+    return reader;
+  }
+}
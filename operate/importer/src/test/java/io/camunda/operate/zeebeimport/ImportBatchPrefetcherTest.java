@@ -0,0 +1,291 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.operate.entities.HitEntity;
+import io.camunda.operate.exceptions.NoSuchIndexException;
+import io.camunda.operate.util.NumberThrottleable;
+import io.camunda.operate.zeebe.ImportValueType;
+import io.camunda.operate.zeebeimport.ImportBatchPrefetcher.Cursor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ImportBatchPrefetcherTest {
+
+  private final List<Cursor> reads = new ArrayList<>();
+  private final List<Runnable> submittedReads = new ArrayList<>();
+  private final Map<Long, ImportBatch> batches = new HashMap<>();
+  private final NumberThrottleable batchSizeThrottle =
+      new NumberThrottleable.DivideNumberThrottle(100);
+
+  private Duration readDuration = Duration.ZERO;
+
+  @Before
+  public void setUp() {
+    // the batch after sequence n contains the sequences n + 1 and n + 2
+    for (long sequence = 0; sequence < 10; sequence += 2) {
+      batches.put(sequence, batch(sequence + 1, sequence + 2));
+    }
+  }
+
+  @Test
+  public void shouldReadRightAwayWithoutCapacity() throws Exception {
+    // given
+    final ImportBatchPrefetcher prefetcher = prefetcher(0);
+
+    // when
+    final ImportBatch batch = prefetcher.read(new Cursor(true, 0));
+
+    // then
+    assertSame(batches.get(0L), batch);
+    assertEquals(List.of(new Cursor(true, 0)), reads);
+    assertTrue(submittedReads.isEmpty());
+  }
+
+  @Test
+  public void shouldPrefetchUpToCapacity() throws Exception {
+    // given
+    final ImportBatchPrefetcher prefetcher = prefetcher(2);
+
+    // when
+    prefetcher.read(new Cursor(true, 0));
+    runSubmittedReads();
+
+    // then
+    assertEquals(List.of(new Cursor(true, 0), new Cursor(true, 2), new Cursor(true, 4)), reads);
+  }
+
+  @Test
+  public void shouldHandOutPrefetchedBatch() throws Exception {
+    // given
+    final ImportBatchPrefetcher prefetcher = prefetcher(2);
+    prefetcher.read(new Cursor(true, 0));
+    runSubmittedReads();
+    reads.clear();
+
+    // when
+    final ImportBatch batch = prefetcher.read(new Cursor(true, 2));
+    runSubmittedReads();
+
+    // then - only the next batch at the end of the chain is read
+    assertSame(batches.get(2L), batch);
+    assertEquals(List.of(new Cursor(true, 6)), reads);
+  }
+
+  @Test
+  public void shouldReadPrefetchedBatchOnCurrentThreadIfNotStarted() throws Exception {
+    // given
+    final ImportBatchPrefetcher prefetcher = prefetcher(1);
+    prefetcher.read(new Cursor(true, 0));
+
+    // when - the prefetched read was not run by the executor yet
+    final ImportBatch batch = prefetcher.read(new Cursor(true, 2));
+    runSubmittedReads();
+
+    // then
+    assertSame(batches.get(2L), batch);
+    assertEquals(List.of(new Cursor(true, 0), new Cursor(true, 2), new Cursor(true, 4)), reads);
+  }
+
+  @Test
+  public void shouldDiscardPrefetchedBatchesOnOtherCursor() throws Exception {
+    // given
+    final ImportBatchPrefetcher prefetcher = prefetcher(2);
+    prefetcher.read(new Cursor(true, 0));
+    runSubmittedReads();
+    reads.clear();
+
+    // when - e.g. the import job could not be scheduled, so the reader reads the batch again
+    final ImportBatch batch = prefetcher.read(new Cursor(true, 0));
+    runSubmittedReads();
+
+    // then
+    assertSame(batches.get(0L), batch);
+    assertEquals(List.of(new Cursor(true, 0), new Cursor(true, 2), new Cursor(true, 4)), reads);
+  }
+
+  @Test
+  public void shouldNotPrefetchAfterEmptyBatch() throws Exception {
+    // given
+    final ImportBatchPrefetcher prefetcher = prefetcher(2);
+
+    // when
+    prefetcher.read(new Cursor(true, 8));
+    runSubmittedReads();
+
+    // then - the batch after sequence 10 is empty
+    assertEquals(List.of(new Cursor(true, 8), new Cursor(true, 10)), reads);
+  }
+
+  @Test
+  public void shouldReadAgainInsteadOfEmptyPrefetchedBatch() throws Exception {
+    // given
+    final ImportBatchPrefetcher prefetcher = prefetcher(2);
+    prefetcher.read(new Cursor(true, 8));
+    runSubmittedReads();
+    batches.put(10L, batch(11));
+
+    // when
+    final ImportBatch batch = prefetcher.read(new Cursor(true, 10));
+
+    // then - the prefetched batch after sequence 10 was empty
+    assertSame(batches.get(10L), batch);
+    assertEquals(List.of(new Cursor(true, 8), new Cursor(true, 10), new Cursor(true, 10)), reads);
+  }
+
+  @Test
+  public void shouldWaitForDiscardedReadInFlight() throws Exception {
+    // given - a prefetched read is in flight
+    final CountDownLatch prefetchStarted = new CountDownLatch(1);
+    final CountDownLatch prefetchReleased = new CountDownLatch(1);
+    final AtomicInteger concurrentReads = new AtomicInteger();
+    final AtomicInteger maxConcurrentReads = new AtomicInteger();
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final ImportBatchPrefetcher prefetcher =
+        new ImportBatchPrefetcher(
+            cursor -> {
+              maxConcurrentReads.accumulateAndGet(concurrentReads.incrementAndGet(), Math::max);
+              try {
+                if (cursor.value() == 2 && prefetchStarted.getCount() > 0) {
+                  prefetchStarted.countDown();
+                  prefetchReleased.await();
+                }
+                return batches.get(cursor.value());
+              } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+              } finally {
+                concurrentReads.decrementAndGet();
+              }
+            },
+            executor,
+            1,
+            batchSizeThrottle,
+            Duration.ZERO,
+            new ObjectMapper());
+    prefetcher.read(new Cursor(true, 0));
+    prefetchStarted.await();
+    CompletableFuture.runAsync(
+        prefetchReleased::countDown, CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+
+    // when - the reader reads the first batch again
+    final ImportBatch batch = prefetcher.read(new Cursor(true, 0));
+    executor.shutdown();
+    executor.awaitTermination(5, TimeUnit.SECONDS);
+
+    // then
+    assertSame(batches.get(0L), batch);
+    assertEquals(1, maxConcurrentReads.get());
+  }
+
+  @Test
+  public void shouldContinueByPosition() throws Exception {
+    // given
+    final ImportBatchPrefetcher prefetcher = prefetcher(1);
+
+    // when
+    prefetcher.read(new Cursor(false, 0));
+    runSubmittedReads();
+
+    // then - positions are ten times the sequences, see batch()
+    assertEquals(List.of(new Cursor(false, 0), new Cursor(false, 20)), reads);
+  }
+
+  @Test
+  public void shouldThrottleBatchSizeOnSlowRead() throws Exception {
+    // given
+    final ImportBatchPrefetcher prefetcher = prefetcher(0);
+    readDuration = Duration.ofMillis(20);
+
+    // when
+    prefetcher.read(new Cursor(true, 0));
+
+    // then
+    assertEquals(50, batchSizeThrottle.get());
+  }
+
+  @Test(expected = NoSuchIndexException.class)
+  public void shouldRethrowExceptionOfPrefetchedRead() throws Exception {
+    // given
+    final ImportBatchPrefetcher prefetcher =
+        new ImportBatchPrefetcher(
+            cursor -> {
+              if (cursor.value() > 0) {
+                throw new NoSuchIndexException();
+              }
+              return batches.get(cursor.value());
+            },
+            submittedReads::add,
+            1,
+            batchSizeThrottle,
+            Duration.ZERO,
+            new ObjectMapper());
+    prefetcher.read(new Cursor(true, 0));
+    runSubmittedReads();
+
+    // when
+    prefetcher.read(new Cursor(true, 2));
+  }
+
+  private ImportBatchPrefetcher prefetcher(final int capacity) {
+    return new ImportBatchPrefetcher(
+        this::read,
+        submittedReads::add,
+        capacity,
+        batchSizeThrottle,
+        Duration.ofMillis(10),
+        new ObjectMapper());
+  }
+
+  private ImportBatch read(final Cursor cursor) {
+    reads.add(cursor);
+    if (!readDuration.isZero()) {
+      try {
+        Thread.sleep(readDuration.toMillis());
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    final long sequence = cursor.bySequence() ? cursor.value() : cursor.value() / 10;
+    return batches.getOrDefault(sequence, batch());
+  }
+
+  private void runSubmittedReads() {
+    while (!submittedReads.isEmpty()) {
+      submittedReads.remove(0).run();
+    }
+  }
+
+  private ImportBatch batch(final long... sequences) {
+    final List<HitEntity> hits = new ArrayList<>();
+    for (final long sequence : sequences) {
+      hits.add(
+          new HitEntity()
+              .setSourceAsString(
+                  String.format(
+                      "{\"position\":%d,\"sequence\":%d,\"value\":{}}", sequence * 10, sequence)));
+    }
+    return new ImportBatch(1, ImportValueType.JOB, hits, "index");
+  }
+}
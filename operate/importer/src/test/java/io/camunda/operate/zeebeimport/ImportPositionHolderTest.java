@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.operate.entities.meta.ImportPositionEntity;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.store.ImportStore;
+import io.camunda.operate.util.Either;
+import java.time.Instant;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ImportPositionHolderTest {
+
+  private static final String ALIAS = "operate-variable-8.3.0_alias";
+
+  @Spy private OperateProperties operateProperties = new OperateProperties();
+  @Mock private ImportStore importStore;
+  @Mock private ThreadPoolTaskScheduler importPositionUpdateExecutor;
+  @InjectMocks private ImportPositionHolder importPositionHolder;
+
+  @Before
+  public void setUp() {
+    // run the position updates on the current thread
+    when(importPositionUpdateExecutor.submit(any(Runnable.class)))
+        .thenAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return null;
+            });
+    doAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return null;
+            })
+        .when(importPositionUpdateExecutor)
+        .execute(any(Runnable.class));
+    when(importStore.updateImportPositions(anyList(), anyList())).thenReturn(Either.right(true));
+  }
+
+  @Test
+  public void shouldPersistLatestPositionPerPartitionInOneRequest() {
+    // given
+    importPositionHolder.recordLatestLoadedPosition(position(1, 10));
+    importPositionHolder.recordLatestLoadedPosition(position(1, 20));
+    importPositionHolder.recordLatestLoadedPosition(position(2, 15));
+
+    // when
+    importPositionHolder.updateImportPositions();
+
+    // then
+    final List<ImportPositionEntity> persisted = capturePersistedPositions();
+    assertEquals(2, persisted.size());
+    assertEquals(
+        20L,
+        persisted.stream().filter(p -> p.getPartitionId() == 1).findFirst().get().getPosition());
+  }
+
+  @Test
+  public void shouldNotPersistIfNothingWasImported() {
+    // when
+    importPositionHolder.updateImportPositions();
+
+    // then
+    verify(importStore, never()).updateImportPositions(anyList(), anyList());
+  }
+
+  @Test
+  public void shouldRetryFailedUpdate() {
+    // given
+    when(importStore.updateImportPositions(anyList(), anyList()))
+        .thenReturn(Either.left(new RuntimeException("expected")))
+        .thenReturn(Either.right(true));
+    importPositionHolder.recordLatestLoadedPosition(position(1, 10));
+    importPositionHolder.updateImportPositions();
+
+    // when
+    importPositionHolder.updateImportPositions();
+
+    // then
+    verify(importStore, times(2)).updateImportPositions(anyList(), anyList());
+  }
+
+  @Test
+  public void shouldPersistPendingPositionsOnShutdown() {
+    // given
+    importPositionHolder.recordLatestLoadedPosition(position(1, 10));
+
+    // when
+    importPositionHolder.shutdown();
+
+    // then
+    assertEquals(1, capturePersistedPositions().size());
+    verify(importPositionUpdateExecutor, never()).schedule(any(Runnable.class), any(Instant.class));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<ImportPositionEntity> capturePersistedPositions() {
+    final ArgumentCaptor<List<ImportPositionEntity>> positions =
+        ArgumentCaptor.forClass(List.class);
+    verify(importStore).updateImportPositions(positions.capture(), anyList());
+    return positions.getValue();
+  }
+
+  private ImportPositionEntity position(final int partitionId, final long position) {
+    return new ImportPositionEntity()
+        .setAliasName(ALIAS)
+        .setPartitionId(partitionId)
+        .setPosition(position);
+  }
+}
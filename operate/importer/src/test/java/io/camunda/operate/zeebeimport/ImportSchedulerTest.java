@@ -0,0 +1,247 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.operate.entities.meta.ImportPositionEntity;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.zeebe.ImportValueType;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ImportSchedulerTest {
+
+  private static final int PARTITION_ID = 1;
+
+  private final List<Callable<?>> submittedTasks = new ArrayList<>();
+  private final List<ImportValueType> executedTypes = new ArrayList<>();
+
+  @Spy private OperateProperties operateProperties = new OperateProperties();
+  @Mock private ThreadPoolTaskExecutor importExecutor;
+  @Mock private ImportPositionHolder importPositionHolder;
+  @Mock private RecordsReaderHolder recordsReaderHolder;
+  @InjectMocks private ImportScheduler importScheduler;
+
+  @Before
+  public void setUp() {
+    operateProperties.getImporter().setDependencyAwareScheduling(true);
+    operateProperties.getImporter().setThreadsCount(1);
+    when(importExecutor.submit(any(Callable.class)))
+        .thenAnswer(
+            invocation -> {
+              submittedTasks.add(invocation.getArgument(0));
+              return null;
+            });
+  }
+
+  @Test
+  public void shouldSubmitRightAwayIfDisabled() throws Exception {
+    // given
+    operateProperties.getImporter().setDependencyAwareScheduling(false);
+    givenImportedPosition(ImportValueType.PROCESS_INSTANCE, 0);
+
+    // when
+    importScheduler.submit(task(ImportValueType.INCIDENT, 10));
+    importScheduler.submit(task(ImportValueType.INCIDENT, 20));
+
+    // then
+    runSubmittedTasks();
+    assertEquals(List.of(ImportValueType.INCIDENT, ImportValueType.INCIDENT), executedTypes);
+  }
+
+  @Test
+  public void shouldWaitUntilPrerequisiteIsImported() throws Exception {
+    // given
+    givenImportedPosition(ImportValueType.PROCESS_INSTANCE, 5);
+    importScheduler.submit(task(ImportValueType.INCIDENT, 10));
+    assertEquals(0, submittedTasks.size());
+
+    // when
+    givenImportedPosition(ImportValueType.PROCESS_INSTANCE, 10);
+    importScheduler.recordEmptyRead(
+        PARTITION_ID, ImportValueType.PROCESS, importScheduler.getReadPosition(PARTITION_ID));
+
+    // then
+    runSubmittedTasks();
+    assertEquals(List.of(ImportValueType.INCIDENT), executedTypes);
+  }
+
+  @Test
+  public void shouldNotWaitForPrerequisiteWhichIsCaughtUp() throws Exception {
+    // given - nothing of the prerequisite is pending, but its position is behind
+    givenImportedPosition(ImportValueType.PROCESS_INSTANCE, 5);
+    when(importPositionHolder.getScheduledPosition(
+            ImportValueType.PROCESS_INSTANCE.getAliasTemplate(), PARTITION_ID))
+        .thenReturn(5L);
+    importScheduler.submit(task(ImportValueType.INCIDENT, 10));
+
+    // when
+    final boolean readAgain =
+        importScheduler.recordEmptyRead(
+            PARTITION_ID,
+            ImportValueType.PROCESS_INSTANCE,
+            importScheduler.getReadPosition(PARTITION_ID));
+
+    // then
+    assertFalse(readAgain);
+    runSubmittedTasks();
+    assertEquals(List.of(ImportValueType.INCIDENT), executedTypes);
+  }
+
+  @Test
+  public void shouldNotCountEmptyReadBeforeJobWasRead() {
+    // given - the empty read started before the job's records were read
+    givenImportedPosition(ImportValueType.PROCESS_INSTANCE, 5);
+    final long readPosition = importScheduler.getReadPosition(PARTITION_ID);
+    importScheduler.submit(task(ImportValueType.INCIDENT, 10));
+
+    // when
+    final boolean readAgain =
+        importScheduler.recordEmptyRead(
+            PARTITION_ID, ImportValueType.PROCESS_INSTANCE, readPosition);
+
+    // then
+    assertTrue(readAgain);
+    assertEquals(0, submittedTasks.size());
+  }
+
+  @Test
+  public void shouldCountEmptyReadAfterOtherValueTypeRead() throws Exception {
+    // given - another value type read beyond the job's position before the empty read started
+    givenImportedPosition(ImportValueType.PROCESS_INSTANCE, 5);
+    task(ImportValueType.VARIABLE, 20);
+    final long readPosition = importScheduler.getReadPosition(PARTITION_ID);
+    importScheduler.submit(task(ImportValueType.INCIDENT, 10));
+
+    // when
+    importScheduler.recordEmptyRead(PARTITION_ID, ImportValueType.PROCESS_INSTANCE, readPosition);
+
+    // then
+    runSubmittedTasks();
+    assertEquals(List.of(ImportValueType.INCIDENT), executedTypes);
+  }
+
+  @Test
+  public void shouldWakeUpReaderOfPrerequisite() {
+    // given
+    givenImportedPosition(ImportValueType.PROCESS_INSTANCE, 5);
+    final RecordsReader reader = mock(RecordsReader.class);
+    when(recordsReaderHolder.getRecordsReader(PARTITION_ID, ImportValueType.PROCESS_INSTANCE))
+        .thenReturn(reader);
+
+    // when
+    importScheduler.submit(task(ImportValueType.INCIDENT, 10));
+
+    // then
+    verify(reader).wakeUp();
+  }
+
+  @Test
+  public void shouldImportIndependentValueTypesRightAway() throws Exception {
+    // given
+    givenImportedPosition(ImportValueType.PROCESS_INSTANCE, 0);
+    operateProperties.getImporter().setThreadsCount(2);
+
+    // when
+    importScheduler.submit(task(ImportValueType.INCIDENT, 10));
+    importScheduler.submit(task(ImportValueType.VARIABLE, 11));
+    importScheduler.submit(task(ImportValueType.JOB, 12));
+
+    // then - the incident waits, the others take both threads
+    runSubmittedTasks();
+    assertEquals(List.of(ImportValueType.VARIABLE, ImportValueType.JOB), executedTypes);
+  }
+
+  @Test
+  public void shouldPreferLargestBacklog() throws Exception {
+    // given - the only thread is busy
+    importScheduler.submit(task(ImportValueType.PROCESS, 1));
+    givenBacklog(ImportValueType.VARIABLE, 10);
+    givenBacklog(ImportValueType.JOB, 1_000);
+    importScheduler.submit(task(ImportValueType.VARIABLE, 2));
+    importScheduler.submit(task(ImportValueType.JOB, 3));
+
+    // when
+    runSubmittedTasks();
+
+    // then
+    assertEquals(
+        List.of(ImportValueType.PROCESS, ImportValueType.JOB, ImportValueType.VARIABLE),
+        executedTypes);
+  }
+
+  @Test
+  public void shouldPreferStarvedTask() throws Exception {
+    // given - the only thread is busy
+    operateProperties.getImporter().setSchedulerStarvationThreshold(0);
+    importScheduler.submit(task(ImportValueType.PROCESS, 1));
+    givenBacklog(ImportValueType.VARIABLE, 10);
+    givenBacklog(ImportValueType.JOB, 1_000);
+    importScheduler.submit(task(ImportValueType.VARIABLE, 2));
+    Thread.sleep(5);
+    importScheduler.submit(task(ImportValueType.JOB, 3));
+
+    // when
+    runSubmittedTasks();
+
+    // then
+    assertEquals(
+        List.of(ImportValueType.PROCESS, ImportValueType.VARIABLE, ImportValueType.JOB),
+        executedTypes);
+  }
+
+  private void givenImportedPosition(final ImportValueType type, final long position) {
+    when(importPositionHolder.getImportedPosition(type.getAliasTemplate(), PARTITION_ID))
+        .thenReturn(position);
+  }
+
+  private void givenBacklog(final ImportValueType type, final long backlog) {
+    when(importPositionHolder.getImportBacklog(eq(type.getAliasTemplate()), anyInt()))
+        .thenReturn(backlog);
+  }
+
+  private void runSubmittedTasks() throws Exception {
+    while (!submittedTasks.isEmpty()) {
+      submittedTasks.remove(0).call();
+    }
+  }
+
+  private Callable<Boolean> task(final ImportValueType type, final long position) {
+    final ImportJob job = mock(ImportJob.class);
+    when(job.getImportBatch()).thenReturn(new ImportBatch(PARTITION_ID, type, List.of(), null));
+    when(job.getLastProcessedPosition())
+        .thenReturn(new ImportPositionEntity().setPosition(position));
+    when(job.getCreationTime()).thenReturn(OffsetDateTime.now());
+    return importScheduler.task(
+        job,
+        () -> {
+          executedTypes.add(type);
+          return true;
+        });
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport.opensearch;
+
+import static org.junit.Assert.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.Test;
+
+public class RawJsonSourceTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  public void shouldKeepSourceAsRawBytes() throws Exception {
+    // given
+    final String source =
+        "{\"position\":12,\"value\":{\"bpmnProcessId\":\"process\",\"tags\":[1,2]},\"key\":null}";
+
+    // when
+    final RawJsonSource rawSource = objectMapper.readValue(source, RawJsonSource.class);
+
+    // then
+    assertEquals(source, new String(rawSource.getBytes(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void shouldOnlyConsumeItsOwnSource() throws Exception {
+    // given
+    final String hits = "[{\"position\":1},{\"position\":2}]";
+
+    // when
+    final List<RawJsonSource> rawSources =
+        List.of(objectMapper.readValue(hits, RawJsonSource[].class));
+
+    // then
+    assertEquals(2, rawSources.size());
+    assertEquals(
+        "{\"position\":2}", new String(rawSources.get(1).getBytes(), StandardCharsets.UTF_8));
+  }
+}
@@ -11,33 +11,54 @@ import static io.camunda.operate.util.ThreadUtil.sleepFor;
 
 import io.camunda.operate.entities.ProcessEntity;
 import io.camunda.operate.entities.ProcessFlowNodeEntity;
+import io.camunda.operate.schema.indices.ProcessIndex;
 import io.camunda.operate.store.ProcessStore;
-import java.util.Iterator;
+import io.camunda.webapps.cache.BoundedCache;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+/**
+ * Caches the names of processes and their flow nodes by process definition key, bounded by the
+ * total number of cached flow nodes. Unknown process definition keys are remembered for a while, so
+ * that lookups of the webapp don't wait for the process to appear every time. The importer doesn't
+ * use them, as it may import the process just after a lookup failed.
+ */
 @Component
 public class ProcessCache {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ProcessCache.class);
-  private static final int CACHE_MAX_SIZE = 100;
+  // total number of cached processes and flow nodes
+  private static final int CACHE_MAX_WEIGHT = 100_000;
+  private static final Duration UNKNOWN_PROCESS_TTL = Duration.ofSeconds(10);
   private static final int MAX_ATTEMPTS = 5;
   private static final long WAIT_TIME = 200;
-  private final Map<Long, ProcessEntity> cache = new ConcurrentHashMap<>();
+  private static final String[] CACHED_FIELDS = {
+    ProcessIndex.KEY, ProcessIndex.NAME, ProcessIndex.BPMN_PROCESS_ID, ProcessIndex.FLOWNODES
+  };
+
+  private final BoundedCache<Long, CachedProcess> cache =
+      new BoundedCache<>(
+          CACHE_MAX_WEIGHT, process -> 1 + process.flowNodeNames().size(), UNKNOWN_PROCESS_TTL);
+
   @Autowired private ProcessStore processStore;
 
   public String getProcessNameOrDefaultValue(Long processDefinitionKey, String defaultValue) {
-    final ProcessEntity cachedProcessData =
-        getCachedProcessEntity(processDefinitionKey).orElse(null);
+    final CachedProcess cachedProcessData =
+        getCachedProcessEntity(processDefinitionKey, false).orElse(null);
     String processName = defaultValue;
     if (cachedProcessData != null) {
-      processName = cachedProcessData.getName();
+      processName = cachedProcessData.name();
     }
     if (!StringUtils.hasText(processName)) {
       LOGGER.debug("ProcessName is empty, use default value: {} ", defaultValue);
@@ -47,13 +68,13 @@ public class ProcessCache {
   }
 
   public String getProcessNameOrBpmnProcessId(Long processDefinitionKey, String defaultValue) {
-    final ProcessEntity cachedProcessData =
-        getCachedProcessEntity(processDefinitionKey).orElse(null);
+    final CachedProcess cachedProcessData =
+        getCachedProcessEntity(processDefinitionKey, true).orElse(null);
     String processName = null;
     if (cachedProcessData != null) {
-      processName = cachedProcessData.getName();
+      processName = cachedProcessData.name();
       if (processName == null) {
-        processName = cachedProcessData.getBpmnProcessId();
+        processName = cachedProcessData.bpmnProcessId();
       }
     }
     if (!StringUtils.hasText(processName)) {
@@ -65,18 +86,11 @@ public class ProcessCache {
 
   public String getFlowNodeNameOrDefaultValue(
       Long processDefinitionKey, String flowNodeId, String defaultValue) {
-    final ProcessEntity cachedProcessData =
-        getCachedProcessEntity(processDefinitionKey).orElse(null);
+    final CachedProcess cachedProcessData =
+        getCachedProcessEntity(processDefinitionKey, true).orElse(null);
     String flowNodeName = defaultValue;
     if (cachedProcessData != null && flowNodeId != null) {
-      final ProcessFlowNodeEntity flowNodeEntity =
-          cachedProcessData.getFlowNodes().stream()
-              .filter(x -> flowNodeId.equals(x.getId()))
-              .findFirst()
-              .orElse(null);
-      if (flowNodeEntity != null) {
-        flowNodeName = flowNodeEntity.getName();
-      }
+      flowNodeName = cachedProcessData.flowNodeNames().getOrDefault(flowNodeId, defaultValue);
     }
     if (!StringUtils.hasText(flowNodeName)) {
       LOGGER.debug("FlowNodeName is empty, use default value: {} ", defaultValue);
@@ -85,14 +99,42 @@ public class ProcessCache {
     return flowNodeName;
   }
 
-  private Optional<ProcessEntity> getCachedProcessEntity(Long processDefinitionKey) {
-    ProcessEntity cachedProcessData = cache.get(processDefinitionKey);
-    if (cachedProcessData == null) {
+  /**
+   * Loads all given processes, which are not cached yet, with one request, e.g. all processes
+   * referenced by an import batch.
+   */
+  public void prefetch(Collection<Long> processDefinitionKeys) {
+    try {
+      cache.prefetch(
+          processDefinitionKeys,
+          keys ->
+              processStore.getProcessesByKeys(keys, CACHED_FIELDS).entrySet().stream()
+                  .collect(
+                      Collectors.toMap(Map.Entry::getKey, e -> CachedProcess.from(e.getValue()))));
+    } catch (Exception ex) {
+      // missing processes are loaded one by one
+      LOGGER.debug("Unable to prefetch processes: {}", ex.getMessage());
+    }
+  }
+
+  /**
+   * @param rememberUnknown whether a process, which could not be found, is not looked up again for
+   *     a while
+   */
+  private Optional<CachedProcess> getCachedProcessEntity(
+      Long processDefinitionKey, boolean rememberUnknown) {
+    if (processDefinitionKey == null) {
+      return Optional.empty();
+    }
+    CachedProcess cachedProcessData = cache.getIfPresent(processDefinitionKey);
+    if (cachedProcessData == null && !(rememberUnknown && cache.isUnknown(processDefinitionKey))) {
       final Optional<ProcessEntity> processMaybe =
-          findOrWaitProcess(processDefinitionKey, MAX_ATTEMPTS, WAIT_TIME);
+          findOrWait(processDefinitionKey, MAX_ATTEMPTS, WAIT_TIME, this::readCachedFieldsByKey);
       if (processMaybe.isPresent()) {
-        cachedProcessData = processMaybe.get();
-        putToCache(processDefinitionKey, cachedProcessData);
+        cachedProcessData = CachedProcess.from(processMaybe.get());
+        putToCache(processDefinitionKey, processMaybe.get());
+      } else if (rememberUnknown) {
+        cache.markUnknown(processDefinitionKey);
       }
     }
     return Optional.ofNullable(cachedProcessData);
@@ -106,13 +148,32 @@ public class ProcessCache {
     }
   }
 
+  private Optional<ProcessEntity> readCachedFieldsByKey(Long processDefinitionKey) {
+    try {
+      return Optional.ofNullable(
+          processStore
+              .getProcessesByKeys(List.of(processDefinitionKey), CACHED_FIELDS)
+              .get(processDefinitionKey));
+    } catch (Exception ex) {
+      return Optional.empty();
+    }
+  }
+
   public Optional<ProcessEntity> findOrWaitProcess(
       Long processDefinitionKey, int attempts, long sleepInMilliseconds) {
+    return findOrWait(processDefinitionKey, attempts, sleepInMilliseconds, this::readProcessByKey);
+  }
+
+  private Optional<ProcessEntity> findOrWait(
+      Long processDefinitionKey,
+      int attempts,
+      long sleepInMilliseconds,
+      Function<Long, Optional<ProcessEntity>> reader) {
     int attemptsCount = 0;
     Optional<ProcessEntity> foundProcess = Optional.empty();
     while (foundProcess.isEmpty() && attemptsCount < attempts) {
       attemptsCount++;
-      foundProcess = readProcessByKey(processDefinitionKey);
+      foundProcess = reader.apply(processDefinitionKey);
       if (foundProcess.isEmpty()) {
         LOGGER.debug(
             "Unable to find process {}. {} attempts left. Waiting {} ms.",
@@ -132,18 +193,26 @@ public class ProcessCache {
   }
 
   public void putToCache(Long processDefinitionKey, ProcessEntity process) {
-    if (cache.size() >= CACHE_MAX_SIZE) {
-      // remove 1st element
-      final Iterator<Long> iterator = cache.keySet().iterator();
-      if (iterator.hasNext()) {
-        iterator.next();
-        iterator.remove();
-      }
-    }
-    cache.put(processDefinitionKey, process);
+    cache.put(processDefinitionKey, CachedProcess.from(process));
   }
 
   public void clearCache() {
     cache.clear();
   }
+
+  private record CachedProcess(
+      String name, String bpmnProcessId, Map<String, String> flowNodeNames) {
+
+    private static CachedProcess from(ProcessEntity process) {
+      final Map<String, String> flowNodeNames = new HashMap<>();
+      if (process.getFlowNodes() != null) {
+        for (final ProcessFlowNodeEntity flowNode : process.getFlowNodes()) {
+          if (flowNode.getId() != null && flowNode.getName() != null) {
+            flowNodeNames.put(flowNode.getId(), flowNode.getName());
+          }
+        }
+      }
+      return new CachedProcess(process.getName(), process.getBpmnProcessId(), flowNodeNames);
+    }
+  }
 }
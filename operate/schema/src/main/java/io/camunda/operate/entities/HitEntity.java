@@ -7,12 +7,23 @@
  */
 package io.camunda.operate.entities;
 
+import java.nio.charset.StandardCharsets;
+
 public class HitEntity {
   String index;
 
   String sourceAsString;
 
+  /**
+   * The raw UTF-8 encoded source as returned by the search engine. Keeping the bytes allows readers
+   * to parse the source directly, without first materializing it as a string.
+   */
+  byte[] source;
+
   public String getSourceAsString() {
+    if (sourceAsString == null && source != null) {
+      sourceAsString = new String(source, StandardCharsets.UTF_8);
+    }
     return sourceAsString;
   }
 
@@ -21,6 +32,18 @@ public class HitEntity {
     return this;
   }
 
+  public byte[] getSource() {
+    if (source == null && sourceAsString != null) {
+      return sourceAsString.getBytes(StandardCharsets.UTF_8);
+    }
+    return source;
+  }
+
+  public HitEntity setSource(byte[] source) {
+    this.source = source;
+    return this;
+  }
+
   public String getIndex() {
     return index;
   }
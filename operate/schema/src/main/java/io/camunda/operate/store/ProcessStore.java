@@ -32,6 +32,9 @@ public interface ProcessStore {
   Map<Long, ProcessEntity> getProcessesIdsToProcessesWithFields(
       @Nullable Set<String> allowedBPMNIds, int maxSize, String... fields);
 
+  Map<Long, ProcessEntity> getProcessesByKeys(
+      final Collection<Long> processDefinitionKeys, String... fields);
+
   long deleteProcessDefinitionsByKeys(Long... processDefinitionKeys);
 
   /// Process instance methods
@@ -7,8 +7,18 @@
  */
 package io.camunda.operate.store;
 
+import java.util.Map;
+
 public interface ZeebeStore {
   void refreshIndex(String indexPattern);
 
   boolean zeebeIndicesExists(String indexPattern);
+
+  /**
+   * @return the position of the latest exported record per partition id, as published by the Zeebe
+   *     exporter to the given index, or an empty map if the index does not exist (yet)
+   */
+  Map<Integer, Long> getExportedPositions(String index);
+
+  record ExportedPosition(int partitionId, long position) {}
 }
@@ -54,6 +54,7 @@ import io.camunda.operate.util.TreePath;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -341,6 +342,40 @@ public class ElasticsearchProcessStore implements ProcessStore {
     }
   }
 
+  @Override
+  public Map<Long, ProcessEntity> getProcessesByKeys(
+      final Collection<Long> processDefinitionKeys, final String... fields) {
+    final Map<Long, ProcessEntity> map = new HashMap<>();
+    if (processDefinitionKeys.isEmpty()) {
+      return map;
+    }
+
+    final SearchRequest searchRequest =
+        new SearchRequest(processIndex.getAlias())
+            .source(
+                new SearchSourceBuilder()
+                    .query(termsQuery(ProcessIndex.KEY, processDefinitionKeys))
+                    .size(processDefinitionKeys.size())
+                    .fetchSource(fields, null));
+
+    try {
+      final SearchResponse response = tenantAwareClient.search(searchRequest);
+      response
+          .getHits()
+          .forEach(
+              hit -> {
+                final ProcessEntity entity = fromSearchHit(hit.getSourceAsString());
+                map.put(entity.getKey(), entity);
+              });
+      return map;
+    } catch (IOException e) {
+      final String message =
+          String.format("Exception occurred, while obtaining processes: %s", e.getMessage());
+      LOGGER.error(message, e);
+      throw new OperateRuntimeException(message, e);
+    }
+  }
+
   @Override
   public long deleteProcessDefinitionsByKeys(Long... processDefinitionKeys) {
     if (processDefinitionKeys == null || processDefinitionKeys.length == 0) {
@@ -10,13 +10,19 @@ package io.camunda.operate.store.elasticsearch;
 import io.camunda.operate.conditions.ElasticsearchCondition;
 import io.camunda.operate.property.OperateProperties;
 import io.camunda.operate.store.ZeebeStore;
+import io.camunda.operate.util.ElasticsearchUtil;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import org.elasticsearch.action.admin.indices.refresh.RefreshRequest;
 import org.elasticsearch.action.admin.indices.refresh.RefreshResponse;
+import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.support.IndicesOptions;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.client.indices.GetIndexRequest;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -67,4 +73,26 @@ public class ElasticsearchZeebeStore implements ZeebeStore {
       return false;
     }
   }
+
+  @Override
+  public Map<Integer, Long> getExportedPositions(final String index) {
+    final SearchRequest searchRequest =
+        new SearchRequest(index)
+            .source(new SearchSourceBuilder().size(ElasticsearchUtil.QUERY_MAX_SIZE))
+            .indicesOptions(IndicesOptions.lenientExpandOpen())
+            .requestCache(false);
+    final Map<Integer, Long> positions = new HashMap<>();
+    try {
+      for (final SearchHit hit :
+          zeebeEsClient.search(searchRequest, RequestOptions.DEFAULT).getHits().getHits()) {
+        final Map<String, Object> source = hit.getSourceAsMap();
+        positions.put(
+            ((Number) source.get("partitionId")).intValue(),
+            ((Number) source.get("position")).longValue());
+      }
+    } catch (final IOException e) {
+      LOGGER.debug("Unable to read exported positions from {}: {}", index, e.getMessage());
+    }
+    return positions;
+  }
 }
@@ -215,6 +215,25 @@ public class OpensearchProcessStore implements ProcessStore {
         .collect(Collectors.toMap(ProcessEntity::getKey, identity()));
   }
 
+  @Override
+  public Map<Long, ProcessEntity> getProcessesByKeys(
+      final Collection<Long> processDefinitionKeys, final String... fields) {
+    if (processDefinitionKeys.isEmpty()) {
+      return new HashMap<>();
+    }
+    final var searchRequestBuilder =
+        searchRequestBuilder(processIndex.getAlias())
+            .query(withTenantCheck(longTerms(ProcessIndex.KEY, processDefinitionKeys)))
+            .source(sourceInclude(fields))
+            .size(processDefinitionKeys.size());
+
+    return richOpenSearchClient
+        .doc()
+        .searchValues(searchRequestBuilder, ProcessEntity.class)
+        .stream()
+        .collect(Collectors.toMap(ProcessEntity::getKey, identity()));
+  }
+
   @Override
   public long deleteProcessDefinitionsByKeys(Long... processDefinitionKeys) {
     if (CollectionUtil.isEmpty(processDefinitionKeys)) {
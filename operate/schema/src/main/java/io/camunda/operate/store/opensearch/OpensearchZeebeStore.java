@@ -9,7 +9,10 @@ package io.camunda.operate.store.opensearch;
 
 import io.camunda.operate.conditions.OpensearchCondition;
 import io.camunda.operate.store.ZeebeStore;
+import io.camunda.operate.store.opensearch.client.OpenSearchOperation;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,4 +62,25 @@ public class OpensearchZeebeStore implements ZeebeStore {
       return false;
     }
   }
+
+  @Override
+  public Map<Integer, Long> getExportedPositions(final String index) {
+    final Map<Integer, Long> positions = new HashMap<>();
+    try {
+      openSearchClient
+          .search(
+              r ->
+                  r.index(index)
+                      .size(OpenSearchOperation.QUERY_MAX_SIZE)
+                      .ignoreUnavailable(true)
+                      .requestCache(false),
+              ExportedPosition.class)
+          .hits()
+          .hits()
+          .forEach(hit -> positions.put(hit.source().partitionId(), hit.source().position()));
+    } catch (final IOException e) {
+      LOGGER.debug("Unable to read exported positions from {}: {}", index, e.getMessage());
+    }
+    return positions;
+  }
 }
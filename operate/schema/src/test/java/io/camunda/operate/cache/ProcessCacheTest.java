@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.operate.entities.ProcessEntity;
+import io.camunda.operate.entities.ProcessFlowNodeEntity;
+import io.camunda.operate.store.ProcessStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessCacheTest {
+
+  @Mock private ProcessStore processStore;
+  @InjectMocks private ProcessCache processCache;
+
+  @Test
+  void shouldUsePrefetchedProcesses() {
+    // given
+    when(processStore.getProcessesByKeys(eq(Set.of(1L, 2L)), any(String[].class)))
+        .thenReturn(Map.of(1L, process(1L, "one"), 2L, process(2L, "two")));
+
+    // when
+    processCache.prefetch(List.of(1L, 2L, 1L));
+
+    // then
+    assertThat(processCache.getProcessNameOrDefaultValue(1L, "default")).isEqualTo("one");
+    assertThat(processCache.getFlowNodeNameOrDefaultValue(2L, "task", "default"))
+        .isEqualTo("Task of two");
+    verify(processStore, times(1)).getProcessesByKeys(anyCollection(), any(String[].class));
+  }
+
+  @Test
+  void shouldNotPrefetchCachedProcesses() {
+    // given
+    processCache.putToCache(1L, process(1L, "one"));
+
+    // when
+    processCache.prefetch(List.of(1L));
+
+    // then
+    verify(processStore, never()).getProcessesByKeys(anyCollection(), any(String[].class));
+  }
+
+  @Test
+  void shouldRememberUnknownProcess() {
+    // given
+    when(processStore.getProcessesByKeys(eq(List.of(1L)), any(String[].class)))
+        .thenReturn(Map.of());
+    assertThat(processCache.getProcessNameOrBpmnProcessId(1L, "default")).isEqualTo("default");
+
+    // when
+    final String processName = processCache.getProcessNameOrBpmnProcessId(1L, "default");
+
+    // then - the lookup is retried a few times, but only for the first call
+    assertThat(processName).isEqualTo("default");
+    verify(processStore, times(5)).getProcessesByKeys(anyCollection(), any(String[].class));
+  }
+
+  @Test
+  void shouldFindProcessImportedAfterFailedLookup() {
+    // given
+    when(processStore.getProcessesByKeys(eq(List.of(1L)), any(String[].class)))
+        .thenReturn(Map.of())
+        .thenReturn(Map.of())
+        .thenReturn(Map.of())
+        .thenReturn(Map.of())
+        .thenReturn(Map.of())
+        .thenReturn(Map.of(1L, process(1L, "one")));
+    assertThat(processCache.getProcessNameOrDefaultValue(1L, "default")).isEqualTo("default");
+
+    // when
+    final String processName = processCache.getProcessNameOrDefaultValue(1L, "default");
+
+    // then
+    assertThat(processName).isEqualTo("one");
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedProcessWhenTooManyFlowNodesAreCached() {
+    // given
+    processCache.putToCache(1L, process(1L, "one"));
+    processCache.putToCache(2L, process(2L, "two", 99_999));
+    when(processStore.getProcessesByKeys(eq(List.of(1L)), any(String[].class)))
+        .thenReturn(Map.of(1L, process(1L, "one")));
+
+    // when
+    final String processName = processCache.getProcessNameOrDefaultValue(1L, "default");
+
+    // then
+    assertThat(processName).isEqualTo("one");
+    verify(processStore, times(1)).getProcessesByKeys(anyCollection(), any(String[].class));
+  }
+
+  private ProcessEntity process(final long key, final String name) {
+    return process(key, name, 1);
+  }
+
+  private ProcessEntity process(final long key, final String name, final int flowNodeCount) {
+    final List<ProcessFlowNodeEntity> flowNodes = new ArrayList<>();
+    flowNodes.add(new ProcessFlowNodeEntity("task", "Task of " + name));
+    IntStream.range(1, flowNodeCount)
+        .forEach(i -> flowNodes.add(new ProcessFlowNodeEntity("task" + i, "Task " + i)));
+    return new ProcessEntity().setName(name).setFlowNodes(flowNodes).setKey(key);
+  }
+}
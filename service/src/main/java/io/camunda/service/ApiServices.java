@@ -13,6 +13,7 @@ import io.camunda.service.transformers.ServiceTransformers;
 import io.camunda.util.ObjectBuilder;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.msgpack.value.DocumentValue;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import java.util.Map;
@@ -56,21 +57,30 @@ public abstract class ApiServices<T extends ApiServices<T>> {
 
   protected <R> CompletableFuture<R> sendBrokerRequest(final BrokerRequest<R> brokerRequest) {
     brokerRequest.setAuthorization(authentication.token());
-    return brokerClient
-        .sendRequest(brokerRequest)
-        .handleAsync(
-            (response, error) -> {
-              if (error != null) {
-                throw new CamundaServiceException(error);
-              }
-              if (response.isError()) {
-                throw new CamundaServiceException(response.getError());
-              }
-              if (response.isRejection()) {
-                throw new CamundaServiceException(response.getRejection());
-              }
-              return response.getResponse();
-            });
+    return brokerClient.sendRequest(brokerRequest).handleAsync(ApiServices::getResponse);
+  }
+
+  /**
+   * Like {@link #sendBrokerRequest(BrokerRequest)}, but completes the returned future on the thread
+   * which received the broker response, instead of the common pool.
+   */
+  protected <R> CompletableFuture<R> sendBrokerRequestWithoutHandoff(
+      final BrokerRequest<R> brokerRequest) {
+    brokerRequest.setAuthorization(authentication.token());
+    return brokerClient.sendRequest(brokerRequest).handle(ApiServices::getResponse);
+  }
+
+  private static <R> R getResponse(final BrokerResponse<R> response, final Throwable error) {
+    if (error != null) {
+      throw new CamundaServiceException(error);
+    }
+    if (response.isError()) {
+      throw new CamundaServiceException(response.getError());
+    }
+    if (response.isRejection()) {
+      throw new CamundaServiceException(response.getRejection());
+    }
+    return response.getResponse();
   }
 
   protected DirectBuffer getDocumentOrEmpty(final Map<String, Object> value) {
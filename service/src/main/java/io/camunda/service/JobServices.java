@@ -17,12 +17,17 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerThrowErrorRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerUpdateJobRequest;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobsCompletion;
 import io.camunda.zeebe.gateway.impl.job.ResponseObserver;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public final class JobServices<T> extends ApiServices<JobServices<T>> {
 
@@ -96,6 +101,28 @@ public final class JobServices<T> extends ApiServices<JobServices<T>> {
     return sendBrokerRequest(new BrokerCompleteJobRequest(jobKey, getDocumentOrEmpty(variables)));
   }
 
+  /**
+   * Completes each of the given jobs on its own, with a bounded number of them in flight at the
+   * same time, see {@link JobsCompletion}.
+   *
+   * @param resultMapper maps the key of a job and the error why it was not completed, which is
+   *     {@code null} if it was completed, to the result of the job
+   * @return the results of the jobs, in the order of the given jobs
+   */
+  public <R> CompletableFuture<List<R>> completeJobs(
+      final List<CompleteJobRequest> requests, final BiFunction<Long, Throwable, R> resultMapper) {
+    final List<Supplier<CompletionStage<R>>> jobs = new ArrayList<>(requests.size());
+    for (final CompleteJobRequest request : requests) {
+      final var brokerRequest =
+          new BrokerCompleteJobRequest(request.jobKey(), getDocumentOrEmpty(request.variables()));
+      jobs.add(
+          () ->
+              sendBrokerRequestWithoutHandoff(brokerRequest)
+                  .handle((response, error) -> resultMapper.apply(request.jobKey(), error)));
+    }
+    return JobsCompletion.completeJobs(jobs, brokerClient.getTopologyManager().getTopology());
+  }
+
   public CompletableFuture<JobRecord> updateJob(
       final long jobKey, final Integer retries, final Long timeout) {
     return sendBrokerRequest(new BrokerUpdateJobRequest(jobKey, retries, timeout));
@@ -109,4 +136,6 @@ public final class JobServices<T> extends ApiServices<JobServices<T>> {
       String worker,
       List<String> fetchVariable,
       long requestTimeout) {}
+
+  public record CompleteJobRequest(long jobKey, Map<String, Object> variables) {}
 }
@@ -16,6 +16,7 @@ import io.camunda.zeebe.broker.client.api.BrokerResponseConsumer;
 import io.camunda.zeebe.broker.client.api.BrokerResponseException;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
 import io.camunda.zeebe.broker.client.api.IllegalBrokerResponseException;
+import io.camunda.zeebe.broker.client.api.RequestDispatchStrategy;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.protocol.Protocol;
@@ -39,6 +40,8 @@ public final class StubbedBrokerClient implements BrokerClient {
 
   private final List<BrokerRequest<?>> brokerRequests = new ArrayList<>();
 
+  private final RequestDispatchStrategy dispatchStrategy = RequestDispatchStrategy.roundRobin();
+
   public StubbedBrokerClient() {}
 
   @Override
@@ -120,6 +123,11 @@ public final class StubbedBrokerClient implements BrokerClient {
     return topologyManager;
   }
 
+  @Override
+  public RequestDispatchStrategy getDispatchStrategy() {
+    return dispatchStrategy;
+  }
+
   @Override
   public void subscribeJobAvailableNotification(
       final String topic, final Consumer<String> handler) {
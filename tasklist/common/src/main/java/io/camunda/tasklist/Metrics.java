@@ -43,6 +43,7 @@ public class Metrics {
 
   public static final String COUNTER_NAME_CLAIMED_TASKS = "claimed.tasks";
   public static final String COUNTER_NAME_COMPLETED_TASKS = "completed.tasks";
+  public static final String COUNTER_NAME_TASK_QUERY_CACHE = "task.query.cache";
   // Tags
   // -----
   //  Keys:
@@ -53,13 +54,16 @@ public class Metrics {
       TAG_KEY_BPMN_PROCESS_ID = "bpmnProcessId",
       TAG_KEY_FLOW_NODE_ID = "flowNodeId",
       TAG_KEY_USER_ID = "userId",
-      TAG_KEY_ORGANIZATION_ID = "organizationId";
+      TAG_KEY_ORGANIZATION_ID = "organizationId",
+      TAG_KEY_RESULT = "result";
 
   //  Values:
   public static final String TAG_VALUE_PROCESSINSTANCES = "processInstances",
       TAG_VALUE_CORESTATISTICS = "corestatistics",
       TAG_VALUE_SUCCEEDED = "succeeded",
-      TAG_VALUE_FAILED = "failed";
+      TAG_VALUE_FAILED = "failed",
+      TAG_VALUE_HIT = "hit",
+      TAG_VALUE_MISS = "miss";
   private static final Logger LOGGER = LoggerFactory.getLogger(Metrics.class);
   @Autowired private MeterRegistry registry;
 
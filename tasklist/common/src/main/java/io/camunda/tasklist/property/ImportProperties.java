@@ -52,6 +52,20 @@ public class ImportProperties {
 
   private int maxEmptyRuns = DEFAULT_MAX_EMPTY_RUNS;
 
+  /**
+   * Number of batches each records reader reads ahead, while the previous batches are imported. 0
+   * disables reading ahead.
+   */
+  private int prefetchSize = 0;
+
+  /**
+   * Interval (in milliseconds) in which the importer polls the latest exported positions, which the
+   * Zeebe exporter publishes when its index.exportedPosition option is enabled. Readers which back
+   * off because they found no new records are woken up as soon as the position of their partition
+   * advances. 0 disables polling, readers then only back off by readerBackoff.
+   */
+  private int exportedPositionPollInterval = 0;
+
   public boolean isStartLoadingDataOnStartup() {
     return startLoadingDataOnStartup;
   }
@@ -135,4 +149,22 @@ public class ImportProperties {
     this.maxEmptyRuns = maxEmptyRuns;
     return this;
   }
+
+  public int getPrefetchSize() {
+    return prefetchSize;
+  }
+
+  public ImportProperties setPrefetchSize(final int prefetchSize) {
+    this.prefetchSize = prefetchSize;
+    return this;
+  }
+
+  public int getExportedPositionPollInterval() {
+    return exportedPositionPollInterval;
+  }
+
+  public ImportProperties setExportedPositionPollInterval(final int exportedPositionPollInterval) {
+    this.exportedPositionPollInterval = exportedPositionPollInterval;
+    return this;
+  }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.property;
+
+public class TaskQueryCacheProperties {
+
+  /**
+   * Caches the results of task queries, so that identical queries, e.g. the task list polled by
+   * many users of the same candidate group, don't hit the database every time.
+   */
+  private boolean enabled = false;
+
+  /** Maximum number of cached query results, the least recently used ones are evicted first. */
+  private int maxSize = 1000;
+
+  /**
+   * Maximum time in milliseconds a cached result is served. Results are invalidated when tasks are
+   * imported or changed, but only by the importer and webapp of the same Tasklist instance, so this
+   * bounds the staleness of results when they run separately.
+   */
+  private int maxStaleness = 5000;
+
+  /**
+   * Time in milliseconds it takes until changed tasks are visible to queries, i.e. the refresh
+   * interval of the task index. Query results are not cached for this long after an invalidation,
+   * as they may not contain the changes yet.
+   */
+  private int refreshInterval = 1000;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public TaskQueryCacheProperties setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+    return this;
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public TaskQueryCacheProperties setMaxSize(final int maxSize) {
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  public int getMaxStaleness() {
+    return maxStaleness;
+  }
+
+  public TaskQueryCacheProperties setMaxStaleness(final int maxStaleness) {
+    this.maxStaleness = maxStaleness;
+    return this;
+  }
+
+  public int getRefreshInterval() {
+    return refreshInterval;
+  }
+
+  public TaskQueryCacheProperties setRefreshInterval(final int refreshInterval) {
+    this.refreshInterval = refreshInterval;
+    return this;
+  }
+}
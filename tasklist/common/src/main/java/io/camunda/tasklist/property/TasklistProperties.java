@@ -100,6 +100,9 @@ public class TasklistProperties {
   @NestedConfigurationProperty
   private TasklistDocumentationProperties documentation = new TasklistDocumentationProperties();
 
+  @NestedConfigurationProperty
+  private TaskQueryCacheProperties taskQueryCache = new TaskQueryCacheProperties();
+
   public boolean isImporterEnabled() {
     return importerEnabled;
   }
@@ -420,6 +423,15 @@ public class TasklistProperties {
     this.documentation = documentation;
   }
 
+  public TaskQueryCacheProperties getTaskQueryCache() {
+    return taskQueryCache;
+  }
+
+  public TasklistProperties setTaskQueryCache(final TaskQueryCacheProperties taskQueryCache) {
+    this.taskQueryCache = taskQueryCache;
+    return this;
+  }
+
   public String getIndexPrefix() {
     if (database.equals(ELASTIC_SEARCH)) {
       return elasticsearch.getIndexPrefix();
@@ -32,6 +32,10 @@ public class TenantAwareElasticsearchClient {
   @Autowired(required = false)
   private TenantCheckApplier<SearchRequest> tenantCheckApplier;
 
+  public Object getTenantCheckKey() {
+    return tenantCheckApplier == null ? null : tenantCheckApplier.getTenantCheckKey();
+  }
+
   public SearchResponse search(SearchRequest searchRequest) throws IOException {
     return search(searchRequest, () -> defaultClient.search(searchRequest, RequestOptions.DEFAULT));
   }
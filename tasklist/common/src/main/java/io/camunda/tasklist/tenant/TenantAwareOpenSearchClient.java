@@ -31,6 +31,10 @@ public class TenantAwareOpenSearchClient {
   @Autowired(required = false)
   private TenantCheckApplier<SearchRequest.Builder> tenantCheckApplier;
 
+  public Object getTenantCheckKey() {
+    return tenantCheckApplier == null ? null : tenantCheckApplier.getTenantCheckKey();
+  }
+
   public <T> SearchResponse<T> search(SearchRequest.Builder searchRequest, Class<T> objectClass)
       throws IOException {
     return search(searchRequest, () -> defaultClient.search(searchRequest.build(), objectClass));
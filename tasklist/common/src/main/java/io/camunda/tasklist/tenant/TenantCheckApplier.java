@@ -14,4 +14,10 @@ public interface TenantCheckApplier<T> {
   void apply(final T searchRequest);
 
   void apply(final T searchRequest, Collection<String> tenantIds);
+
+  /**
+   * @return what the tenant check of the current request depends on, e.g. to tell apart the cached
+   *     search results of users with access to different tenants
+   */
+  Object getTenantCheckKey();
 }
@@ -8,7 +8,9 @@
 package io.camunda.tasklist.store;
 
 import io.camunda.tasklist.entities.ProcessEntity;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface ProcessStore {
   ProcessEntity getProcessByProcessDefinitionKey(String processDefinitionKey);
@@ -19,6 +21,11 @@ public interface ProcessStore {
 
   ProcessEntity getProcess(String processId);
 
+  /**
+   * @return the processes found for the given ids by id, with only the given fields loaded
+   */
+  Map<String, ProcessEntity> getProcessesByIds(Collection<String> processIds, String... fields);
+
   List<ProcessEntity> getProcesses(
       final List<String> processDefinitions, final String tenantId, final Boolean isStartedByForm);
 
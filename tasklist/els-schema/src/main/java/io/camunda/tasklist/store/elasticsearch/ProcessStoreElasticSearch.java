@@ -20,7 +20,10 @@ import io.camunda.tasklist.tenant.TenantAwareElasticsearchClient;
 import io.camunda.tasklist.util.ElasticsearchUtil;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
@@ -158,6 +161,35 @@ public class ProcessStoreElasticSearch implements ProcessStore {
     return ElasticsearchUtil.fromSearchHit(processString, objectMapper, ProcessEntity.class);
   }
 
+  @Override
+  public Map<String, ProcessEntity> getProcessesByIds(
+      final Collection<String> processIds, final String... fields) {
+    final Map<String, ProcessEntity> processes = new HashMap<>();
+    if (processIds.isEmpty()) {
+      return processes;
+    }
+    final SearchRequest searchRequest =
+        new SearchRequest(processIndex.getAlias())
+            .source(
+                new SearchSourceBuilder()
+                    .query(QueryBuilders.termsQuery(ProcessIndex.KEY, processIds))
+                    .fetchSource(fields, null)
+                    .size(processIds.size()));
+
+    try {
+      final SearchResponse response = tenantAwareClient.search(searchRequest);
+      for (final SearchHit hit : response.getHits().getHits()) {
+        final ProcessEntity process = fromSearchHit(hit.getSourceAsString());
+        processes.put(String.valueOf(process.getKey()), process);
+      }
+      return processes;
+    } catch (IOException e) {
+      final String message =
+          String.format("Exception occurred, while obtaining processes: %s", e.getMessage());
+      throw new TasklistRuntimeException(message, e);
+    }
+  }
+
   public List<ProcessEntity> getProcesses(
       final List<String> processDefinitions, final String tenantId, final Boolean isStartedByForm) {
     final QueryBuilder qb;
@@ -35,6 +35,7 @@ import io.camunda.tasklist.schema.templates.TaskTemplate;
 import io.camunda.tasklist.schema.templates.TaskVariableTemplate;
 import io.camunda.tasklist.store.TaskStore;
 import io.camunda.tasklist.store.VariableStore;
+import io.camunda.tasklist.store.util.TaskQueryResultCache;
 import io.camunda.tasklist.store.util.TaskVariableSearchUtil;
 import io.camunda.tasklist.tenant.TenantAwareElasticsearchClient;
 import io.camunda.tasklist.util.ElasticsearchUtil;
@@ -96,6 +97,8 @@ public class TaskStoreElasticSearch implements TaskStore {
 
   @Autowired private TaskVariableSearchUtil taskVariableSearchUtil;
 
+  @Autowired private TaskQueryResultCache taskQueryResultCache;
+
   @Autowired private TaskTemplate taskTemplate;
 
   @Autowired private VariableStore variableStoreElasticSearch;
@@ -184,6 +187,11 @@ public class TaskStoreElasticSearch implements TaskStore {
 
   @Override
   public List<TaskSearchView> getTasks(TaskQuery query) {
+    return taskQueryResultCache.get(
+        query, tenantAwareClient.getTenantCheckKey(), () -> searchTasks(query));
+  }
+
+  private List<TaskSearchView> searchTasks(final TaskQuery query) {
     final List<TaskSearchView> response = queryTasks(query);
 
     // query one additional instance
@@ -588,6 +596,7 @@ public class TaskStoreElasticSearch implements TaskStore {
       // we're OK with not updating the task here, it will be marked as completed within import
       LOGGER.error(e.getMessage(), e);
     }
+    taskQueryResultCache.invalidate(taskBefore);
     return completedTask;
   }
 
@@ -624,6 +633,7 @@ public class TaskStoreElasticSearch implements TaskStore {
     } catch (Exception e) {
       LOGGER.error("Error when trying to rollback Task to CREATED state: {}", e.getMessage());
     }
+    taskQueryResultCache.invalidate(taskBefore);
     return completedTask;
   }
 
@@ -631,6 +641,7 @@ public class TaskStoreElasticSearch implements TaskStore {
   public TaskEntity persistTaskClaim(TaskEntity taskBefore, String assignee) {
 
     updateTask(taskBefore.getId(), asMap(TaskTemplate.ASSIGNEE, assignee));
+    taskQueryResultCache.invalidate(taskBefore);
 
     return taskBefore.makeCopy().setAssignee(assignee);
   }
@@ -638,6 +649,7 @@ public class TaskStoreElasticSearch implements TaskStore {
   @Override
   public TaskEntity persistTaskUnclaim(TaskEntity task) {
     updateTask(task.getId(), asMap(TaskTemplate.ASSIGNEE, null));
+    taskQueryResultCache.invalidate(task);
     return task.makeCopy().setAssignee(null);
   }
 
@@ -20,6 +20,9 @@ import io.camunda.tasklist.tenant.TenantAwareOpenSearchClient;
 import io.camunda.tasklist.util.OpenSearchUtil;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -186,6 +189,42 @@ public class ProcessStoreOpenSearch implements ProcessStore {
     }
   }
 
+  @Override
+  public Map<String, ProcessEntity> getProcessesByIds(
+      final Collection<String> processIds, final String... fields) {
+    final Map<String, ProcessEntity> processes = new HashMap<>();
+    if (processIds.isEmpty()) {
+      return processes;
+    }
+    try {
+      final var searchRequestBuilder =
+          new SearchRequest.Builder()
+              .index(List.of(processIndex.getAlias()))
+              .query(
+                  q ->
+                      q.terms(
+                          terms ->
+                              terms
+                                  .field(ProcessIndex.KEY)
+                                  .terms(
+                                      t ->
+                                          t.value(
+                                              processIds.stream().map(FieldValue::of).toList()))))
+              .source(s -> s.filter(f -> f.includes(Arrays.asList(fields))))
+              .size(processIds.size());
+      final SearchResponse<ProcessEntity> response =
+          tenantAwareClient.search(searchRequestBuilder, ProcessEntity.class);
+      response.hits().hits().stream()
+          .map(hit -> hit.source())
+          .forEach(process -> processes.put(String.valueOf(process.getKey()), process));
+      return processes;
+    } catch (IOException e) {
+      final String message =
+          String.format("Exception occurred, while obtaining processes: %s", e.getMessage());
+      throw new TasklistRuntimeException(message, e);
+    }
+  }
+
   @Override
   public List<ProcessEntity> getProcesses(
       final List<String> processDefinitions, final String tenantId, final Boolean isStartedByForm) {
@@ -31,6 +31,7 @@ import io.camunda.tasklist.schema.templates.TaskTemplate;
 import io.camunda.tasklist.schema.templates.TaskVariableTemplate;
 import io.camunda.tasklist.store.TaskStore;
 import io.camunda.tasklist.store.VariableStore;
+import io.camunda.tasklist.store.util.TaskQueryResultCache;
 import io.camunda.tasklist.store.util.TaskVariableSearchUtil;
 import io.camunda.tasklist.tenant.TenantAwareOpenSearchClient;
 import io.camunda.tasklist.util.OpenSearchUtil;
@@ -100,6 +101,8 @@ public class TaskStoreOpenSearch implements TaskStore {
 
   @Autowired private TaskVariableSearchUtil taskVariableSearchUtil;
 
+  @Autowired private TaskQueryResultCache taskQueryResultCache;
+
   @Override
   public TaskEntity getTask(final String id) {
     try {
@@ -150,6 +153,11 @@ public class TaskStoreOpenSearch implements TaskStore {
 
   @Override
   public List<TaskSearchView> getTasks(TaskQuery query) {
+    return taskQueryResultCache.get(
+        query, tenantAwareClient.getTenantCheckKey(), () -> searchTasks(query));
+  }
+
+  private List<TaskSearchView> searchTasks(final TaskQuery query) {
     final List<TaskSearchView> response = queryTasks(query);
 
     // query one additional instance
@@ -718,6 +726,7 @@ public class TaskStoreOpenSearch implements TaskStore {
       // we're OK with not updating the task here, it will be marked as completed within import
       LOGGER.error(e.getMessage(), e);
     }
+    taskQueryResultCache.invalidate(taskBefore);
     return completedTask;
   }
 
@@ -754,6 +763,7 @@ public class TaskStoreOpenSearch implements TaskStore {
       // we're OK with not updating the task here, it will be marked as completed within import
       LOGGER.error(e.getMessage(), e);
     }
+    taskQueryResultCache.invalidate(taskBefore);
     return completedTask;
   }
 
@@ -761,6 +771,7 @@ public class TaskStoreOpenSearch implements TaskStore {
   public TaskEntity persistTaskClaim(TaskEntity taskBefore, String assignee) {
 
     updateTask(taskBefore.getId(), asMap(TaskTemplate.ASSIGNEE, assignee));
+    taskQueryResultCache.invalidate(taskBefore);
 
     return taskBefore.makeCopy().setAssignee(assignee);
   }
@@ -768,6 +779,7 @@ public class TaskStoreOpenSearch implements TaskStore {
   @Override
   public TaskEntity persistTaskUnclaim(TaskEntity task) {
     updateTask(task.getId(), asMap(TaskTemplate.ASSIGNEE, null));
+    taskQueryResultCache.invalidate(task);
     return task.makeCopy().setAssignee(null);
   }
 
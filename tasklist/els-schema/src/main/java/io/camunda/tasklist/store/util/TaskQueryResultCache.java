@@ -0,0 +1,230 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.store.util;
+
+import io.camunda.tasklist.Metrics;
+import io.camunda.tasklist.entities.TaskEntity;
+import io.camunda.tasklist.property.TaskQueryCacheProperties;
+import io.camunda.tasklist.property.TasklistProperties;
+import io.camunda.tasklist.queries.TaskByCandidateUserOrGroup;
+import io.camunda.tasklist.queries.TaskQuery;
+import io.camunda.tasklist.views.TaskSearchView;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the results of task queries by the normalized query and the tenant check of the current
+ * user, see {@link TaskQueryCacheProperties}.
+ *
+ * <p>Results of queries restricted to candidate groups are invalidated when tasks of one of these
+ * groups change, all other results are invalidated when any task changes. As changes only become
+ * visible to queries after the next index refresh, results of queries which started less than the
+ * refresh interval after an invalidation are not cached. Queries filtering by task variables are
+ * not cached, as variable changes don't invalidate anything.
+ */
+@Component
+public class TaskQueryResultCache {
+
+  private final Map<Key, CachedResult> results = new LinkedHashMap<>(16, 0.75f, true);
+  // when tasks of a candidate group were invalidated last
+  private final Map<String, Long> groupInvalidations = new HashMap<>();
+  private long lastInvalidation = Long.MIN_VALUE;
+  private long lastFullInvalidation = Long.MIN_VALUE;
+
+  private Clock clock = Clock.systemUTC();
+
+  @Autowired private TasklistProperties tasklistProperties;
+
+  @Autowired private Metrics metrics;
+
+  public boolean isEnabled() {
+    return tasklistProperties.getTaskQueryCache().isEnabled();
+  }
+
+  /**
+   * @return the cached result of the query, or the result of the given search, which is cached
+   */
+  public List<TaskSearchView> get(
+      final TaskQuery query,
+      final Object tenantCheckKey,
+      final Supplier<List<TaskSearchView>> search) {
+    if (!isEnabled() || isFilteredByVariables(query)) {
+      return search.get();
+    }
+
+    final TaskQueryCacheProperties properties = tasklistProperties.getTaskQueryCache();
+    final Key key = new Key(normalize(query), tenantCheckKey);
+    final long start = clock.millis();
+    synchronized (this) {
+      final CachedResult cached = results.get(key);
+      if (cached != null && start - cached.created() < properties.getMaxStaleness()) {
+        metrics.recordCounts(
+            Metrics.COUNTER_NAME_TASK_QUERY_CACHE,
+            1,
+            Metrics.TAG_KEY_RESULT,
+            Metrics.TAG_VALUE_HIT);
+        return new ArrayList<>(cached.tasks());
+      }
+    }
+
+    metrics.recordCounts(
+        Metrics.COUNTER_NAME_TASK_QUERY_CACHE, 1, Metrics.TAG_KEY_RESULT, Metrics.TAG_VALUE_MISS);
+    final List<TaskSearchView> tasks = search.get();
+    synchronized (this) {
+      if (!isInvalidatedSince(key.candidateGroups(), start - properties.getRefreshInterval())) {
+        results.put(key, new CachedResult(List.copyOf(tasks), start));
+        while (results.size() > properties.getMaxSize()) {
+          results.remove(results.keySet().iterator().next());
+        }
+      }
+    }
+    return tasks;
+  }
+
+  /**
+   * Invalidates the results which may contain tasks of the given candidate groups, or tasks without
+   * candidate groups if none are given.
+   */
+  public synchronized void invalidate(final Collection<String> candidateGroups) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    final long now = clock.millis();
+    lastInvalidation = now;
+    if (candidateGroups != null) {
+      candidateGroups.forEach(group -> groupInvalidations.put(group, now));
+    }
+    removeExpiredInvalidations(now);
+
+    final Iterator<Key> keys = results.keySet().iterator();
+    while (keys.hasNext()) {
+      final Set<String> groups = keys.next().candidateGroups();
+      if (groups == null
+          || (candidateGroups != null && candidateGroups.stream().anyMatch(groups::contains))) {
+        keys.remove();
+      }
+    }
+  }
+
+  /** Invalidates the results which may contain the given task. */
+  public void invalidate(final TaskEntity task) {
+    invalidate(task.getCandidateGroups() == null ? null : Arrays.asList(task.getCandidateGroups()));
+  }
+
+  /**
+   * Invalidates all results, e.g. if the previous candidate groups of changed tasks are unknown.
+   */
+  public synchronized void invalidateAll() {
+    if (!isEnabled()) {
+      return;
+    }
+
+    final long now = clock.millis();
+    lastInvalidation = now;
+    lastFullInvalidation = now;
+    groupInvalidations.clear();
+    results.clear();
+  }
+
+  private boolean isInvalidatedSince(final Set<String> candidateGroups, final long since) {
+    if (candidateGroups == null) {
+      return lastInvalidation >= since;
+    }
+    return lastFullInvalidation >= since
+        || candidateGroups.stream()
+            .map(groupInvalidations::get)
+            .anyMatch(invalidation -> invalidation != null && invalidation >= since);
+  }
+
+  private void removeExpiredInvalidations(final long now) {
+    // results of queries which started before are stale anyway
+    final TaskQueryCacheProperties properties = tasklistProperties.getTaskQueryCache();
+    final long expired = now - properties.getMaxStaleness() - properties.getRefreshInterval();
+    groupInvalidations.values().removeIf(invalidation -> invalidation < expired);
+  }
+
+  private static boolean isFilteredByVariables(final TaskQuery query) {
+    return query.getTaskVariables() != null && query.getTaskVariables().length > 0;
+  }
+
+  /** Copies the query with the filters, which don't depend on the order, sorted. */
+  private static TaskQuery normalize(final TaskQuery query) {
+    final TaskByCandidateUserOrGroup byCandidateUserOrGroups =
+        query.getTaskByCandidateUserOrGroups() == null
+            ? null
+            : query
+                .getTaskByCandidateUserOrGroups()
+                .createCopy()
+                .setUserGroups(sorted(query.getTaskByCandidateUserOrGroups().getUserGroups()));
+    return new TaskQuery()
+        .setState(query.getState())
+        .setAssigned(query.getAssigned())
+        .setAssignee(query.getAssignee())
+        .setAssignees(sorted(query.getAssignees()))
+        .setTaskDefinitionId(query.getTaskDefinitionId())
+        .setCandidateGroup(query.getCandidateGroup())
+        .setCandidateGroups(sorted(query.getCandidateGroups()))
+        .setCandidateUser(query.getCandidateUser())
+        .setCandidateUsers(sorted(query.getCandidateUsers()))
+        .setProcessDefinitionId(query.getProcessDefinitionId())
+        .setProcessInstanceId(query.getProcessInstanceId())
+        .setPageSize(query.getPageSize())
+        .setTenantIds(sorted(query.getTenantIds()))
+        .setSearchAfter(query.getSearchAfter())
+        .setSearchAfterOrEqual(query.getSearchAfterOrEqual())
+        .setSearchBefore(query.getSearchBefore())
+        .setSearchBeforeOrEqual(query.getSearchBeforeOrEqual())
+        .setFollowUpDate(query.getFollowUpDate())
+        .setDueDate(query.getDueDate())
+        .setSort(query.getSort())
+        .setTaskByCandidateUserOrGroups(byCandidateUserOrGroups)
+        .setImplementation(query.getImplementation());
+  }
+
+  private static String[] sorted(final String[] values) {
+    if (values == null) {
+      return null;
+    }
+    final String[] sorted = values.clone();
+    Arrays.sort(sorted);
+    return sorted;
+  }
+
+  /**
+   * @return the candidate groups all tasks of the query's result belong to, or null if they may
+   *     belong to any or no group
+   */
+  private static Set<String> getCandidateGroups(final TaskQuery query) {
+    if (query.getCandidateGroup() != null) {
+      return Set.of(query.getCandidateGroup());
+    } else if (query.getCandidateGroups() != null) {
+      return Set.copyOf(Arrays.asList(query.getCandidateGroups()));
+    }
+    return null;
+  }
+
+  private record Key(TaskQuery query, Object tenantCheckKey) {
+    private Set<String> candidateGroups() {
+      return getCandidateGroups(query);
+    }
+  }
+
+  private record CachedResult(List<TaskSearchView> tasks, long created) {}
+}
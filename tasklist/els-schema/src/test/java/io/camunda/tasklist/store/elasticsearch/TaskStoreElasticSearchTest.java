@@ -24,6 +24,7 @@ import io.camunda.tasklist.entities.TaskState;
 import io.camunda.tasklist.property.TasklistProperties;
 import io.camunda.tasklist.queries.TaskQuery;
 import io.camunda.tasklist.schema.templates.TaskTemplate;
+import io.camunda.tasklist.store.util.TaskQueryResultCache;
 import io.camunda.tasklist.tenant.TenantAwareElasticsearchClient;
 import io.camunda.tasklist.views.TaskSearchView;
 import java.io.IOException;
@@ -57,11 +58,15 @@ class TaskStoreElasticSearchTest {
 
   @Spy private ObjectMapper objectMapper = CommonUtils.OBJECT_MAPPER;
 
+  @Spy private TaskQueryResultCache taskQueryResultCache = new TaskQueryResultCache();
+
   @InjectMocks private TaskStoreElasticSearch instance;
 
   @BeforeEach
   public void setUp() {
     ReflectionTestUtils.setField(taskTemplate, "tasklistProperties", new TasklistProperties());
+    ReflectionTestUtils.setField(
+        taskQueryResultCache, "tasklistProperties", new TasklistProperties());
   }
 
   @ParameterizedTest
@@ -0,0 +1,199 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.store.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.tasklist.Metrics;
+import io.camunda.tasklist.entities.TaskState;
+import io.camunda.tasklist.property.TasklistProperties;
+import io.camunda.tasklist.queries.TaskByVariables;
+import io.camunda.tasklist.queries.TaskQuery;
+import io.camunda.tasklist.views.TaskSearchView;
+import java.time.Clock;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TaskQueryResultCacheTest {
+
+  private static final Object TENANT_CHECK_KEY = "tenant_a";
+
+  private final AtomicInteger searches = new AtomicInteger();
+
+  @Spy private TasklistProperties tasklistProperties = new TasklistProperties();
+
+  @Mock private Metrics metrics;
+
+  @Mock private Clock clock;
+
+  @InjectMocks private TaskQueryResultCache instance;
+
+  @BeforeEach
+  void setUp() {
+    tasklistProperties
+        .getTaskQueryCache()
+        .setEnabled(true)
+        .setMaxStaleness(5000)
+        .setRefreshInterval(1000);
+    when(clock.millis()).thenReturn(10_000L);
+  }
+
+  @Test
+  void shouldServeIdenticalQueryFromCache() {
+    // given
+    get(groupQuery("group_a", "group_b"));
+
+    // when - the filters are given in a different order
+    final List<TaskSearchView> result = get(groupQuery("group_b", "group_a"));
+
+    // then
+    assertThat(result).hasSize(1);
+    assertThat(searches).hasValue(1);
+    verify(metrics)
+        .recordCounts(
+            Metrics.COUNTER_NAME_TASK_QUERY_CACHE,
+            1,
+            Metrics.TAG_KEY_RESULT,
+            Metrics.TAG_VALUE_HIT);
+  }
+
+  @Test
+  void shouldNotShareResultsBetweenTenantChecks() {
+    // given
+    get(groupQuery("group_a"));
+
+    // when
+    instance.get(groupQuery("group_a"), "tenant_b", this::search);
+
+    // then
+    assertThat(searches).hasValue(2);
+  }
+
+  @Test
+  void shouldNotServeResultAfterMaxStaleness() {
+    // given
+    get(groupQuery("group_a"));
+
+    // when
+    when(clock.millis()).thenReturn(15_000L);
+    get(groupQuery("group_a"));
+
+    // then
+    assertThat(searches).hasValue(2);
+  }
+
+  @Test
+  void shouldInvalidateResultsOfAffectedCandidateGroups() {
+    // given
+    get(groupQuery("group_a"));
+    get(groupQuery("group_b"));
+    get(new TaskQuery().setState(TaskState.CREATED).setPageSize(50));
+    when(clock.millis()).thenReturn(20_000L);
+    tasklistProperties.getTaskQueryCache().setMaxStaleness(60_000);
+
+    // when
+    instance.invalidate(Set.of("group_a"));
+    get(groupQuery("group_a"));
+    get(groupQuery("group_b"));
+    get(new TaskQuery().setState(TaskState.CREATED).setPageSize(50));
+
+    // then - the results of group_a and of the unrestricted query were searched again
+    assertThat(searches).hasValue(5);
+  }
+
+  @Test
+  void shouldNotCacheResultsRightAfterInvalidation() {
+    // given
+    instance.invalidate(Set.of("group_a"));
+
+    // when - within the refresh interval
+    when(clock.millis()).thenReturn(10_500L);
+    get(groupQuery("group_a"));
+    get(groupQuery("group_a"));
+    get(groupQuery("group_b"));
+    get(groupQuery("group_b"));
+
+    // then - only the result of group_b was cached
+    assertThat(searches).hasValue(3);
+  }
+
+  @Test
+  void shouldNotCacheQueriesByVariables() {
+    // given
+    final TaskQuery query =
+        groupQuery("group_a")
+            .setTaskVariables(new TaskByVariables[] {new TaskByVariables().setName("var")});
+
+    // when
+    get(query);
+    get(query);
+
+    // then
+    assertThat(searches).hasValue(2);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedResult() {
+    // given
+    tasklistProperties.getTaskQueryCache().setMaxSize(2);
+    get(groupQuery("group_a"));
+    get(groupQuery("group_b"));
+    get(groupQuery("group_a"));
+
+    // when
+    get(groupQuery("group_c"));
+    get(groupQuery("group_a"));
+    get(groupQuery("group_b"));
+
+    // then - group_b was evicted
+    assertThat(searches).hasValue(4);
+  }
+
+  @Test
+  void shouldNotCacheIfDisabled() {
+    // given
+    tasklistProperties.getTaskQueryCache().setEnabled(false);
+
+    // when
+    get(groupQuery("group_a"));
+    get(groupQuery("group_a"));
+
+    // then
+    assertThat(searches).hasValue(2);
+  }
+
+  private List<TaskSearchView> get(final TaskQuery query) {
+    return instance.get(query, TENANT_CHECK_KEY, this::search);
+  }
+
+  private List<TaskSearchView> search() {
+    searches.incrementAndGet();
+    return List.of(new TaskSearchView().setId(String.valueOf(searches.get())));
+  }
+
+  private static TaskQuery groupQuery(final String... candidateGroups) {
+    return new TaskQuery()
+        .setState(TaskState.CREATED)
+        .setCandidateGroups(candidateGroups)
+        .setPageSize(50);
+  }
+}
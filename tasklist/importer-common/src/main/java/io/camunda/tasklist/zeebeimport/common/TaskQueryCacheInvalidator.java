@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.zeebeimport.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.tasklist.store.util.TaskQueryResultCache;
+import io.camunda.tasklist.zeebe.ImportValueType;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates the cached task query results, which may contain tasks changed by an imported batch,
+ * see {@link TaskQueryResultCache}. Only the results of the candidate groups of the imported tasks
+ * are invalidated, unless the candidate groups of a task were changed.
+ */
+@Component
+public class TaskQueryCacheInvalidator {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskQueryCacheInvalidator.class);
+
+  private static final String USER_TASK_JOB_TYPE = "io.camunda.zeebe:userTask";
+  private static final String CANDIDATE_GROUPS_HEADER_NAME = "io.camunda.zeebe:candidateGroups";
+  private static final String CANDIDATE_GROUPS_ATTRIBUTE = "candidateGroupsList";
+
+  @Autowired private TaskQueryResultCache taskQueryResultCache;
+
+  @Autowired
+  @Qualifier("tasklistObjectMapper")
+  private ObjectMapper objectMapper;
+
+  /**
+   * @param records the imported records, only read if the batch may have changed tasks
+   */
+  public void invalidate(final ImportValueType valueType, final Supplier<List<JsonNode>> records) {
+    if (!taskQueryResultCache.isEnabled()) {
+      return;
+    }
+
+    switch (valueType) {
+      case JOB, USER_TASK -> {
+        try {
+          final Set<String> candidateGroups = getCandidateGroups(valueType, records.get());
+          if (candidateGroups == null) {
+            taskQueryResultCache.invalidateAll();
+          } else {
+            taskQueryResultCache.invalidate(candidateGroups);
+          }
+        } catch (final Exception e) {
+          LOGGER.debug("Candidate groups of imported tasks can't be read: {}", e.getMessage());
+          taskQueryResultCache.invalidateAll();
+        }
+      }
+      // deleted process definitions delete their tasks
+      case PROCESS -> taskQueryResultCache.invalidateAll();
+      default -> {}
+    }
+  }
+
+  /**
+   * @return the candidate groups of all imported tasks, or null if they are not known
+   */
+  private Set<String> getCandidateGroups(
+      final ImportValueType valueType, final List<JsonNode> records) throws Exception {
+    final Set<String> candidateGroups = new HashSet<>();
+    for (final JsonNode record : records) {
+      final JsonNode value = record.path("value");
+      if (valueType == ImportValueType.JOB) {
+        if (!USER_TASK_JOB_TYPE.equals(value.path("type").asText())) {
+          continue;
+        }
+        final JsonNode header = value.path("customHeaders").path(CANDIDATE_GROUPS_HEADER_NAME);
+        if (header.isTextual()) {
+          candidateGroups.addAll(List.of(objectMapper.readValue(header.asText(), String[].class)));
+        }
+      } else {
+        for (final JsonNode changedAttribute : value.path("changedAttributes")) {
+          if (CANDIDATE_GROUPS_ATTRIBUTE.equals(changedAttribute.asText())) {
+            // the task may have left other groups
+            return null;
+          }
+        }
+        value
+            .path(CANDIDATE_GROUPS_ATTRIBUTE)
+            .forEach(group -> candidateGroups.add(group.asText()));
+      }
+    }
+    return candidateGroups;
+  }
+}
@@ -7,11 +7,14 @@
  */
 package io.camunda.tasklist.zeebeimport.es;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.tasklist.Metrics;
 import io.camunda.tasklist.exceptions.PersistenceException;
 import io.camunda.tasklist.util.ElasticsearchUtil;
 import io.camunda.tasklist.zeebeimport.ImportBatch;
 import io.camunda.tasklist.zeebeimport.ImportBatchProcessor;
+import io.camunda.tasklist.zeebeimport.common.TaskQueryCacheInvalidator;
 import java.util.concurrent.Callable;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.client.RestHighLevelClient;
@@ -26,6 +29,12 @@ public abstract class AbstractImportBatchProcessorElasticSearch implements Impor
 
   @Autowired private Metrics metrics;
 
+  @Autowired private TaskQueryCacheInvalidator taskQueryCacheInvalidator;
+
+  @Autowired
+  @Qualifier("tasklistObjectMapper")
+  private ObjectMapper objectMapper;
+
   @Override
   public void performImport(ImportBatch importBatchElasticSearch) throws PersistenceException {
     final BulkRequest bulkRequest = new BulkRequest();
@@ -39,6 +48,13 @@ public abstract class AbstractImportBatchProcessorElasticSearch implements Impor
     } catch (Exception e) {
       throw new PersistenceException(e);
     }
+    taskQueryCacheInvalidator.invalidate(
+        importBatchElasticSearch.getImportValueType(),
+        () ->
+            ElasticsearchUtil.mapSearchHits(
+                importBatchElasticSearch.getHits(),
+                objectMapper,
+                objectMapper.constructType(JsonNode.class)));
   }
 
   private void withTimer(Callable<Void> callable) throws Exception {
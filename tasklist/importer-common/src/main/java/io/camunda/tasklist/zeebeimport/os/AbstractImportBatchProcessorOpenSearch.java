@@ -7,11 +7,14 @@
  */
 package io.camunda.tasklist.zeebeimport.os;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.tasklist.Metrics;
 import io.camunda.tasklist.exceptions.PersistenceException;
 import io.camunda.tasklist.util.OpenSearchUtil;
 import io.camunda.tasklist.zeebeimport.ImportBatch;
 import io.camunda.tasklist.zeebeimport.ImportBatchProcessor;
+import io.camunda.tasklist.zeebeimport.common.TaskQueryCacheInvalidator;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -29,6 +32,12 @@ public abstract class AbstractImportBatchProcessorOpenSearch implements ImportBa
 
   @Autowired private Metrics metrics;
 
+  @Autowired private TaskQueryCacheInvalidator taskQueryCacheInvalidator;
+
+  @Autowired
+  @Qualifier("tasklistObjectMapper")
+  private ObjectMapper objectMapper;
+
   @Override
   public void performImport(ImportBatch importBatch) throws PersistenceException {
     final List<BulkOperation> operations = new ArrayList<BulkOperation>();
@@ -43,6 +52,11 @@ public abstract class AbstractImportBatchProcessorOpenSearch implements ImportBa
     } catch (Exception e) {
       throw new PersistenceException(e);
     }
+    taskQueryCacheInvalidator.invalidate(
+        importBatch.getImportValueType(),
+        () ->
+            OpenSearchUtil.mapSearchHits(
+                importBatch.getHits(), objectMapper, objectMapper.constructType(JsonNode.class)));
   }
 
   private void withTimer(Callable<Void> callable) throws Exception {
@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.zeebeimport;
+
+import io.camunda.tasklist.property.TasklistProperties;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Polls the positions of the latest exported records, which the Zeebe exporter publishes per
+ * partition, and wakes up the records readers of a partition as soon as its position advances. New
+ * records are then imported right away, instead of after the reader backoff.
+ *
+ * <p>The record indices may be refreshed later than the exported position index, so the readers of
+ * a partition are woken up once more on the following poll, in case they found nothing the first
+ * time.
+ */
+public abstract class ExportedPositionWatcherAbstract {
+
+  /** Appended to the Zeebe index prefix, as by the exporter's RecordIndexRouter. */
+  public static final String EXPORTED_POSITION_INDEX_SUFFIX = "_exported-position";
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(ExportedPositionWatcherAbstract.class);
+
+  @Autowired protected TasklistProperties tasklistProperties;
+
+  @Autowired private RecordsReaderHolder recordsReaderHolder;
+
+  @Autowired
+  @Qualifier("tasklistRecordsReaderThreadPoolExecutor")
+  private ThreadPoolTaskScheduler readersExecutor;
+
+  private final Map<Integer, Long> exportedPositions = new HashMap<>();
+  private Set<Integer> previouslyAdvancedPartitions = new HashSet<>();
+
+  public void start() {
+    final int pollInterval = tasklistProperties.getImporter().getExportedPositionPollInterval();
+    if (pollInterval > 0) {
+      LOGGER.info("INIT: Poll exported positions every {} ms", pollInterval);
+      readersExecutor.scheduleWithFixedDelay(this::poll, Duration.ofMillis(pollInterval));
+    }
+  }
+
+  protected synchronized void poll() {
+    try {
+      final Set<Integer> advancedPartitions = new HashSet<>();
+      readExportedPositions()
+          .forEach(
+              (partitionId, position) -> {
+                final Long previousPosition = exportedPositions.put(partitionId, position);
+                if (previousPosition != null && position > previousPosition) {
+                  advancedPartitions.add(partitionId);
+                }
+              });
+
+      final Set<Integer> partitionsToWakeUp = new HashSet<>(advancedPartitions);
+      partitionsToWakeUp.addAll(previouslyAdvancedPartitions);
+      previouslyAdvancedPartitions = advancedPartitions;
+
+      if (!partitionsToWakeUp.isEmpty()) {
+        recordsReaderHolder.getAllRecordsReaders().stream()
+            .filter(reader -> partitionsToWakeUp.contains(reader.getPartitionId()))
+            .forEach(RecordsReader::wakeUp);
+      }
+    } catch (final Exception e) {
+      // the readers keep backing off as usual
+      LOGGER.warn("Error occurred while polling exported positions: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * @return the position of the latest exported record per partition id, or an empty map if the
+   *     exporter did not publish any position (yet)
+   */
+  protected abstract Map<Integer, Long> readExportedPositions() throws Exception;
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.zeebeimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.tasklist.exceptions.NoSuchIndexException;
+import io.camunda.tasklist.exceptions.TasklistRuntimeException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Reads the next import batches of one records reader ahead, while the previous ones are imported.
+ *
+ * <p>Each prefetched read continues from the last record of the batch before it, so prefetched
+ * reads are chained, never run concurrently to each other, and at most {@code capacity} batches are
+ * held. A batch is only handed out if it continues from the cursor the reader asks for, i.e. from
+ * the reader's latest scheduled position. Otherwise, e.g. after an import job could not be
+ * scheduled, all prefetched batches are discarded and the batch is read again. A prefetched read
+ * that did not start yet when the reader needs it runs on the reader's thread, so waiting for it
+ * can't exhaust the thread pool. A discarded read which is already running is waited for before the
+ * batch is read again, so that reads never overlap, and the reader's state needs no further
+ * synchronization.
+ *
+ * <p>An empty prefetched batch is never handed out, since new records may have been exported in the
+ * meantime; the batch is read again instead.
+ */
+public class ImportBatchPrefetcher {
+
+  private final BatchReader batchReader;
+  private final Executor executor;
+  private final int capacity;
+  private final ObjectMapper objectMapper;
+
+  private final Deque<Prefetch> prefetches = new ArrayDeque<>();
+  // the end of the chain if nothing is prefetched
+  private Cursor lastCursor;
+  private ImportBatch lastBatch;
+
+  public ImportBatchPrefetcher(
+      final BatchReader batchReader,
+      final Executor executor,
+      final int capacity,
+      final ObjectMapper objectMapper) {
+    this.batchReader = batchReader;
+    this.executor = executor;
+    this.capacity = capacity;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * @return the batch which follows the given cursor, taken from the prefetched batches if possible
+   */
+  public ImportBatch read(final Cursor cursor) throws NoSuchIndexException {
+    final Prefetch prefetch;
+    final List<Prefetch> discarded;
+    synchronized (this) {
+      final Prefetch head = prefetches.peekFirst();
+      if (head != null && head.cursor().equals(cursor)) {
+        prefetch = prefetches.pollFirst();
+        discarded = List.of();
+      } else {
+        prefetch = null;
+        discarded = discard();
+      }
+    }
+
+    discarded.forEach(Prefetch::awaitDiscarded);
+    final ImportBatch prefetched = prefetch == null ? null : prefetch.await();
+    // nothing is prefetched after an empty batch, so no read is in flight anymore
+    final ImportBatch batch = isEmpty(prefetched) ? batchReader.read(cursor) : prefetched;
+    synchronized (this) {
+      lastCursor = cursor;
+      lastBatch = batch;
+      extend();
+    }
+    return batch;
+  }
+
+  /**
+   * Discards all prefetched batches, e.g. because the reader's position was reset.
+   *
+   * @return the discarded prefetches, which must be waited for before reading again
+   */
+  private List<Prefetch> discard() {
+    final List<Prefetch> discarded = new ArrayList<>(prefetches);
+    prefetches.clear();
+    lastCursor = null;
+    lastBatch = null;
+    discarded.forEach(Prefetch::discard);
+    return discarded;
+  }
+
+  private void extend() {
+    if (prefetches.size() >= capacity) {
+      return;
+    }
+
+    final Prefetch tail = prefetches.peekLast();
+    final Cursor next;
+    if (tail == null) {
+      next = nextCursor(lastCursor, lastBatch);
+    } else if (tail.isDone()) {
+      next = nextCursor(tail.cursor(), tail.batchOrNull());
+    } else {
+      // extended again once the tail is read
+      return;
+    }
+
+    if (next != null) {
+      final Prefetch prefetch = new Prefetch(next);
+      prefetches.addLast(prefetch);
+      executor.execute(prefetch::run);
+    }
+  }
+
+  private boolean isEmpty(final ImportBatch batch) {
+    return batch == null || batch.getHits() == null || batch.getHits().isEmpty();
+  }
+
+  private Cursor nextCursor(final Cursor cursor, final ImportBatch batch) {
+    if (cursor == null || isEmpty(batch)) {
+      // nothing new to read yet, the reader backs off
+      return null;
+    }
+
+    final long value =
+        cursor.bySequence()
+            ? batch.getLastProcessedSequence(objectMapper)
+            : batch.getLastProcessedPosition(objectMapper);
+    return value > 0 ? new Cursor(cursor.bySequence(), value) : null;
+  }
+
+  /** Where to continue reading from: after the given sequence, or after the given position. */
+  public record Cursor(boolean bySequence, long value) {}
+
+  @FunctionalInterface
+  public interface BatchReader {
+    ImportBatch read(Cursor cursor) throws NoSuchIndexException;
+  }
+
+  private final class Prefetch {
+    private final Cursor cursor;
+    private final FutureTask<ImportBatch> task;
+    private volatile boolean discarded;
+
+    private Prefetch(final Cursor cursor) {
+      this.cursor = cursor;
+      task =
+          new FutureTask<>(() -> discarded ? null : batchReader.read(cursor)) {
+            @Override
+            protected void done() {
+              synchronized (ImportBatchPrefetcher.this) {
+                if (prefetches.contains(Prefetch.this)) {
+                  extend();
+                }
+              }
+            }
+          };
+    }
+
+    private Cursor cursor() {
+      return cursor;
+    }
+
+    private void run() {
+      task.run();
+    }
+
+    private void discard() {
+      discarded = true;
+    }
+
+    private void awaitDiscarded() {
+      // a read which did not start yet returns right away
+      task.run();
+      try {
+        task.get();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (final ExecutionException e) {
+        // the batch is read again anyway
+      }
+    }
+
+    private boolean isDone() {
+      return task.isDone();
+    }
+
+    private ImportBatch batchOrNull() {
+      try {
+        return task.isDone() ? task.get() : null;
+      } catch (final InterruptedException | ExecutionException e) {
+        return null;
+      }
+    }
+
+    private ImportBatch await() throws NoSuchIndexException {
+      // runs the read on the current thread, unless it is already running or done
+      task.run();
+      try {
+        return task.get();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new TasklistRuntimeException("Interrupted while reading import batch", e);
+      } catch (final ExecutionException e) {
+        if (e.getCause() instanceof final NoSuchIndexException noSuchIndex) {
+          throw noSuchIndex;
+        } else if (e.getCause() instanceof final RuntimeException runtimeException) {
+          throw runtimeException;
+        }
+        throw new TasklistRuntimeException(e.getCause().getMessage(), e.getCause());
+      }
+    }
+  }
+}
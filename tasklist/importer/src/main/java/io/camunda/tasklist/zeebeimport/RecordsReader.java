@@ -27,6 +27,12 @@ public interface RecordsReader extends Runnable {
 
   BlockingQueue<Callable<Boolean>> getImportJobs();
 
+  /**
+   * Runs the reader right away if it is currently backing off because it found no new data, e.g.
+   * because new records were exported for its partition.
+   */
+  void wakeUp();
+
   ImportBatch readNextBatchByPositionAndPartition(long positionFrom, Long positionTo)
       throws NoSuchIndexException;
 
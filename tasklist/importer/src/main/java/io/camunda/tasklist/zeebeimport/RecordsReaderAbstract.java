@@ -9,6 +9,7 @@ package io.camunda.tasklist.zeebeimport;
 
 import static io.camunda.tasklist.util.ThreadUtil.sleepFor;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.tasklist.Metrics;
 import io.camunda.tasklist.entities.meta.ImportPositionEntity;
 import io.camunda.tasklist.exceptions.NoSuchIndexException;
@@ -16,7 +17,9 @@ import io.camunda.tasklist.exceptions.TasklistRuntimeException;
 import io.camunda.tasklist.property.TasklistProperties;
 import io.camunda.tasklist.schema.indices.ImportPositionIndex;
 import io.camunda.tasklist.zeebe.ImportValueType;
+import io.camunda.tasklist.zeebeimport.ImportBatchPrefetcher.Cursor;
 import io.camunda.zeebe.protocol.Protocol;
+import jakarta.annotation.PostConstruct;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
@@ -24,6 +27,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +52,7 @@ public abstract class RecordsReaderAbstract implements RecordsReader, Runnable {
   protected int countEmptyRuns;
   @Autowired private ImportPositionHolder importPositionHolder;
   @Autowired private BeanFactory beanFactory;
+  @Autowired private ObjectMapper objectMapper;
 
   @Autowired
   @Qualifier("tasklistRecordsReaderThreadPoolExecutor")
@@ -62,6 +67,10 @@ public abstract class RecordsReaderAbstract implements RecordsReader, Runnable {
   private boolean ongoingRescheduling;
   private final BlockingQueue<Callable<Boolean>> importJobs;
   private Callable<Boolean> active;
+  private ImportBatchPrefetcher prefetcher;
+
+  /** The next run, while the reader backs off because there was no new data, guarded by this. */
+  private ScheduledFuture<?> scheduledIdleRun;
 
   public RecordsReaderAbstract(
       final int partitionId, final ImportValueType importValueType, final int queueSize) {
@@ -73,6 +82,16 @@ public abstract class RecordsReaderAbstract implements RecordsReader, Runnable {
     maxPossibleSequence = Protocol.encodePartitionId(partitionId + 1, 0) - 1;
   }
 
+  @PostConstruct
+  private void initPrefetcher() {
+    prefetcher =
+        new ImportBatchPrefetcher(
+            this::readNextBatch,
+            readersExecutor,
+            tasklistProperties.getImporter().getPrefetchSize(),
+            objectMapper);
+  }
+
   @Override
   public void run() {
     readAndScheduleNextBatch();
@@ -89,10 +108,10 @@ public abstract class RecordsReaderAbstract implements RecordsReader, Runnable {
               importValueType.getAliasTemplate(), partitionId);
       if (!useOnlyPosition && latestPosition != null && latestPosition.getSequence() > 0) {
         LOGGER.debug("Use import for {} ( {} ) by sequence", importValueType.name(), partitionId);
-        importBatch = readNextBatchBySequence(latestPosition.getSequence());
+        importBatch = prefetcher.read(new Cursor(true, latestPosition.getSequence()));
       } else {
         LOGGER.debug("Use import for {} ( {} ) by position", importValueType.name(), partitionId);
-        importBatch = readNextBatchByPositionAndPartition(latestPosition.getPosition(), null);
+        importBatch = prefetcher.read(new Cursor(false, latestPosition.getPosition()));
       }
       Integer nextRunDelay = null;
       if (importBatch.getHits().size() == 0) {
@@ -174,16 +193,34 @@ public abstract class RecordsReaderAbstract implements RecordsReader, Runnable {
     return importJobs;
   }
 
+  private ImportBatch readNextBatch(final Cursor cursor) throws NoSuchIndexException {
+    return cursor.bySequence()
+        ? readNextBatchBySequence(cursor.value())
+        : readNextBatchByPositionAndPartition(cursor.value(), null);
+  }
+
   private ImportJob createImportJob(
       final ImportPositionEntity latestPosition, final ImportBatch importBatch) {
     return beanFactory.getBean(ImportJob.class, importBatch, latestPosition);
   }
 
-  private void rescheduleReader(final Integer readerDelay) {
+  @Override
+  public synchronized void wakeUp() {
+    // only a run which did not start yet can be cancelled, so the reader never runs twice
+    if (scheduledIdleRun != null && scheduledIdleRun.cancel(false)) {
+      scheduledIdleRun = null;
+      readersExecutor.submit(this);
+    }
+  }
+
+  private synchronized void rescheduleReader(final Integer readerDelay) {
     if (readerDelay != null) {
-      readersExecutor.schedule(
-          this, OffsetDateTime.now().plus(readerDelay, ChronoUnit.MILLIS).toInstant());
+      // the reader only backs off if there was no new data
+      scheduledIdleRun =
+          readersExecutor.schedule(
+              this, OffsetDateTime.now().plus(readerDelay, ChronoUnit.MILLIS).toInstant());
     } else {
+      scheduledIdleRun = null;
       readersExecutor.submit(this);
     }
   }
@@ -31,6 +31,8 @@ public class ZeebeImporter {
 
   @Autowired private RecordsReaderHolder recordsReaderHolder;
 
+  @Autowired private ExportedPositionWatcherAbstract exportedPositionWatcher;
+
   @Autowired
   @Qualifier("tasklistRecordsReaderThreadPoolExecutor")
   private ThreadPoolTaskScheduler readersExecutor;
@@ -39,6 +41,7 @@ public class ZeebeImporter {
   public void startImportingData() {
     if (tasklistProperties.getImporter().isStartLoadingDataOnStartup()) {
       scheduleReaders();
+      exportedPositionWatcher.start();
     }
   }
 
@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.zeebeimport.es;
+
+import io.camunda.tasklist.data.conditionals.ElasticSearchCondition;
+import io.camunda.tasklist.zeebeimport.ExportedPositionWatcherAbstract;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.support.IndicesOptions;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+@Component
+@Conditional(ElasticSearchCondition.class)
+public class ExportedPositionWatcherElasticSearch extends ExportedPositionWatcherAbstract {
+
+  // far more than the number of partitions
+  private static final int MAX_PARTITIONS = 10_000;
+
+  @Autowired
+  @Qualifier("tasklistZeebeEsClient")
+  private RestHighLevelClient zeebeEsClient;
+
+  @Override
+  protected Map<Integer, Long> readExportedPositions() throws IOException {
+    final String index =
+        tasklistProperties.getZeebeElasticsearch().getPrefix() + EXPORTED_POSITION_INDEX_SUFFIX;
+    final SearchRequest searchRequest =
+        new SearchRequest(index)
+            .source(new SearchSourceBuilder().size(MAX_PARTITIONS))
+            .indicesOptions(IndicesOptions.lenientExpandOpen())
+            .requestCache(false);
+
+    final Map<Integer, Long> positions = new HashMap<>();
+    for (final SearchHit hit :
+        zeebeEsClient.search(searchRequest, RequestOptions.DEFAULT).getHits().getHits()) {
+      final Map<String, Object> source = hit.getSourceAsMap();
+      positions.put(
+          ((Number) source.get("partitionId")).intValue(),
+          ((Number) source.get("position")).longValue());
+    }
+    return positions;
+  }
+}
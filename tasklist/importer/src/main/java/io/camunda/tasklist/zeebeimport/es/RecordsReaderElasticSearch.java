@@ -26,15 +26,17 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Callable;
 import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.search.ClosePointInTimeRequest;
+import org.elasticsearch.action.search.OpenPointInTimeRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
-import org.elasticsearch.action.search.SearchScrollRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.RangeQueryBuilder;
 import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.builder.PointInTimeBuilder;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.sort.SortOrder;
 import org.slf4j.Logger;
@@ -96,36 +98,61 @@ public class RecordsReaderElasticSearch extends RecordsReaderAbstract {
         partitionId, importValueType, Arrays.asList(hits), indexName);
   }
 
-  private SearchHit[] read(final SearchRequest searchRequest, final boolean scrollNeeded)
+  private SearchHit[] read(final SearchRequest searchRequest, final boolean pagingNeeded)
       throws IOException {
-    String scrollId = null;
+    if (pagingNeeded) {
+      return readPages(searchRequest);
+    }
+    return zeebeEsClient.search(searchRequest, RequestOptions.DEFAULT).getHits().getHits();
+  }
+
+  /**
+   * Reads all hits page by page, using search after on a point in time. Unlike a scroll, this keeps
+   * no search context with prepared results per page in Elasticsearch, and each page continues
+   * right after the sort value of the previous one.
+   */
+  private SearchHit[] readPages(final SearchRequest searchRequest) throws IOException {
+    final TimeValue keepAlive = TimeValue.timeValueMillis(SCROLL_KEEP_ALIVE_MS);
+    final SearchSourceBuilder source = searchRequest.source();
+    String pointInTimeId =
+        zeebeEsClient
+            .openPointInTime(
+                new OpenPointInTimeRequest(searchRequest.indices())
+                    .keepAlive(keepAlive)
+                    .routing(searchRequest.routing()),
+                RequestOptions.DEFAULT)
+            .getPointInTimeId();
     try {
       final List<SearchHit> searchHits = new ArrayList<>();
+      SearchHit[] hits;
+      do {
+        source.pointInTimeBuilder(new PointInTimeBuilder(pointInTimeId).setKeepAlive(keepAlive));
+        // the point in time determines the indices and routing of the search
+        final SearchResponse response =
+            zeebeEsClient.search(
+                new SearchRequest().source(source).requestCache(false), RequestOptions.DEFAULT);
 
-      if (scrollNeeded) {
-        searchRequest.scroll(TimeValue.timeValueMillis(SCROLL_KEEP_ALIVE_MS));
-      }
-      SearchResponse response = zeebeEsClient.search(searchRequest, RequestOptions.DEFAULT);
-
-      searchHits.addAll(List.of(response.getHits().getHits()));
-
-      if (scrollNeeded) {
-        scrollId = response.getScrollId();
-        do {
-          final SearchScrollRequest scrollRequest = new SearchScrollRequest(scrollId);
-          scrollRequest.scroll(TimeValue.timeValueMillis(SCROLL_KEEP_ALIVE_MS));
-
-          response = zeebeEsClient.scroll(scrollRequest, RequestOptions.DEFAULT);
-
-          scrollId = response.getScrollId();
-          searchHits.addAll(List.of(response.getHits().getHits()));
-        } while (response.getHits().getHits().length != 0);
-      }
+        hits = response.getHits().getHits();
+        searchHits.addAll(List.of(hits));
+        if (hits.length > 0) {
+          source.searchAfter(hits[hits.length - 1].getSortValues());
+        }
+        if (response.pointInTimeId() != null) {
+          pointInTimeId = response.pointInTimeId();
+        }
+      } while (hits.length == source.size());
       return searchHits.toArray(new SearchHit[0]);
     } finally {
-      if (scrollId != null) {
-        clearScroll(scrollId, zeebeEsClient);
-      }
+      closePointInTime(pointInTimeId);
+    }
+  }
+
+  private void closePointInTime(final String pointInTimeId) {
+    try {
+      zeebeEsClient.closePointInTime(
+          new ClosePointInTimeRequest(pointInTimeId), RequestOptions.DEFAULT);
+    } catch (final Exception e) {
+      LOGGER.warn("Error occurred when closing the point in time with id [{}]", pointInTimeId, e);
     }
   }
 
@@ -177,7 +204,8 @@ public class RecordsReaderElasticSearch extends RecordsReaderAbstract {
       maxNumberOfHits = (int) ((toSequence - fromSequence) * 2);
       lessThanEqualsSequence = toSequence;
       LOGGER.debug(
-          "Import batch reread was called. Data type {}, partitionId {}, sequence {}, lastSequence {}, maxNumberOfHits {}.",
+          "Import batch reread was called. Data type {}, partitionId {}, sequence {}, lastSequence"
+              + " {}, maxNumberOfHits {}.",
           importValueType,
           partitionId,
           fromSequence,
@@ -189,7 +217,8 @@ public class RecordsReaderElasticSearch extends RecordsReaderAbstract {
         lessThanEqualsSequence = maxPossibleSequence;
         countEmptyRuns = 0;
         LOGGER.debug(
-            "Max empty runs reached. Data type {}, partitionId {}, sequence {}, lastSequence {}, maxNumberOfHits {}.",
+            "Max empty runs reached. Data type {}, partitionId {}, sequence {}, lastSequence {},"
+                + " maxNumberOfHits {}.",
             importValueType,
             partitionId,
             fromSequence,
@@ -264,7 +293,8 @@ public class RecordsReaderElasticSearch extends RecordsReaderAbstract {
           searchSourceBuilder.size(tasklistProperties.getZeebeElasticsearch().getBatchSize());
     } else {
       LOGGER.debug(
-          "Import batch reread was called. Data type {}, partitionId {}, positionFrom {}, positionTo {}.",
+          "Import batch reread was called. Data type {}, partitionId {}, positionFrom {},"
+              + " positionTo {}.",
           importValueType,
           partitionId,
           positionFrom,
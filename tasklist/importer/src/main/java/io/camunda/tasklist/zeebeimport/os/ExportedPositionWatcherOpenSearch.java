@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.zeebeimport.os;
+
+import io.camunda.tasklist.data.conditionals.OpenSearchCondition;
+import io.camunda.tasklist.zeebeimport.ExportedPositionWatcherAbstract;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+@Component
+@Conditional(OpenSearchCondition.class)
+public class ExportedPositionWatcherOpenSearch extends ExportedPositionWatcherAbstract {
+
+  // far more than the number of partitions
+  private static final int MAX_PARTITIONS = 10_000;
+
+  @Autowired
+  @Qualifier("tasklistZeebeOsClient")
+  private OpenSearchClient zeebeOsClient;
+
+  @Override
+  protected Map<Integer, Long> readExportedPositions() throws IOException {
+    final String index =
+        tasklistProperties.getZeebeOpenSearch().getPrefix() + EXPORTED_POSITION_INDEX_SUFFIX;
+
+    final Map<Integer, Long> positions = new HashMap<>();
+    zeebeOsClient
+        .search(
+            r -> r.index(index).size(MAX_PARTITIONS).ignoreUnavailable(true).requestCache(false),
+            ExportedPosition.class)
+        .hits()
+        .hits()
+        .forEach(hit -> positions.put(hit.source().partitionId(), hit.source().position()));
+    return positions;
+  }
+
+  record ExportedPosition(int partitionId, long position) {}
+}
@@ -8,7 +8,6 @@
 package io.camunda.tasklist.zeebeimport.os;
 
 import static io.camunda.tasklist.util.OpenSearchUtil.QUERY_MAX_SIZE;
-import static io.camunda.tasklist.util.OpenSearchUtil.SCROLL_KEEP_ALIVE_MS;
 import static org.springframework.beans.factory.config.BeanDefinition.SCOPE_PROTOTYPE;
 
 import io.camunda.tasklist.Metrics;
@@ -25,16 +24,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.FieldSort;
 import org.opensearch.client.opensearch._types.FieldValue;
 import org.opensearch.client.opensearch._types.OpenSearchException;
 import org.opensearch.client.opensearch._types.SortOrder;
-import org.opensearch.client.opensearch._types.Time;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
 import org.opensearch.client.opensearch._types.query_dsl.RangeQuery;
-import org.opensearch.client.opensearch.core.ScrollRequest;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.SearchResponse;
 import org.opensearch.client.opensearch.core.search.Hit;
@@ -94,38 +92,35 @@ public class RecordsReaderOpenSearch extends RecordsReaderAbstract {
     return new ImportBatchOpenSearch(partitionId, importValueType, Arrays.asList(hits), indexName);
   }
 
-  private Hit[] read(final SearchRequest.Builder searchRequest, final boolean scrollNeeded)
+  private Hit[] read(
+      final Supplier<SearchRequest.Builder> searchRequest, final boolean pagingNeeded)
       throws IOException {
-    String scrollId = null;
-    try {
-
-      if (scrollNeeded) {
-        searchRequest.scroll(Time.of(t -> t.time(SCROLL_KEEP_ALIVE_MS)));
-      }
-      SearchResponse<Object> response = zeebeOsClient.search(searchRequest.build(), Object.class);
-
-      final List<Hit> searchHits = new ArrayList<>(response.hits().hits());
-
-      if (scrollNeeded) {
-        scrollId = response.scrollId();
-        do {
-          final ScrollRequest scrollRequest =
-              new ScrollRequest.Builder()
-                  .scrollId(scrollId)
-                  .scroll(Time.of(t -> t.time(SCROLL_KEEP_ALIVE_MS)))
-                  .build();
+    if (!pagingNeeded) {
+      return zeebeOsClient
+          .search(searchRequest.get().build(), Object.class)
+          .hits()
+          .hits()
+          .toArray(new Hit[0]);
+    }
 
-          response = zeebeOsClient.scroll(scrollRequest, Object.class);
-          scrollId = response.scrollId();
-          searchHits.addAll(response.hits().hits());
-        } while (response.hits().hits().size() != 0);
+    // Page by searching after the sort value of the previous page, which unlike a scroll keeps no
+    // search context. The pages are consistent without a point in time, as the records of a
+    // partition are routed to one shard, sorted by a unique value and only appended.
+    final List<Hit> searchHits = new ArrayList<>();
+    List<String> searchAfter = null;
+    List<Hit<Object>> hits;
+    do {
+      final SearchRequest.Builder page = searchRequest.get();
+      if (searchAfter != null) {
+        page.searchAfter(searchAfter);
       }
-      return searchHits.toArray(new Hit[0]);
-    } finally {
-      if (scrollId != null) {
-        OpenSearchUtil.clearScroll(scrollId, zeebeOsClient);
+      hits = zeebeOsClient.search(page.build(), Object.class).hits().hits();
+      searchHits.addAll(hits);
+      if (!hits.isEmpty()) {
+        searchAfter = hits.get(hits.size() - 1).sort();
       }
-    }
+    } while (hits.size() == QUERY_MAX_SIZE);
+    return searchHits.toArray(new Hit[0]);
   }
 
   @Override
@@ -176,7 +171,8 @@ public class RecordsReaderOpenSearch extends RecordsReaderAbstract {
       maxNumberOfHits = (int) ((toSequence - fromSequence) * 2);
       lessThanEqualsSequence = toSequence;
       LOGGER.debug(
-          "Import batch reread was called. Data type {}, partitionId {}, sequence {}, lastSequence {}, maxNumberOfHits {}.",
+          "Import batch reread was called. Data type {}, partitionId {}, sequence {}, lastSequence"
+              + " {}, maxNumberOfHits {}.",
           importValueType,
           partitionId,
           fromSequence,
@@ -188,7 +184,8 @@ public class RecordsReaderOpenSearch extends RecordsReaderAbstract {
         lessThanEqualsSequence = maxPossibleSequence;
         countEmptyRuns = 0;
         LOGGER.debug(
-            "Max empty runs reached. Data type {}, partitionId {}, sequence {}, lastSequence {}, maxNumberOfHits {}.",
+            "Max empty runs reached. Data type {}, partitionId {}, sequence {}, lastSequence {},"
+                + " maxNumberOfHits {}.",
             importValueType,
             partitionId,
             fromSequence,
@@ -199,25 +196,26 @@ public class RecordsReaderOpenSearch extends RecordsReaderAbstract {
       }
     }
 
-    final SearchRequest.Builder searchRequest =
-        new SearchRequest.Builder()
-            .sort(
-                s ->
-                    s.field(
-                        FieldSort.of(
-                            f -> f.field(ImportPositionIndex.SEQUENCE).order(SortOrder.Asc))))
-            .query(
-                q ->
-                    q.range(
-                        range ->
-                            range
-                                .field(ImportPositionIndex.SEQUENCE)
-                                .gt(JsonData.of(fromSequence))
-                                .lte(JsonData.of(lessThanEqualsSequence))))
-            .size(maxNumberOfHits >= QUERY_MAX_SIZE ? QUERY_MAX_SIZE : maxNumberOfHits)
-            .routing(String.valueOf(partitionId))
-            .requestCache(false)
-            .index(aliasName);
+    final Supplier<SearchRequest.Builder> searchRequest =
+        () ->
+            new SearchRequest.Builder()
+                .sort(
+                    s ->
+                        s.field(
+                            FieldSort.of(
+                                f -> f.field(ImportPositionIndex.SEQUENCE).order(SortOrder.Asc))))
+                .query(
+                    q ->
+                        q.range(
+                            range ->
+                                range
+                                    .field(ImportPositionIndex.SEQUENCE)
+                                    .gt(JsonData.of(fromSequence))
+                                    .lte(JsonData.of(lessThanEqualsSequence))))
+                .size(maxNumberOfHits >= QUERY_MAX_SIZE ? QUERY_MAX_SIZE : maxNumberOfHits)
+                .routing(String.valueOf(partitionId))
+                .requestCache(false)
+                .index(aliasName);
 
     try {
       final Hit[] hits =
@@ -275,7 +273,8 @@ public class RecordsReaderOpenSearch extends RecordsReaderAbstract {
       searchRequestBuilder.size(tasklistProperties.getZeebeOpenSearch().getBatchSize());
     } else {
       LOGGER.debug(
-          "Import batch reread was called. Data type {}, partitionId {}, positionFrom {}, positionTo {}.",
+          "Import batch reread was called. Data type {}, partitionId {}, positionFrom {},"
+              + " positionTo {}.",
           importValueType,
           partitionId,
           positionFrom,
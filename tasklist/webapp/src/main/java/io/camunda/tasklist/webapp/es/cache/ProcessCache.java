@@ -9,33 +9,51 @@ package io.camunda.tasklist.webapp.es.cache;
 
 import io.camunda.tasklist.entities.ProcessEntity;
 import io.camunda.tasklist.exceptions.TasklistRuntimeException;
+import io.camunda.tasklist.schema.indices.ProcessIndex;
 import io.camunda.tasklist.store.ProcessStore;
-import java.util.Iterator;
+import io.camunda.webapps.cache.BoundedCache;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+/**
+ * Caches the names of processes and their flow nodes by process id, bounded by the total number of
+ * cached flow nodes.
+ */
 @Component
 public class ProcessCache {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ProcessCache.class);
-  private static final int CACHE_MAX_SIZE = 100;
-  private Map<String, ProcessCacheEntity> cache = new ConcurrentHashMap<>();
+  // total number of cached processes and flow nodes
+  private static final int CACHE_MAX_WEIGHT = 10_000;
+  private static final String[] CACHED_FIELDS = {
+    ProcessIndex.KEY, ProcessIndex.NAME, ProcessIndex.FLOWNODES
+  };
+
+  private final BoundedCache<String, ProcessCacheEntity> cache =
+      new BoundedCache<>(CACHE_MAX_WEIGHT, process -> 1 + process.getFlowNodeNames().size());
+
   @Autowired private ProcessStore processStore;
 
   private ProcessCacheEntity getProcessCacheEntity(String processId) {
-    if (cache.get(processId) == null) {
-      final Optional<ProcessEntity> processMaybe = readProcessByKey(processId);
+    if (processId == null) {
+      return null;
+    }
+    ProcessCacheEntity cachedProcessData = cache.getIfPresent(processId);
+    if (cachedProcessData == null) {
+      final Optional<ProcessEntity> processMaybe = readProcessById(processId);
       if (processMaybe.isPresent()) {
-        final ProcessEntity process = processMaybe.get();
-        putToCache(processId, process);
+        cachedProcessData = ProcessCacheEntity.createFrom(processMaybe.get());
+        putToCache(processId, processMaybe.get());
       }
     }
-    return cache.get(processId);
+    return cachedProcessData;
   }
 
   public String getProcessName(String processId) {
@@ -56,23 +74,35 @@ public class ProcessCache {
     }
   }
 
-  private Optional<ProcessEntity> readProcessByKey(String processId) {
+  /**
+   * Loads all given processes, which are not cached yet, with one request, e.g. all processes
+   * referenced by a page of tasks.
+   */
+  public void prefetch(Collection<String> processIds) {
     try {
-      return Optional.of(processStore.getProcess(processId));
+      cache.prefetch(
+          processIds,
+          ids ->
+              processStore.getProcessesByIds(ids, CACHED_FIELDS).entrySet().stream()
+                  .collect(
+                      Collectors.toMap(
+                          Map.Entry::getKey, e -> ProcessCacheEntity.createFrom(e.getValue()))));
+    } catch (Exception ex) {
+      // missing processes are loaded one by one
+      LOGGER.debug("Unable to prefetch processes: {}", ex.getMessage());
+    }
+  }
+
+  private Optional<ProcessEntity> readProcessById(String processId) {
+    try {
+      return Optional.ofNullable(
+          processStore.getProcessesByIds(List.of(processId), CACHED_FIELDS).get(processId));
     } catch (TasklistRuntimeException ex) {
       return Optional.empty();
     }
   }
 
   public void putToCache(String processId, ProcessEntity process) {
-    if (cache.size() >= CACHE_MAX_SIZE) {
-      // remove 1st element
-      final Iterator<String> iterator = cache.keySet().iterator();
-      if (iterator.hasNext()) {
-        iterator.next();
-        iterator.remove();
-      }
-    }
     cache.put(processId, ProcessCacheEntity.createFrom(process));
   }
 
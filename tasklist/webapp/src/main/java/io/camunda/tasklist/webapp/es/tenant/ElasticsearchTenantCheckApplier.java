@@ -51,6 +51,11 @@ public class ElasticsearchTenantCheckApplier implements TenantCheckApplier<Searc
     applyTenantCheckOnQuery(searchRequest, tenantCheckQueryType, searchByTenantIds);
   }
 
+  @Override
+  public Object getTenantCheckKey() {
+    return tenantService.getAuthenticatedTenants();
+  }
+
   private static void applyTenantCheckOnQuery(
       SearchRequest searchRequest,
       TenantService.TenantAccessType tenantCheckQueryType,
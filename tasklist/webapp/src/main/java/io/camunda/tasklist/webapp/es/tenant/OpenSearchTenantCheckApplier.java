@@ -52,6 +52,11 @@ public class OpenSearchTenantCheckApplier implements TenantCheckApplier<SearchRe
     applyTenantCheckOnQuery(searchRequest, tenantCheckQueryType, searchByTenantIds);
   }
 
+  @Override
+  public Object getTenantCheckKey() {
+    return tenantService.getAuthenticatedTenants();
+  }
+
   private void applyTenantCheckOnQuery(
       SearchRequest.Builder searchRequest,
       TenantService.TenantAccessType tenantCheckQueryType,
@@ -22,6 +22,7 @@ import io.camunda.tasklist.store.TaskStore;
 import io.camunda.tasklist.store.VariableStore;
 import io.camunda.tasklist.views.TaskSearchView;
 import io.camunda.tasklist.webapp.es.TaskValidator;
+import io.camunda.tasklist.webapp.es.cache.ProcessCache;
 import io.camunda.tasklist.webapp.graphql.entity.*;
 import io.camunda.tasklist.webapp.rest.exception.ForbiddenActionException;
 import io.camunda.tasklist.webapp.rest.exception.InvalidRequestException;
@@ -64,6 +65,7 @@ public class TaskService {
   @Autowired private TaskMetricsStore taskMetricsStore;
   @Autowired private AssigneeMigrator assigneeMigrator;
   @Autowired private TaskValidator taskValidator;
+  @Autowired private ProcessCache processCache;
 
   public List<TaskDTO> getTasks(final TaskQueryDTO query) {
     return getTasks(query, emptySet(), false);
@@ -95,6 +97,8 @@ public class TaskService {
     }
 
     final List<TaskSearchView> tasks = taskStore.getTasks(query.toTaskQuery());
+    // the process and task names of the whole page are then mapped from the cache
+    processCache.prefetch(tasks.stream().map(TaskSearchView::getProcessDefinitionId).toList());
     final Set<String> fieldNames =
         fetchFullValuesFromDB
             ? emptySet()
@@ -33,6 +33,7 @@ import io.camunda.tasklist.store.VariableStore.GetVariablesRequest;
 import io.camunda.tasklist.views.TaskSearchView;
 import io.camunda.tasklist.webapp.CommonUtils;
 import io.camunda.tasklist.webapp.es.TaskValidator;
+import io.camunda.tasklist.webapp.es.cache.ProcessCache;
 import io.camunda.tasklist.webapp.graphql.entity.TaskDTO;
 import io.camunda.tasklist.webapp.graphql.entity.TaskQueryDTO;
 import io.camunda.tasklist.webapp.graphql.entity.UserDTO;
@@ -77,6 +78,7 @@ class TaskServiceTest {
   @Mock private TaskMetricsStore taskMetricsStore;
   @Mock private AssigneeMigrator assigneeMigrator;
   @Mock private TaskValidator taskValidator;
+  @Mock private ProcessCache processCache;
 
   @InjectMocks private TaskService instance;
 
@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.webapps.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * A cache bounded by the total weight of its entries, which evicts the least recently used entries
+ * first. Missing entries can be loaded in bulk, e.g. for all keys referenced by an import batch.
+ *
+ * <p>Keys which could not be loaded can be marked as unknown for a while, so that repeated lookups
+ * of unknown keys don't hit the database every time.
+ */
+public final class BoundedCache<K, V> {
+
+  // expired unknown keys are removed once there are that many
+  private static final int MAX_UNKNOWN_KEYS = 1024;
+
+  private final long maxWeight;
+  private final ToIntFunction<V> weigher;
+  private final long negativeTtlMillis;
+  private final LongSupplier clock;
+
+  private final Map<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+  // until when lookups of keys, which could not be loaded, are answered without loading them again
+  private final Map<K, Long> unknownKeys = new HashMap<>();
+  private long weight;
+
+  public BoundedCache(final long maxWeight, final ToIntFunction<V> weigher) {
+    this(maxWeight, weigher, Duration.ZERO);
+  }
+
+  public BoundedCache(
+      final long maxWeight, final ToIntFunction<V> weigher, final Duration negativeTtl) {
+    this(maxWeight, weigher, negativeTtl, System::currentTimeMillis);
+  }
+
+  public BoundedCache(
+      final long maxWeight,
+      final ToIntFunction<V> weigher,
+      final Duration negativeTtl,
+      final LongSupplier clock) {
+    this.maxWeight = maxWeight;
+    this.weigher = weigher;
+    negativeTtlMillis = negativeTtl.toMillis();
+    this.clock = clock;
+  }
+
+  /**
+   * @return the cached value, or null if the key is not cached
+   */
+  public synchronized V getIfPresent(final K key) {
+    return entries.get(key);
+  }
+
+  /**
+   * @return whether the key could not be loaded recently, see {@link #markUnknown}
+   */
+  public synchronized boolean isUnknown(final K key) {
+    final Long unknownUntil = unknownKeys.get(key);
+    if (unknownUntil == null) {
+      return false;
+    } else if (unknownUntil > clock.getAsLong()) {
+      return true;
+    }
+    unknownKeys.remove(key);
+    return false;
+  }
+
+  /** Remembers that the key could not be loaded, until the negative TTL expires. */
+  public synchronized void markUnknown(final K key) {
+    final long now = clock.getAsLong();
+    if (unknownKeys.size() >= MAX_UNKNOWN_KEYS) {
+      unknownKeys.values().removeIf(unknownUntil -> unknownUntil <= now);
+    }
+    unknownKeys.put(key, now + negativeTtlMillis);
+  }
+
+  /**
+   * Loads all given keys, which are neither cached nor recently unknown, with one call of the given
+   * loader. Keys the loader doesn't return are not marked as unknown, as a lookup of a single key
+   * may try harder to load them.
+   */
+  public void prefetch(final Collection<K> keys, final Function<Set<K>, Map<K, V>> loader) {
+    final Set<K> missingKeys = new LinkedHashSet<>();
+    synchronized (this) {
+      for (final K key : keys) {
+        if (key != null && !entries.containsKey(key) && !isUnknown(key)) {
+          missingKeys.add(key);
+        }
+      }
+    }
+    if (missingKeys.isEmpty()) {
+      return;
+    }
+
+    final Map<K, V> loaded = loader.apply(missingKeys);
+    synchronized (this) {
+      loaded.forEach(this::putInternal);
+    }
+  }
+
+  public synchronized void put(final K key, final V value) {
+    putInternal(key, value);
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+    unknownKeys.clear();
+    weight = 0;
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private void putInternal(final K key, final V value) {
+    unknownKeys.remove(key);
+    final V previous = entries.put(key, value);
+    if (previous != null) {
+      weight -= weigher.applyAsInt(previous);
+    }
+    weight += weigher.applyAsInt(value);
+
+    // the entry just put is kept, even if it alone exceeds the maximum weight
+    final var iterator = entries.entrySet().iterator();
+    while (weight > maxWeight && entries.size() > 1) {
+      final Map.Entry<K, V> eldest = iterator.next();
+      weight -= weigher.applyAsInt(eldest.getValue());
+      iterator.remove();
+    }
+  }
+}
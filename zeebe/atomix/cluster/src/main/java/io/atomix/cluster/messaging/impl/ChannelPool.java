@@ -19,7 +19,6 @@ package io.atomix.cluster.messaging.impl;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import io.atomix.utils.net.Address;
-import io.camunda.zeebe.util.collection.Tuple;
 import io.netty.channel.Channel;
 import java.net.InetAddress;
 import java.util.ArrayList;
@@ -30,13 +29,17 @@ import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Internal Netty channel pool. */
+/**
+ * Internal Netty channel pool. Every address has a separate set of channels for each {@link
+ * TrafficClass}, so that bulk transfers never delay latency critical messages on the same
+ * connection.
+ */
 class ChannelPool {
   private static final Logger LOGGER = LoggerFactory.getLogger(ChannelPool.class);
 
   private final Function<Address, CompletableFuture<Channel>> factory;
   private final int size;
-  private final Map<Tuple<Address, InetAddress>, List<CompletableFuture<Channel>>> channels =
+  private final Map<ChannelPoolId, List<CompletableFuture<Channel>>> channels =
       Maps.newConcurrentMap();
 
   ChannelPool(final Function<Address, CompletableFuture<Channel>> factory, final int size) {
@@ -48,11 +51,13 @@ class ChannelPool {
    * Returns the channel pool for the given address.
    *
    * @param address the address for which to return the channel pool
+   * @param trafficClass the class of the traffic sent over the channels
    * @return the channel pool for the given address
    */
   private List<CompletableFuture<Channel>> getChannelPool(
-      final Address address, final InetAddress inetAddress) {
-    final Tuple<Address, InetAddress> channelPoolIdentifier = new Tuple<>(address, inetAddress);
+      final Address address, final InetAddress inetAddress, final TrafficClass trafficClass) {
+    final ChannelPoolId channelPoolIdentifier =
+        new ChannelPoolId(address, inetAddress, trafficClass);
 
     final List<CompletableFuture<Channel>> channelPool = channels.get(channelPoolIdentifier);
     if (channelPool != null) {
@@ -89,7 +94,8 @@ class ChannelPool {
   CompletableFuture<Channel> getChannel(final Address address, final String messageType) {
     final InetAddress inetAddress = address.getAddress();
 
-    final List<CompletableFuture<Channel>> channelPool = getChannelPool(address, inetAddress);
+    final List<CompletableFuture<Channel>> channelPool =
+        getChannelPool(address, inetAddress, TrafficClass.of(messageType));
     final int offset = getChannelOffset(messageType);
 
     CompletableFuture<Channel> channelFuture = channelPool.get(offset);
@@ -193,4 +199,7 @@ class ChannelPool {
       LOGGER.debug("Failed to connect to {}", channel.remoteAddress(), e);
     }
   }
+
+  private record ChannelPoolId(
+      Address address, InetAddress inetAddress, TrafficClass trafficClass) {}
 }
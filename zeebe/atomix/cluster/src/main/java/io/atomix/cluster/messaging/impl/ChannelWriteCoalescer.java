@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPromise;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Coalesces outbound messages of a single channel, such that many messages are written with a
+ * single flush instead of one flush per message.
+ *
+ * <p>Messages can be enqueued from any thread. The first message enqueued after a drain schedules a
+ * new drain task on the channel's event loop; all messages enqueued until that task runs are
+ * written by it. A drain stops once the byte budget is exhausted and flushes what it wrote so far.
+ * If messages are left, another drain is scheduled, so that a busy channel does not monopolize its
+ * event loop and the amount of unflushed data stays bounded.
+ *
+ * <p>Messages are written in the order in which they were enqueued.
+ */
+final class ChannelWriteCoalescer {
+  // rough size of the frame header, sender address and lengths which are written with each message
+  private static final int MESSAGE_OVERHEAD = 32;
+
+  private final Queue<PendingWrite> pendingWrites = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean drainScheduled = new AtomicBoolean();
+  private final Runnable drainTask = this::drain;
+  private final Channel channel;
+  private final int byteBudget;
+  private final MessagingMetrics metrics;
+
+  ChannelWriteCoalescer(
+      final Channel channel, final int byteBudget, final MessagingMetrics metrics) {
+    this.channel = channel;
+    this.byteBudget = byteBudget;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Enqueues the message to be written and flushed with the next drain.
+   *
+   * @param message the message to write
+   * @return a future completed once the message was written to the channel
+   */
+  ChannelFuture write(final ProtocolMessage message) {
+    final var promise = channel.newPromise();
+    enqueue(message, promise);
+    return promise;
+  }
+
+  /**
+   * Enqueues the message to be written and flushed with the next drain, without tracking the
+   * outcome of the write.
+   *
+   * @param message the message to write
+   */
+  void writeAndForget(final ProtocolMessage message) {
+    enqueue(message, channel.voidPromise());
+  }
+
+  private void enqueue(final ProtocolMessage message, final ChannelPromise promise) {
+    pendingWrites.add(new PendingWrite(message, promise));
+    scheduleDrain();
+  }
+
+  private void scheduleDrain() {
+    if (!drainScheduled.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      channel.eventLoop().execute(drainTask);
+    } catch (final RejectedExecutionException e) {
+      // the event loop is shutting down, nothing will ever be written anymore
+      drainScheduled.set(false);
+      failPendingWrites(e);
+    }
+  }
+
+  private void drain() {
+    // reset before polling, so that messages enqueued while draining schedule a new drain
+    drainScheduled.set(false);
+
+    int messages = 0;
+    long bytes = 0;
+    PendingWrite pendingWrite;
+    while (bytes < byteBudget && (pendingWrite = pendingWrites.poll()) != null) {
+      channel.write(pendingWrite.message(), pendingWrite.promise());
+      bytes += estimateSize(pendingWrite.message());
+      messages++;
+    }
+
+    if (messages > 0) {
+      channel.flush();
+      metrics.observeMessagesPerFlush(messages);
+    }
+
+    if (!pendingWrites.isEmpty()) {
+      scheduleDrain();
+    }
+  }
+
+  private void failPendingWrites(final Throwable error) {
+    PendingWrite pendingWrite;
+    while ((pendingWrite = pendingWrites.poll()) != null) {
+      pendingWrite.promise().tryFailure(error);
+    }
+  }
+
+  private static int estimateSize(final ProtocolMessage message) {
+    final byte[] payload = message.payload();
+    int size = MESSAGE_OVERHEAD + (payload == null ? 0 : payload.length);
+    if (message instanceof final ProtocolRequest request) {
+      size += request.subject().length();
+    }
+    return size;
+  }
+
+  private record PendingWrite(ProtocolMessage message, ChannelPromise promise) {}
+}
@@ -26,4 +26,12 @@ public interface MessagingMetrics {
   void incInFlightRequests(String address, String topic);
 
   void decInFlightRequests(String address, String topic);
+
+  void observeMessagesPerFlush(int messages);
+
+  CloseableSilently startWriteTimer(String trafficClass);
+
+  void incPendingWrites(String trafficClass);
+
+  void decPendingWrites(String trafficClass);
 }
@@ -17,6 +17,7 @@ final class MessagingMetricsImpl implements MessagingMetrics {
   private static final String NAMESPACE = "zeebe";
   private static final String LABEL_TOPIC = "topic";
   private static final String LABEL_ADDRESS = "address";
+  private static final String LABEL_TRAFFIC_CLASS = "trafficClass";
   private static final String REQ_TYPE_MESSAGE = "MESSAGE";
   private static final String REQ_TYPE_REQ_RESP = "REQ_RESP";
 
@@ -60,6 +61,33 @@ final class MessagingMetricsImpl implements MessagingMetrics {
           .labelNames(LABEL_ADDRESS, LABEL_TOPIC)
           .register();
 
+  private static final Histogram MESSAGES_PER_FLUSH =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("messaging_messages_per_flush")
+          .help("The number of messages written to a channel with a single flush")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256, 512)
+          .register();
+
+  private static final Histogram WRITE_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("messaging_write_latency")
+          .help(
+              "The time it takes from sending a message until it is written to the connection, per"
+                  + " traffic class")
+          .labelNames(LABEL_TRAFFIC_CLASS)
+          .buckets(.0001, .0005, .001, .005, .01, .05, .1, .5, 1, 5)
+          .register();
+
+  private static final Gauge PENDING_WRITES =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("messaging_pending_writes")
+          .help("The number of messages waiting to be written to a connection, per traffic class")
+          .labelNames(LABEL_TRAFFIC_CLASS)
+          .register();
+
   @Override
   public CloseableSilently startRequestTimer(final String name) {
     final var timer = REQUEST_RESPONSE_LATENCY.labels(name).startTimer();
@@ -100,4 +128,25 @@ final class MessagingMetricsImpl implements MessagingMetrics {
   public void decInFlightRequests(final String address, String topic) {
     IN_FLIGHT_REQUESTS.labels(address, topic).dec();
   }
+
+  @Override
+  public void observeMessagesPerFlush(final int messages) {
+    MESSAGES_PER_FLUSH.observe(messages);
+  }
+
+  @Override
+  public CloseableSilently startWriteTimer(final String trafficClass) {
+    final var timer = WRITE_LATENCY.labels(trafficClass).startTimer();
+    return timer::close;
+  }
+
+  @Override
+  public void incPendingWrites(final String trafficClass) {
+    PENDING_WRITES.labels(trafficClass).inc();
+  }
+
+  @Override
+  public void decPendingWrites(final String trafficClass) {
+    PENDING_WRITES.labels(trafficClass).dec();
+  }
 }
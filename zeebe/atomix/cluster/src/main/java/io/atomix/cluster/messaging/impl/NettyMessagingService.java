@@ -692,7 +692,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
     if (connection == null) {
       connection =
           connections.computeIfAbsent(
-              channel, c -> new RemoteClientConnection(messagingMetrics, c));
+              channel, c -> new RemoteClientConnection(messagingMetrics, c, newWriteCoalescer(c)));
       channel
           .closeFuture()
           .addListener(
@@ -706,6 +706,13 @@ public final class NettyMessagingService implements ManagedMessagingService {
     return connection;
   }
 
+  private ChannelWriteCoalescer newWriteCoalescer(final Channel channel) {
+    if (!config.isWriteCoalescingEnabled()) {
+      return null;
+    }
+    return new ChannelWriteCoalescer(channel, config.getWriteCoalescingBudget(), messagingMetrics);
+  }
+
   /**
    * Opens a new Netty channel to the given address.
    *
@@ -1055,7 +1062,8 @@ public final class NettyMessagingService implements ManagedMessagingService {
                 writeProtocolVersion(context, protocolVersion);
                 activateProtocolVersion(
                     context,
-                    new RemoteServerConnection(handlers, context.channel()),
+                    new RemoteServerConnection(
+                        handlers, context.channel(), newWriteCoalescer(context.channel())),
                     protocolVersion);
               });
     }
@@ -59,6 +59,8 @@ import org.slf4j.LoggerFactory;
 /** Netty unicast service. */
 public class NettyUnicastService implements ManagedUnicastService {
   private static final Logger LOGGER = LoggerFactory.getLogger(NettyUnicastService.class);
+  // the largest payload of a single UDP datagram over IPv4; larger messages can't be sent at all
+  private static final int MAX_DATAGRAM_SIZE = 65_507;
   private static final Serializer SERIALIZER =
       Serializer.using(
           new Namespace.Builder()
@@ -104,6 +106,17 @@ public class NettyUnicastService implements ManagedUnicastService {
 
     final Message message = new Message(advertisedAddress, subject, payload);
     final byte[] bytes = SERIALIZER.encode(message);
+    if (Integer.BYTES + Integer.BYTES + bytes.length > MAX_DATAGRAM_SIZE) {
+      log.warn(
+          "Failed sending unicast message with subject {} to {}, the message of {} bytes exceeds "
+              + "the maximum datagram size of {} bytes",
+          subject,
+          address,
+          bytes.length,
+          MAX_DATAGRAM_SIZE);
+      return;
+    }
+
     final ByteBuf buf = channel.alloc().buffer(Integer.BYTES + Integer.BYTES + bytes.length);
     buf.writeInt(preamble);
     buf.writeInt(bytes.length).writeBytes(bytes);
@@ -114,8 +127,19 @@ public class NettyUnicastService implements ManagedUnicastService {
         .addListener(
             resolvedAddress -> {
               if (resolvedAddress.isSuccess()) {
-                channel.writeAndFlush(
-                    new DatagramPacket(buf, (InetSocketAddress) resolvedAddress.get()));
+                channel
+                    .writeAndFlush(
+                        new DatagramPacket(buf, (InetSocketAddress) resolvedAddress.get()))
+                    .addListener(
+                        sent -> {
+                          if (!sent.isSuccess()) {
+                            log.debug(
+                                "Failed sending unicast message with subject {} to {}",
+                                subject,
+                                address,
+                                sent.cause());
+                          }
+                        });
               } else {
                 log.warn(
                     "Failed sending unicast message (destination address {} cannot be resolved)",
@@ -17,24 +17,34 @@
 package io.atomix.cluster.messaging.impl;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import java.util.concurrent.CompletableFuture;
 
 /** Client-side Netty remote connection. */
 final class RemoteClientConnection extends AbstractClientConnection {
   private final Channel channel;
   private final MessagingMetrics messagingMetrics;
+  // null if write coalescing is disabled, in which case every message is flushed immediately
+  private final ChannelWriteCoalescer writeCoalescer;
 
   RemoteClientConnection(final MessagingMetrics messagingMetrics, final Channel channel) {
+    this(messagingMetrics, channel, null);
+  }
+
+  RemoteClientConnection(
+      final MessagingMetrics messagingMetrics,
+      final Channel channel,
+      final ChannelWriteCoalescer writeCoalescer) {
     this.messagingMetrics = messagingMetrics;
     this.channel = channel;
+    this.writeCoalescer = writeCoalescer;
   }
 
   @Override
   public CompletableFuture<Void> sendAsync(final ProtocolRequest message) {
     final CompletableFuture<Void> future = new CompletableFuture<>();
     countMessageMetrics(message);
-    channel
-        .writeAndFlush(message)
+    write(message)
         .addListener(
             channelFuture -> {
               if (!channelFuture.isSuccess()) {
@@ -50,8 +60,7 @@ final class RemoteClientConnection extends AbstractClientConnection {
   public CompletableFuture<byte[]> sendAndReceive(final ProtocolRequest message) {
     final CompletableFuture<byte[]> responseFuture = awaitResponseForRequestWithId(message.id());
     countReqResponseMetrics(message, responseFuture);
-    channel
-        .writeAndFlush(message)
+    write(message)
         .addListener(
             channelFuture -> {
               if (!channelFuture.isSuccess()) {
@@ -61,6 +70,26 @@ final class RemoteClientConnection extends AbstractClientConnection {
     return responseFuture;
   }
 
+  private ChannelFuture write(final ProtocolRequest message) {
+    final String trafficClass = TrafficClass.of(message.subject()).name();
+    final var timer = messagingMetrics.startWriteTimer(trafficClass);
+    messagingMetrics.incPendingWrites(trafficClass);
+
+    final ChannelFuture writeFuture;
+    if (writeCoalescer == null) {
+      writeFuture = channel.writeAndFlush(message);
+    } else {
+      writeFuture = writeCoalescer.write(message);
+    }
+
+    writeFuture.addListener(
+        ignored -> {
+          timer.close();
+          messagingMetrics.decPendingWrites(trafficClass);
+        });
+    return writeFuture;
+  }
+
   private void countMessageMetrics(final ProtocolRequest message) {
     final String toAddress = channel.remoteAddress().toString();
     final String subject = message.subject();
@@ -25,16 +25,26 @@ final class RemoteServerConnection extends AbstractServerConnection {
   private static final byte[] EMPTY_PAYLOAD = new byte[0];
 
   private final Channel channel;
+  // null if write coalescing is disabled, in which case every reply is flushed immediately
+  private final ChannelWriteCoalescer writeCoalescer;
 
-  RemoteServerConnection(final HandlerRegistry handlers, final Channel channel) {
+  RemoteServerConnection(
+      final HandlerRegistry handlers,
+      final Channel channel,
+      final ChannelWriteCoalescer writeCoalescer) {
     super(handlers);
     this.channel = channel;
+    this.writeCoalescer = writeCoalescer;
   }
 
   @Override
   public void reply(final long messageId, final Status status, final Optional<byte[]> payload) {
     final ProtocolReply response =
         new ProtocolReply(messageId, payload.orElse(EMPTY_PAYLOAD), status);
-    channel.writeAndFlush(response, channel.voidPromise());
+    if (writeCoalescer == null) {
+      channel.writeAndFlush(response, channel.voidPromise());
+    } else {
+      writeCoalescer.writeAndForget(response);
+    }
   }
 }
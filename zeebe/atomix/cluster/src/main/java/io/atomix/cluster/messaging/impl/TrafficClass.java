@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Classes of outbound traffic, derived from the message subject. Each class uses its own pooled
+ * connections, such that latency critical messages never queue behind large transfers in the same
+ * socket buffer.
+ *
+ * <p>The classification relies on the subject naming of the Raft partitions, e.g. {@code
+ * raft-partition-partition-1-append}, see {@code RaftMessageContext}.
+ */
+enum TrafficClass {
+  /**
+   * Consensus messages, e.g. appends, heartbeats and elections; delays cause spurious elections.
+   */
+  LATENCY_CRITICAL,
+  /** Everything which is neither latency critical nor bulk, e.g. inter-partition commands. */
+  DEFAULT,
+  /** Large transfers which may occupy a connection for a long time, e.g. snapshot chunks. */
+  BULK;
+
+  // the subject of a Raft message is the name of its partition followed by the message type
+  private static final Pattern RAFT_SUBJECT = Pattern.compile(".+-partition-\\d+-(?<type>.+)");
+  // configuration changes other than the leader's configure request are administrative, e.g.
+  // reconfigure and force-configure, and don't compete with heartbeats
+  private static final Set<String> LATENCY_CRITICAL_TYPES =
+      Set.of(
+          "append",
+          "append-versioned",
+          "heartbeat",
+          "leaderHeartbeat",
+          "poll",
+          "vote",
+          "transfer",
+          "configure");
+  private static final Set<String> BULK_TYPES = Set.of("install");
+
+  // subjects are a small, fixed set, so caching them is cheaper than matching on every message
+  private static final Map<String, TrafficClass> CLASSIFIED_SUBJECTS = new ConcurrentHashMap<>();
+
+  static TrafficClass of(final String subject) {
+    return CLASSIFIED_SUBJECTS.computeIfAbsent(subject, TrafficClass::classify);
+  }
+
+  private static TrafficClass classify(final String subject) {
+    final Matcher raftSubject = RAFT_SUBJECT.matcher(subject);
+    if (!raftSubject.matches()) {
+      return DEFAULT;
+    }
+
+    final String type = raftSubject.group("type");
+    if (LATENCY_CRITICAL_TYPES.contains(type)) {
+      return LATENCY_CRITICAL;
+    }
+
+    if (BULK_TYPES.contains(type)) {
+      return BULK;
+    }
+
+    return DEFAULT;
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.protocol;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.protocol.SwimMembershipProtocol.ImmutableMember;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Pending membership updates which are piggybacked on probes, acks and gossip messages.
+ *
+ * <p>Every update is transmitted a bounded number of times, which grows logarithmically with the
+ * cluster size, as in the original SWIM paper. Updates which were transmitted the least are sent
+ * first, so that new updates overtake old ones. A newer update of a member replaces the pending
+ * update of the same member, and starts its transmissions anew.
+ *
+ * <p>Each update carries the wall clock time at which it was first recorded in the cluster, which
+ * is passed along unchanged by every member that disseminates it. This allows receivers to measure
+ * how long it took for an update to reach them.
+ *
+ * <p>Not thread-safe, must only be accessed from the protocol's scheduler.
+ */
+final class DisseminationQueue {
+  private final Map<MemberId, PendingUpdate> pending = new HashMap<>();
+  private final int retransmitMultiplier;
+
+  DisseminationQueue(final int retransmitMultiplier) {
+    this.retransmitMultiplier = retransmitMultiplier;
+  }
+
+  /**
+   * Enqueues the given update, replacing any pending update of the same member.
+   *
+   * @param update the updated member
+   * @param origin the wall clock time at which the update was first recorded in the cluster
+   */
+  void add(final ImmutableMember update, final long origin) {
+    pending.put(update.id(), new PendingUpdate(update, origin));
+  }
+
+  /**
+   * Takes the updates to piggyback on a single message, and counts them as transmitted. Updates
+   * which reached their transmission limit are removed.
+   *
+   * @param maxUpdates the maximum number of updates to take
+   * @param clusterSize the number of known members, used to compute the transmission limit
+   * @return pairs of updated members and the time at which the update was first recorded, as a
+   *     serializable list
+   */
+  ArrayList<Pair<ImmutableMember, Long>> take(final int maxUpdates, final int clusterSize) {
+    if (pending.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    final var limit = retransmitLimit(clusterSize);
+    final var selected =
+        pending.values().stream()
+            .sorted(Comparator.comparingInt(PendingUpdate::transmissions))
+            .limit(maxUpdates)
+            .toList();
+
+    final var updates = new ArrayList<Pair<ImmutableMember, Long>>(selected.size());
+    for (final var update : selected) {
+      updates.add(ImmutablePair.of(update.member, update.origin));
+      update.transmissions++;
+      if (update.transmissions >= limit) {
+        pending.remove(update.member.id(), update);
+      }
+    }
+    return updates;
+  }
+
+  boolean isEmpty() {
+    return pending.isEmpty();
+  }
+
+  int size() {
+    return pending.size();
+  }
+
+  /**
+   * @return the number of times each update is transmitted, {@code multiplier * ceil(log2(n + 1))}
+   */
+  int retransmitLimit(final int clusterSize) {
+    final var scale = 32 - Integer.numberOfLeadingZeros(Math.max(clusterSize, 1));
+    return retransmitMultiplier * scale;
+  }
+
+  private static final class PendingUpdate {
+    private final ImmutableMember member;
+    private final long origin;
+    private int transmissions;
+
+    private PendingUpdate(final ImmutableMember member, final long origin) {
+      this.member = member;
+      this.origin = origin;
+    }
+
+    private int transmissions() {
+      return transmissions;
+    }
+  }
+}
@@ -80,6 +80,8 @@ public class SwimMembershipProtocol
   private static final String MEMBERSHIP_GOSSIP = "atomix-membership-gossip";
   private static final String MEMBERSHIP_PROBE = "atomix-membership-probe";
   private static final String MEMBERSHIP_PROBE_REQUEST = "atomix-membership-probe-request";
+  private static final String MEMBERSHIP_PIGGYBACK_GOSSIP = "atomix-membership-piggyback-gossip";
+  private static final String MEMBERSHIP_PIGGYBACK_PROBE = "atomix-membership-piggyback-probe";
   private static final Serializer SERIALIZER =
       Serializer.using(
           new Namespace.Builder()
@@ -118,6 +120,10 @@ public class SwimMembershipProtocol
       (address, payload) -> SERIALIZER.encode(handleProbe(SERIALIZER.decode(payload)));
   private final BiConsumer<Address, byte[]> gossipListener =
       (address, payload) -> handleGossipUpdates(SERIALIZER.decode(payload));
+  private final BiFunction<Address, byte[], byte[]> piggybackProbeHandler =
+      (address, payload) -> SERIALIZER.encode(handlePiggybackProbe(SERIALIZER.decode(payload)));
+  private final BiConsumer<Address, byte[]> piggybackGossipListener =
+      (address, payload) -> handlePiggybackedUpdates(SERIALIZER.decode(payload));
   private volatile Properties localProperties = new Properties();
   private ScheduledFuture<?> gossipFuture;
   private ScheduledFuture<?> probeFuture;
@@ -125,9 +131,11 @@ public class SwimMembershipProtocol
 
   private final SwimMembershipProtocolMetrics swimMembershipProtocolMetrics =
       new SwimMembershipProtocolMetrics();
+  private final DisseminationQueue disseminationQueue;
 
   SwimMembershipProtocol(final SwimMembershipProtocolConfig config) {
     this.config = config;
+    disseminationQueue = new DisseminationQueue(config.getRetransmitMultiplier());
   }
 
   /**
@@ -234,6 +242,17 @@ public class SwimMembershipProtocol
    * @return whether the state for the member was updated
    */
   private boolean updateState(final ImmutableMember member) {
+    return updateState(member, System.currentTimeMillis());
+  }
+
+  /**
+   * Updates the state for the given member.
+   *
+   * @param member the member for which to update the state
+   * @param origin the wall clock time at which the update was first recorded in the cluster
+   * @return whether the state for the member was updated
+   */
+  private boolean updateState(final ImmutableMember member, final long origin) {
     // If the member matches the local member, ignore the update.
     if (member.id().equals(localMember.id())) {
       return false;
@@ -251,7 +270,7 @@ public class SwimMembershipProtocol
         LOGGER.info("{} - Member added {}", localMember.id(), swimMember);
         swimMember.setState(State.ALIVE);
         post(new GroupMembershipEvent(GroupMembershipEvent.Type.MEMBER_ADDED, swimMember.copy()));
-        recordUpdate(swimMember.copy());
+        recordUpdate(swimMember.copy(), origin);
         return true;
       } else {
         LOGGER.info(
@@ -275,7 +294,7 @@ public class SwimMembershipProtocol
         Collections.shuffle(randomMembers);
         LOGGER.info("{} - Evicted member for new version {}", localMember.id(), swimMember);
         post(new GroupMembershipEvent(GroupMembershipEvent.Type.MEMBER_ADDED, swimMember.copy()));
-        recordUpdate(swimMember.copy());
+        recordUpdate(swimMember.copy(), origin);
       } else {
         // Update the term for the local member.
         swimMember.setIncarnationNumber(member.incarnationNumber());
@@ -304,7 +323,7 @@ public class SwimMembershipProtocol
         }
 
         // Always enqueue an update for gossip when the term changes.
-        recordUpdate(swimMember.copy());
+        recordUpdate(swimMember.copy(), origin);
         return true;
       }
     }
@@ -330,7 +349,7 @@ public class SwimMembershipProtocol
       else if (member.state() == State.DEAD) {
         tryRemoveMember(swimMember);
       }
-      recordUpdate(swimMember.copy());
+      recordUpdate(swimMember.copy(), origin);
       return true;
     }
     return false;
@@ -385,7 +404,22 @@ public class SwimMembershipProtocol
    * @param member the updated member
    */
   private void recordUpdate(final ImmutableMember member) {
-    updates.put(member.id(), member);
+    recordUpdate(member, System.currentTimeMillis());
+  }
+
+  /**
+   * Records an update as an immutable member.
+   *
+   * @param member the updated member
+   * @param origin the wall clock time at which the update was first recorded in the cluster
+   */
+  private void recordUpdate(final ImmutableMember member, final long origin) {
+    if (config.isPiggybackUpdates()) {
+      disseminationQueue.add(member, origin);
+      SwimMembershipProtocolMetrics.setPendingUpdates(disseminationQueue.size());
+    } else {
+      updates.put(member.id(), member);
+    }
     SwimMembershipProtocolMetrics.updateMemberIncarnationNumber(
         member.id().id(), member.incarnationNumber);
   }
@@ -522,18 +556,27 @@ public class SwimMembershipProtocol
    */
   private void probe(final ImmutableMember member) {
     PROBE_LOGGER.trace("{} - Probing {}", localMember.id(), member);
+    final var piggyback = config.isPiggybackUpdates();
+    final var probe = Pair.of(localMember.copy(), member);
     bootstrapService
         .getMessagingService()
         .sendAndReceive(
             member.address(),
-            MEMBERSHIP_PROBE,
-            SERIALIZER.encode(Pair.of(localMember.copy(), member)),
+            piggyback ? MEMBERSHIP_PIGGYBACK_PROBE : MEMBERSHIP_PROBE,
+            SERIALIZER.encode(piggyback ? Pair.of(probe, takePiggybackedUpdates()) : probe),
             false,
             config.getProbeTimeout())
         .whenCompleteAsync(
             (response, error) -> {
               if (error == null) {
-                updateState(SERIALIZER.decode(response));
+                if (piggyback) {
+                  final Pair<ImmutableMember, List<Pair<ImmutableMember, Long>>> ack =
+                      SERIALIZER.decode(response);
+                  updateState(ack.getLeft());
+                  handlePiggybackedUpdates(ack.getRight());
+                } else {
+                  updateState(SERIALIZER.decode(response));
+                }
               } else {
                 PROBE_LOGGER.trace("{} - Failed to probe {}", localMember.id(), member, error);
                 // Verify that the local member term has not changed and request probes from peers.
@@ -585,6 +628,20 @@ public class SwimMembershipProtocol
     return this.localMember.copy();
   }
 
+  /**
+   * Handles a probe from another peer which carries piggybacked updates, and piggybacks pending
+   * updates on the ack.
+   *
+   * @param probe the probing member and local member info, and the piggybacked updates
+   * @return the current term and the piggybacked updates
+   */
+  private Pair<ImmutableMember, List<Pair<ImmutableMember, Long>>> handlePiggybackProbe(
+      final Pair<Pair<ImmutableMember, ImmutableMember>, List<Pair<ImmutableMember, Long>>> probe) {
+    final var ack = handleProbe(probe.getLeft());
+    handlePiggybackedUpdates(probe.getRight());
+    return Pair.of(ack, takePiggybackedUpdates());
+  }
+
   /** Requests probes from n peers. */
   private void requestProbes(final ImmutableMember suspect) {
     final Collection<SwimMember> members =
@@ -741,8 +798,11 @@ public class SwimMembershipProtocol
     // Check local metadata for changes.
     checkMetadata();
 
+    if (config.isPiggybackUpdates()) {
+      gossipPiggybackedUpdates();
+    }
     // Copy and clear the list of pending updates.
-    if (!updates.isEmpty()) {
+    else if (!updates.isEmpty()) {
       final List<ImmutableMember> updates = Lists.newArrayList(this.updates.values());
       this.updates.clear();
 
@@ -784,6 +844,59 @@ public class SwimMembershipProtocol
         .unicast(member.address(), MEMBERSHIP_GOSSIP, SERIALIZER.encode(updates));
   }
 
+  /**
+   * Gossips pending updates to a random set of peers, coalescing as many updates as allowed into a
+   * single message per peer. Every update counts as transmitted once per peer it is sent to.
+   */
+  private void gossipPiggybackedUpdates() {
+    if (disseminationQueue.isEmpty()) {
+      return;
+    }
+
+    final List<SwimMember> members = Lists.newArrayList(randomMembers);
+    Collections.shuffle(members);
+    for (int i = 0; i < Math.min(members.size(), config.getGossipFanout()); i++) {
+      final var updates = takePiggybackedUpdates();
+      if (updates.isEmpty()) {
+        break;
+      }
+
+      final var member = members.get(i);
+      GOSSIP_LOGGER.trace("{} - Gossipping updates {} to {}", localMember.id(), updates, member);
+      bootstrapService
+          .getUnicastService()
+          .unicast(member.address(), MEMBERSHIP_PIGGYBACK_GOSSIP, SERIALIZER.encode(updates));
+    }
+  }
+
+  /**
+   * Takes the updates to piggyback on the next outgoing message.
+   *
+   * @return the updated members, paired with the time at which the update was first recorded
+   */
+  private List<Pair<ImmutableMember, Long>> takePiggybackedUpdates() {
+    final var updates =
+        disseminationQueue.take(config.getMaxPiggybackUpdates(), Math.max(members.size(), 1));
+    SwimMembershipProtocolMetrics.observePiggybackedUpdates(updates.size());
+    SwimMembershipProtocolMetrics.setPendingUpdates(disseminationQueue.size());
+    return updates;
+  }
+
+  /**
+   * Applies updates which were piggybacked on a message from a peer, and records how long it took
+   * for them to reach this member.
+   */
+  private void handlePiggybackedUpdates(final List<Pair<ImmutableMember, Long>> updates) {
+    final var now = System.currentTimeMillis();
+    for (final var update : updates) {
+      GOSSIP_LOGGER.trace("{} - Received piggybacked update {}", localMember.id(), update);
+      if (updateState(update.getLeft(), update.getRight())) {
+        SwimMembershipProtocolMetrics.observeDisseminationLatency(
+            update.getLeft().id().id(), now - update.getRight());
+      }
+    }
+  }
+
   /** Handles a gossip message from a peer. */
   private void handleGossipUpdates(final Collection<ImmutableMember> updates) {
     for (final ImmutableMember update : updates) {
@@ -838,11 +951,17 @@ public class SwimMembershipProtocol
     bootstrapService
         .getMessagingService()
         .registerHandler(MEMBERSHIP_PROBE_REQUEST, probeRequestHandler);
+    bootstrapService
+        .getMessagingService()
+        .registerHandler(MEMBERSHIP_PIGGYBACK_PROBE, piggybackProbeHandler, swimScheduler);
 
     // Register UDP message listeners.
     bootstrapService
         .getUnicastService()
         .addListener(MEMBERSHIP_GOSSIP, gossipListener, swimScheduler);
+    bootstrapService
+        .getUnicastService()
+        .addListener(MEMBERSHIP_PIGGYBACK_GOSSIP, piggybackGossipListener, swimScheduler);
   }
 
   /** Unregisters handlers for the SWIM protocol. */
@@ -851,9 +970,13 @@ public class SwimMembershipProtocol
     bootstrapService.getMessagingService().unregisterHandler(MEMBERSHIP_SYNC);
     bootstrapService.getMessagingService().unregisterHandler(MEMBERSHIP_PROBE);
     bootstrapService.getMessagingService().unregisterHandler(MEMBERSHIP_PROBE_REQUEST);
+    bootstrapService.getMessagingService().unregisterHandler(MEMBERSHIP_PIGGYBACK_PROBE);
 
     // Unregister UDP message listeners.
     bootstrapService.getUnicastService().removeListener(MEMBERSHIP_GOSSIP, gossipListener);
+    bootstrapService
+        .getUnicastService()
+        .removeListener(MEMBERSHIP_PIGGYBACK_GOSSIP, piggybackGossipListener);
   }
 
   private void scheduleGossip() {
@@ -133,6 +133,40 @@ public class SwimMembershipProtocolBuilder extends GroupMembershipProtocolBuilde
     return this;
   }
 
+  /**
+   * Sets whether member updates are piggybacked on probes, acks and gossip messages with a bounded
+   * number of retransmits. Must be set to the same value on all members of the cluster.
+   *
+   * @param piggybackUpdates whether to piggyback member updates
+   * @return the protocol builder
+   */
+  public SwimMembershipProtocolBuilder withPiggybackUpdates(final boolean piggybackUpdates) {
+    config.setPiggybackUpdates(piggybackUpdates);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of updates piggybacked on a single message.
+   *
+   * @param maxPiggybackUpdates the maximum number of updates piggybacked on a single message
+   * @return the protocol builder
+   */
+  public SwimMembershipProtocolBuilder withMaxPiggybackUpdates(final int maxPiggybackUpdates) {
+    config.setMaxPiggybackUpdates(maxPiggybackUpdates);
+    return this;
+  }
+
+  /**
+   * Sets the retransmit multiplier, which bounds how often a piggybacked update is transmitted.
+   *
+   * @param retransmitMultiplier the retransmit multiplier
+   * @return the protocol builder
+   */
+  public SwimMembershipProtocolBuilder withRetransmitMultiplier(final int retransmitMultiplier) {
+    config.setRetransmitMultiplier(retransmitMultiplier);
+    return this;
+  }
+
   @Override
   public GroupMembershipProtocol build() {
     return new SwimMembershipProtocol(config);
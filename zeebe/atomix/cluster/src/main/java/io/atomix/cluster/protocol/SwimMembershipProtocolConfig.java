@@ -33,6 +33,9 @@ public class SwimMembershipProtocolConfig extends GroupMembershipProtocolConfig
   private static final int DEFAULT_SUSPECT_PROBES = 3;
   private static final int DEFAULT_FAILURE_TIMEOUT = 10000;
   private static final int DEFAULT_SYNC_INTERVAL = 10_000;
+  private static final boolean DEFAULT_PIGGYBACK_UPDATES = false;
+  private static final int DEFAULT_MAX_PIGGYBACK_UPDATES = 8;
+  private static final int DEFAULT_RETRANSMIT_MULTIPLIER = 4;
 
   private boolean broadcastUpdates = DEFAULT_BROADCAST_UPDATES;
   private boolean broadcastDisputes = DEFAULT_BROADCAST_DISPUTES;
@@ -44,6 +47,9 @@ public class SwimMembershipProtocolConfig extends GroupMembershipProtocolConfig
   private int suspectProbes = DEFAULT_SUSPECT_PROBES;
   private Duration failureTimeout = Duration.ofMillis(DEFAULT_FAILURE_TIMEOUT);
   private Duration syncInterval = Duration.ofMillis(DEFAULT_SYNC_INTERVAL);
+  private boolean piggybackUpdates = DEFAULT_PIGGYBACK_UPDATES;
+  private int maxPiggybackUpdates = DEFAULT_MAX_PIGGYBACK_UPDATES;
+  private int retransmitMultiplier = DEFAULT_RETRANSMIT_MULTIPLIER;
 
   /**
    * Returns whether to broadcast member updates to all peers.
@@ -260,6 +266,74 @@ public class SwimMembershipProtocolConfig extends GroupMembershipProtocolConfig
     return this;
   }
 
+  /**
+   * Returns whether member updates are piggybacked on probes, acks and gossip messages.
+   *
+   * @return whether member updates are piggybacked on probes, acks and gossip messages
+   */
+  public boolean isPiggybackUpdates() {
+    return piggybackUpdates;
+  }
+
+  /**
+   * Sets whether member updates are piggybacked on probes, acks and gossip messages. Each update is
+   * then transmitted a bounded number of times, see {@link #setRetransmitMultiplier(int)}, and
+   * multiple updates are coalesced into a single message.
+   *
+   * <p>Piggybacked updates use different messages than plain gossip, so this must be set to the
+   * same value on all members of the cluster.
+   *
+   * @param piggybackUpdates whether to piggyback member updates
+   * @return the protocol configuration
+   */
+  public SwimMembershipProtocolConfig setPiggybackUpdates(final boolean piggybackUpdates) {
+    this.piggybackUpdates = piggybackUpdates;
+    return this;
+  }
+
+  /**
+   * Returns the maximum number of updates piggybacked on a single message.
+   *
+   * @return the maximum number of updates piggybacked on a single message
+   */
+  public int getMaxPiggybackUpdates() {
+    return maxPiggybackUpdates;
+  }
+
+  /**
+   * Sets the maximum number of updates piggybacked on a single message.
+   *
+   * @param maxPiggybackUpdates the maximum number of updates piggybacked on a single message
+   * @return the protocol configuration
+   */
+  public SwimMembershipProtocolConfig setMaxPiggybackUpdates(final int maxPiggybackUpdates) {
+    checkArgument(maxPiggybackUpdates > 0, "maxPiggybackUpdates must be positive");
+    this.maxPiggybackUpdates = maxPiggybackUpdates;
+    return this;
+  }
+
+  /**
+   * Returns the retransmit multiplier.
+   *
+   * @return the retransmit multiplier
+   */
+  public int getRetransmitMultiplier() {
+    return retransmitMultiplier;
+  }
+
+  /**
+   * Sets the retransmit multiplier. A piggybacked update is transmitted {@code multiplier *
+   * ceil(log2(n + 1))} times, where {@code n} is the number of members.
+   *
+   * @param retransmitMultiplier the retransmit multiplier
+   * @return the protocol configuration
+   */
+  public SwimMembershipProtocolConfig setRetransmitMultiplier(final int retransmitMultiplier) {
+    checkArgument(retransmitMultiplier > 0, "retransmitMultiplier must be positive");
+    this.retransmitMultiplier = retransmitMultiplier;
+    return this;
+  }
+
   @Override
   public GroupMembershipProtocol.Type getType() {
     return SwimMembershipProtocol.TYPE;
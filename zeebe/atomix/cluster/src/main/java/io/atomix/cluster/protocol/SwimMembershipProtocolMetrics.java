@@ -8,6 +8,7 @@
 package io.atomix.cluster.protocol;
 
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 final class SwimMembershipProtocolMetrics {
 
@@ -22,7 +23,46 @@ final class SwimMembershipProtocolMetrics {
           .labelNames("memberId")
           .register();
 
+  private static final Histogram DISSEMINATION_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("smp_dissemination_latency")
+          .help(
+              "Time in seconds from when a member update was first recorded in the cluster until it"
+                  + " was received by this node, per updated member. Only recorded when updates are"
+                  + " piggybacked. Relies on the wall clocks of the members being in sync.")
+          .labelNames("memberId")
+          .buckets(.01, .05, .1, .25, .5, 1, 2.5, 5, 10, 30)
+          .register();
+
+  private static final Histogram PIGGYBACKED_UPDATES =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("smp_piggybacked_updates")
+          .help("Number of member updates piggybacked on a single outgoing message")
+          .buckets(0, 1, 2, 4, 8, 16, 32)
+          .register();
+
+  private static final Gauge PENDING_UPDATES =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("smp_pending_updates")
+          .help("Number of member updates which are still to be disseminated by this node")
+          .register();
+
   static void updateMemberIncarnationNumber(final String member, final long incarnationNumber) {
     MEMBERS_INCARNATION_NUMBER.labels(member).set(incarnationNumber);
   }
+
+  static void observeDisseminationLatency(final String member, final long latencyMillis) {
+    DISSEMINATION_LATENCY.labels(member).observe(Math.max(latencyMillis, 0) / 1000.0);
+  }
+
+  static void observePiggybackedUpdates(final int count) {
+    PIGGYBACKED_UPDATES.observe(count);
+  }
+
+  static void setPendingUpdates(final int count) {
+    PENDING_UPDATES.set(count);
+  }
 }
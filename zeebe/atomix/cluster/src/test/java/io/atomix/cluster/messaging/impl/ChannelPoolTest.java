@@ -59,4 +59,32 @@ class ChannelPoolTest {
     // then
     assertThat(channelForOldNode).isNotEqualTo(channelForNewNode);
   }
+
+  @Test
+  void shouldNotShareChannelsBetweenTrafficClasses() throws UnknownHostException {
+    // given
+    final Address address = new Address("foo.bar", 1234, InetAddress.getByName("10.1.1.1"));
+    final var raftChannel = channelPool.getChannel(address, "raft-partition-1-append").join();
+
+    // when
+    final var snapshotChannel = channelPool.getChannel(address, "raft-partition-1-install").join();
+    final var commandChannel = channelPool.getChannel(address, "inter-partition-1").join();
+
+    // then
+    assertThat(raftChannel).isNotSameAs(snapshotChannel).isNotSameAs(commandChannel);
+    assertThat(snapshotChannel).isNotSameAs(commandChannel);
+  }
+
+  @Test
+  void shouldReuseChannelWithinTrafficClass() throws UnknownHostException {
+    // given
+    final Address address = new Address("foo.bar", 1234, InetAddress.getByName("10.1.1.1"));
+    final var channel = channelPool.getChannel(address, "raft-partition-1-append").join();
+
+    // when
+    final var sameChannel = channelPool.getChannel(address, "raft-partition-1-append").join();
+
+    // then
+    assertThat(sameChannel).isSameAs(channel);
+  }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.atomix.cluster.messaging.impl.ProtocolReply.Status;
+import io.atomix.utils.net.Address;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class ChannelWriteCoalescerTest {
+  private final MessagingMetrics metrics = mock(MessagingMetrics.class);
+  private final FlushCounter flushCounter = new FlushCounter();
+  private EmbeddedChannel channel;
+
+  @BeforeEach
+  void beforeEach() {
+    channel = new EmbeddedChannel(flushCounter);
+  }
+
+  @AfterEach
+  void afterEach() {
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void shouldWriteAllPendingMessagesWithSingleFlush() {
+    // given
+    final var coalescer = new ChannelWriteCoalescer(channel, 64 * 1024, metrics);
+    final var messages = List.of(request(1, 10), request(2, 10), request(3, 10));
+
+    // when
+    messages.forEach(coalescer::write);
+    channel.runPendingTasks();
+
+    // then
+    assertThat(flushCounter.flushes).isOne();
+    assertThat(readOutbound()).containsExactlyElementsOf(messages);
+    verify(metrics).observeMessagesPerFlush(3);
+  }
+
+  @Test
+  void shouldFlushOnceByteBudgetIsExhausted() {
+    // given - each message is roughly 100 bytes, so the budget is exhausted after the second one
+    final var coalescer = new ChannelWriteCoalescer(channel, 150, metrics);
+    final var messages = List.of(request(1, 64), request(2, 64), request(3, 64));
+
+    // when
+    messages.forEach(coalescer::write);
+    channel.runPendingTasks();
+
+    // then
+    assertThat(flushCounter.flushes).isEqualTo(2);
+    assertThat(readOutbound()).containsExactlyElementsOf(messages);
+    verify(metrics).observeMessagesPerFlush(2);
+    verify(metrics).observeMessagesPerFlush(1);
+  }
+
+  @Test
+  void shouldCompleteFutureOnceWritten() {
+    // given
+    final var coalescer = new ChannelWriteCoalescer(channel, 64 * 1024, metrics);
+
+    // when
+    final var future = coalescer.write(request(1, 10));
+
+    // then
+    assertThat(future.isDone()).isFalse();
+    channel.runPendingTasks();
+    assertThat(future.isSuccess()).isTrue();
+  }
+
+  @Test
+  void shouldWriteMessagesEnqueuedWhileDraining() {
+    // given
+    final var coalescer = new ChannelWriteCoalescer(channel, 64 * 1024, metrics);
+    final var reply = new ProtocolReply(2, new byte[10], Status.OK);
+    coalescer.write(request(1, 10)).addListener(ignored -> coalescer.writeAndForget(reply));
+
+    // when
+    channel.runPendingTasks();
+
+    // then
+    assertThat(flushCounter.flushes).isEqualTo(2);
+    assertThat(readOutbound()).hasSize(2).last().isEqualTo(reply);
+  }
+
+  private ProtocolRequest request(final long id, final int payloadSize) {
+    return new ProtocolRequest(id, Address.from(26502), "s", new byte[payloadSize]);
+  }
+
+  private List<Object> readOutbound() {
+    final var messages = new ArrayList<>();
+    Object message;
+    while ((message = channel.readOutbound()) != null) {
+      messages.add(message);
+    }
+    return messages;
+  }
+
+  private static final class FlushCounter extends ChannelOutboundHandlerAdapter {
+    private int flushes;
+
+    @Override
+    public void flush(final ChannelHandlerContext ctx) throws Exception {
+      flushes++;
+      super.flush(ctx);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.utils.net.Address;
+import io.camunda.zeebe.test.util.junit.AutoCloseResources;
+import io.camunda.zeebe.test.util.junit.AutoCloseResources.AutoCloseResource;
+import io.camunda.zeebe.test.util.socket.SocketUtil;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@AutoCloseResources
+final class NettyMessagingServiceWriteCoalescingTest {
+  private static final String SUBJECT = "subject";
+
+  @AutoCloseResource private NettyMessagingService sender;
+  @AutoCloseResource private NettyMessagingService receiver;
+
+  @BeforeEach
+  void beforeEach() {
+    // a tiny budget forces drains to be split over multiple flushes
+    final var config =
+        new MessagingConfig()
+            .setShutdownQuietPeriod(Duration.ofMillis(50))
+            .setWriteCoalescingEnabled(true)
+            .setWriteCoalescingBudget(256);
+
+    sender = new NettyMessagingService("test", newAddress(), config);
+    receiver = new NettyMessagingService("test", newAddress(), config);
+    CompletableFuture.allOf(sender.start(), receiver.start()).join();
+  }
+
+  @Test
+  void shouldSendAndReceiveConcurrentRequests() {
+    // given
+    receiver.registerHandler(
+        SUBJECT, (address, payload) -> CompletableFuture.completedFuture(payload));
+
+    // when
+    final var responses =
+        IntStream.range(0, 1_000)
+            .mapToObj(
+                i ->
+                    sender.sendAndReceive(
+                        receiver.address(), SUBJECT, Integer.toString(i).getBytes()))
+            .toList();
+
+    // then
+    assertThat(CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)))
+        .succeedsWithin(Duration.ofSeconds(30));
+    assertThat(responses)
+        .extracting(response -> new String(response.join()))
+        .containsExactlyElementsOf(IntStream.range(0, 1_000).mapToObj(Integer::toString).toList());
+  }
+
+  @Test
+  void shouldDeliverMessagesInOrder() {
+    // given
+    final var received = new CopyOnWriteArrayList<String>();
+    receiver.registerHandler(
+        SUBJECT,
+        (address, payload) -> {
+          received.add(new String(payload));
+        },
+        Runnable::run);
+    // establish the connection first, as messages sent while connecting may be reordered
+    sender.sendAsync(receiver.address(), SUBJECT, "0".getBytes());
+    Awaitility.await("until connected").until(() -> !received.isEmpty());
+
+    // when
+    IntStream.range(1, 1_000)
+        .forEach(
+            i -> sender.sendAsync(receiver.address(), SUBJECT, Integer.toString(i).getBytes()));
+
+    // then
+    Awaitility.await("until all messages are received")
+        .untilAsserted(() -> assertThat(received).hasSize(1_000));
+    assertThat(received)
+        .containsExactlyElementsOf(IntStream.range(0, 1_000).mapToObj(Integer::toString).toList());
+  }
+
+  private Address newAddress() {
+    return Address.from(SocketUtil.getNextAddress().getPort());
+  }
+}
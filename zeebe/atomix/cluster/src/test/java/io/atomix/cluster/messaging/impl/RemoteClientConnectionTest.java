@@ -123,6 +123,23 @@ public class RemoteClientConnectionTest {
     assertThat(simpleMetrics.messageCount.size()).isZero();
   }
 
+  @Test
+  public void shouldCountPendingWritesPerTrafficClass() {
+    // given
+
+    // when
+    remoteClientConnection.sendAsync(
+        new ProtocolRequest(1, new Address("", 12345), "raft-partition-1-append", new byte[0]));
+    remoteClientConnection.sendAsync(
+        new ProtocolRequest(2, new Address("", 12345), "raft-partition-1-install", new byte[0]));
+    remoteClientConnection.sendAsync(
+        new ProtocolRequest(3, new Address("", 12345), "raft-partition-1-install", new byte[0]));
+
+    // then - the mocked channel never completes the writes
+    assertThat(simpleMetrics.pendingWrites.get(TrafficClass.LATENCY_CRITICAL.name())).isEqualTo(1);
+    assertThat(simpleMetrics.pendingWrites.get(TrafficClass.BULK.name())).isEqualTo(2);
+  }
+
   @Test
   public void shouldReceiveConnectionClosedExceptionForResponseOnClientClose() {
     // given
@@ -152,6 +169,7 @@ public class RemoteClientConnectionTest {
     final Map<String, Integer> reqRespCount = new HashMap<>();
     final Map<String, Integer> reqSize = new HashMap<>();
     final Map<String, Boolean> requestOutcome = new HashMap<>();
+    final Map<String, Integer> pendingWrites = new HashMap<>();
 
     @Override
     public CloseableSilently startRequestTimer(final String name) {
@@ -205,6 +223,24 @@ public class RemoteClientConnectionTest {
       inFlightRequestCount.put(key, integer - 1);
     }
 
+    @Override
+    public void observeMessagesPerFlush(final int messages) {}
+
+    @Override
+    public CloseableSilently startWriteTimer(final String trafficClass) {
+      return () -> {};
+    }
+
+    @Override
+    public void incPendingWrites(final String trafficClass) {
+      pendingWrites.merge(trafficClass, 1, Integer::sum);
+    }
+
+    @Override
+    public void decPendingWrites(final String trafficClass) {
+      pendingWrites.merge(trafficClass, -1, Integer::sum);
+    }
+
     String computeKey(final String to, final String name) {
       return String.format(LABEL_FORMAT, to, name);
     }
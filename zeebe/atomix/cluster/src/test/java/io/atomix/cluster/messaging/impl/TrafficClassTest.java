@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class TrafficClassTest {
+  private static final String RAFT_PREFIX = "raft-partition-partition-1-";
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "append",
+        "append-versioned",
+        "poll",
+        "vote",
+        "transfer",
+        "configure",
+        "heartbeat",
+        "leaderHeartbeat"
+      })
+  void shouldClassifyConsensusMessagesAsLatencyCritical(final String type) {
+    assertThat(TrafficClass.of(RAFT_PREFIX + type)).isEqualTo(TrafficClass.LATENCY_CRITICAL);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"install"})
+  void shouldClassifySnapshotTransfersAsBulk(final String type) {
+    assertThat(TrafficClass.of(RAFT_PREFIX + type)).isEqualTo(TrafficClass.BULK);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"reconfigure", "force-configure", "join", "leave"})
+  void shouldNotClassifyAdministrativeConfigurationChangesAsLatencyCritical(final String type) {
+    assertThat(TrafficClass.of(RAFT_PREFIX + type)).isEqualTo(TrafficClass.DEFAULT);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"inter-partition-1", "stream-push", "jobsAvailable"})
+  void shouldClassifyOtherMessagesAsDefault(final String subject) {
+    assertThat(TrafficClass.of(subject)).isEqualTo(TrafficClass.DEFAULT);
+  }
+}
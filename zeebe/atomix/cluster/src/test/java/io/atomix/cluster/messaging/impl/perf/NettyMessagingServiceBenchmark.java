@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl.perf;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.impl.NettyMessagingService;
+import io.atomix.utils.net.Address;
+import io.camunda.zeebe.test.util.socket.SocketUtil;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares throughput and latency of request-response messaging between two messaging services
+ * running in the same JVM, with and without write coalescing. Many concurrent senders share the
+ * same channel, which is where coalescing is expected to pay off.
+ *
+ * <p>Run it with the JMH runner, e.g. {@code org.openjdk.jmh.Main NettyMessagingServiceBenchmark};
+ * the sample time mode reports the p99 latency next to the throughput.
+ */
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(16)
+@State(Scope.Benchmark)
+public class NettyMessagingServiceBenchmark {
+  private static final String SUBJECT = "benchmark";
+  private static final byte[] PAYLOAD = new byte[256];
+
+  @Param({"false", "true"})
+  public boolean writeCoalescing;
+
+  private NettyMessagingService sender;
+  private NettyMessagingService receiver;
+
+  @Setup
+  public void setup() {
+    final var config =
+        new MessagingConfig()
+            .setShutdownQuietPeriod(Duration.ofMillis(50))
+            .setWriteCoalescingEnabled(writeCoalescing);
+    sender = new NettyMessagingService("benchmark", newAddress(), config);
+    receiver = new NettyMessagingService("benchmark", newAddress(), config);
+    CompletableFuture.allOf(sender.start(), receiver.start()).join();
+
+    receiver.registerHandler(
+        SUBJECT, (address, payload) -> CompletableFuture.completedFuture(payload));
+  }
+
+  @TearDown
+  public void tearDown() {
+    CompletableFuture.allOf(sender.stop(), receiver.stop()).join();
+  }
+
+  @Benchmark
+  public byte[] measureRequestResponse() {
+    return sender.sendAndReceive(receiver.address(), SUBJECT, PAYLOAD).join();
+  }
+
+  private static Address newAddress() {
+    return Address.from(SocketUtil.getNextAddress().getPort());
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.protocol.SwimMembershipProtocol.ImmutableMember;
+import io.atomix.cluster.protocol.SwimMembershipProtocol.State;
+import io.atomix.utils.net.Address;
+import java.util.Properties;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+final class DisseminationQueueTest {
+
+  @Test
+  void shouldScaleRetransmitLimitLogarithmically() {
+    // given
+    final var queue = new DisseminationQueue(3);
+
+    // when - then
+    assertThat(queue.retransmitLimit(1)).isEqualTo(3);
+    assertThat(queue.retransmitLimit(3)).isEqualTo(6);
+    assertThat(queue.retransmitLimit(4)).isEqualTo(9);
+    assertThat(queue.retransmitLimit(100)).isEqualTo(21);
+  }
+
+  @Test
+  void shouldRemoveUpdateAfterRetransmitLimit() {
+    // given
+    final var queue = new DisseminationQueue(2);
+    queue.add(member("1", 1), 10);
+
+    // when - a single member allows 2 transmissions
+    final var first = queue.take(8, 1);
+    final var second = queue.take(8, 1);
+    final var third = queue.take(8, 1);
+
+    // then
+    assertThat(first).extracting(Pair::getRight).containsExactly(10L);
+    assertThat(second).hasSize(1);
+    assertThat(third).isEmpty();
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldCoalesceUpToMaxUpdatesAndPreferLeastTransmitted() {
+    // given
+    final var queue = new DisseminationQueue(4);
+    queue.add(member("1", 1), 1);
+    queue.add(member("2", 1), 1);
+    queue.take(2, 3);
+
+    // when
+    queue.add(member("3", 1), 2);
+    final var updates = queue.take(2, 3);
+
+    // then - the new update is sent first, together with one of the older ones
+    assertThat(updates).hasSize(2);
+    assertThat(updates.getFirst().getLeft().id()).isEqualTo(MemberId.from("3"));
+  }
+
+  @Test
+  void shouldReplacePendingUpdateOfSameMember() {
+    // given
+    final var queue = new DisseminationQueue(1);
+    queue.add(member("1", 1), 1);
+
+    // when
+    queue.add(member("1", 2), 5);
+    final var updates = queue.take(8, 1);
+
+    // then
+    assertThat(updates).hasSize(1);
+    assertThat(updates.getFirst().getLeft().incarnationNumber()).isEqualTo(2);
+    assertThat(updates.getFirst().getRight()).isEqualTo(5L);
+  }
+
+  private ImmutableMember member(final String id, final long incarnationNumber) {
+    return new ImmutableMember(
+        MemberId.from(id),
+        new Address("localhost", 5000),
+        null,
+        null,
+        null,
+        new Properties(),
+        null,
+        0,
+        State.ALIVE,
+        incarnationNumber);
+  }
+}
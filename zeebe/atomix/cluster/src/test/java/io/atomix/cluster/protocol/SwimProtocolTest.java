@@ -329,6 +329,51 @@ public class SwimProtocolTest extends ConcurrentTestCase {
     Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> hasNewProperty(protocol3));
   }
 
+  @Test
+  public void shouldRemoveNodeOnPartitionWithPiggybackedUpdates() throws Exception {
+    // given
+    startProtocol(member1, config -> config.setPiggybackUpdates(true));
+    startProtocol(member2, config -> config.setPiggybackUpdates(true));
+    startProtocol(member3, config -> config.setPiggybackUpdates(true));
+
+    awaitMembers(member3, member1, member2, member3);
+    awaitMembers(member2, member1, member2, member3);
+    awaitMembers(member1, member1, member2, member3);
+
+    clearEvents(member1, member2, member3);
+
+    // when
+    partition(member3);
+
+    // then
+    checkEvent(member1, REACHABILITY_CHANGED, member3);
+    checkEvent(member2, REACHABILITY_CHANGED, member3);
+    checkEvent(member1, MEMBER_REMOVED, member3);
+    checkEvent(member2, MEMBER_REMOVED, member3);
+  }
+
+  @Test
+  public void shouldPropagateMetadataWithPiggybackedUpdates() throws Exception {
+    // given
+    startProtocol(member1, config -> config.setPiggybackUpdates(true));
+    startProtocol(member2, config -> config.setPiggybackUpdates(true));
+    startProtocol(member3, config -> config.setPiggybackUpdates(true));
+
+    awaitMembers(member3, member1, member2, member3);
+    awaitMembers(member2, member1, member2, member3);
+    awaitMembers(member1, member1, member2, member3);
+
+    clearEvents(member1, member2, member3);
+
+    // when
+    member1.properties().put("foo", "bar");
+
+    // then
+    checkEvent(member1, METADATA_CHANGED, member1);
+    checkEvent(member2, METADATA_CHANGED, member1);
+    checkEvent(member3, METADATA_CHANGED, member1);
+  }
+
   private boolean hasNewProperty(final SwimMembershipProtocol protocol3) {
     final var memberOne = protocol3.getMember(member1.id());
 
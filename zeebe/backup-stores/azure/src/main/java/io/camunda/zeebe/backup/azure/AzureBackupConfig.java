@@ -7,12 +7,27 @@
  */
 package io.camunda.zeebe.backup.azure;
 
+/**
+ * @param deduplicateFiles if true, files are stored in the content-addressed layout so that
+ *     consecutive backups of a partition only upload files which changed, see {@link
+ *     io.camunda.zeebe.backup.common.ContentAddressedFiles}
+ */
 public record AzureBackupConfig(
     String endpoint,
     String accountName,
     String accountKey,
     String connectionString,
-    String containerName) {
+    String containerName,
+    boolean deduplicateFiles) {
+
+  public AzureBackupConfig(
+      final String endpoint,
+      final String accountName,
+      final String accountKey,
+      final String connectionString,
+      final String containerName) {
+    this(endpoint, accountName, accountKey, connectionString, containerName, false);
+  }
 
   public static class Builder {
 
@@ -24,6 +39,8 @@ public record AzureBackupConfig(
     // maps to the basePath env variable
     private String containerName;
 
+    private boolean deduplicateFiles = false;
+
     public Builder withEndpoint(final String endpoint) {
       this.endpoint = endpoint;
       return this;
@@ -49,10 +66,15 @@ public record AzureBackupConfig(
       return this;
     }
 
+    public Builder withDeduplicateFiles(final boolean deduplicateFiles) {
+      this.deduplicateFiles = deduplicateFiles;
+      return this;
+    }
+
     public AzureBackupConfig build() {
 
       return new AzureBackupConfig(
-          endpoint, accountName, accountKey, conectionString, containerName);
+          endpoint, accountName, accountKey, conectionString, containerName, deduplicateFiles);
     }
   }
 }
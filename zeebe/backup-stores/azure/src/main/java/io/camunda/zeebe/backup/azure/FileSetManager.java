@@ -8,24 +8,32 @@
 package io.camunda.zeebe.backup.azure;
 
 import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.models.BlobErrorCode;
+import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.BlobRequestConditions;
 import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.models.ListBlobsOptions;
 import com.azure.storage.blob.specialized.BlockBlobClient;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.azure.AzureBackupStoreException.BlobAlreadyExists;
+import io.camunda.zeebe.backup.common.ContentAddressedFiles;
 import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.FileSet.NamedFile;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 final class FileSetManager {
   // The path format is constructed by contents/partitionId/checkpointId/nodeId/nameOfFile
   private static final String PATH_FORMAT = "contents/%s/%s/%s/%s/";
+  private static final String LAST_REUSED_METADATA_KEY = "lastReusedAt";
   private final BlobContainerClient containerClient;
   private boolean containerCreated = false;
 
@@ -34,10 +42,34 @@ final class FileSetManager {
   }
 
   void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
+    save(id, fileSetName, fileSet, FileSet.of(fileSet));
+  }
+
+  /**
+   * Saves the given files. Files for which the manifest's file set contains a checksum are stored
+   * in the content-addressed layout, and are only uploaded if no other backup of the same partition
+   * uploaded the same contents before.
+   */
+  void save(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final NamedFileSet fileSet,
+      final FileSet manifestFiles) {
     assureContainerCreated();
+    final var checksums =
+        manifestFiles.files().stream()
+            .filter(file -> file.checksum() != null)
+            .collect(Collectors.toMap(NamedFile::name, NamedFile::checksum));
+
     for (final var namedFile : fileSet.namedFiles().entrySet()) {
       final var fileName = namedFile.getKey();
       final var filePath = namedFile.getValue();
+      final var checksum = checksums.get(fileName);
+      if (checksum != null) {
+        saveContentAddressed(id.partitionId(), checksum, filePath);
+        continue;
+      }
+
       final String fileSetPath = fileSetPath(id, fileSetName);
 
       final BlobClient blobClient = containerClient.getBlobClient(fileSetPath + fileName);
@@ -54,6 +86,77 @@ final class FileSetManager {
     }
   }
 
+  private void saveContentAddressed(final int partitionId, final String checksum, final Path file) {
+    final BlobClient blobClient = containerClient.getBlobClient(objectPath(partitionId, checksum));
+    if (renew(blobClient)) {
+      return;
+    }
+
+    try {
+      blobClient.upload(BinaryData.fromFile(file), false);
+    } catch (final BlobStorageException e) {
+      // a concurrent backup uploaded the same contents, which is fine
+      if (e.getErrorCode() != BlobErrorCode.BLOB_ALREADY_EXISTS) {
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Updates the metadata of an existing object before it's reused. This changes its ETag, so that a
+   * concurrent collection, e.g. of another node, which listed the object before can't delete it
+   * anymore, see {@link #deleteObjects(Collection)}.
+   *
+   * @return false if the object doesn't exist
+   */
+  private boolean renew(final BlobClient blobClient) {
+    try {
+      blobClient.setMetadata(Map.of(LAST_REUSED_METADATA_KEY, Instant.now().toString()));
+      return true;
+    } catch (final BlobStorageException e) {
+      if (e.getErrorCode() == BlobErrorCode.BLOB_NOT_FOUND) {
+        return false;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * @return all content-addressed objects stored for the partition, by their checksum
+   */
+  public Map<String, BlobItem> listObjects(final int partitionId) {
+    assureContainerCreated();
+    final var prefix = objectPath(partitionId, "");
+    return containerClient.listBlobs(new ListBlobsOptions().setPrefix(prefix), null).stream()
+        .collect(
+            Collectors.toMap(
+                blobItem -> blobItem.getName().substring(prefix.length()), item -> item));
+  }
+
+  /**
+   * Deletes the given content-addressed objects, as they were listed. Callers must ensure that no
+   * remaining backup references them anymore. Objects which were uploaded or reused since they were
+   * listed are kept.
+   */
+  public void deleteObjects(final Collection<BlobItem> objects) {
+    assureContainerCreated();
+    for (final var object : objects) {
+      try {
+        containerClient
+            .getBlobClient(object.getName())
+            .deleteIfExistsWithResponse(
+                null,
+                new BlobRequestConditions().setIfMatch(object.getProperties().getETag()),
+                null,
+                Context.NONE);
+      } catch (final BlobStorageException e) {
+        if (e.getErrorCode() != BlobErrorCode.CONDITION_NOT_MET) {
+          throw e;
+        }
+      }
+    }
+  }
+
   public void delete(final BackupIdentifier id, final String fileSetName) {
     assureContainerCreated();
     final ListBlobsOptions options = new ListBlobsOptions().setPrefix(fileSetPath(id, fileSetName));
@@ -74,15 +177,15 @@ final class FileSetManager {
         fileSet.files().stream()
             .collect(Collectors.toMap(NamedFile::name, f -> targetFolder.resolve(f.name())));
 
-    for (final var entry : pathByName.entrySet()) {
-      final var fileName = entry.getKey();
-      final var filePath = entry.getValue();
+    for (final var file : fileSet.files()) {
+      final var blobPath =
+          file.checksum() == null
+              ? fileSetPath(id, fileSetName) + file.name()
+              : objectPath(id.partitionId(), file.checksum());
 
       final BlockBlobClient blobClient =
-          containerClient
-              .getBlobClient(fileSetPath(id, fileSetName) + fileName)
-              .getBlockBlobClient();
-      blobClient.downloadToFile(String.valueOf(filePath), true);
+          containerClient.getBlobClient(blobPath).getBlockBlobClient();
+      blobClient.downloadToFile(String.valueOf(pathByName.get(file.name())), true);
     }
 
     return new NamedFileSetImpl(pathByName);
@@ -95,6 +198,10 @@ final class FileSetManager {
     }
   }
 
+  private String objectPath(final int partitionId, final String checksum) {
+    return ContentAddressedFiles.objectPath(partitionId, checksum);
+  }
+
   private String fileSetPath(final BackupIdentifier id, final String fileSetName) {
     return PATH_FORMAT.formatted(id.partitionId(), id.checkpointId(), id.nodeId(), fileSetName);
   }
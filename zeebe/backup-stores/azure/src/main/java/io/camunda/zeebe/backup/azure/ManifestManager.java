@@ -74,8 +74,12 @@ public final class ManifestManager {
   }
 
   PersistedManifest createInitialManifest(final Backup backup) {
+    return createInitialManifest(backup, false);
+  }
+
+  PersistedManifest createInitialManifest(final Backup backup, final boolean contentAddressed) {
 
-    final var manifest = Manifest.createInProgress(backup);
+    final var manifest = Manifest.createInProgress(backup, contentAddressed);
     final byte[] serializedManifest;
     assureContainerCreated();
     try {
@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Helpers for the content-addressed backup layout. In this layout, the contents of a file are
+ * stored once per partition, keyed by the checksum of the contents, and a backup's manifest only
+ * references them. Consecutive backups of a partition share most of their snapshot files, which
+ * then don't have to be uploaded or stored again.
+ *
+ * <p>Content-addressed objects are reference counted by the manifests that reference them: an
+ * object can only be deleted once no manifest of the same partition references it anymore, see
+ * {@link #unreferenced(Set, Collection)}. Deleting objects must be serialized against saving
+ * backups of the same partition, see {@link ContentAddressedObjectsLock}.
+ *
+ * <p>The lock doesn't cover backups which other nodes save concurrently. To not delete objects
+ * which such a backup reuses or uploads, stores list the stored objects before they read the
+ * remaining manifests, and either only reuse objects which a manifest references, or make reused
+ * objects fail the deletion of a collection which listed them before.
+ */
+public final class ContentAddressedFiles {
+  private static final String CHECKSUM_ALGORITHM = "SHA-256";
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * The path format consists of the following elements:
+   *
+   * <ul>
+   *   <li>{@code "objects"}
+   *   <li>{@code partitionId}
+   *   <li>{@code checksum}
+   * </ul>
+   */
+  private static final String OBJECT_PATH_FORMAT = "objects/%d/%s";
+
+  // Hide default constructor
+  private ContentAddressedFiles() {}
+
+  /**
+   * @return the hex encoded SHA-256 checksum of the given file's contents
+   * @throws UncheckedIOException if the file can't be read
+   */
+  public static String checksum(final Path file) {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(CHECKSUM_ALGORITHM + " is required to be supported", e);
+    }
+
+    try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final var buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+      while (channel.read(buffer) >= 0) {
+        buffer.flip();
+        digest.update(buffer);
+        buffer.clear();
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * @return the path of the content-addressed object, relative to the store's base path
+   */
+  public static String objectPath(final int partitionId, final String checksum) {
+    return OBJECT_PATH_FORMAT.formatted(partitionId, Objects.requireNonNull(checksum));
+  }
+
+  /**
+   * @return the checksums of all content-addressed files referenced by the given manifest
+   */
+  public static Set<String> referencedChecksums(final Manifest manifest) {
+    if (!(manifest instanceof final ManifestImpl impl)) {
+      return Set.of();
+    }
+
+    return Stream.of(impl.snapshot(), impl.segments())
+        .filter(Objects::nonNull)
+        .flatMap(fileSet -> fileSet.files().stream())
+        .map(NamedFile::checksum)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Returns the objects which no backup references anymore. Besides the objects of deleted backups,
+   * these include objects which failed backups uploaded before their files were recorded.
+   *
+   * @param stored the objects stored for a partition, listed before the remaining backups were read
+   * @param remaining the objects referenced by each remaining backup of the same partition
+   * @return the subset of stored objects which no remaining backup references, and which can be
+   *     deleted safely
+   */
+  public static Set<String> unreferenced(
+      final Set<String> stored, final Collection<Set<String>> remaining) {
+    final var unreferenced = new HashSet<>(stored);
+    remaining.forEach(unreferenced::removeAll);
+    return unreferenced;
+  }
+}
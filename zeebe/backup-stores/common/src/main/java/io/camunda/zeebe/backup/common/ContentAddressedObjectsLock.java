@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Serializes the collection of unreferenced content-addressed objects against the backups of the
+ * same partition, which may reuse these objects. Any number of backups of a partition can be saved
+ * concurrently, but objects are only collected while no backup of the partition is being saved, and
+ * no backup starts while objects are collected. Otherwise, a backup could reuse an object which a
+ * concurrent collection already chose to delete.
+ *
+ * <p>Waiting operations are granted in the order in which they arrived, so a steady stream of
+ * backups can't starve a collection and vice versa. The lock only covers the operations of one
+ * store instance. Backups which another node saves concurrently, e.g. a former leader of the
+ * partition, must be guarded by the store itself, see {@link ContentAddressedFiles}.
+ */
+public final class ContentAddressedObjectsLock {
+  // guarded by this
+  private final Map<Integer, PartitionLock> partitions = new HashMap<>();
+
+  /**
+   * Runs the given save of a backup of the partition, once no objects of the partition are being
+   * collected. Saves of the same partition may run concurrently.
+   */
+  public <T> CompletableFuture<T> whileSaving(
+      final int partitionId, final Supplier<CompletableFuture<T>> save) {
+    return run(partitionId, false, save);
+  }
+
+  /**
+   * Runs the given collection of unreferenced objects of the partition, once no backup of the
+   * partition is being saved or collected.
+   */
+  public <T> CompletableFuture<T> whileCollecting(
+      final int partitionId, final Supplier<CompletableFuture<T>> collection) {
+    return run(partitionId, true, collection);
+  }
+
+  private <T> CompletableFuture<T> run(
+      final int partitionId, final boolean exclusive, final Supplier<CompletableFuture<T>> action) {
+    return acquire(partitionId, exclusive)
+        .thenCompose(
+            granted -> {
+              CompletableFuture<T> result;
+              try {
+                result = action.get();
+              } catch (final RuntimeException e) {
+                result = CompletableFuture.failedFuture(e);
+              }
+              return result.whenComplete((ignored, error) -> release(partitionId, exclusive));
+            });
+  }
+
+  private synchronized CompletableFuture<Void> acquire(
+      final int partitionId, final boolean exclusive) {
+    final var lock = partitions.computeIfAbsent(partitionId, id -> new PartitionLock());
+    if (lock.waiting.isEmpty() && lock.canGrant(exclusive)) {
+      lock.grant(exclusive);
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final var waiter = new Waiter(exclusive, new CompletableFuture<>());
+    lock.waiting.add(waiter);
+    return waiter.granted();
+  }
+
+  private void release(final int partitionId, final boolean exclusive) {
+    final List<CompletableFuture<Void>> granted = new ArrayList<>();
+    synchronized (this) {
+      final var lock = partitions.get(partitionId);
+      lock.release(exclusive);
+      while (!lock.waiting.isEmpty() && lock.canGrant(lock.waiting.peek().exclusive())) {
+        final var waiter = lock.waiting.poll();
+        lock.grant(waiter.exclusive());
+        granted.add(waiter.granted());
+      }
+
+      if (lock.isIdle()) {
+        partitions.remove(partitionId);
+      }
+    }
+
+    // granted operations are started outside the monitor, as they may release the lock right away
+    granted.forEach(future -> future.complete(null));
+  }
+
+  private static final class PartitionLock {
+    private final Queue<Waiter> waiting = new ArrayDeque<>();
+    private int saves;
+    private boolean collecting;
+
+    private boolean canGrant(final boolean exclusive) {
+      return !collecting && (!exclusive || saves == 0);
+    }
+
+    private void grant(final boolean exclusive) {
+      if (exclusive) {
+        collecting = true;
+      } else {
+        saves++;
+      }
+    }
+
+    private void release(final boolean exclusive) {
+      if (exclusive) {
+        collecting = false;
+      } else {
+        saves--;
+      }
+    }
+
+    private boolean isIdle() {
+      return !collecting && saves == 0 && waiting.isEmpty();
+    }
+  }
+
+  private record Waiter(boolean exclusive, CompletableFuture<Void> granted) {}
+}
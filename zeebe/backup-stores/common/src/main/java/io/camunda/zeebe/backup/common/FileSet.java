@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.backup.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import java.util.List;
 import java.util.Objects;
@@ -43,9 +45,35 @@ public record FileSet(List<NamedFile> files) {
     return new FileSet(fileSet.namedFiles().keySet().stream().map(NamedFile::new).toList());
   }
 
-  public record NamedFile(String name) {
+  /**
+   * Like {@link #of(NamedFileSet)}, but additionally computes the checksum of every file, so that
+   * the files can be stored in the content-addressed layout, see {@link ContentAddressedFiles}.
+   */
+  public static FileSet withChecksums(final NamedFileSet fileSet) {
+    if (fileSet == null) {
+      return new FileSet(List.of());
+    }
+
+    return new FileSet(
+        fileSet.namedFiles().entrySet().stream()
+            .map(
+                file ->
+                    new NamedFile(file.getKey(), ContentAddressedFiles.checksum(file.getValue())))
+            .toList());
+  }
+
+  /**
+   * @param name the name of the file
+   * @param checksum the checksum of the file's contents if it is stored in the content-addressed
+   *     layout, otherwise null
+   */
+  public record NamedFile(String name, @JsonInclude(Include.NON_NULL) String checksum) {
     public NamedFile {
       Objects.requireNonNull(name);
     }
+
+    public NamedFile(final String name) {
+      this(name, null);
+    }
   }
 }
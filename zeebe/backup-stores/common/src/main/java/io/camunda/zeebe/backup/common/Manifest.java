@@ -21,13 +21,21 @@ import java.util.Optional;
 public sealed interface Manifest {
 
   static InProgressManifest createInProgress(final Backup backup) {
+    return createInProgress(backup, false);
+  }
+
+  /**
+   * @param contentAddressed if true, the checksums of all files are computed and recorded, so that
+   *     they are stored in the content-addressed layout, see {@link ContentAddressedFiles}
+   */
+  static InProgressManifest createInProgress(final Backup backup, final boolean contentAddressed) {
     final var creationTime = Instant.now();
     return new ManifestImpl(
         BackupIdentifierImpl.from(backup.id()),
         BackupDescriptorImpl.from(backup.descriptor()),
         StatusCode.IN_PROGRESS,
-        FileSet.of(backup.snapshot()),
-        FileSet.of(backup.segments()),
+        contentAddressed ? FileSet.withChecksums(backup.snapshot()) : FileSet.of(backup.snapshot()),
+        contentAddressed ? FileSet.withChecksums(backup.segments()) : FileSet.of(backup.segments()),
         creationTime,
         creationTime);
   }
@@ -94,6 +102,10 @@ public sealed interface Manifest {
     CompletedManifest complete();
 
     FailedManifest fail(final String failureReason);
+
+    FileSet snapshot();
+
+    FileSet segments();
   }
 
   sealed interface CompletedManifest extends Manifest permits ManifestImpl {
@@ -7,19 +7,27 @@
  */
 package io.camunda.zeebe.backup.gcs;
 
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.BucketInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.Storage.BlobListOption;
+import com.google.cloud.storage.Storage.BlobSourceOption;
 import com.google.cloud.storage.Storage.BlobWriteOption;
+import com.google.cloud.storage.StorageException;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.ContentAddressedFiles;
 import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.FileSet.NamedFile;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 final class FileSetManager {
@@ -37,6 +45,9 @@ final class FileSetManager {
    */
   private static final String PATH_FORMAT = "%scontents/%s/%s/%s/%s/";
 
+  private static final String LAST_REUSED_METADATA_KEY = "lastReusedAt";
+  private static final int NOT_FOUND = 404;
+
   private final Storage client;
   private final BucketInfo bucketInfo;
   private final String basePath;
@@ -48,18 +59,80 @@ final class FileSetManager {
   }
 
   void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
+    save(id, fileSetName, fileSet, FileSet.of(fileSet));
+  }
+
+  /**
+   * Saves the given files. Files for which the manifest's file set contains a checksum are stored
+   * in the content-addressed layout, and are only uploaded if no other backup of the same partition
+   * uploaded the same contents before.
+   */
+  void save(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final NamedFileSet fileSet,
+      final FileSet manifestFiles) {
+    final var checksums =
+        manifestFiles.files().stream()
+            .filter(file -> file.checksum() != null)
+            .collect(Collectors.toMap(NamedFile::name, NamedFile::checksum));
+
     for (final var namedFile : fileSet.namedFiles().entrySet()) {
       final var fileName = namedFile.getKey();
       final var filePath = namedFile.getValue();
+      final var checksum = checksums.get(fileName);
       try {
-        client.createFrom(
-            blobInfo(id, fileSetName, fileName), filePath, BlobWriteOption.doesNotExist());
+        if (checksum == null) {
+          client.createFrom(
+              blobInfo(id, fileSetName, fileName), filePath, BlobWriteOption.doesNotExist());
+        } else {
+          saveContentAddressed(id.partitionId(), checksum, filePath);
+        }
       } catch (final IOException e) {
         throw new UncheckedIOException(e);
       }
     }
   }
 
+  private void saveContentAddressed(final int partitionId, final String checksum, final Path file)
+      throws IOException {
+    final var blobInfo = objectBlobInfo(partitionId, checksum);
+    if (renew(blobInfo)) {
+      return;
+    }
+
+    try {
+      client.createFrom(blobInfo, file, BlobWriteOption.doesNotExist());
+    } catch (final StorageException e) {
+      // a concurrent backup uploaded the same contents, which is fine
+      if (e.getCode() != ManifestManager.PRECONDITION_FAILED) {
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Updates the metadata of an existing object before it's reused. This changes its metageneration,
+   * so that a concurrent collection, e.g. of another node, which listed the object before can't
+   * delete it anymore, see {@link #deleteObjects(Collection)}.
+   *
+   * @return false if the object doesn't exist
+   */
+  private boolean renew(final BlobInfo blobInfo) {
+    try {
+      return client.update(
+              blobInfo.toBuilder()
+                  .setMetadata(Map.of(LAST_REUSED_METADATA_KEY, Instant.now().toString()))
+                  .build())
+          != null;
+    } catch (final StorageException e) {
+      if (e.getCode() == NOT_FOUND) {
+        return false;
+      }
+      throw e;
+    }
+  }
+
   public void delete(final BackupIdentifier id, final String fileSetName) {
     for (final var blob :
         client
@@ -69,6 +142,39 @@ final class FileSetManager {
     }
   }
 
+  /**
+   * @return all content-addressed objects stored for the partition, by their checksum
+   */
+  public Map<String, Blob> listObjects(final int partitionId) {
+    final var prefix = basePath + ContentAddressedFiles.objectPath(partitionId, "");
+    final var objects = new HashMap<String, Blob>();
+    for (final var blob :
+        client.list(bucketInfo.getName(), BlobListOption.prefix(prefix)).iterateAll()) {
+      objects.put(blob.getName().substring(prefix.length()), blob);
+    }
+    return objects;
+  }
+
+  /**
+   * Deletes the given content-addressed objects, as they were listed. Callers must ensure that no
+   * remaining backup references them anymore. Objects which were uploaded or reused since they were
+   * listed are kept.
+   */
+  public void deleteObjects(final Collection<Blob> objects) {
+    for (final var object : objects) {
+      try {
+        client.delete(
+            object.getBlobId(),
+            BlobSourceOption.generationMatch(),
+            BlobSourceOption.metagenerationMatch(object.getMetageneration()));
+      } catch (final StorageException e) {
+        if (e.getCode() != ManifestManager.PRECONDITION_FAILED) {
+          throw e;
+        }
+      }
+    }
+  }
+
   public NamedFileSet restore(
       final BackupIdentifier id,
       final String filesetName,
@@ -78,10 +184,12 @@ final class FileSetManager {
         fileSet.files().stream()
             .collect(Collectors.toMap(NamedFile::name, (f) -> targetFolder.resolve(f.name())));
 
-    for (final var entry : pathByName.entrySet()) {
-      final var fileName = entry.getKey();
-      final var filePath = entry.getValue();
-      client.downloadTo(blobInfo(id, filesetName, fileName).getBlobId(), filePath);
+    for (final var file : fileSet.files()) {
+      final var blobInfo =
+          file.checksum() == null
+              ? blobInfo(id, filesetName, file.name())
+              : objectBlobInfo(id.partitionId(), file.checksum());
+      client.downloadTo(blobInfo.getBlobId(), pathByName.get(file.name()));
     }
 
     return new NamedFileSetImpl(pathByName);
@@ -92,6 +200,13 @@ final class FileSetManager {
         basePath, id.partitionId(), id.checkpointId(), id.nodeId(), fileSetName);
   }
 
+  private BlobInfo objectBlobInfo(final int partitionId, final String checksum) {
+    return BlobInfo.newBuilder(
+            bucketInfo, basePath + ContentAddressedFiles.objectPath(partitionId, checksum))
+        .setContentType("application/octet-stream")
+        .build();
+  }
+
   private BlobInfo blobInfo(
       final BackupIdentifier id, final String fileSetName, final String fileName) {
     return BlobInfo.newBuilder(bucketInfo, fileSetPath(id, fileSetName) + fileName)
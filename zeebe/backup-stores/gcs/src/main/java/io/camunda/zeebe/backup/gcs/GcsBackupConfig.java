@@ -12,11 +12,26 @@ import static java.util.Objects.requireNonNull;
 import io.camunda.zeebe.backup.gcs.GcsBackupStoreException.ConfigurationException;
 import io.camunda.zeebe.backup.gcs.GcsConnectionConfig.Authentication.Auto;
 
-public record GcsBackupConfig(String bucketName, String basePath, GcsConnectionConfig connection) {
-  public GcsBackupConfig(String bucketName, String basePath, GcsConnectionConfig connection) {
+/**
+ * @param deduplicateFiles if true, files are stored in the content-addressed layout so that
+ *     consecutive backups of a partition only upload files which changed, see {@link
+ *     io.camunda.zeebe.backup.common.ContentAddressedFiles}
+ */
+public record GcsBackupConfig(
+    String bucketName, String basePath, GcsConnectionConfig connection, boolean deduplicateFiles) {
+  public GcsBackupConfig(
+      String bucketName,
+      String basePath,
+      GcsConnectionConfig connection,
+      boolean deduplicateFiles) {
     this.bucketName = requireBucketName(bucketName);
     this.basePath = sanitizeBasePath(basePath);
     this.connection = requireNonNull(connection);
+    this.deduplicateFiles = deduplicateFiles;
+  }
+
+  public GcsBackupConfig(String bucketName, String basePath, GcsConnectionConfig connection) {
+    this(bucketName, basePath, connection, false);
   }
 
   private static String requireBucketName(final String bucketName) {
@@ -57,6 +72,7 @@ public record GcsBackupConfig(String bucketName, String basePath, GcsConnectionC
     private String basePath;
     private String host;
     private GcsConnectionConfig.Authentication auth;
+    private boolean deduplicateFiles = false;
 
     public Builder withBucketName(final String bucketName) {
       this.bucketName = bucketName;
@@ -83,8 +99,14 @@ public record GcsBackupConfig(String bucketName, String basePath, GcsConnectionC
       return this;
     }
 
+    public Builder withDeduplicateFiles(final boolean deduplicateFiles) {
+      this.deduplicateFiles = deduplicateFiles;
+      return this;
+    }
+
     public GcsBackupConfig build() {
-      return new GcsBackupConfig(bucketName, basePath, new GcsConnectionConfig(host, auth));
+      return new GcsBackupConfig(
+          bucketName, basePath, new GcsConnectionConfig(host, auth), deduplicateFiles);
     }
   }
 }
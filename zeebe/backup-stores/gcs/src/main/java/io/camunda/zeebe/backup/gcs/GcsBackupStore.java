@@ -17,8 +17,11 @@ import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
+import io.camunda.zeebe.backup.common.ContentAddressedFiles;
+import io.camunda.zeebe.backup.common.ContentAddressedObjectsLock;
 import io.camunda.zeebe.backup.common.Manifest;
 import io.camunda.zeebe.backup.gcs.GcsBackupStoreException.ConfigurationException.CouldNotAccessBucketException;
 import java.nio.file.Path;
@@ -41,6 +44,8 @@ public final class GcsBackupStore implements BackupStore {
   private final ManifestManager manifestManager;
   private final FileSetManager fileSetManager;
   private final Storage client;
+  private final boolean deduplicateFiles;
+  private final ContentAddressedObjectsLock objectsLock = new ContentAddressedObjectsLock();
 
   public GcsBackupStore(final GcsBackupConfig config) {
     this(config, buildClient(config));
@@ -50,6 +55,7 @@ public final class GcsBackupStore implements BackupStore {
     final var bucketInfo = BucketInfo.of(config.bucketName());
     final var basePath = Optional.ofNullable(config.basePath()).map(s -> s + "/").orElse("");
     this.client = client;
+    deduplicateFiles = config.deduplicateFiles();
     executor = Executors.newWorkStealingPool(4);
     manifestManager = new ManifestManager(client, bucketInfo, basePath);
     fileSetManager = new FileSetManager(client, bucketInfo, basePath);
@@ -57,19 +63,28 @@ public final class GcsBackupStore implements BackupStore {
 
   @Override
   public CompletableFuture<Void> save(final Backup backup) {
-    return CompletableFuture.runAsync(
-        () -> {
-          final var persistedManifest = manifestManager.createInitialManifest(backup);
-          try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
-            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
-            manifestManager.completeManifest(persistedManifest);
-          } catch (final Exception e) {
-            manifestManager.markAsFailed(persistedManifest.manifest(), e.getMessage());
-            throw e;
-          }
-        },
-        executor);
+    if (deduplicateFiles) {
+      // a backup may reuse stored objects, which must not be collected until it references them
+      return objectsLock.whileSaving(
+          backup.id().partitionId(),
+          () -> CompletableFuture.runAsync(() -> saveBackup(backup), executor));
+    }
+    return CompletableFuture.runAsync(() -> saveBackup(backup), executor);
+  }
+
+  private void saveBackup(final Backup backup) {
+    final var persistedManifest = manifestManager.createInitialManifest(backup, deduplicateFiles);
+    final var manifest = persistedManifest.manifest();
+    try {
+      fileSetManager.save(
+          backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot(), manifest.snapshot());
+      fileSetManager.save(
+          backup.id(), SEGMENTS_FILESET_NAME, backup.segments(), manifest.segments());
+      manifestManager.completeManifest(persistedManifest);
+    } catch (final Exception e) {
+      manifestManager.markAsFailed(manifest, e.getMessage());
+      throw e;
+    }
   }
 
   @Override
@@ -94,13 +109,57 @@ public final class GcsBackupStore implements BackupStore {
 
   @Override
   public CompletableFuture<Void> delete(final BackupIdentifier id) {
-    return CompletableFuture.runAsync(
-        () -> {
-          manifestManager.deleteManifest(id);
-          fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
-          fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
-        },
-        executor);
+    return CompletableFuture.supplyAsync(
+            () -> {
+              final var manifest = manifestManager.getManifest(id);
+              manifestManager.deleteManifest(id);
+              fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
+              fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+              return manifest;
+            },
+            executor)
+        .thenCompose(
+            manifest -> {
+              if (!deduplicateFiles
+                  && (manifest == null
+                      || ContentAddressedFiles.referencedChecksums(manifest).isEmpty())) {
+                return CompletableFuture.completedFuture(null);
+              }
+              return objectsLock.whileCollecting(
+                  id.partitionId(),
+                  () ->
+                      CompletableFuture.runAsync(
+                          () -> collectUnreferencedObjects(id.partitionId()), executor));
+            });
+  }
+
+  /**
+   * Deletes the content-addressed objects of the partition which no remaining backup references
+   * anymore. This also collects objects which failed backups uploaded before they were recorded.
+   * Must only be called after the deleted backup's manifest was deleted, and never concurrently
+   * with a backup of the same partition, see {@link ContentAddressedObjectsLock}. In-progress
+   * manifests already list their files, so the objects of in-progress backups are kept.
+   *
+   * <p>Backups saved by other nodes, e.g. by a former leader of the partition, are not serialized
+   * against the collection. The objects are therefore listed before the manifests are read, so that
+   * an object which such a backup uploads is either not listed or referenced by its manifest.
+   * Objects which such a backup reuses after they were listed are not deleted, see {@link
+   * FileSetManager#deleteObjects(Collection)}.
+   */
+  private void collectUnreferencedObjects(final int partitionId) {
+    final var stored = fileSetManager.listObjects(partitionId);
+    final var remaining =
+        manifestManager
+            .listManifests(
+                new BackupIdentifierWildcardImpl(
+                    Optional.empty(), Optional.of(partitionId), Optional.empty()))
+            .stream()
+            .map(ContentAddressedFiles::referencedChecksums)
+            .toList();
+    fileSetManager.deleteObjects(
+        ContentAddressedFiles.unreferenced(stored.keySet(), remaining).stream()
+            .map(stored::get)
+            .toList());
   }
 
   @Override
@@ -12,8 +12,11 @@ import static org.mockito.Mockito.*;
 
 import com.google.api.gax.paging.Page;
 import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.BucketInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobSourceOption;
 import com.google.cloud.storage.StorageException;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import io.camunda.zeebe.backup.common.FileSet;
@@ -117,6 +120,48 @@ final class FileSetManagerTest {
         .hasMessageContaining("expected");
   }
 
+  @Test
+  void shouldRenewReusedObjectInsteadOfUploadingIt() throws IOException {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var namedFileSet = new NamedFileSetImpl(Map.of("snapshotFile", Path.of("file")));
+    when(mockClient.update(any(BlobInfo.class))).thenReturn(mock(Blob.class));
+
+    // when
+    manager.save(
+        backupIdentifier,
+        "filesetName",
+        namedFileSet,
+        new FileSet(List.of(new NamedFile("snapshotFile", "checksum"))));
+
+    // then
+    verify(mockClient).update(any(BlobInfo.class));
+    verify(mockClient, never()).createFrom(any(), any(Path.class), any());
+  }
+
+  @Test
+  void shouldKeepObjectsChangedSinceTheyWereListed() {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var blobId = BlobId.of("bucket", "basePath/objects/2/checksum", 1L);
+    final var mockBlob = mock(Blob.class);
+    when(mockBlob.getBlobId()).thenReturn(blobId);
+    when(mockBlob.getMetageneration()).thenReturn(1L);
+    when(mockClient.delete(eq(blobId), any(BlobSourceOption[].class)))
+        .thenThrow(new StorageException(412, "changed"));
+
+    // when
+    manager.deleteObjects(List.of(mockBlob));
+
+    // then -- the deletion was conditional on the listed generation and metageneration
+    verify(mockClient)
+        .delete(
+            blobId, BlobSourceOption.generationMatch(), BlobSourceOption.metagenerationMatch(1L));
+  }
+
   @Test
   void shouldRestoreFileSet() {
     // given
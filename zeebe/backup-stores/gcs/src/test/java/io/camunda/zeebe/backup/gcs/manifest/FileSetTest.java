@@ -7,14 +7,19 @@
  */
 package io.camunda.zeebe.backup.gcs.manifest;
 
+import io.camunda.zeebe.backup.common.ContentAddressedFiles;
 import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.FileSet.NamedFile;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 final class FileSetTest {
   @Test
@@ -41,4 +46,34 @@ final class FileSetTest {
     Assertions.assertThat(fileSet.files())
         .containsExactlyInAnyOrder(new NamedFile("file1"), new NamedFile("file2"));
   }
+
+  @Test
+  void shouldConvertFromNamedFileSetWithChecksums(@TempDir final Path tempDir) throws IOException {
+    // given
+    final var file1 = Files.writeString(tempDir.resolve("file1"), "same");
+    final var file2 = Files.writeString(tempDir.resolve("file2"), "same");
+    final var namedFileSet = new NamedFileSetImpl(Map.of("file1", file1, "file2", file2));
+
+    // when
+    final var fileSet = FileSet.withChecksums(namedFileSet);
+
+    // then -- files with the same contents share a checksum
+    final var checksum = ContentAddressedFiles.checksum(file1);
+    Assertions.assertThat(fileSet.files())
+        .containsExactlyInAnyOrder(
+            new NamedFile("file1", checksum), new NamedFile("file2", checksum));
+  }
+
+  @Test
+  void shouldComputeUnreferencedChecksums() {
+    // given
+    final var released = Set.of("a", "b", "c");
+    final var remaining = List.of(Set.of("a"), Set.of("c", "d"));
+
+    // when
+    final var unreferenced = ContentAddressedFiles.unreferenced(released, remaining);
+
+    // then
+    Assertions.assertThat(unreferenced).containsExactly("b");
+  }
 }
@@ -7,43 +7,61 @@
  */
 package io.camunda.zeebe.backup.s3;
 
+import io.camunda.zeebe.backup.api.Backup;
 import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.ContentAddressedFiles;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupCompressionFailed;
+import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupReadException;
 import io.camunda.zeebe.backup.s3.manifest.FileSet;
 import io.camunda.zeebe.backup.s3.manifest.FileSet.FileMetadata;
 import io.camunda.zeebe.backup.s3.util.CompletableFutureUtils;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.CompressorStreamFactory;
 import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
-import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
-import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
 /** Can save and restore {@link NamedFileSet NamedFileSets}. */
 final class FileSetManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(FileSetManager.class);
   private static final int COMPRESSION_SIZE_THRESHOLD = 8 * 1024 * 1024; // 8 MiB
-  private static final String TMP_COMPRESSION_PREFIX = "zb-backup-compress-";
-  private static final String TMP_DECOMPRESSION_PREFIX = "zb-backup-decompress-";
+  // S3 requires all parts but the last one of a multipart upload to be at least 5 MiB
+  private static final int MULTIPART_PART_SIZE = 8 * 1024 * 1024; // 8 MiB
+  // Bounds the memory used for buffering compressed parts to 64 MiB across all uploads
+  private static final int MAX_BUFFERED_PARTS = 8;
+  // Objects larger than one part are restored through concurrent ranged requests
+  private static final int DOWNLOAD_PART_SIZE = 8 * 1024 * 1024; // 8 MiB
+  private static final int PREFETCHED_DOWNLOAD_PARTS = 4;
+  // Compression, decompression and checksums block, so they run on a dedicated, bounded pool
+  // instead of the common pool. This also bounds the memory used by concurrent restores.
+  private static final int TRANSFER_THREADS = 4;
 
   private final S3AsyncClient client;
   private final S3BackupConfig config;
   private final Semaphore uploadLimit;
+  private final Semaphore partBufferLimit = new Semaphore(MAX_BUFFERED_PARTS);
+  private final ExecutorService transferExecutor =
+      Executors.newFixedThreadPool(
+          TRANSFER_THREADS,
+          Thread.ofPlatform().name("zeebe-backup-s3-transfer-", 0).daemon().factory());
 
   public FileSetManager(final S3AsyncClient client, final S3BackupConfig config) {
     this.client = client;
@@ -56,56 +74,127 @@ final class FileSetManager {
     uploadLimit = new Semaphore(Math.max(1, config.maxConcurrentConnections() / 2));
   }
 
-  CompletableFuture<FileSet> save(final String prefix, final NamedFileSet files) {
+  /**
+   * @param referencedKeys the keys of content-addressed objects which other backups of the
+   *     partition reference, and which can be reused
+   */
+  CompletableFuture<FileSet> save(
+      final String prefix,
+      final int partitionId,
+      final NamedFileSet files,
+      final Set<String> referencedKeys) {
     LOG.debug("Saving {} files to prefix {}", files.files().size(), prefix);
     return CompletableFutureUtils.mapAsync(
             files.namedFiles().entrySet(),
             Entry::getKey,
-            namedFile -> saveFile(prefix, namedFile.getKey(), namedFile.getValue()))
+            namedFile ->
+                config.deduplicateFiles()
+                    ? saveContentAddressed(
+                        prefix,
+                        partitionId,
+                        namedFile.getKey(),
+                        namedFile.getValue(),
+                        referencedKeys)
+                    : saveFile(prefix, namedFile.getKey(), namedFile.getValue()))
         .thenApply(FileSet::new);
   }
 
   private CompletableFuture<FileSet.FileMetadata> saveFile(
       final String prefix, final String fileName, final Path filePath) {
+    final var metadata = uploadMetadata(filePath);
+    LOG.trace("Saving file {}({}) in prefix {}", fileName, filePath, prefix);
+    return upload(filePath, prefix + fileName, metadata).thenApply(unused -> metadata);
+  }
 
-    if (shouldCompressFile(filePath)) {
-      final var algorithm = config.compressionAlgorithm().orElseThrow();
-      return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
-          .thenApply((success) -> compressFile(filePath, algorithm))
-          .thenCompose(
-              (compressedFile) -> {
-                LOG.trace(
-                    "Saving compressed file {}({}) in prefix {}", fileName, compressedFile, prefix);
-                return client
-                    .putObject(
-                        put -> put.bucket(config.bucketName()).key(prefix + fileName),
-                        AsyncRequestBody.fromFile(compressedFile))
-                    .thenRunAsync(() -> cleanupCompressedFile(compressedFile))
-                    .thenApply(unused -> FileSet.FileMetadata.withCompression(algorithm));
-              })
-          .whenComplete((success, error) -> uploadLimit.release());
-    }
+  /**
+   * Saves the file in the content-addressed layout. The upload is skipped if another backup of the
+   * same partition references the same contents with the same compression. Such an object can't be
+   * deleted while this backup is saved, see {@link S3BackupStore#save(Backup)}.
+   *
+   * <p>If the object exists but no backup references it, a collection of another node may delete it
+   * at any time, even after it was uploaded again. The file is then saved with the backup's other
+   * files instead.
+   */
+  private CompletableFuture<FileSet.FileMetadata> saveContentAddressed(
+      final String prefix,
+      final int partitionId,
+      final String fileName,
+      final Path filePath,
+      final Set<String> referencedKeys) {
+    return CompletableFuture.supplyAsync(
+            () -> uploadMetadata(filePath).withChecksum(ContentAddressedFiles.checksum(filePath)),
+            transferExecutor)
+        .thenCompose(
+            metadata -> {
+              final var key = contentKey(partitionId, metadata);
+              if (referencedKeys.contains(key)) {
+                LOG.trace("Skipping upload of file {}, {} is already referenced", fileName, key);
+                return CompletableFuture.completedFuture(metadata);
+              }
+
+              return objectExists(key)
+                  .thenCompose(
+                      exists -> {
+                        if (exists) {
+                          LOG.debug(
+                              "Saving file {} in prefix {}, {} is not referenced and may be deleted concurrently",
+                              fileName,
+                              prefix,
+                              key);
+                          return saveFile(prefix, fileName, filePath);
+                        }
+                        LOG.trace("Saving file {}({}) as {}", fileName, filePath, key);
+                        return upload(filePath, key, metadata).thenApply(unused -> metadata);
+                      });
+            });
+  }
+
+  private FileSet.FileMetadata uploadMetadata(final Path filePath) {
+    return shouldCompressFile(filePath)
+        ? FileSet.FileMetadata.withCompression(config.compressionAlgorithm().orElseThrow())
+        : FileSet.FileMetadata.none();
+  }
 
+  private CompletableFuture<Void> upload(
+      final Path filePath, final String key, final FileSet.FileMetadata metadata) {
     return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
         .thenCompose(
             (nothing) -> {
-              LOG.trace("Saving file {}({}) in prefix {}", fileName, filePath, prefix);
+              final var algorithm = metadata.compressionAlgorithm();
+              if (algorithm.isPresent()) {
+                return compressAndUpload(filePath, key, algorithm.get());
+              }
               return client
                   .putObject(
-                      put -> put.bucket(config.bucketName()).key(prefix + fileName),
+                      put -> put.bucket(config.bucketName()).key(key),
                       AsyncRequestBody.fromFile(filePath))
-                  .thenApply(unused -> FileSet.FileMetadata.none());
+                  .<Void>thenApply(unused -> null);
             })
         .whenComplete((success, error) -> uploadLimit.release());
   }
 
-  private void cleanupCompressedFile(final Path compressedFile) {
-    try {
-      Files.delete(compressedFile);
-    } catch (final IOException e) {
-      LOG.warn(
-          "Failed to clean up temporary file used for (de-)compression: {}", compressedFile, e);
-    }
+  private CompletableFuture<Boolean> objectExists(final String key) {
+    return client
+        .headObject(req -> req.bucket(config.bucketName()).key(key))
+        .thenApply(response -> true)
+        .exceptionally(
+            error -> {
+              if (!(error.getCause() instanceof NoSuchKeyException)) {
+                LOG.debug("Failed to check if {} exists, uploading it again", key, error);
+              }
+              return false;
+            });
+  }
+
+  /**
+   * @return the key of a file stored in the content-addressed layout. The compression algorithm is
+   *     part of the key because the same contents may be stored with different compression
+   *     settings.
+   */
+  String contentKey(final int partitionId, final FileSet.FileMetadata metadata) {
+    return config.basePath().map(base -> base + "/").orElse("")
+        + ContentAddressedFiles.objectPath(partitionId, metadata.checksum().orElseThrow())
+        + metadata.compressionAlgorithm().map(algorithm -> "." + algorithm).orElse("");
   }
 
   private boolean shouldCompressFile(final Path filePath) {
@@ -118,33 +207,47 @@ final class FileSetManager {
     }
   }
 
-  private Path compressFile(final Path file, final String algorithm) {
-    try {
-      final var compressedFile = Files.createTempFile(TMP_COMPRESSION_PREFIX, null);
-      LOG.trace("Compressing file {} to {} using {}", file, compressedFile, algorithm);
-      try (final var input = new BufferedInputStream(Files.newInputStream(file));
-          final var output = new BufferedOutputStream(Files.newOutputStream(compressedFile));
-          final var compressedOutput =
-              new CompressorStreamFactory().createCompressorOutputStream(algorithm, output)) {
-        IOUtils.copy(input, compressedOutput);
-        if (LOG.isTraceEnabled()) {
-          LOG.trace(
-              "Compressed file {} to {}. Uncompressed: {} bytes, compressed: {} bytes",
-              file,
-              compressedFile,
-              Files.size(file),
-              Files.size(compressedFile));
-        }
-        return compressedFile;
-      }
-    } catch (final IOException | CompressorException e) {
-      throw new BackupCompressionFailed(
-          "Failed to compress file %s using %s".formatted(file, algorithm), e);
-    }
+  /**
+   * Compresses the file and uploads the compressed bytes as they are produced. Compressed parts are
+   * uploaded concurrently through a multipart upload while the remaining file is still being
+   * compressed, without staging the compressed file on disk.
+   */
+  private CompletableFuture<Void> compressAndUpload(
+      final Path file, final String key, final String algorithm) {
+    final var upload =
+        new MultipartUploadOutputStream(
+            client, config.bucketName(), key, MULTIPART_PART_SIZE, partBufferLimit);
+    return CompletableFuture.runAsync(
+            () -> {
+              LOG.trace("Compressing file {} to {} using {}", file, key, algorithm);
+              try (final var input = new BufferedInputStream(Files.newInputStream(file));
+                  final var compressedOutput =
+                      new CompressorStreamFactory()
+                          .createCompressorOutputStream(algorithm, upload)) {
+                try {
+                  IOUtils.copy(input, compressedOutput);
+                } catch (final IOException e) {
+                  // cancel before closing the compressor, so that we don't upload partial contents
+                  upload.cancel(e);
+                  throw e;
+                }
+              } catch (final IOException | CompressorException e) {
+                final var error =
+                    new BackupCompressionFailed(
+                        "Failed to compress file %s using %s".formatted(file, algorithm), e);
+                upload.cancel(error);
+                throw error;
+              }
+            },
+            transferExecutor)
+        .thenCompose(compressed -> upload.result());
   }
 
   CompletableFuture<NamedFileSet> restore(
-      final String sourcePrefix, final FileSet fileSet, final Path targetFolder) {
+      final String sourcePrefix,
+      final int partitionId,
+      final FileSet fileSet,
+      final Path targetFolder) {
     LOG.debug(
         "Restoring {} files from prefix {} to {}",
         fileSet.files().size(),
@@ -153,72 +256,102 @@ final class FileSetManager {
     return CompletableFutureUtils.mapAsync(
             fileSet.files().entrySet(),
             Entry::getKey,
-            namedFile ->
-                restoreFile(sourcePrefix, targetFolder, namedFile.getKey(), namedFile.getValue()))
+            namedFile -> {
+              final var metadata = namedFile.getValue();
+              final var key =
+                  metadata.checksum().isPresent()
+                      ? contentKey(partitionId, metadata)
+                      : sourcePrefix + namedFile.getKey();
+              return restoreFile(key, targetFolder, namedFile.getKey(), metadata);
+            })
         .thenApply(NamedFileSetImpl::new);
   }
 
   private CompletableFuture<Path> restoreFile(
-      final String sourcePrefix,
+      final String key,
       final Path targetFolder,
       final String fileName,
       final FileMetadata metadata) {
     final var compressionAlgorithm = metadata.compressionAlgorithm();
-    if (compressionAlgorithm.isPresent()) {
-      final var decompressed = targetFolder.resolve(fileName);
-      LOG.trace(
-          "Restoring compressed file {} from prefix {} to {}",
-          fileName,
-          sourcePrefix,
-          targetFolder);
-      try {
-        final var compressed = Files.createTempFile(TMP_DECOMPRESSION_PREFIX, null);
-        return client
-            .getObject(
-                req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName),
-                AsyncResponseTransformer.toFile(
-                    compressed,
-                    cfg ->
-                        cfg.fileWriteOption(FileWriteOption.CREATE_OR_REPLACE_EXISTING)
-                            .failureBehavior(FailureBehavior.DELETE)))
-            .thenApplyAsync(
-                response -> decompressFile(compressed, decompressed, compressionAlgorithm.get()));
-
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
-      }
-    }
-
-    LOG.trace("Restoring file {} from prefix {} to {}", fileName, sourcePrefix, targetFolder);
     final var path = targetFolder.resolve(fileName);
     return client
-        .getObject(req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName), path)
-        .thenApply(response -> path);
+        .headObject(req -> req.bucket(config.bucketName()).key(key))
+        .thenCompose(
+            head -> {
+              final long size = head.contentLength();
+              if (compressionAlgorithm.isEmpty() && size <= DOWNLOAD_PART_SIZE) {
+                LOG.trace("Restoring file {} from {} to {}", fileName, key, targetFolder);
+                return client
+                    .getObject(req -> req.bucket(config.bucketName()).key(key), path)
+                    .thenApply(response -> path);
+              }
+
+              return CompletableFuture.supplyAsync(
+                  () -> {
+                    try (final var download =
+                        new RangedDownloadInputStream(
+                            client,
+                            config.bucketName(),
+                            key,
+                            size,
+                            DOWNLOAD_PART_SIZE,
+                            PREFETCHED_DOWNLOAD_PARTS)) {
+                      if (compressionAlgorithm.isPresent()) {
+                        LOG.trace(
+                            "Restoring compressed file {} from {} to {}",
+                            fileName,
+                            key,
+                            targetFolder);
+                        return decompressFile(download, path, compressionAlgorithm.get());
+                      }
+
+                      LOG.trace("Restoring file {} from {} to {}", fileName, key, targetFolder);
+                      Files.copy(download, path);
+                      return path;
+                    } catch (final IOException e) {
+                      throw new BackupReadException(
+                          "Failed to restore %s from %s".formatted(path, key), e);
+                    }
+                  },
+                  transferExecutor);
+            });
   }
 
+  /**
+   * Decompresses the downloaded object while its remaining parts are still being received, without
+   * staging the compressed contents on disk.
+   */
   private Path decompressFile(
-      final Path compressed, final Path decompressed, final String algorithm) {
-    try (final var input = new BufferedInputStream(Files.newInputStream(compressed));
+      final InputStream compressed, final Path decompressed, final String algorithm) {
+    try (final var input = new BufferedInputStream(compressed);
         final var output = new BufferedOutputStream(Files.newOutputStream(decompressed));
-        final var decompressedOutput =
+        final var decompressedInput =
             new CompressorStreamFactory().createCompressorInputStream(algorithm, input)) {
-      IOUtils.copy(decompressedOutput, output);
+      IOUtils.copy(decompressedInput, output);
       if (LOG.isTraceEnabled()) {
         LOG.trace(
-            "Decompressed file {} to {} using {}. Compressed: {} bytes, uncompressed: {} bytes",
-            compressed,
+            "Decompressed file {} using {}. Uncompressed: {} bytes",
             decompressed,
             algorithm,
-            Files.size(compressed),
             Files.size(decompressed));
       }
-      cleanupCompressedFile(compressed);
       return decompressed;
     } catch (final IOException | CompressorException e) {
       throw new BackupCompressionFailed(
-          "Failed to decompress from %s to %s using %s"
-              .formatted(compressed, decompressed, algorithm),
-          e);
+          "Failed to decompress to %s using %s".formatted(decompressed, algorithm), e);
+    }
+  }
+
+  /** Stops the transfer threads, waiting for running transfers to finish. */
+  void close() {
+    transferExecutor.shutdown();
+    try {
+      if (!transferExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+        transferExecutor.shutdownNow();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      transferExecutor.shutdownNow();
     }
   }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+
+/**
+ * An {@link OutputStream} that uploads everything written to it as a single S3 object, without
+ * staging the contents on disk.
+ *
+ * <p>Written bytes are buffered in memory until a full part is available. Full parts are uploaded
+ * asynchronously as part of a multipart upload while the caller keeps writing, so producing the
+ * contents (e.g. compressing a file) and uploading them happens in parallel. Every buffered part
+ * holds a permit of the given {@code bufferLimit} until its upload completes, which bounds the
+ * memory used by all streams sharing the same limit to {@code permits * partSize}.
+ *
+ * <p>If the contents fit into a single part, they are uploaded with a plain {@code PutObject}
+ * request instead.
+ *
+ * <p>The stream is not thread-safe. After {@link #close()}, {@link #result()} completes once the
+ * object is fully uploaded, or exceptionally if any part failed to upload, in which case the
+ * multipart upload is aborted.
+ */
+final class MultipartUploadOutputStream extends OutputStream {
+  private static final Logger LOG = LoggerFactory.getLogger(MultipartUploadOutputStream.class);
+
+  private final S3AsyncClient client;
+  private final String bucketName;
+  private final String key;
+  private final int partSize;
+  private final Semaphore bufferLimit;
+  private final List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+  private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+  private CompletableFuture<String> uploadId;
+  private byte[] buffer;
+  private int position;
+  private boolean closed;
+
+  MultipartUploadOutputStream(
+      final S3AsyncClient client,
+      final String bucketName,
+      final String key,
+      final int partSize,
+      final Semaphore bufferLimit) {
+    this.client = Objects.requireNonNull(client);
+    this.bucketName = Objects.requireNonNull(bucketName);
+    this.key = Objects.requireNonNull(key);
+    this.partSize = partSize;
+    this.bufferLimit = Objects.requireNonNull(bufferLimit);
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    ensureBuffer();
+    buffer[position++] = (byte) b;
+  }
+
+  @Override
+  public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    var written = 0;
+    while (written < length) {
+      ensureBuffer();
+      final var chunk = Math.min(length - written, partSize - position);
+      System.arraycopy(bytes, offset + written, buffer, position, chunk);
+      position += chunk;
+      written += chunk;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    if (uploadId == null) {
+      putSingleObject();
+    } else {
+      if (position > 0) {
+        uploadBufferedPart();
+      }
+      completeMultipartUpload();
+    }
+  }
+
+  /**
+   * Cancels the upload, for example because producing the contents failed. Releases the buffered
+   * part, aborts the multipart upload if it was started and completes {@link #result()}
+   * exceptionally with the given error.
+   */
+  void cancel(final Throwable error) {
+    if (result.isDone()) {
+      return;
+    }
+    if (buffer != null) {
+      buffer = null;
+      bufferLimit.release();
+    }
+    closed = true;
+    if (uploadId != null) {
+      abort();
+    }
+    result.completeExceptionally(error);
+  }
+
+  /**
+   * @return a future that completes once all contents written to this stream are uploaded. Only
+   *     completes after the stream was closed.
+   */
+  CompletableFuture<Void> result() {
+    return result;
+  }
+
+  private void ensureBuffer() throws IOException {
+    if (closed) {
+      throw new IOException("Stream for %s is already closed".formatted(key));
+    }
+    if (buffer != null && position == partSize) {
+      uploadBufferedPart();
+    }
+    if (buffer == null) {
+      try {
+        bufferLimit.acquire();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting to buffer part of " + key);
+      }
+      buffer = new byte[partSize];
+      position = 0;
+    }
+  }
+
+  private void uploadBufferedPart() throws IOException {
+    if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+      final var error = new IOException("Failed to upload a previous part of " + key);
+      cancel(error);
+      throw error;
+    }
+
+    if (uploadId == null) {
+      LOG.trace("Starting multipart upload of {}", key);
+      uploadId =
+          client
+              .createMultipartUpload(req -> req.bucket(bucketName).key(key))
+              .thenApply(CreateMultipartUploadResponse::uploadId);
+    }
+
+    final var partNumber = parts.size() + 1;
+    final var body = AsyncRequestBody.fromByteBufferUnsafe(ByteBuffer.wrap(buffer, 0, position));
+    buffer = null;
+    position = 0;
+
+    parts.add(
+        uploadId
+            .thenCompose(
+                id ->
+                    client.uploadPart(
+                        req -> req.bucket(bucketName).key(key).uploadId(id).partNumber(partNumber),
+                        body))
+            .thenApply(
+                response ->
+                    CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build())
+            .whenComplete((ignored, error) -> bufferLimit.release()));
+  }
+
+  private void putSingleObject() {
+    final var body =
+        buffer == null
+            ? AsyncRequestBody.empty()
+            : AsyncRequestBody.fromByteBufferUnsafe(ByteBuffer.wrap(buffer, 0, position));
+    final var hasBuffer = buffer != null;
+    buffer = null;
+
+    client
+        .putObject(req -> req.bucket(bucketName).key(key), body)
+        .whenComplete(
+            (response, error) -> {
+              if (hasBuffer) {
+                bufferLimit.release();
+              }
+              if (error != null) {
+                result.completeExceptionally(error);
+              } else {
+                result.complete(null);
+              }
+            });
+  }
+
+  private void completeMultipartUpload() {
+    CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+        .thenCombine(uploadId, (ignored, id) -> id)
+        .thenCompose(
+            id -> {
+              final var completedParts = parts.stream().map(CompletableFuture::join).toList();
+              LOG.trace("Completing multipart upload of {} with {} parts", key, parts.size());
+              return client.completeMultipartUpload(
+                  req ->
+                      req.bucket(bucketName)
+                          .key(key)
+                          .uploadId(id)
+                          .multipartUpload(upload -> upload.parts(completedParts)));
+            })
+        .whenComplete(
+            (response, error) -> {
+              if (error != null) {
+                abort();
+                result.completeExceptionally(error);
+              } else {
+                result.complete(null);
+              }
+            });
+  }
+
+  private void abort() {
+    uploadId
+        .thenCompose(
+            id -> client.abortMultipartUpload(req -> req.bucket(bucketName).key(key).uploadId(id)))
+        .exceptionally(
+            error -> {
+              LOG.warn("Failed to abort multipart upload of {}", key, error);
+              return null;
+            });
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+/**
+ * An {@link InputStream} that reads an S3 object of known size through concurrent ranged {@code
+ * GetObject} requests.
+ *
+ * <p>The object is split into parts of {@code partSize} bytes. Up to {@code prefetchedParts} parts
+ * are downloaded concurrently ahead of the reader, and a new part is requested whenever the reader
+ * consumed one. Each request only holds a connection while its part is received, never while it
+ * waits for the reader, and the memory used by the stream is bounded by {@code prefetchedParts *
+ * partSize}.
+ *
+ * <p>The stream is not thread-safe. Reading blocks until the next part is downloaded, so it must
+ * not be read from threads of the S3 client.
+ */
+final class RangedDownloadInputStream extends InputStream {
+  private final S3AsyncClient client;
+  private final String bucketName;
+  private final String key;
+  private final long size;
+  private final int partSize;
+  private final int prefetchedParts;
+  private final Deque<CompletableFuture<ByteBuffer>> parts = new ArrayDeque<>();
+
+  private long nextPartOffset;
+  private ByteBuffer current = ByteBuffer.allocate(0);
+  private boolean closed;
+
+  RangedDownloadInputStream(
+      final S3AsyncClient client,
+      final String bucketName,
+      final String key,
+      final long size,
+      final int partSize,
+      final int prefetchedParts) {
+    this.client = Objects.requireNonNull(client);
+    this.bucketName = Objects.requireNonNull(bucketName);
+    this.key = Objects.requireNonNull(key);
+    this.size = size;
+    this.partSize = partSize;
+    this.prefetchedParts = prefetchedParts;
+    requestParts();
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!nextPart()) {
+      return -1;
+    }
+    return current.get() & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    if (length == 0) {
+      return 0;
+    }
+    if (!nextPart()) {
+      return -1;
+    }
+
+    final var chunk = Math.min(length, current.remaining());
+    current.get(bytes, offset, chunk);
+    return chunk;
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    parts.forEach(part -> part.cancel(false));
+    parts.clear();
+  }
+
+  /**
+   * Makes sure that {@link #current} has remaining bytes, waiting for the next part if necessary.
+   *
+   * @return false if the whole object was read
+   */
+  private boolean nextPart() throws IOException {
+    if (closed) {
+      throw new IOException("Stream for %s is already closed".formatted(key));
+    }
+
+    while (!current.hasRemaining()) {
+      final var part = parts.poll();
+      if (part == null) {
+        return false;
+      }
+
+      try {
+        current = part.get();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while downloading " + key);
+      } catch (final ExecutionException e) {
+        close();
+        throw new IOException("Failed to download part of " + key, e.getCause());
+      }
+      requestParts();
+    }
+    return true;
+  }
+
+  private void requestParts() {
+    while (parts.size() < prefetchedParts && nextPartOffset < size) {
+      final var first = nextPartOffset;
+      final var last = Math.min(first + partSize, size) - 1;
+      nextPartOffset = last + 1;
+      parts.add(
+          client
+              .getObject(
+                  req ->
+                      req.bucket(bucketName).key(key).range("bytes=%d-%d".formatted(first, last)),
+                  AsyncResponseTransformer.toBytes())
+              .thenApply(response -> response.asByteBuffer()));
+    }
+  }
+}
@@ -32,6 +32,9 @@ import org.apache.commons.compress.compressors.CompressorStreamFactory;
  * @param maxConcurrentConnections Maximum number of connections allowed in a connection pool.
  * @param connectionAcquisitionTimeout Timeout for acquiring an already-established connection from
  *     a connection pool to a remote service.
+ * @param deduplicateFiles If true, files are stored in the content-addressed layout so that
+ *     consecutive backups of a partition only upload files which changed, see {@link
+ *     io.camunda.zeebe.backup.common.ContentAddressedFiles}. Off by default.
  * @see <a
  *     href=https://docs.aws.amazon.com/sdk-for-java/latest/developer-guide/region-selection.html#automatically-determine-the-aws-region-from-the-environment>
  *     Automatically determine the Region from the environment</a>
@@ -50,7 +53,8 @@ public record S3BackupConfig(
     Optional<String> compressionAlgorithm,
     Optional<String> basePath,
     Integer maxConcurrentConnections,
-    Duration connectionAcquisitionTimeout) {
+    Duration connectionAcquisitionTimeout,
+    boolean deduplicateFiles) {
 
   public S3BackupConfig {
     if (bucketName == null || bucketName.isEmpty()) {
@@ -114,6 +118,8 @@ public record S3BackupConfig(
     /** Default from `SdkHttpConfigurationOption.DEFAULT_CONNECTION_ACQUIRE_TIMEOUT` */
     private Duration connectionAcquisitionTimeout = Duration.ofSeconds(45);
 
+    private boolean deduplicateFiles = false;
+
     public Builder withBucketName(final String bucketName) {
       this.bucketName = bucketName;
       return this;
@@ -164,6 +170,11 @@ public record S3BackupConfig(
       return this;
     }
 
+    public Builder withDeduplicateFiles(final boolean deduplicateFiles) {
+      this.deduplicateFiles = deduplicateFiles;
+      return this;
+    }
+
     public S3BackupConfig build() {
       return new S3BackupConfig(
           bucketName,
@@ -175,7 +186,8 @@ public record S3BackupConfig(
           Optional.ofNullable(compressionAlgorithm),
           Optional.ofNullable(basePath),
           maxConcurrentConnections,
-          connectionAcquisitionTimeout);
+          connectionAcquisitionTimeout,
+          deduplicateFiles);
     }
   }
 }
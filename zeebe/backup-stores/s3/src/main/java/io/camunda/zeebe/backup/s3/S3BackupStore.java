@@ -18,11 +18,16 @@ import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.ContentAddressedFiles;
+import io.camunda.zeebe.backup.common.ContentAddressedObjectsLock;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupDeletionIncomplete;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupInInvalidStateException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupReadException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.ManifestParseException;
+import io.camunda.zeebe.backup.s3.manifest.CompletedBackupManifest;
+import io.camunda.zeebe.backup.s3.manifest.FailedBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.FileSet;
 import io.camunda.zeebe.backup.s3.manifest.Manifest;
 import io.camunda.zeebe.backup.s3.manifest.NoBackupManifest;
@@ -31,10 +36,14 @@ import io.camunda.zeebe.backup.s3.util.AsyncAggregatingSubscriber;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -80,10 +89,13 @@ public final class S3BackupStore implements BackupStore {
   static final String MANIFEST_OBJECT_KEY = "manifest.json";
   private static final Logger LOG = LoggerFactory.getLogger(S3BackupStore.class);
   private static final int SCAN_PARALLELISM = 16;
+  // S3 deletes at most 1000 objects per request
+  private static final int DELETE_BATCH_SIZE = 1000;
   private final Pattern backupIdentifierPattern;
   private final S3BackupConfig config;
   private final S3AsyncClient client;
   private final FileSetManager fileSetManager;
+  private final ContentAddressedObjectsLock objectsLock = new ContentAddressedObjectsLock();
 
   public S3BackupStore(final S3BackupConfig config) {
     this(config, buildClient(config));
@@ -165,15 +177,35 @@ public final class S3BackupStore implements BackupStore {
     buildClient(config).close();
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>With {@link S3BackupConfig#deduplicateFiles()}, the backup reuses the objects which the
+   * manifests of the partition reference, read after the backup's own manifest was written. These
+   * objects can't be deleted until the backup completed, not even by a concurrent collection of
+   * another node: such a collection only deletes objects which no manifest references once the
+   * objects were listed, and nothing while a backup is in progress.
+   */
   @Override
   public CompletableFuture<Void> save(final Backup backup) {
     LOG.info("Saving {}", backup.id());
+    if (config.deduplicateFiles()) {
+      // a backup may reuse stored objects, which must not be collected until it references them
+      return objectsLock.whileSaving(backup.id().partitionId(), () -> saveBackup(backup));
+    }
+    return saveBackup(backup);
+  }
+
+  private CompletableFuture<Void> saveBackup(final Backup backup) {
     return updateManifestObject(
             backup.id(), Manifest::expectNoBackup, manifest -> manifest.asInProgress(backup))
         .thenComposeAsync(
             status -> {
-              final var snapshot = saveSnapshotFiles(backup);
-              final var segments = saveSegmentFiles(backup);
+              final var referencedKeys = readReferencedContentKeys(backup.id().partitionId());
+              final var snapshot =
+                  referencedKeys.thenComposeAsync(keys -> saveSnapshotFiles(backup, keys));
+              final var segments =
+                  referencedKeys.thenComposeAsync(keys -> saveSegmentFiles(backup, keys));
 
               return CompletableFuture.allOf(snapshot, segments)
                   .thenComposeAsync(
@@ -221,11 +253,14 @@ public final class S3BackupStore implements BackupStore {
                     "Can't delete in-progress backup %s, must be marked as failed first"
                         .formatted(manifest.id()));
               } else {
-                return manifest.id();
+                return manifest;
               }
             })
-        .thenComposeAsync(this::listBackupObjects)
-        .thenComposeAsync(this::deleteBackupObjects);
+        .thenComposeAsync(
+            manifest ->
+                listBackupObjects(manifest.id())
+                    .thenComposeAsync(this::deleteBackupObjects)
+                    .thenComposeAsync(ignored -> collectUnreferencedObjects(manifest)));
   }
 
   @Override
@@ -237,10 +272,17 @@ public final class S3BackupStore implements BackupStore {
         .thenComposeAsync(
             manifest ->
                 fileSetManager
-                    .restore(backupPrefix + SEGMENTS_PREFIX, manifest.segmentFiles(), targetFolder)
+                    .restore(
+                        backupPrefix + SEGMENTS_PREFIX,
+                        id.partitionId(),
+                        manifest.segmentFiles(),
+                        targetFolder)
                     .thenCombineAsync(
                         fileSetManager.restore(
-                            backupPrefix + SNAPSHOT_PREFIX, manifest.snapshotFiles(), targetFolder),
+                            backupPrefix + SNAPSHOT_PREFIX,
+                            id.partitionId(),
+                            manifest.snapshotFiles(),
+                            targetFolder),
                         (segments, snapshot) ->
                             new BackupImpl(id, manifest.descriptor(), snapshot, segments)));
   }
@@ -255,6 +297,7 @@ public final class S3BackupStore implements BackupStore {
 
   @Override
   public CompletableFuture<Void> closeAsync() {
+    fileSetManager.close();
     client.close();
     return CompletableFuture.completedFuture(null);
   }
@@ -294,6 +337,123 @@ public final class S3BackupStore implements BackupStore {
             });
   }
 
+  /**
+   * Deletes the content-addressed objects of the deleted backup's partition which no remaining
+   * backup references anymore. This also collects objects which failed backups uploaded before
+   * their manifest listed them. Must only be called after the backup's manifest was deleted.
+   *
+   * <p>The collection never runs concurrently with a backup of the same partition saved by this
+   * store, see {@link ContentAddressedObjectsLock}. In-progress backups don't list their files in
+   * the manifest yet, so while any backup of the partition is in progress, nothing is deleted. This
+   * may leave unreferenced objects behind until the next deletion, which is preferable to deleting
+   * objects that an in-progress backup relies on.
+   *
+   * <p>Backups saved by other nodes, e.g. by a former leader of the partition, are not serialized
+   * against the collection. The objects are therefore listed before the manifests are read: an
+   * object which such a backup uploads is either not listed yet, or the backup's manifest already
+   * exists when the manifests are read.
+   */
+  private CompletableFuture<Void> collectUnreferencedObjects(final Manifest deleted) {
+    if (!config.deduplicateFiles() && contentKeys(deleted).isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final var partitionId = deleted.id().partitionId();
+    return objectsLock.whileCollecting(
+        partitionId,
+        () ->
+            listContentKeys(partitionId)
+                .thenComposeAsync(
+                    stored ->
+                        readPartitionManifests(partitionId)
+                            .thenComposeAsync(
+                                remaining -> {
+                                  if (remaining.stream()
+                                      .anyMatch(
+                                          manifest ->
+                                              manifest.statusCode()
+                                                  == BackupStatusCode.IN_PROGRESS)) {
+                                    LOG.debug(
+                                        "Not deleting unreferenced objects of {}, partition {} has in-progress backups",
+                                        deleted.id(),
+                                        partitionId);
+                                    return CompletableFuture.completedFuture(null);
+                                  }
+
+                                  return deleteObjects(
+                                      ContentAddressedFiles.unreferenced(
+                                          stored,
+                                          remaining.stream().map(this::contentKeys).toList()));
+                                })));
+  }
+
+  /**
+   * @return the keys of the content-addressed objects which the backups of the partition reference,
+   *     or none if files are not deduplicated
+   */
+  private CompletableFuture<Set<String>> readReferencedContentKeys(final int partitionId) {
+    if (!config.deduplicateFiles()) {
+      return CompletableFuture.completedFuture(Set.of());
+    }
+
+    return readPartitionManifests(partitionId)
+        .thenApply(
+            manifests ->
+                manifests.stream()
+                    .flatMap(manifest -> contentKeys(manifest).stream())
+                    .collect(Collectors.toSet()));
+  }
+
+  private CompletableFuture<Collection<Manifest>> readPartitionManifests(final int partitionId) {
+    return readManifestObjects(
+        new BackupIdentifierWildcardImpl(
+            Optional.empty(), Optional.of(partitionId), Optional.empty()));
+  }
+
+  private CompletableFuture<Set<String>> listContentKeys(final int partitionId) {
+    final var prefix =
+        config.basePath().map(base -> base + "/").orElse("")
+            + ContentAddressedFiles.objectPath(partitionId, "");
+    final Set<String> keys = ConcurrentHashMap.newKeySet();
+    return client
+        .listObjectsV2Paginator(req -> req.bucket(config.bucketName()).prefix(prefix))
+        .contents()
+        .subscribe(object -> keys.add(object.key()))
+        .thenApply(ignored -> keys);
+  }
+
+  private CompletableFuture<Void> deleteObjects(final Set<String> keys) {
+    LOG.debug("Deleting {} unreferenced objects", keys.size());
+    final var identifiers =
+        keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList();
+    final var deletions = new ArrayList<CompletableFuture<Void>>();
+    for (int i = 0; i < identifiers.size(); i += DELETE_BATCH_SIZE) {
+      deletions.add(
+          deleteBackupObjects(
+              identifiers.subList(i, Math.min(i + DELETE_BATCH_SIZE, identifiers.size()))));
+    }
+    return CompletableFuture.allOf(deletions.toArray(CompletableFuture[]::new));
+  }
+
+  private Set<String> contentKeys(final Manifest manifest) {
+    final var partitionId = manifest.id().partitionId();
+    final Stream<FileSet> fileSets =
+        switch (manifest) {
+          case final CompletedBackupManifest completed ->
+              Stream.of(completed.snapshotFiles(), completed.segmentFiles());
+          case final FailedBackupManifest failed ->
+              Stream.of(failed.snapshotFiles(), failed.segmentFiles());
+          default -> Stream.empty();
+        };
+
+    return fileSets
+        .filter(Objects::nonNull)
+        .flatMap(fileSet -> fileSet.files().values().stream())
+        .filter(metadata -> metadata.checksum().isPresent())
+        .map(metadata -> fileSetManager.contentKey(partitionId, metadata))
+        .collect(Collectors.toSet());
+  }
+
   private SdkPublisher<BackupIdentifier> findBackupIds(final BackupIdentifierWildcard wildcard) {
     final var prefix = wildcardPrefix(wildcard);
     LOG.debug("Using prefix {} to search for manifest files matching {}", prefix, wildcard);
@@ -381,16 +541,20 @@ public final class S3BackupStore implements BackupStore {
         .thenApply(resp -> manifest);
   }
 
-  private CompletableFuture<FileSet> saveSnapshotFiles(final Backup backup) {
+  private CompletableFuture<FileSet> saveSnapshotFiles(
+      final Backup backup, final Set<String> referencedKeys) {
     LOG.debug("Saving snapshot files for {}", backup.id());
     final var prefix = objectPrefix(backup.id()) + SNAPSHOT_PREFIX;
-    return fileSetManager.save(prefix, backup.snapshot());
+    return fileSetManager.save(
+        prefix, backup.id().partitionId(), backup.snapshot(), referencedKeys);
   }
 
-  private CompletableFuture<FileSet> saveSegmentFiles(final Backup backup) {
+  private CompletableFuture<FileSet> saveSegmentFiles(
+      final Backup backup, final Set<String> referencedKeys) {
     LOG.debug("Saving segment files for {}", backup.id());
     final var prefix = objectPrefix(backup.id()) + SEGMENTS_PREFIX;
-    return fileSetManager.save(prefix, backup.segments());
+    return fileSetManager.save(
+        prefix, backup.id().partitionId(), backup.segments(), referencedKeys);
   }
 
   public static S3AsyncClient buildClient(final S3BackupConfig config) {
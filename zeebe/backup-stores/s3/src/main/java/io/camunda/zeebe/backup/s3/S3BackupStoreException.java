@@ -65,9 +65,9 @@ public abstract sealed class S3BackupStoreException extends RuntimeException {
   }
 
   /**
-   * Thrown when compression of backup contents failed. This is expected when there's no space
-   * available to create a temporary file for the compressed contents but may happen in other cases
-   * as well.
+   * Thrown when compression or decompression of backup contents failed. This is expected when
+   * uploading the compressed contents fails while they are being compressed, or when there's no
+   * space available to write the decompressed contents, but may happen in other cases as well.
    */
   public static final class BackupCompressionFailed extends S3BackupStoreException {
 
@@ -17,6 +17,7 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -47,14 +48,29 @@ public record FileSet(Map<String, FileMetadata> files) {
     return files.keySet();
   }
 
+  /**
+   * @param compressionAlgorithm the algorithm the file was compressed with, if any
+   * @param checksum the checksum of the uncompressed file contents, if the file is stored in the
+   *     content-addressed layout, see {@link io.camunda.zeebe.backup.common.ContentAddressedFiles}
+   */
   @JsonInclude(Include.NON_EMPTY)
-  public record FileMetadata(Optional<String> compressionAlgorithm) {
+  public record FileMetadata(Optional<String> compressionAlgorithm, Optional<String> checksum) {
+    public FileMetadata {
+      // manifests written by older versions don't contain all properties
+      compressionAlgorithm = Objects.requireNonNullElse(compressionAlgorithm, Optional.empty());
+      checksum = Objects.requireNonNullElse(checksum, Optional.empty());
+    }
+
     public static FileMetadata withCompression(final String algorithm) {
-      return new FileMetadata(Optional.of(algorithm));
+      return new FileMetadata(Optional.of(algorithm), Optional.empty());
     }
 
     public static FileMetadata none() {
-      return new FileMetadata(Optional.empty());
+      return new FileMetadata(Optional.empty(), Optional.empty());
+    }
+
+    public FileMetadata withChecksum(final String checksum) {
+      return new FileMetadata(compressionAlgorithm, Optional.of(checksum));
     }
   }
 
@@ -0,0 +1,210 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.s3.S3BackupConfig.Builder;
+import io.camunda.zeebe.backup.s3.util.InMemoryS3AsyncClient;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+final class ContentAddressedBackupTest {
+  private static final int FILE_SIZE = 1024 * 1024;
+
+  @TempDir private Path tempDir;
+  private InMemoryS3AsyncClient client;
+  private S3BackupStore store;
+  private Path sharedFile;
+
+  @BeforeEach
+  void setup() throws IOException {
+    final var config =
+        new Builder().withBucketName("bucket").withBasePath("base").withDeduplicateFiles(true);
+    client = new InMemoryS3AsyncClient();
+    store = new S3BackupStore(config.build(), client);
+    sharedFile = randomFile(tempDir.resolve("shared"), 1);
+  }
+
+  @Test
+  void shouldNotUploadUnchangedFilesAgain() throws IOException {
+    // given
+    store.save(backup(1, randomFile(tempDir.resolve("segment-1"), 2))).join();
+    final var uploadedBefore = client.uploadedBytes();
+
+    // when
+    store.save(backup(2, randomFile(tempDir.resolve("segment-2"), 3))).join();
+
+    // then -- only the new segment and the manifest are uploaded
+    assertThat(client.uploadedBytes() - uploadedBefore).isLessThan(2L * FILE_SIZE);
+    assertThat(objectKeys()).hasSize(3);
+  }
+
+  @Test
+  void shouldRestoreBackupWithSharedFiles(@TempDir final Path target) throws IOException {
+    // given
+    final var first = backup(1, randomFile(tempDir.resolve("segment-1"), 2));
+    final var second = backup(2, randomFile(tempDir.resolve("segment-2"), 3));
+    store.save(first).join();
+    store.save(second).join();
+
+    // when
+    final var restored = store.restore(second.id(), target).join();
+
+    // then
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(second);
+  }
+
+  @Test
+  void shouldKeepSharedFilesWhenDeletingBackup(@TempDir final Path target) throws IOException {
+    // given
+    final var first = backup(1, randomFile(tempDir.resolve("segment-1"), 2));
+    final var second = backup(2, randomFile(tempDir.resolve("segment-2"), 3));
+    store.save(first).join();
+    store.save(second).join();
+
+    // when
+    store.delete(first.id()).join();
+
+    // then
+    assertThat(objectKeys()).hasSize(2);
+    BackupAssert.assertThatBackup(store.restore(second.id(), target).join())
+        .hasSameContentsAs(second);
+  }
+
+  @Test
+  void shouldDeleteFilesOnceUnreferenced() throws IOException {
+    // given
+    final var first = backup(1, randomFile(tempDir.resolve("segment-1"), 2));
+    final var second = backup(2, randomFile(tempDir.resolve("segment-2"), 3));
+    store.save(first).join();
+    store.save(second).join();
+
+    // when
+    store.delete(first.id()).join();
+    store.delete(second.id()).join();
+
+    // then
+    assertThat(objectKeys()).isEmpty();
+  }
+
+  @Test
+  void shouldDeleteObjectsLeftByFailedBackups() throws IOException {
+    // given -- an object which a failed backup uploaded before its manifest listed it
+    client
+        .putObject(
+            req -> req.bucket("bucket").key("base/objects/2/orphan"),
+            AsyncRequestBody.fromBytes(new byte[] {1}))
+        .join();
+    final var backup = backup(1, randomFile(tempDir.resolve("segment-1"), 2));
+    store.save(backup).join();
+
+    // when
+    store.delete(backup.id()).join();
+
+    // then
+    assertThat(objectKeys()).isEmpty();
+  }
+
+  @Test
+  void shouldNotDeleteObjectsReusedByConcurrentBackup(@TempDir final Path target)
+      throws IOException {
+    // given
+    final var first = backup(1, randomFile(tempDir.resolve("segment-1"), 2));
+    final var second = backup(2, randomFile(tempDir.resolve("segment-2"), 3));
+    store.save(first).join();
+    final var heldDeletion = client.holdDeletions("base/objects/");
+
+    // when -- the second backup starts after the deletion chose which objects to delete
+    final var deleted = store.delete(first.id());
+    heldDeletion.requested().join();
+    final var saved = store.save(second);
+    // give the backup the chance to reuse the objects which are about to be deleted
+    CompletableFuture.anyOf(
+            saved,
+            CompletableFuture.runAsync(
+                () -> {}, CompletableFuture.delayedExecutor(1, TimeUnit.SECONDS)))
+        .join();
+    heldDeletion.release();
+    CompletableFuture.allOf(deleted, saved).join();
+
+    // then
+    BackupAssert.assertThatBackup(store.restore(second.id(), target).join())
+        .hasSameContentsAs(second);
+  }
+
+  @Test
+  void shouldNotDeleteObjectsReusedByBackupOfOtherNode(@TempDir final Path target)
+      throws IOException {
+    // given -- a store of another node, which doesn't share the lock of this store
+    final var otherStore =
+        new S3BackupStore(
+            new Builder()
+                .withBucketName("bucket")
+                .withBasePath("base")
+                .withDeduplicateFiles(true)
+                .build(),
+            client);
+    final var first = backup(1, randomFile(tempDir.resolve("segment-1"), 2));
+    final var second = backup(2, randomFile(tempDir.resolve("segment-2"), 3));
+    store.save(first).join();
+    final var heldDeletion = client.holdDeletions("base/objects/");
+
+    // when -- the other node saves a backup after the deletion chose which objects to delete
+    final var deleted = store.delete(first.id());
+    heldDeletion.requested().join();
+    otherStore.save(second).join();
+    heldDeletion.release();
+    deleted.join();
+
+    // then
+    BackupAssert.assertThatBackup(store.restore(second.id(), target).join())
+        .hasSameContentsAs(second);
+  }
+
+  private Backup backup(final long checkpointId, final Path segment) {
+    return new BackupImpl(
+        new BackupIdentifierImpl(1, 2, checkpointId),
+        new BackupDescriptorImpl(Optional.of("snapshot-" + checkpointId), 4, 5, "test"),
+        new NamedFileSetImpl(Map.of("snapshot-file", sharedFile)),
+        new NamedFileSetImpl(Map.of("segment-file", segment)));
+  }
+
+  private Path randomFile(final Path file, final long seed) throws IOException {
+    final var bytes = new byte[FILE_SIZE];
+    new Random(seed).nextBytes(bytes);
+    return Files.write(file, bytes);
+  }
+
+  private Iterable<String> objectKeys() {
+    return client
+        .listObjectsV2(req -> req.bucket("bucket").prefix("base/objects/"))
+        .join()
+        .contents()
+        .stream()
+        .map(S3Object::key)
+        .toList();
+  }
+}
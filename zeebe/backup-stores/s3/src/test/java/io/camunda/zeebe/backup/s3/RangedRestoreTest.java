@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.s3.S3BackupConfig.Builder;
+import io.camunda.zeebe.backup.s3.util.InMemoryS3AsyncClient;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class RangedRestoreTest {
+  // larger than a single download part, so that the file is restored through ranged requests
+  private static final int LARGE_FILE_SIZE = 20 * 1024 * 1024;
+  private static final int SMALL_FILE_SIZE = 1024 * 1024;
+
+  @TempDir private Path tempDir;
+  private final InMemoryS3AsyncClient client = new InMemoryS3AsyncClient();
+  private S3BackupStore store;
+
+  @AfterEach
+  void tearDown() {
+    store.closeAsync().join();
+  }
+
+  @Test
+  void shouldRestoreLargeFileWithRangedRequests(@TempDir final Path target) throws IOException {
+    // given
+    store = new S3BackupStore(new Builder().withBucketName("bucket").build(), client);
+    final var backup = backup(randomFile(tempDir.resolve("segment"), LARGE_FILE_SIZE));
+    store.save(backup).join();
+
+    // when
+    final var restored = store.restore(backup.id(), target).join();
+
+    // then
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(backup);
+    assertThat(client.rangedDownloads()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldRestoreLargeCompressedFileWithRangedRequests(@TempDir final Path target)
+      throws IOException {
+    // given
+    store =
+        new S3BackupStore(
+            new Builder().withBucketName("bucket").withCompressionAlgorithm("gz").build(), client);
+    final var backup = backup(randomFile(tempDir.resolve("segment"), LARGE_FILE_SIZE));
+    store.save(backup).join();
+
+    // when
+    final var restored = store.restore(backup.id(), target).join();
+
+    // then
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(backup);
+    assertThat(client.rangedDownloads()).isGreaterThan(1);
+  }
+
+  @Test
+  void shouldRestoreSmallFileWithSingleRequest(@TempDir final Path target) throws IOException {
+    // given
+    store = new S3BackupStore(new Builder().withBucketName("bucket").build(), client);
+    final var backup = backup(randomFile(tempDir.resolve("segment"), SMALL_FILE_SIZE));
+    store.save(backup).join();
+
+    // when
+    final var restored = store.restore(backup.id(), target).join();
+
+    // then
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(backup);
+    assertThat(client.rangedDownloads()).isZero();
+  }
+
+  private Backup backup(final Path segment) throws IOException {
+    return new BackupImpl(
+        new BackupIdentifierImpl(1, 2, 3),
+        new BackupDescriptorImpl(Optional.of("snapshot-3"), 4, 5, "test"),
+        new NamedFileSetImpl(
+            Map.of("snapshot-file", randomFile(tempDir.resolve("snapshot"), SMALL_FILE_SIZE))),
+        new NamedFileSetImpl(Map.of("segment-file", segment)));
+  }
+
+  private Path randomFile(final Path file, final int size) throws IOException {
+    final var bytes = new byte[size];
+    new Random(size).nextBytes(bytes);
+    return Files.write(file, bytes);
+  }
+}
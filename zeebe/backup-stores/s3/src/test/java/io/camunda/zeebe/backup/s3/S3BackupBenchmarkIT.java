@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.s3.S3BackupConfig.Builder;
+import io.camunda.zeebe.backup.s3.util.InMemoryS3AsyncClient;
+import io.camunda.zeebe.backup.testkit.BenchmarkingBackup;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * Benchmarks the compressing {@link S3BackupStore} against an in-process S3 stand-in, so that the
+ * results reflect the store's own overhead rather than the network.
+ */
+final class S3BackupBenchmarkIT implements BenchmarkingBackup {
+  private S3BackupStore store;
+
+  @BeforeEach
+  void setup() {
+    final var config =
+        new Builder().withBucketName("benchmark").withCompressionAlgorithm("zstd").build();
+    store = new S3BackupStore(config, new InMemoryS3AsyncClient(Duration.ofMillis(5)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    store.closeAsync().join();
+  }
+
+  @Override
+  public BackupStore getStore() {
+    return store;
+  }
+}
@@ -0,0 +1,379 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.s3.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * An in-process stand-in for S3 which keeps all objects of a single bucket in memory. Supports just
+ * enough of the API to be used by the {@link io.camunda.zeebe.backup.s3.S3BackupStore}: plain and
+ * multipart uploads, downloads, checking for, listing and deleting objects.
+ *
+ * <p>Every request is delayed by the given latency to roughly simulate a remote object store.
+ */
+public final class InMemoryS3AsyncClient implements S3AsyncClient {
+  private static final int DOWNLOAD_CHUNK_SIZE = 64 * 1024;
+
+  private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+  private final Map<String, Map<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+  private final AtomicLong uploadedBytes = new AtomicLong();
+  private final AtomicLong rangedDownloads = new AtomicLong();
+  private final Executor executor;
+  private volatile HeldDeletions heldDeletions;
+
+  public InMemoryS3AsyncClient() {
+    this(Duration.ZERO);
+  }
+
+  public InMemoryS3AsyncClient(final Duration requestLatency) {
+    executor = CompletableFuture.delayedExecutor(requestLatency.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /** Returns the total number of bytes that were uploaded to this client so far. */
+  public long uploadedBytes() {
+    return uploadedBytes.get();
+  }
+
+  /** Returns the number of downloads which requested only a range of an object. */
+  public long rangedDownloads() {
+    return rangedDownloads.get();
+  }
+
+  /**
+   * Holds back the next deletion of objects with the given key prefix until {@link
+   * HeldDeletions#release()} is called.
+   */
+  public HeldDeletions holdDeletions(final String keyPrefix) {
+    final var held = new HeldDeletions(keyPrefix);
+    heldDeletions = held;
+    return held;
+  }
+
+  @Override
+  public String serviceName() {
+    return SERVICE_NAME;
+  }
+
+  @Override
+  public void close() {}
+
+  @Override
+  public CompletableFuture<PutObjectResponse> putObject(
+      final PutObjectRequest request, final AsyncRequestBody body) {
+    return readBody(body)
+        .thenApplyAsync(
+            bytes -> {
+              objects.put(request.key(), bytes);
+              return PutObjectResponse.builder().build();
+            },
+            executor);
+  }
+
+  @Override
+  public <T> CompletableFuture<T> getObject(
+      final GetObjectRequest request,
+      final AsyncResponseTransformer<GetObjectResponse, T> transformer) {
+    return CompletableFuture.supplyAsync(() -> objects.get(request.key()), executor)
+        .thenCompose(
+            bytes -> {
+              if (bytes == null) {
+                return CompletableFuture.failedFuture(
+                    NoSuchKeyException.builder().message("No object " + request.key()).build());
+              }
+
+              final var response = GetObjectResponse.builder();
+              var contents = bytes;
+              if (request.range() != null) {
+                // only supports the "bytes=first-last" form used by the backup store
+                final var range = request.range().substring("bytes=".length()).split("-");
+                final var first = Integer.parseInt(range[0]);
+                final var last = Math.min(Integer.parseInt(range[1]), bytes.length - 1);
+                contents = Arrays.copyOfRange(bytes, first, last + 1);
+                response.contentRange("bytes %d-%d/%d".formatted(first, last, bytes.length));
+                rangedDownloads.incrementAndGet();
+              }
+
+              final var result = transformer.prepare();
+              transformer.onResponse(response.contentLength((long) contents.length).build());
+              transformer.onStream(SdkPublisher.adapt(new ChunkedPublisher(contents)));
+              return result;
+            });
+  }
+
+  @Override
+  public CompletableFuture<HeadObjectResponse> headObject(final HeadObjectRequest request) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final var bytes = objects.get(request.key());
+          if (bytes == null) {
+            throw NoSuchKeyException.builder().message("No object " + request.key()).build();
+          }
+          return HeadObjectResponse.builder().contentLength((long) bytes.length).build();
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(
+      final CreateMultipartUploadRequest request) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final var uploadId = UUID.randomUUID().toString();
+          multipartUploads.put(uploadId, new ConcurrentSkipListMap<>());
+          return CreateMultipartUploadResponse.builder()
+              .bucket(request.bucket())
+              .key(request.key())
+              .uploadId(uploadId)
+              .build();
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<UploadPartResponse> uploadPart(
+      final UploadPartRequest request, final AsyncRequestBody body) {
+    return readBody(body)
+        .thenApplyAsync(
+            bytes -> {
+              uploadParts(request.uploadId()).put(request.partNumber(), bytes);
+              return UploadPartResponse.builder()
+                  .eTag(request.uploadId() + "-" + request.partNumber())
+                  .build();
+            },
+            executor);
+  }
+
+  @Override
+  public CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(
+      final CompleteMultipartUploadRequest request) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final var parts = uploadParts(request.uploadId());
+          final var object = new ByteArrayOutputStream();
+          for (final CompletedPart part : request.multipartUpload().parts()) {
+            object.writeBytes(parts.get(part.partNumber()));
+          }
+          objects.put(request.key(), object.toByteArray());
+          multipartUploads.remove(request.uploadId());
+          return CompleteMultipartUploadResponse.builder()
+              .bucket(request.bucket())
+              .key(request.key())
+              .build();
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<AbortMultipartUploadResponse> abortMultipartUpload(
+      final AbortMultipartUploadRequest request) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          multipartUploads.remove(request.uploadId());
+          return AbortMultipartUploadResponse.builder().build();
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<ListObjectsV2Response> listObjectsV2(
+      final ListObjectsV2Request request) {
+    return CompletableFuture.supplyAsync(
+        () ->
+            ListObjectsV2Response.builder()
+                .isTruncated(false)
+                .contents(
+                    objects.entrySet().stream()
+                        .filter(
+                            entry ->
+                                request.prefix() == null
+                                    || entry.getKey().startsWith(request.prefix()))
+                        .map(
+                            entry ->
+                                S3Object.builder()
+                                    .key(entry.getKey())
+                                    .size((long) entry.getValue().length)
+                                    .build())
+                        .toList())
+                .build(),
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<DeleteObjectsResponse> deleteObjects(
+      final DeleteObjectsRequest request) {
+    final var held = heldDeletions;
+    if (held != null
+        && request.delete().objects().stream().anyMatch(o -> o.key().startsWith(held.keyPrefix))) {
+      heldDeletions = null;
+      held.requested.complete(null);
+      return held.released.thenCompose(ignored -> deleteObjects(request));
+    }
+
+    return CompletableFuture.supplyAsync(
+        () -> {
+          request.delete().objects().stream().map(ObjectIdentifier::key).forEach(objects::remove);
+          return DeleteObjectsResponse.builder().build();
+        },
+        executor);
+  }
+
+  private Map<Integer, byte[]> uploadParts(final String uploadId) {
+    final var parts = multipartUploads.get(uploadId);
+    if (parts == null) {
+      throw NoSuchUploadException.builder().message("No multipart upload " + uploadId).build();
+    }
+    return parts;
+  }
+
+  private CompletableFuture<byte[]> readBody(final AsyncRequestBody body) {
+    final var result = new CompletableFuture<byte[]>();
+    final var buffer = new ByteArrayOutputStream();
+    body.subscribe(
+        new Subscriber<>() {
+          @Override
+          public void onSubscribe(final Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+          }
+
+          @Override
+          public void onNext(final ByteBuffer byteBuffer) {
+            final var bytes = new byte[byteBuffer.remaining()];
+            byteBuffer.get(bytes);
+            buffer.writeBytes(bytes);
+          }
+
+          @Override
+          public void onError(final Throwable throwable) {
+            result.completeExceptionally(throwable);
+          }
+
+          @Override
+          public void onComplete() {
+            uploadedBytes.addAndGet(buffer.size());
+            result.complete(buffer.toByteArray());
+          }
+        });
+    return result;
+  }
+
+  /** Publishes the given bytes in chunks, honoring the subscriber's demand. */
+  private static final class ChunkedPublisher implements Publisher<ByteBuffer> {
+    private final byte[] bytes;
+
+    private ChunkedPublisher(final byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super ByteBuffer> subscriber) {
+      subscriber.onSubscribe(
+          new Subscription() {
+            private final AtomicLong demand = new AtomicLong();
+            private final AtomicBoolean emitting = new AtomicBoolean();
+            private volatile boolean cancelled;
+            private int position;
+
+            @Override
+            public void request(final long n) {
+              demand.getAndAccumulate(n, (current, added) -> Math.max(current, current + added));
+              emit();
+            }
+
+            @Override
+            public void cancel() {
+              cancelled = true;
+            }
+
+            private void emit() {
+              // only one thread emits at a time, re-entrant requests just increase the demand
+              while (emitting.compareAndSet(false, true)) {
+                while (!cancelled && demand.get() > 0 && position < bytes.length) {
+                  final var length = Math.min(DOWNLOAD_CHUNK_SIZE, bytes.length - position);
+                  final var chunk = ByteBuffer.wrap(bytes, position, length).slice();
+                  position += length;
+                  demand.decrementAndGet();
+                  subscriber.onNext(chunk);
+                }
+
+                if (!cancelled && position == bytes.length) {
+                  cancelled = true;
+                  subscriber.onComplete();
+                }
+                emitting.set(false);
+
+                if (cancelled || demand.get() == 0) {
+                  return;
+                }
+              }
+            }
+          });
+    }
+  }
+
+  /** A deletion which is held back until it is released. */
+  public static final class HeldDeletions {
+    private final String keyPrefix;
+    private final CompletableFuture<Void> requested = new CompletableFuture<>();
+    private final CompletableFuture<Void> released = new CompletableFuture<>();
+
+    private HeldDeletions(final String keyPrefix) {
+      this.keyPrefix = keyPrefix;
+    }
+
+    /** Completes once the held deletion was requested. */
+    public CompletableFuture<Void> requested() {
+      return requested;
+    }
+
+    public void release() {
+      released.complete(null);
+    }
+  }
+}
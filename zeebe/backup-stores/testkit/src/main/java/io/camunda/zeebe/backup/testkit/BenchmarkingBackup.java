@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.testkit;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how long saving and restoring a backup of a single partition takes, and the resulting
+ * throughput in MB/s. The results are logged per partition.
+ *
+ * <p>This is not part of the {@link BackupStoreTestKit} because it is slow and only meaningful
+ * against a local stand-in of the remote store, for example MinIO or an in-process fake. The size
+ * of the benchmarked backups can be tuned by overriding the default methods.
+ */
+public interface BenchmarkingBackup {
+  BackupStore getStore();
+
+  default int benchmarkPartitionCount() {
+    return 3;
+  }
+
+  default int benchmarkFilesPerPartition() {
+    return 4;
+  }
+
+  default int benchmarkFileSize() {
+    return 32 * 1024 * 1024;
+  }
+
+  @Test
+  default void shouldMeasureBackupThroughput(@TempDir final Path tempDir) throws IOException {
+    final var log = LoggerFactory.getLogger(BenchmarkingBackup.class);
+
+    for (int partitionId = 1; partitionId <= benchmarkPartitionCount(); partitionId++) {
+      // given
+      final var backup = compressibleBackup(tempDir.resolve("source-" + partitionId), partitionId);
+      final var targetDir = Files.createDirectories(tempDir.resolve("restored-" + partitionId));
+      final var totalBytes = (long) benchmarkFilesPerPartition() * benchmarkFileSize();
+
+      // when
+      final var saveStart = System.nanoTime();
+      getStore().save(backup).join();
+      final var saveNanos = System.nanoTime() - saveStart;
+
+      final var restoreStart = System.nanoTime();
+      final var restored = getStore().restore(backup.id(), targetDir).join();
+      final var restoreNanos = System.nanoTime() - restoreStart;
+
+      // then
+      BackupAssert.assertThatBackup(restored).hasSameContentsAs(backup);
+      log.info(
+          "Partition {}: saved {} MB in {} ms ({} MB/s), restored in {} ms ({} MB/s)",
+          partitionId,
+          totalBytes / 1_000_000,
+          saveNanos / 1_000_000,
+          "%.1f".formatted(throughput(totalBytes, saveNanos)),
+          restoreNanos / 1_000_000,
+          "%.1f".formatted(throughput(totalBytes, restoreNanos)));
+    }
+  }
+
+  private static double throughput(final long bytes, final long nanos) {
+    return bytes / 1_000_000.0 / (nanos / 1_000_000_000.0);
+  }
+
+  private Backup compressibleBackup(final Path directory, final int partitionId)
+      throws IOException {
+    Files.createDirectories(directory);
+    final var random = new Random(partitionId);
+    final var snapshotFiles = new HashMap<String, Path>();
+    final var segmentFiles = new HashMap<String, Path>();
+
+    for (int i = 0; i < benchmarkFilesPerPartition(); i++) {
+      // split files evenly between snapshot and segments, like a typical partition
+      final var files = i % 2 == 0 ? snapshotFiles : segmentFiles;
+      final var name = (i % 2 == 0 ? "snapshot-file-" : "segment-file-") + i;
+      files.put(name, writeCompressibleFile(directory.resolve(name), random));
+    }
+
+    return new BackupImpl(
+        new BackupIdentifierImpl(1, partitionId, 1),
+        new BackupDescriptorImpl(Optional.of("benchmark-snapshot-id"), 4, 5, "test"),
+        new NamedFileSetImpl(snapshotFiles),
+        new NamedFileSetImpl(segmentFiles));
+  }
+
+  /**
+   * Writes a file of {@link #benchmarkFileSize()} bytes that consists of randomly chosen blocks
+   * from a small set of random templates, so that it compresses reasonably well.
+   */
+  private Path writeCompressibleFile(final Path file, final Random random) throws IOException {
+    final var blockSize = 64 * 1024;
+    final var templates = new byte[16][blockSize];
+    for (final var template : templates) {
+      random.nextBytes(template);
+    }
+
+    try (final var output = new BufferedOutputStream(Files.newOutputStream(file))) {
+      var remaining = benchmarkFileSize();
+      while (remaining > 0) {
+        final var length = Math.min(blockSize, remaining);
+        output.write(templates[random.nextInt(templates.length)], 0, length);
+        remaining -= length;
+      }
+    }
+    return file;
+  }
+}
@@ -92,5 +92,14 @@ public interface BrokerClient extends AutoCloseable {
 
   BrokerTopologyManager getTopologyManager();
 
+  /**
+   * Returns the strategy used to pick a partition for requests which don't specify one. Requests
+   * which are retried on other partitions should start with the partition it picks, so that they
+   * are steered away from overloaded partitions as well.
+   *
+   * @return the client's dispatch strategy
+   */
+  RequestDispatchStrategy getDispatchStrategy();
+
   void subscribeJobAvailableNotification(String topic, Consumer<String> handler);
 }
@@ -13,6 +13,7 @@ import io.atomix.cluster.messaging.Subscription;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerResponseConsumer;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
+import io.camunda.zeebe.broker.client.api.RequestDispatchStrategy;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
@@ -31,6 +32,7 @@ public final class BrokerClientImpl implements BrokerClient {
 
   private final BrokerTopologyManager topologyManager;
   private final BrokerRequestManager requestManager;
+  private final RequestDispatchStrategy dispatchStrategy;
 
   private boolean isClosed;
   private Subscription jobAvailableSubscription;
@@ -44,17 +46,34 @@ public final class BrokerClientImpl implements BrokerClient {
       final ClusterEventService eventService,
       final ActorSchedulingService schedulingService,
       final BrokerTopologyManager topologyManager) {
+    this(requestTimeout, messagingService, eventService, schedulingService, topologyManager, false);
+  }
+
+  /**
+   * @param loadAwareDispatch if true, requests which don't target a specific partition are sent to
+   *     the least loaded of two partitions, see {@link LoadAwareDispatchStrategy}; otherwise they
+   *     are sent to the partitions round-robin
+   */
+  public BrokerClientImpl(
+      final Duration requestTimeout,
+      final MessagingService messagingService,
+      final ClusterEventService eventService,
+      final ActorSchedulingService schedulingService,
+      final BrokerTopologyManager topologyManager,
+      final boolean loadAwareDispatch) {
     this.eventService = eventService;
     this.schedulingService = schedulingService;
 
     this.topologyManager = topologyManager;
     atomixTransportAdapter = new AtomixClientTransportAdapter(messagingService);
+    final PartitionLoadTracker loadTracker = new PartitionLoadTracker();
+    dispatchStrategy =
+        loadAwareDispatch
+            ? new LoadAwareDispatchStrategy(loadTracker)
+            : new RoundRobinDispatchStrategy();
     requestManager =
         new BrokerRequestManager(
-            atomixTransportAdapter,
-            topologyManager,
-            new RoundRobinDispatchStrategy(),
-            requestTimeout);
+            atomixTransportAdapter, topologyManager, dispatchStrategy, requestTimeout, loadTracker);
   }
 
   @Override
@@ -91,6 +110,11 @@ public final class BrokerClientImpl implements BrokerClient {
     return topologyManager;
   }
 
+  @Override
+  public RequestDispatchStrategy getDispatchStrategy() {
+    return dispatchStrategy;
+  }
+
   @Override
   public void subscribeJobAvailableNotification(
       final String topic, final Consumer<String> handler) {
@@ -36,22 +36,26 @@ import org.agrona.DirectBuffer;
 final class BrokerRequestManager extends Actor {
 
   private static final TransportRequestSender SENDER_WITH_RETRY =
-      (c, s, r, t) -> c.sendRequestWithRetry(s, BrokerRequestManager::responseValidation, r, t);
+      (c, s, r, t) -> c.sendRequestWithRetry(s, s::isValidResponse, r, t);
   private static final TransportRequestSender SENDER_WITHOUT_RETRY = ClientTransport::sendRequest;
   private final ClientTransport clientTransport;
   private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManager topologyManager;
   private final Duration requestTimeout;
+  private final PartitionLoadTracker loadTracker;
+  private final PartitionLeaderCache leaderCache = new PartitionLeaderCache();
 
   BrokerRequestManager(
       final ClientTransport clientTransport,
       final BrokerTopologyManager topologyManager,
       final RequestDispatchStrategy dispatchStrategy,
-      final Duration requestTimeout) {
+      final Duration requestTimeout,
+      final PartitionLoadTracker loadTracker) {
     this.clientTransport = clientTransport;
     this.dispatchStrategy = dispatchStrategy;
     this.topologyManager = topologyManager;
     this.requestTimeout = requestTimeout;
+    this.loadTracker = loadTracker;
   }
 
   private static boolean responseValidation(final DirectBuffer responseContent) {
@@ -132,10 +136,12 @@ final class BrokerRequestManager extends Actor {
     final ActorFuture<DirectBuffer> responseFuture =
         sender.send(clientTransport, nodeIdProvider, request, requestTimeout);
     final long startTime = System.currentTimeMillis();
+    nodeIdProvider.onRequestSent();
 
     actor.runOnCompletion(
         responseFuture,
         (clientResponse, error) -> {
+          final long elapsedTime = System.currentTimeMillis() - startTime;
           RequestResult result = null;
           try {
             if (error == null) {
@@ -143,7 +149,7 @@ final class BrokerRequestManager extends Actor {
 
               result = handleResponse(response, returnFuture);
               if (result.wasProcessed()) {
-                final long elapsedTime = System.currentTimeMillis() - startTime;
+                nodeIdProvider.onRequestCompleted(elapsedTime);
                 BrokerClientMetrics.registerSuccessfulRequest(
                     request.getPartitionId(), request.getType(), elapsedTime);
                 return;
@@ -155,6 +161,7 @@ final class BrokerRequestManager extends Actor {
             returnFuture.completeExceptionally(new BrokerResponseException(e));
           }
 
+          nodeIdProvider.onRequestFailed(result, error, elapsedTime);
           registerFailure(request, result, error);
         });
   }
@@ -284,35 +291,98 @@ final class BrokerRequestManager extends Actor {
 
     ActorFuture<DirectBuffer> send(
         ClientTransport transport,
-        Supplier<String> nodeAddressSupplier,
+        BrokerAddressProvider nodeAddressSupplier,
         ClientRequest clientRequest,
         Duration timeout);
   }
 
+  /**
+   * Provides the address of the broker to send a request to. For requests to a partition, this is
+   * its leader as resolved by the {@link PartitionLeaderCache}, and the outcome of the request is
+   * reported to it and to the {@link PartitionLoadTracker}.
+   */
   private class BrokerAddressProvider implements Supplier<String> {
 
     private final ToIntFunction<BrokerClusterState> nodeIdSelector;
+    private final int partitionId;
+    private volatile int lastNodeId = BrokerClusterState.NODE_ID_NULL;
 
     BrokerAddressProvider() {
       this(BrokerClusterState::getRandomBroker);
     }
 
     BrokerAddressProvider(final int partitionId) {
-      this(state -> state.getLeaderForPartition(partitionId));
+      nodeIdSelector = state -> leaderCache.getLeader(state, partitionId);
+      this.partitionId = partitionId;
     }
 
     BrokerAddressProvider(final ToIntFunction<BrokerClusterState> nodeIdSelector) {
       this.nodeIdSelector = nodeIdSelector;
+      partitionId = BrokerClusterState.PARTITION_ID_NULL;
     }
 
     @Override
     public String get() {
       final BrokerClusterState topology = topologyManager.getTopology();
       if (topology != null) {
-        return topology.getBrokerAddress(nodeIdSelector.applyAsInt(topology));
+        lastNodeId = nodeIdSelector.applyAsInt(topology);
+        return topology.getBrokerAddress(lastNodeId);
       } else {
         return null;
       }
     }
+
+    boolean isValidResponse(final DirectBuffer responseContent) {
+      final boolean isValid = responseValidation(responseContent);
+      if (!isValid) {
+        onLeaderMismatch();
+      }
+      return isValid;
+    }
+
+    void onRequestSent() {
+      if (isTracked()) {
+        loadTracker.onRequestSent(partitionId);
+      }
+    }
+
+    void onRequestCompleted(final long latencyMs) {
+      if (isTracked()) {
+        loadTracker.onRequestCompleted(partitionId, latencyMs);
+      }
+    }
+
+    void onRequestFailed(final RequestResult result, final Throwable error, final long latencyMs) {
+      final ErrorCode errorCode = result != null ? result.getErrorCode() : null;
+      if (errorCode == ErrorCode.PARTITION_LEADER_MISMATCH) {
+        onLeaderMismatch();
+      }
+
+      if (!isTracked()) {
+        return;
+      }
+
+      if (errorCode == ErrorCode.RESOURCE_EXHAUSTED) {
+        loadTracker.onRequestRejectedByBackpressure(partitionId);
+      } else if (error instanceof TimeoutException) {
+        // a timed out request tells that the partition is at least that slow
+        loadTracker.onRequestCompleted(partitionId, latencyMs);
+      } else {
+        loadTracker.onRequestFailed(partitionId);
+      }
+    }
+
+    private boolean isTracked() {
+      return partitionId != BrokerClusterState.PARTITION_ID_NULL;
+    }
+
+    private void onLeaderMismatch() {
+      final BrokerClusterState topology = topologyManager.getTopology();
+      if (topology != null
+          && partitionId != BrokerClusterState.PARTITION_ID_NULL
+          && lastNodeId != BrokerClusterState.NODE_ID_NULL) {
+        leaderCache.onLeaderMismatch(topology, partitionId, lastNodeId);
+      }
+    }
   }
 }
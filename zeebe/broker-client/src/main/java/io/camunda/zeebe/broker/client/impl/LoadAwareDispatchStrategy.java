@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.impl;
+
+import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
+import io.camunda.zeebe.broker.client.api.RequestDispatchStrategy;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Picks the next partition round-robin, but compares it with another, randomly chosen partition,
+ * and picks the latter if its {@link PartitionLoadTracker#score(int) load score} is lower. Fewer
+ * requests go to overloaded partitions, without sending all requests to the least loaded one until
+ * the scores catch up.
+ *
+ * <p>Note that the scores fluctuate with every request in flight, so even under equal load the
+ * requests are not spread as evenly as with a plain round-robin. This is why the strategy must be
+ * enabled explicitly.
+ */
+final class LoadAwareDispatchStrategy implements RequestDispatchStrategy {
+
+  private final RoundRobinDispatchStrategy roundRobin = new RoundRobinDispatchStrategy();
+  private final PartitionLoadTracker loadTracker;
+  private final IntUnaryOperator randomIndex;
+
+  LoadAwareDispatchStrategy(final PartitionLoadTracker loadTracker) {
+    this(loadTracker, bound -> ThreadLocalRandom.current().nextInt(bound));
+  }
+
+  LoadAwareDispatchStrategy(
+      final PartitionLoadTracker loadTracker, final IntUnaryOperator randomIndex) {
+    this.loadTracker = loadTracker;
+    this.randomIndex = randomIndex;
+  }
+
+  @Override
+  public int determinePartition(final BrokerTopologyManager topologyManager) {
+    final int partition = roundRobin.determinePartition(topologyManager);
+    final BrokerClusterState topology = topologyManager.getTopology();
+    if (partition == BrokerClusterState.PARTITION_ID_NULL
+        || topology == null
+        || topology.getPartitionsCount() < 2) {
+      return partition;
+    }
+
+    final int alternative =
+        topology.getPartition(randomIndex.applyAsInt(topology.getPartitionsCount()));
+    if (alternative == partition
+        || topology.getLeaderForPartition(alternative) == BrokerClusterState.NODE_ID_NULL) {
+      return partition;
+    }
+
+    return loadTracker.score(alternative) < loadTracker.score(partition) ? alternative : partition;
+  }
+}
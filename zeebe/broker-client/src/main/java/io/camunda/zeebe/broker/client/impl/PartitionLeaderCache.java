@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.impl;
+
+import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the leader of a partition, taking into account the leader mismatches reported by the
+ * brokers, which usually precede the gossiped topology after a leader change. When the known leader
+ * rejects a request as it's not the leader anymore, the requests to that partition are routed to
+ * its followers one by one instead, as one of them is most likely the new leader. Once the topology
+ * reports a different leader, it takes precedence again.
+ *
+ * <p>Thread-safe, as leaders are resolved and mismatches reported on different actors.
+ */
+final class PartitionLeaderCache {
+
+  private final Map<Integer, LeaderOverride> overrides = new ConcurrentHashMap<>();
+
+  /**
+   * @return the node to send requests for the partition to, or {@link
+   *     BrokerClusterState#NODE_ID_NULL} if the partition has no known leader
+   */
+  int getLeader(final BrokerClusterState topology, final int partitionId) {
+    final int leader = topology.getLeaderForPartition(partitionId);
+    final LeaderOverride override = overrides.get(partitionId);
+    if (override == null) {
+      return leader;
+    }
+
+    if (override.staleLeader() != leader) {
+      // the topology caught up with the leader change
+      overrides.remove(partitionId, override);
+      return leader;
+    }
+
+    return override.candidate();
+  }
+
+  /**
+   * Called when the given node rejected a request for the partition, as it is not its leader.
+   * Requests are then sent to the next follower of the partition, if any.
+   */
+  void onLeaderMismatch(
+      final BrokerClusterState topology, final int partitionId, final int nodeId) {
+    final int leader = topology.getLeaderForPartition(partitionId);
+    if (leader == BrokerClusterState.NODE_ID_NULL) {
+      return;
+    }
+
+    overrides.compute(
+        partitionId,
+        (id, override) -> {
+          if (override == null || override.staleLeader() != leader) {
+            return nodeId == leader ? nextCandidate(topology, partitionId, leader, -1) : override;
+          }
+
+          if (nodeId != override.candidate()) {
+            // an outdated mismatch of a request sent before
+            return override;
+          }
+
+          return nextCandidate(topology, partitionId, leader, nodeId);
+        });
+  }
+
+  /**
+   * @return an override with the lowest follower greater than the previous candidate, or null if
+   *     all followers were tried, in which case the requests go to the known leader again
+   */
+  private LeaderOverride nextCandidate(
+      final BrokerClusterState topology,
+      final int partitionId,
+      final int staleLeader,
+      final int previousCandidate) {
+    final Set<Integer> followers = topology.getFollowersForPartition(partitionId);
+    if (followers == null) {
+      return null;
+    }
+
+    int candidate = Integer.MAX_VALUE;
+    for (final int follower : followers) {
+      if (follower > previousCandidate && follower < candidate && follower != staleLeader) {
+        candidate = follower;
+      }
+    }
+
+    return candidate == Integer.MAX_VALUE ? null : new LeaderOverride(staleLeader, candidate);
+  }
+
+  private record LeaderOverride(int staleLeader, int candidate) {}
+}
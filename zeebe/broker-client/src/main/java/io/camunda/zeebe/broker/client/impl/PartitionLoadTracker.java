@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the load of each partition as observed by the requests sent to its leader: the number of
+ * requests in flight, a moving average of their latency, and whether the partition recently
+ * rejected a request due to backpressure. These are combined into a score, which estimates how long
+ * a new request would take on the partition, and lets the dispatch strategy steer requests away
+ * from overloaded partitions.
+ *
+ * <p>Thread-safe, as requests are sent and completed on different actors.
+ */
+final class PartitionLoadTracker {
+
+  // weight of a new latency sample in the moving average, as with TCP's smoothed round trip time
+  private static final int LATENCY_SMOOTHING_SHIFT = 3;
+  private static final long BACKPRESSURE_PENALTY = 8;
+  private static final long BACKPRESSURE_COOL_DOWN_MS = 1_000;
+
+  private final Map<Integer, PartitionLoad> partitions = new ConcurrentHashMap<>();
+  private final LongSupplier clock;
+
+  PartitionLoadTracker() {
+    this(System::currentTimeMillis);
+  }
+
+  PartitionLoadTracker(final LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  void onRequestSent(final int partitionId) {
+    getLoad(partitionId).inFlight.incrementAndGet();
+  }
+
+  /** Called when the partition processed the request, or the request timed out. */
+  void onRequestCompleted(final int partitionId, final long latencyMs) {
+    final PartitionLoad load = getLoad(partitionId);
+    load.inFlight.decrementAndGet();
+    load.latencyMicros.getAndUpdate(
+        average -> average + ((latencyMs * 1_000 - average) >> LATENCY_SMOOTHING_SHIFT));
+  }
+
+  void onRequestRejectedByBackpressure(final int partitionId) {
+    final PartitionLoad load = getLoad(partitionId);
+    load.inFlight.decrementAndGet();
+    load.lastBackpressureMs = clock.getAsLong();
+  }
+
+  /** Called when the request failed for any other reason, which says nothing about the load. */
+  void onRequestFailed(final int partitionId) {
+    getLoad(partitionId).inFlight.decrementAndGet();
+  }
+
+  /**
+   * @return the expected time for a new request on the partition, relative to the other partitions;
+   *     the lower, the better
+   */
+  long score(final int partitionId) {
+    final PartitionLoad load = partitions.get(partitionId);
+    if (load == null) {
+      return 1;
+    }
+
+    final long score = (Math.max(load.inFlight.get(), 0) + 1L) * (load.latencyMicros.get() + 1);
+    if (clock.getAsLong() - load.lastBackpressureMs < BACKPRESSURE_COOL_DOWN_MS) {
+      return score * BACKPRESSURE_PENALTY;
+    }
+
+    return score;
+  }
+
+  private PartitionLoad getLoad(final int partitionId) {
+    return partitions.computeIfAbsent(partitionId, id -> new PartitionLoad());
+  }
+
+  private static final class PartitionLoad {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong latencyMicros = new AtomicLong();
+    private volatile long lastBackpressureMs = Long.MIN_VALUE / 2;
+  }
+}
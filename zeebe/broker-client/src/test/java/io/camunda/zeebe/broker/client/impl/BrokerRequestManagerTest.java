@@ -0,0 +1,228 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.protocol.impl.encoding.ErrorResponse;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.ErrorCode;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.scheduler.testing.ControlledActorSchedulerExtension;
+import io.camunda.zeebe.transport.ClientRequest;
+import io.camunda.zeebe.transport.ClientTransport;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+final class BrokerRequestManagerTest {
+  @RegisterExtension
+  final ControlledActorSchedulerExtension scheduler = new ControlledActorSchedulerExtension();
+
+  private final TestTopologyManager topologyManager = new TestTopologyManager();
+  private final StubTransport transport = new StubTransport();
+  private BrokerRequestManager requestManager;
+
+  @BeforeEach
+  void beforeEach() {
+    topologyManager
+        .addPartition(1, 0)
+        .addPartitionFollower(1, 1)
+        .setBrokerAddress(0, "broker-0")
+        .setBrokerAddress(1, "broker-1")
+        .setBrokerAddress(2, "broker-2");
+    requestManager =
+        new BrokerRequestManager(
+            transport,
+            topologyManager,
+            new RoundRobinDispatchStrategy(),
+            Duration.ofSeconds(5),
+            new PartitionLoadTracker());
+    scheduler.submitActor(requestManager);
+    scheduler.workUntilDone();
+  }
+
+  @Test
+  void shouldRetryOnFollowerAfterLeaderMismatch() {
+    // given - the known leader is stale, the follower took over
+    transport.respondWithError("broker-0", ErrorCode.PARTITION_LEADER_MISMATCH);
+    transport.respondWithSuccess("broker-1");
+
+    // when
+    final var response = send();
+
+    // then
+    assertThat(response).isCompleted();
+    assertThat(response.join().isResponse()).isTrue();
+    assertThat(transport.addresses).containsExactly("broker-0", "broker-1");
+  }
+
+  @Test
+  void shouldSendNextRequestsToFollowerAfterLeaderMismatch() {
+    // given
+    transport.respondWithError("broker-0", ErrorCode.PARTITION_LEADER_MISMATCH);
+    transport.respondWithSuccess("broker-1");
+    send().join();
+    transport.addresses.clear();
+
+    // when
+    final var response = send();
+
+    // then - the stale leader is not asked again
+    assertThat(response.join().isResponse()).isTrue();
+    assertThat(transport.addresses).containsExactly("broker-1");
+  }
+
+  @Test
+  void shouldSendToNewLeaderOnceTopologyIsUpdated() {
+    // given
+    transport.respondWithError("broker-0", ErrorCode.PARTITION_LEADER_MISMATCH);
+    transport.respondWithSuccess("broker-1");
+    transport.respondWithSuccess("broker-2");
+    send().join();
+    transport.addresses.clear();
+
+    // when
+    topologyManager.setPartitionLeader(1, 2, 2);
+    final var response = send();
+
+    // then
+    assertThat(response.join().isResponse()).isTrue();
+    assertThat(transport.addresses).containsExactly("broker-2");
+  }
+
+  @Test
+  void shouldNotRerouteWithoutRetries() {
+    // given
+    transport.respondWithError("broker-0", ErrorCode.PARTITION_LEADER_MISMATCH);
+    transport.respondWithSuccess("broker-1");
+
+    // when
+    final var response = requestManager.sendRequest(new TestCommand());
+    scheduler.workUntilDone();
+
+    // then
+    assertThat(response).isCompletedExceptionally();
+    assertThat(transport.addresses).containsExactly("broker-0");
+  }
+
+  private CompletableFuture<BrokerResponse<UnifiedRecordValue>> send() {
+    final var response = requestManager.sendRequestWithRetry(new TestCommand());
+    scheduler.workUntilDone();
+    return response;
+  }
+
+  private static final class TestCommand extends BrokerExecuteCommand<UnifiedRecordValue> {
+    private final UnifiedRecordValue record = new UnifiedRecordValue(10);
+
+    private TestCommand() {
+      super(ValueType.JOB, JobIntent.YIELD);
+      setPartitionId(1);
+    }
+
+    @Override
+    public BufferWriter getRequestWriter() {
+      return record;
+    }
+
+    @Override
+    protected UnifiedRecordValue toResponseDto(final DirectBuffer buffer) {
+      final var response = new UnifiedRecordValue(10);
+      response.wrap(buffer);
+      return response;
+    }
+  }
+
+  /**
+   * Answers each request with the response registered for the address it is sent to, and, like the
+   * real transport, retries with the next address as long as the response is not valid.
+   */
+  private static final class StubTransport implements ClientTransport {
+    private static final int MAX_TRIES = 5;
+
+    private final Map<String, DirectBuffer> responses = new HashMap<>();
+    private final List<String> addresses = new ArrayList<>();
+
+    void respondWithError(final String address, final ErrorCode errorCode) {
+      final var error =
+          new ErrorResponse().setErrorCode(errorCode).setErrorData(BufferUtil.wrapString("error"));
+      responses.put(address, write(error));
+    }
+
+    void respondWithSuccess(final String address) {
+      // an empty MessagePack map
+      final var value = new UnsafeBuffer(new byte[] {(byte) 0x80});
+      final var response =
+          new ExecuteCommandResponse()
+              .setPartitionId(1)
+              .setKey(1)
+              .setRecordType(RecordType.EVENT)
+              .setValueType(ValueType.JOB)
+              .setIntent(JobIntent.YIELDED)
+              .setValue(value, 0, value.capacity());
+      responses.put(address, write(response));
+    }
+
+    @Override
+    public ActorFuture<DirectBuffer> sendRequestWithRetry(
+        final Supplier<String> nodeAddressSupplier,
+        final Predicate<DirectBuffer> responseValidator,
+        final ClientRequest clientRequest,
+        final Duration timeout) {
+      for (int i = 0; i < MAX_TRIES; i++) {
+        final var response = respond(nodeAddressSupplier.get());
+        if (responseValidator.test(response)) {
+          return CompletableActorFuture.completed(response);
+        }
+      }
+      return CompletableActorFuture.completedExceptionally(new TimeoutException());
+    }
+
+    @Override
+    public ActorFuture<DirectBuffer> sendRequest(
+        final Supplier<String> nodeAddressSupplier,
+        final ClientRequest clientRequest,
+        final Duration timeout) {
+      return CompletableActorFuture.completed(respond(nodeAddressSupplier.get()));
+    }
+
+    @Override
+    public void close() {}
+
+    private DirectBuffer respond(final String address) {
+      addresses.add(address);
+      return responses.get(address);
+    }
+
+    private static DirectBuffer write(final BufferWriter writer) {
+      final var buffer = new UnsafeBuffer(new byte[writer.getLength()]);
+      writer.write(buffer, 0);
+      return buffer;
+    }
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class LoadAwareDispatchStrategyTest {
+  private final TestTopologyManager topologyManager = new TestTopologyManager();
+  private final AtomicLong clock = new AtomicLong();
+  private final PartitionLoadTracker loadTracker = new PartitionLoadTracker(clock::get);
+
+  // always compare with the last partition
+  private final LoadAwareDispatchStrategy dispatchStrategy =
+      new LoadAwareDispatchStrategy(loadTracker, bound -> bound - 1);
+
+  @BeforeEach
+  void beforeEach() {
+    topologyManager.addPartition(1, 0).addPartition(2, 0).addPartition(3, 0);
+  }
+
+  @Test
+  void shouldReturnNullValueIfNoTopology() {
+    // given
+    final var topologyManager = new TestTopologyManager(null);
+
+    // when
+    final var partitionId = dispatchStrategy.determinePartition(topologyManager);
+
+    // then
+    assertThat(partitionId).isEqualTo(BrokerClusterState.PARTITION_ID_NULL);
+  }
+
+  @Test
+  void shouldRoundRobinIfEquallyLoaded() {
+    // when - then
+    assertThat(dispatchStrategy.determinePartition(topologyManager)).isEqualTo(1);
+    assertThat(dispatchStrategy.determinePartition(topologyManager)).isEqualTo(2);
+    assertThat(dispatchStrategy.determinePartition(topologyManager)).isEqualTo(3);
+  }
+
+  @Test
+  void shouldAvoidPartitionWithMoreRequestsInFlight() {
+    // given
+    loadTracker.onRequestSent(1);
+
+    // when
+    final int partitionId = dispatchStrategy.determinePartition(topologyManager);
+
+    // then
+    assertThat(partitionId).isEqualTo(3);
+  }
+
+  @Test
+  void shouldAvoidSlowerPartition() {
+    // given
+    loadTracker.onRequestSent(1);
+    loadTracker.onRequestCompleted(1, 100);
+    loadTracker.onRequestSent(3);
+    loadTracker.onRequestCompleted(3, 10);
+
+    // when
+    final int partitionId = dispatchStrategy.determinePartition(topologyManager);
+
+    // then
+    assertThat(partitionId).isEqualTo(3);
+  }
+
+  @Test
+  void shouldAvoidPartitionWithRecentBackpressure() {
+    // given
+    loadTracker.onRequestSent(1);
+    loadTracker.onRequestRejectedByBackpressure(1);
+
+    // when
+    final int partitionId = dispatchStrategy.determinePartition(topologyManager);
+
+    // then
+    assertThat(partitionId).isEqualTo(3);
+  }
+
+  @Test
+  void shouldNoLongerAvoidPartitionAfterBackpressureCoolDown() {
+    // given
+    loadTracker.onRequestSent(1);
+    loadTracker.onRequestRejectedByBackpressure(1);
+
+    // when
+    clock.addAndGet(1_000);
+    final int partitionId = dispatchStrategy.determinePartition(topologyManager);
+
+    // then
+    assertThat(partitionId).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotPickPartitionWithoutLeader() {
+    // given
+    topologyManager.addPartition(4, BrokerClusterState.NODE_ID_NULL);
+    loadTracker.onRequestSent(1);
+
+    // when
+    final int partitionId = dispatchStrategy.determinePartition(topologyManager);
+
+    // then
+    assertThat(partitionId).isEqualTo(1);
+  }
+}
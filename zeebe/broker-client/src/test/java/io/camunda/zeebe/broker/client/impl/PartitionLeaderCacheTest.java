@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class PartitionLeaderCacheTest {
+  private final TestTopologyManager topologyManager = new TestTopologyManager();
+  private final PartitionLeaderCache leaderCache = new PartitionLeaderCache();
+
+  @BeforeEach
+  void beforeEach() {
+    topologyManager.addPartition(1, 0).addPartitionFollower(1, 1).addPartitionFollower(1, 2);
+  }
+
+  @Test
+  void shouldReturnLeaderOfTopology() {
+    // when - then
+    assertThat(leaderCache.getLeader(topologyManager.getTopology(), 1)).isEqualTo(0);
+  }
+
+  @Test
+  void shouldRouteToFollowerAfterLeaderMismatch() {
+    // when
+    leaderCache.onLeaderMismatch(topologyManager.getTopology(), 1, 0);
+
+    // then
+    assertThat(leaderCache.getLeader(topologyManager.getTopology(), 1)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRouteToNextFollowerAfterAnotherLeaderMismatch() {
+    // given
+    leaderCache.onLeaderMismatch(topologyManager.getTopology(), 1, 0);
+
+    // when
+    leaderCache.onLeaderMismatch(topologyManager.getTopology(), 1, 1);
+
+    // then
+    assertThat(leaderCache.getLeader(topologyManager.getTopology(), 1)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRouteToLeaderOfTopologyAfterAllFollowersWereTried() {
+    // given
+    leaderCache.onLeaderMismatch(topologyManager.getTopology(), 1, 0);
+    leaderCache.onLeaderMismatch(topologyManager.getTopology(), 1, 1);
+
+    // when
+    leaderCache.onLeaderMismatch(topologyManager.getTopology(), 1, 2);
+
+    // then
+    assertThat(leaderCache.getLeader(topologyManager.getTopology(), 1)).isEqualTo(0);
+  }
+
+  @Test
+  void shouldIgnoreOutdatedLeaderMismatch() {
+    // given
+    leaderCache.onLeaderMismatch(topologyManager.getTopology(), 1, 0);
+
+    // when - a request sent to the old leader before the first mismatch is rejected as well
+    leaderCache.onLeaderMismatch(topologyManager.getTopology(), 1, 0);
+
+    // then
+    assertThat(leaderCache.getLeader(topologyManager.getTopology(), 1)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldPreferNewLeaderOfTopology() {
+    // given
+    leaderCache.onLeaderMismatch(topologyManager.getTopology(), 1, 0);
+
+    // when
+    topologyManager.setPartitionLeader(1, 2, 2);
+
+    // then
+    assertThat(leaderCache.getLeader(topologyManager.getTopology(), 1)).isEqualTo(2);
+  }
+}
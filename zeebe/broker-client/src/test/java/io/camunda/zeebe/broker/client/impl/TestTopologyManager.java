@@ -34,6 +34,24 @@ final class TestTopologyManager implements BrokerTopologyManager {
     return this;
   }
 
+  TestTopologyManager addPartitionFollower(final int id, final int followerId) {
+    topology.addBrokerIfAbsent(followerId);
+    topology.addPartitionFollower(id, followerId);
+    return this;
+  }
+
+  TestTopologyManager setPartitionLeader(final int id, final int leaderId, final long term) {
+    topology.addBrokerIfAbsent(leaderId);
+    topology.setPartitionLeader(id, leaderId, term);
+    return this;
+  }
+
+  TestTopologyManager setBrokerAddress(final int id, final String address) {
+    topology.addBrokerIfAbsent(id);
+    topology.setBrokerAddressIfPresent(id, address);
+    return this;
+  }
+
   @Override
   public BrokerClusterState getTopology() {
     return topology;
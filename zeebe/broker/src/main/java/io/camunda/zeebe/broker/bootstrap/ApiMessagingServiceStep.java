@@ -40,6 +40,10 @@ public class ApiMessagingServiceStep extends AbstractBrokerStartupStep {
     }
 
     messagingConfig.setCompressionAlgorithm(brokerCfg.getCluster().getMessageCompression());
+    messagingConfig
+        .setWriteCoalescingEnabled(brokerCfg.getCluster().isMessageCoalescing())
+        .setWriteCoalescingBudget(
+            Math.toIntExact(brokerCfg.getCluster().getMessageCoalescingBudget().toBytes()));
 
     final var messagingService =
         new NettyMessagingService(
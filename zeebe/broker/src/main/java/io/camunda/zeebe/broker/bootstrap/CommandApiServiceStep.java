@@ -66,7 +66,10 @@ final class CommandApiServiceStep extends AbstractBrokerStartupStep {
 
     final var commandApiService =
         new CommandApiServiceImpl(
-            serverTransport, schedulingService, brokerCfg.getExperimental().getQueryApi());
+            serverTransport,
+            schedulingService,
+            brokerCfg.getExperimental().getQueryApi(),
+            brokerCfg.getExperimental().getCommandApi());
 
     concurrencyControl.runOnCompletion(
         schedulingService.submitActor(commandApiService),
@@ -61,7 +61,10 @@ public final class ClusterConfigFactory {
         .setProbeInterval(config.getProbeInterval())
         .setProbeTimeout(config.getProbeTimeout())
         .setSuspectProbes(config.getSuspectProbes())
-        .setSyncInterval(config.getSyncInterval());
+        .setSyncInterval(config.getSyncInterval())
+        .setPiggybackUpdates(config.isPiggybackUpdates())
+        .setMaxPiggybackUpdates(config.getMaxPiggybackUpdates())
+        .setRetransmitMultiplier(config.getRetransmitMultiplier());
   }
 
   private BootstrapDiscoveryConfig discoveryConfig(final Collection<String> contactPoints) {
@@ -78,6 +81,9 @@ public final class ClusterConfigFactory {
     final var messaging =
         new MessagingConfig()
             .setCompressionAlgorithm(cluster.getMessageCompression())
+            .setWriteCoalescingEnabled(cluster.isMessageCoalescing())
+            .setWriteCoalescingBudget(
+                Math.toIntExact(cluster.getMessageCoalescingBudget().toBytes()))
             .setInterfaces(Collections.singletonList(network.getInternalApi().getHost()))
             .setPort(network.getInternalApi().getPort());
 
@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.springframework.util.unit.DataSize;
 
 public final class ClusterCfg implements ConfigurationEntry {
 
@@ -40,6 +41,7 @@ public final class ClusterCfg implements ConfigurationEntry {
           + " quorum = {}. If you want to ensure high fault-tolerance and availability,"
           + " make sure to use an odd replication factor.";
   private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofMillis(250);
+  private static final DataSize DEFAULT_MESSAGE_COALESCING_BUDGET = DataSize.ofKilobytes(64);
 
   private List<String> initialContactPoints = DEFAULT_CONTACT_POINTS;
 
@@ -54,6 +56,8 @@ public final class ClusterCfg implements ConfigurationEntry {
   private MembershipCfg membership = new MembershipCfg();
   private RaftCfg raft = new RaftCfg();
   private CompressionAlgorithm messageCompression = CompressionAlgorithm.NONE;
+  private boolean messageCoalescing = false;
+  private DataSize messageCoalescingBudget = DEFAULT_MESSAGE_COALESCING_BUDGET;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -191,6 +195,22 @@ public final class ClusterCfg implements ConfigurationEntry {
     this.messageCompression = messageCompression;
   }
 
+  public boolean isMessageCoalescing() {
+    return messageCoalescing;
+  }
+
+  public void setMessageCoalescing(final boolean messageCoalescing) {
+    this.messageCoalescing = messageCoalescing;
+  }
+
+  public DataSize getMessageCoalescingBudget() {
+    return messageCoalescingBudget;
+  }
+
+  public void setMessageCoalescingBudget(final DataSize messageCoalescingBudget) {
+    this.messageCoalescingBudget = messageCoalescingBudget;
+  }
+
   @Override
   public String toString() {
     return "ClusterCfg{"
@@ -219,6 +239,10 @@ public final class ClusterCfg implements ConfigurationEntry {
         + raft
         + ", messageCompression="
         + messageCompression
+        + ", messageCoalescing="
+        + messageCoalescing
+        + ", messageCoalescingBudget="
+        + messageCoalescingBudget
         + '}';
   }
 }
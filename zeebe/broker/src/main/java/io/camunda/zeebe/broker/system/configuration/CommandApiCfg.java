@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+/**
+ * Configures how the command API writes client commands to the log. With coalescing enabled,
+ * commands for the same partition which queue up while the previous ones are written are appended
+ * together, as one multi-entry append of at most {@link #getMaxCoalescedCommands()} commands.
+ */
+public final class CommandApiCfg {
+  public static final int DEFAULT_MAX_COALESCED_COMMANDS = 32;
+
+  private boolean coalescingEnabled = false;
+  private int maxCoalescedCommands = DEFAULT_MAX_COALESCED_COMMANDS;
+
+  public boolean isCoalescingEnabled() {
+    return coalescingEnabled;
+  }
+
+  public void setCoalescingEnabled(final boolean coalescingEnabled) {
+    this.coalescingEnabled = coalescingEnabled;
+  }
+
+  public int getMaxCoalescedCommands() {
+    return maxCoalescedCommands;
+  }
+
+  public void setMaxCoalescedCommands(final int maxCoalescedCommands) {
+    this.maxCoalescedCommands = maxCoalescedCommands;
+  }
+
+  @Override
+  public String toString() {
+    return "CommandApiCfg{"
+        + "coalescingEnabled="
+        + coalescingEnabled
+        + ", maxCoalescedCommands="
+        + maxCoalescedCommands
+        + '}';
+  }
+}
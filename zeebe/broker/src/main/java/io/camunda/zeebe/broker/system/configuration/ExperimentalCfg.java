@@ -30,6 +30,7 @@ public class ExperimentalCfg implements ConfigurationEntry {
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
   private PartitioningCfg partitioning = new PartitioningCfg();
   private QueryApiCfg queryApi = new QueryApiCfg();
+  private CommandApiCfg commandApi = new CommandApiCfg();
   private ConsistencyCheckCfg consistencyChecks = new ConsistencyCheckCfg();
   private EngineCfg engine = new EngineCfg();
 
@@ -113,6 +114,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.queryApi = queryApi;
   }
 
+  public CommandApiCfg getCommandApi() {
+    return commandApi;
+  }
+
+  public void setCommandApi(final CommandApiCfg commandApi) {
+    this.commandApi = commandApi;
+  }
+
   public ConsistencyCheckCfg getConsistencyChecks() {
     return consistencyChecks;
   }
@@ -152,6 +161,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + partitioning
         + ", queryApi="
         + queryApi
+        + ", commandApi="
+        + commandApi
         + ", consistencyChecks="
         + consistencyChecks
         + ", engineCfg="
@@ -21,6 +21,9 @@ public final class MembershipCfg implements ConfigurationEntry {
   private static final int DEFAULT_SUSPECT_PROBES = 3;
   private static final Duration DEFAULT_FAILURE_TIMEOUT = Duration.ofMillis(10_000);
   private static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(10_000);
+  private static final boolean DEFAULT_PIGGYBACK_UPDATES = false;
+  private static final int DEFAULT_MAX_PIGGYBACK_UPDATES = 8;
+  private static final int DEFAULT_RETRANSMIT_MULTIPLIER = 4;
 
   private boolean broadcastUpdates = DEFAULT_BROADCAST_UPDATES;
   private boolean broadcastDisputes = DEFAULT_BROADCAST_DISPUTES;
@@ -32,6 +35,9 @@ public final class MembershipCfg implements ConfigurationEntry {
   private int suspectProbes = DEFAULT_SUSPECT_PROBES;
   private Duration failureTimeout = DEFAULT_FAILURE_TIMEOUT;
   private Duration syncInterval = DEFAULT_SYNC_INTERVAL;
+  private boolean piggybackUpdates = DEFAULT_PIGGYBACK_UPDATES;
+  private int maxPiggybackUpdates = DEFAULT_MAX_PIGGYBACK_UPDATES;
+  private int retransmitMultiplier = DEFAULT_RETRANSMIT_MULTIPLIER;
 
   public boolean isBroadcastUpdates() {
     return broadcastUpdates;
@@ -123,6 +129,33 @@ public final class MembershipCfg implements ConfigurationEntry {
     return this;
   }
 
+  public boolean isPiggybackUpdates() {
+    return piggybackUpdates;
+  }
+
+  public MembershipCfg setPiggybackUpdates(final boolean piggybackUpdates) {
+    this.piggybackUpdates = piggybackUpdates;
+    return this;
+  }
+
+  public int getMaxPiggybackUpdates() {
+    return maxPiggybackUpdates;
+  }
+
+  public MembershipCfg setMaxPiggybackUpdates(final int maxPiggybackUpdates) {
+    this.maxPiggybackUpdates = maxPiggybackUpdates;
+    return this;
+  }
+
+  public int getRetransmitMultiplier() {
+    return retransmitMultiplier;
+  }
+
+  public MembershipCfg setRetransmitMultiplier(final int retransmitMultiplier) {
+    this.retransmitMultiplier = retransmitMultiplier;
+    return this;
+  }
+
   @Override
   public String toString() {
     return "MembershipCfg{"
@@ -146,6 +179,12 @@ public final class MembershipCfg implements ConfigurationEntry {
         + failureTimeout
         + ", syncInterval="
         + syncInterval
+        + ", piggybackUpdates="
+        + piggybackUpdates
+        + ", maxPiggybackUpdates="
+        + maxPiggybackUpdates
+        + ", retransmitMultiplier="
+        + retransmitMultiplier
         + '}';
   }
 }
@@ -17,6 +17,7 @@ public class AzureBackupStoreConfig implements ConfigurationEntry {
   private String accountKey;
   private String connectionString;
   private String basePath;
+  private boolean deduplicateFiles = false;
 
   public String getEndpoint() {
     return endpoint;
@@ -62,6 +63,14 @@ public class AzureBackupStoreConfig implements ConfigurationEntry {
     this.basePath = basePath;
   }
 
+  public boolean isDeduplicateFiles() {
+    return deduplicateFiles;
+  }
+
+  public void setDeduplicateFiles(final boolean deduplicateFiles) {
+    this.deduplicateFiles = deduplicateFiles;
+  }
+
   public static AzureBackupConfig toStoreConfig(final AzureBackupStoreConfig config) {
     return new AzureBackupConfig.Builder()
         .withEndpoint(config.getEndpoint())
@@ -69,12 +78,14 @@ public class AzureBackupStoreConfig implements ConfigurationEntry {
         .withAccountKey(config.getAccountKey())
         .withConnectionString(config.getConnectionString())
         .withContainerName(config.getBasePath())
+        .withDeduplicateFiles(config.isDeduplicateFiles())
         .build();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(endpoint, accountName, accountKey, connectionString, basePath);
+    return Objects.hash(
+        endpoint, accountName, accountKey, connectionString, basePath, deduplicateFiles);
   }
 
   @Override
@@ -90,7 +101,8 @@ public class AzureBackupStoreConfig implements ConfigurationEntry {
         && Objects.equals(accountName, that.accountName)
         && Objects.equals(accountKey, that.accountKey)
         && Objects.equals(connectionString, that.connectionString)
-        && Objects.equals(basePath, that.basePath);
+        && Objects.equals(basePath, that.basePath)
+        && deduplicateFiles == that.deduplicateFiles;
   }
 
   @Override
@@ -111,6 +123,8 @@ public class AzureBackupStoreConfig implements ConfigurationEntry {
         + ", basePath='"
         + basePath
         + '\''
+        + ", deduplicateFiles="
+        + deduplicateFiles
         + '}';
   }
 }
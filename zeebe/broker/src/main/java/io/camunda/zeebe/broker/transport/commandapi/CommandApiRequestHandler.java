@@ -8,10 +8,12 @@
 package io.camunda.zeebe.broker.transport.commandapi;
 
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.system.configuration.CommandApiCfg;
 import io.camunda.zeebe.broker.transport.AsyncApiRequestHandler;
 import io.camunda.zeebe.broker.transport.ErrorResponseWriter;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
@@ -22,7 +24,9 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.util.Either;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.slf4j.Logger;
@@ -32,11 +36,16 @@ final class CommandApiRequestHandler
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
 
   private final Int2ObjectHashMap<LogStreamWriter> leadingStreams = new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<List<PendingCommand>> pendingCommands = new Int2ObjectHashMap<>();
   private boolean isDiskSpaceAvailable = true;
   private final Map<Integer, Boolean> processingPaused = new HashMap<>();
+  private final boolean coalescingEnabled;
+  private final int maxCoalescedCommands;
 
-  CommandApiRequestHandler() {
+  CommandApiRequestHandler(final CommandApiCfg config) {
     super(CommandApiRequestReader::new, CommandApiResponseWriter::new);
+    coalescingEnabled = config.isCoalescingEnabled() && config.getMaxCoalescedCommands() > 1;
+    maxCoalescedCommands = config.getMaxCoalescedCommands();
   }
 
   @Override
@@ -46,8 +55,8 @@ final class CommandApiRequestHandler
       final CommandApiRequestReader requestReader,
       final CommandApiResponseWriter responseWriter,
       final ErrorResponseWriter errorWriter) {
-    return CompletableActorFuture.completed(
-        handle(partitionId, requestId, requestReader, responseWriter, errorWriter));
+    return handleExecuteCommandRequest(
+        partitionId, requestId, requestReader, responseWriter, errorWriter);
   }
 
   public void onRecovered(final int partitionId) {
@@ -62,29 +71,20 @@ final class CommandApiRequestHandler
     actor.run(() -> processingPaused.put(partitionId, false));
   }
 
-  private Either<ErrorResponseWriter, CommandApiResponseWriter> handle(
-      final int partitionId,
-      final long requestId,
-      final CommandApiRequestReader requestReader,
-      final CommandApiResponseWriter responseWriter,
-      final ErrorResponseWriter errorWriter) {
-    return handleExecuteCommandRequest(
-        partitionId, requestId, requestReader, responseWriter, errorWriter);
-  }
-
-  private Either<ErrorResponseWriter, CommandApiResponseWriter> handleExecuteCommandRequest(
-      final int partitionId,
-      final long requestId,
-      final CommandApiRequestReader reader,
-      final CommandApiResponseWriter responseWriter,
-      final ErrorResponseWriter errorWriter) {
+  private ActorFuture<Either<ErrorResponseWriter, CommandApiResponseWriter>>
+      handleExecuteCommandRequest(
+          final int partitionId,
+          final long requestId,
+          final CommandApiRequestReader reader,
+          final CommandApiResponseWriter responseWriter,
+          final ErrorResponseWriter errorWriter) {
 
     if (!isDiskSpaceAvailable) {
-      return Either.left(errorWriter.outOfDiskSpace(partitionId));
+      return rejected(errorWriter.outOfDiskSpace(partitionId));
     }
 
     if (processingPaused.getOrDefault(partitionId, false)) {
-      return Either.left(
+      return rejected(
           errorWriter.internalError("Processing paused for partition '%s'", partitionId));
     }
 
@@ -106,53 +106,160 @@ final class CommandApiRequestHandler
 
     if (logStreamWriter == null) {
       errorWriter.partitionLeaderMismatch(partitionId);
-      return Either.left(errorWriter);
+      return rejected(errorWriter);
     }
 
     if (value == null) {
       errorWriter.unsupportedMessage(
           valueType.name(), CommandApiRequestReader.RECORDS_BY_TYPE.keySet().toArray());
-      return Either.left(errorWriter);
+      return rejected(errorWriter);
     }
 
     try {
-      return writeCommand(command.key(), metadata, value, logStreamWriter, errorWriter, partitionId)
-          .map(b -> responseWriter)
-          .mapLeft(failure -> errorWriter);
+      final var appendEntry = createAppendEntry(command.key(), metadata, value);
+      if (!logStreamWriter.canWriteEvents(1, appendEntry.getLength())) {
+        return rejected(
+            errorWriter
+                .errorCode(ErrorCode.MALFORMED_REQUEST)
+                .errorMessage("Request size is above configured maxMessageSize."));
+      }
+
+      if (coalescingEnabled) {
+        return coalesceCommand(partitionId, appendEntry, responseWriter, errorWriter);
+      }
 
+      return CompletableActorFuture.completed(
+          logStreamWriter
+              .tryWrite(WriteContext.userCommand(metadata.getIntent()), appendEntry)
+              .map(ignore -> responseWriter)
+              .mapLeft(error -> errorWriter.mapWriteError(partitionId, error)));
     } catch (final Exception error) {
-      final String errorMessage =
-          "Failed to write client request to partition '%d', %s".formatted(partitionId, error);
-      LOG.error(errorMessage);
-      return Either.left(errorWriter.internalError(errorMessage));
+      return rejected(errorWriter.internalError(writeFailedMessage(partitionId, error)));
     }
   }
 
-  private Either<ErrorResponseWriter, Boolean> writeCommand(
-      final long key,
-      final RecordMetadata metadata,
-      final UnifiedRecordValue value,
-      final LogStreamWriter logStreamWriter,
-      final ErrorResponseWriter errorWriter,
-      final int partitionId) {
-    final LogAppendEntry appendEntry;
+  private LogAppendEntry createAppendEntry(
+      final long key, final RecordMetadata metadata, final UnifiedRecordValue value) {
     if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
-      appendEntry = LogAppendEntry.of(key, metadata, value);
+      return LogAppendEntry.of(key, metadata, value);
     } else {
-      appendEntry = LogAppendEntry.of(metadata, value);
+      return LogAppendEntry.of(metadata, value);
     }
+  }
 
-    if (logStreamWriter.canWriteEvents(1, appendEntry.getLength())) {
-      return logStreamWriter
-          .tryWrite(WriteContext.userCommand(metadata.getIntent()), appendEntry)
-          .map(ignore -> true)
-          .mapLeft(error -> errorWriter.mapWriteError(partitionId, error));
-    } else {
-      return Either.left(
-          errorWriter
-              .errorCode(ErrorCode.MALFORMED_REQUEST)
-              .errorMessage("Request size is above configured maxMessageSize."));
+  /**
+   * Queues the command until all requests, which were received for the partition so far, are
+   * handled. The queued commands are then written together, so that commands which pile up under
+   * load are appended as one batch instead of one by one, while a single command is written without
+   * any delay.
+   */
+  private ActorFuture<Either<ErrorResponseWriter, CommandApiResponseWriter>> coalesceCommand(
+      final int partitionId,
+      final LogAppendEntry appendEntry,
+      final CommandApiResponseWriter responseWriter,
+      final ErrorResponseWriter errorWriter) {
+    final var pending = pendingCommands.computeIfAbsent(partitionId, id -> new ArrayList<>());
+    if (pending.isEmpty()) {
+      actor.submit(() -> writePendingCommands(partitionId));
+    }
+
+    final var future =
+        new CompletableActorFuture<Either<ErrorResponseWriter, CommandApiResponseWriter>>();
+    pending.add(new PendingCommand(appendEntry, responseWriter, errorWriter, future));
+    if (pending.size() >= maxCoalescedCommands) {
+      writePendingCommands(partitionId);
+    }
+    return future;
+  }
+
+  private void writePendingCommands(final int partitionId) {
+    final var pending = pendingCommands.get(partitionId);
+    if (pending == null || pending.isEmpty()) {
+      return;
     }
+
+    final var commands = List.copyOf(pending);
+    pending.clear();
+
+    final var logStreamWriter = leadingStreams.get(partitionId);
+    if (logStreamWriter == null) {
+      commands.forEach(
+          command -> command.reject(command.errorWriter().partitionLeaderMismatch(partitionId)));
+      return;
+    }
+
+    // the commands fit into a batch one by one, but not necessarily all together
+    int batchStart = 0;
+    int batchLength = 0;
+    for (int i = 0; i < commands.size(); i++) {
+      final int length = commands.get(i).appendEntry().getLength();
+      if (i > batchStart
+          && !logStreamWriter.canWriteEvents(i - batchStart + 1, batchLength + length)) {
+        writeCommands(partitionId, logStreamWriter, commands.subList(batchStart, i));
+        batchStart = i;
+        batchLength = 0;
+      }
+      batchLength += length;
+    }
+    writeCommands(partitionId, logStreamWriter, commands.subList(batchStart, commands.size()));
+  }
+
+  /**
+   * Writes the commands as one batch. If the request limit has not enough room for the whole batch,
+   * the commands that fit are admitted in their order by writing smaller batches, and only the rest
+   * is rejected.
+   *
+   * @return true if all commands were written
+   */
+  private boolean writeCommands(
+      final int partitionId,
+      final LogStreamWriter logStreamWriter,
+      final List<PendingCommand> commands) {
+    final var appendEntries = commands.stream().map(PendingCommand::appendEntry).toList();
+    final var intent = appendEntries.getFirst().recordMetadata().getIntent();
+    try {
+      final var result = logStreamWriter.tryWrite(WriteContext.userCommand(intent), appendEntries);
+      if (result.isRight()) {
+        commands.forEach(PendingCommand::accept);
+        return true;
+      }
+
+      final var failure = result.getLeft();
+      if (failure == WriteFailure.REQUEST_LIMIT_EXHAUSTED && commands.size() > 1) {
+        final int half = commands.size() / 2;
+        if (writeCommands(partitionId, logStreamWriter, commands.subList(0, half))) {
+          return writeCommands(
+              partitionId, logStreamWriter, commands.subList(half, commands.size()));
+        }
+        // the request limit is exhausted, the remaining commands don't fit either
+        commands
+            .subList(half, commands.size())
+            .forEach(
+                command ->
+                    command.reject(command.errorWriter().mapWriteError(partitionId, failure)));
+        return false;
+      }
+
+      commands.forEach(
+          command -> command.reject(command.errorWriter().mapWriteError(partitionId, failure)));
+    } catch (final Exception error) {
+      final var errorMessage = writeFailedMessage(partitionId, error);
+      commands.forEach(
+          command -> command.reject(command.errorWriter().internalError(errorMessage)));
+    }
+    return false;
+  }
+
+  private String writeFailedMessage(final int partitionId, final Exception error) {
+    final String errorMessage =
+        "Failed to write client request to partition '%d', %s".formatted(partitionId, error);
+    LOG.error(errorMessage);
+    return errorMessage;
+  }
+
+  private static ActorFuture<Either<ErrorResponseWriter, CommandApiResponseWriter>> rejected(
+      final ErrorResponseWriter errorWriter) {
+    return CompletableActorFuture.completed(Either.left(errorWriter));
   }
 
   void addPartition(final int partitionId, final LogStreamWriter logStreamWriter) {
@@ -174,4 +281,19 @@ final class CommandApiRequestHandler
   void onDiskSpaceAvailable() {
     actor.submit(() -> isDiskSpaceAvailable = true);
   }
+
+  private record PendingCommand(
+      LogAppendEntry appendEntry,
+      CommandApiResponseWriter responseWriter,
+      ErrorResponseWriter errorWriter,
+      CompletableActorFuture<Either<ErrorResponseWriter, CommandApiResponseWriter>> future) {
+
+    void accept() {
+      future.complete(Either.right(responseWriter));
+    }
+
+    void reject(final ErrorResponseWriter errorWriter) {
+      future.complete(Either.left(errorWriter));
+    }
+  }
 }
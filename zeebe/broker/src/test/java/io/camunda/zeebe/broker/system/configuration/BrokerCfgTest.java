@@ -396,6 +396,33 @@ public final class BrokerCfgTest {
     assertThat(experimentalCfg.getQueryApi().isEnabled()).isTrue();
   }
 
+  @Test
+  public void shouldDisableCommandCoalescingByDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+
+    // when
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getCommandApi().isCoalescingEnabled()).isFalse();
+    assertThat(experimentalCfg.getCommandApi().getMaxCoalescedCommands())
+        .isEqualTo(CommandApiCfg.DEFAULT_MAX_COALESCED_COMMANDS);
+  }
+
+  @Test
+  public void shouldSetCommandCoalescingFromConfig() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // when
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getCommandApi().isCoalescingEnabled()).isTrue();
+    assertThat(experimentalCfg.getCommandApi().getMaxCoalescedCommands()).isEqualTo(16);
+  }
+
   @Test
   public void shouldReadDefaultEmbedGateway() {
     assertDefaultEmbeddedGatewayEnabled(true);
@@ -10,10 +10,15 @@ package io.camunda.zeebe.broker.transport.commandapi;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.broker.system.configuration.CommandApiCfg;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
@@ -31,7 +36,10 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Before;
@@ -40,7 +48,7 @@ import org.junit.Test;
 
 public class CommandApiRequestHandlerTest {
   @Rule public final ControlledActorSchedulerRule scheduler = new ControlledActorSchedulerRule();
-  final CommandApiRequestHandler handler = new CommandApiRequestHandler();
+  final CommandApiRequestHandler handler = new CommandApiRequestHandler(new CommandApiCfg());
   private LogStreamWriter logStreamWriter;
 
   @Before
@@ -251,14 +259,180 @@ public class CommandApiRequestHandlerTest {
             ErrorCode.MALFORMED_REQUEST, "Request size is above configured maxMessageSize.");
   }
 
+  @Test
+  public void shouldAppendQueuedCommandsTogether() {
+    // given
+    final var coalescingHandler = createCoalescingHandler(32);
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(1L));
+    coalescingHandler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    // when
+    final var responseFutures =
+        IntStream.range(0, 3)
+            .mapToObj(i -> sendRequest(coalescingHandler, publishMessageRequest(i)))
+            .toList();
+    scheduler.workUntilDone();
+
+    // then
+    verify(logWriter).tryWrite(any(WriteContext.class), entriesOfSize(3));
+    verify(logWriter, never()).tryWrite(any(WriteContext.class), any(LogAppendEntry.class));
+    assertThat(responseFutures)
+        .allSatisfy(
+            future ->
+                assertThat(future).succeedsWithin(Duration.ofMinutes(1)).matches(Either::isRight));
+  }
+
+  @Test
+  public void shouldLimitNumberOfCoalescedCommands() {
+    // given
+    final var coalescingHandler = createCoalescingHandler(2);
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(1L));
+    coalescingHandler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    // when
+    IntStream.range(0, 3).forEach(i -> sendRequest(coalescingHandler, publishMessageRequest(i)));
+    scheduler.workUntilDone();
+
+    // then
+    verify(logWriter).tryWrite(any(WriteContext.class), entriesOfSize(2));
+    verify(logWriter).tryWrite(any(WriteContext.class), entriesOfSize(1));
+  }
+
+  @Test
+  public void shouldSplitCoalescedCommandsAboveMaxMessageSize() {
+    // given
+    final var coalescingHandler = createCoalescingHandler(32);
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt()))
+        .thenAnswer(invocation -> (int) invocation.getArgument(0) <= 2);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(1L));
+    coalescingHandler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    // when
+    IntStream.range(0, 5).forEach(i -> sendRequest(coalescingHandler, publishMessageRequest(i)));
+    scheduler.workUntilDone();
+
+    // then
+    verify(logWriter, times(2)).tryWrite(any(WriteContext.class), entriesOfSize(2));
+    verify(logWriter).tryWrite(any(WriteContext.class), entriesOfSize(1));
+  }
+
+  @Test
+  public void shouldRejectAllCoalescedCommandsIfAppendFails() {
+    // given
+    final var coalescingHandler = createCoalescingHandler(32);
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList()))
+        .thenReturn(Either.left(WriteFailure.REQUEST_LIMIT_EXHAUSTED));
+    coalescingHandler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    // when
+    final var responseFutures =
+        IntStream.range(0, 2)
+            .mapToObj(i -> sendRequest(coalescingHandler, publishMessageRequest(i)))
+            .toList();
+    scheduler.workUntilDone();
+
+    // then
+    assertThat(responseFutures)
+        .allSatisfy(
+            future ->
+                assertThat(future)
+                    .succeedsWithin(Duration.ofMinutes(1))
+                    .matches(Either::isLeft)
+                    .extracting(Either::getLeft)
+                    .extracting(ErrorResponse::getErrorCode)
+                    .isEqualTo(ErrorCode.RESOURCE_EXHAUSTED));
+  }
+
+  @Test
+  public void shouldAdmitCoalescedCommandsWithinRequestLimit() {
+    // given - the request limit has room for two more commands
+    final var coalescingHandler = createCoalescingHandler(32);
+    final var logWriter = mock(LogStreamWriter.class);
+    final var availableRequests = new AtomicInteger(2);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList()))
+        .thenAnswer(
+            invocation -> {
+              final List<LogAppendEntry> entries = invocation.getArgument(1);
+              if (entries.size() > availableRequests.get()) {
+                return Either.left(WriteFailure.REQUEST_LIMIT_EXHAUSTED);
+              }
+              availableRequests.addAndGet(-entries.size());
+              return Either.right(1L);
+            });
+    coalescingHandler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    // when
+    final var responseFutures =
+        IntStream.range(0, 4)
+            .mapToObj(i -> sendRequest(coalescingHandler, publishMessageRequest(i)))
+            .toList();
+    scheduler.workUntilDone();
+
+    // then
+    assertThat(responseFutures.subList(0, 2))
+        .allSatisfy(
+            future ->
+                assertThat(future).succeedsWithin(Duration.ofMinutes(1)).matches(Either::isRight));
+    assertThat(responseFutures.subList(2, 4))
+        .allSatisfy(
+            future ->
+                assertThat(future)
+                    .succeedsWithin(Duration.ofMinutes(1))
+                    .matches(Either::isLeft)
+                    .extracting(Either::getLeft)
+                    .extracting(ErrorResponse::getErrorCode)
+                    .isEqualTo(ErrorCode.RESOURCE_EXHAUSTED));
+  }
+
+  private CommandApiRequestHandler createCoalescingHandler(final int maxCoalescedCommands) {
+    final var config = new CommandApiCfg();
+    config.setCoalescingEnabled(true);
+    config.setMaxCoalescedCommands(maxCoalescedCommands);
+    final var coalescingHandler = new CommandApiRequestHandler(config);
+    scheduler.submitActor(coalescingHandler);
+    return coalescingHandler;
+  }
+
+  private static List<LogAppendEntry> entriesOfSize(final int size) {
+    return argThat(entries -> entries.size() == size);
+  }
+
+  private BrokerPublishMessageRequest publishMessageRequest(final int index) {
+    final var request =
+        new BrokerPublishMessageRequest("test", String.valueOf(index))
+            .setMessageId(String.valueOf(index))
+            .setTimeToLive(0);
+    request.serializeValue();
+    return request;
+  }
+
   private CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>> handleRequest(
       final BufferWriter request) {
+    final var future = sendRequest(handler, request);
+    scheduler.workUntilDone();
+    return future;
+  }
+
+  private CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>> sendRequest(
+      final CommandApiRequestHandler requestHandler, final BufferWriter request) {
     final var future = new CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>>();
     final ServerOutput serverOutput = createServerOutput(future);
     final var requestBuffer = new UnsafeBuffer(new byte[request.getLength()]);
     request.write(requestBuffer, 0);
-    handler.onRequest(serverOutput, 0, 0, requestBuffer, 0, request.getLength());
-    scheduler.workUntilDone();
+    requestHandler.onRequest(serverOutput, 0, 0, requestBuffer, 0, request.getLength());
     return future;
   }
 
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.exporter.dto.BulkIndexResponse;
 import io.camunda.zeebe.exporter.dto.BulkIndexResponse.Error;
+import io.camunda.zeebe.exporter.dto.ExportedPosition;
 import io.camunda.zeebe.exporter.dto.PutIndexLifecycleManagementPolicyRequest;
 import io.camunda.zeebe.exporter.dto.PutIndexLifecycleManagementPolicyRequest.Actions;
 import io.camunda.zeebe.exporter.dto.PutIndexLifecycleManagementPolicyRequest.Delete;
@@ -30,9 +31,12 @@ import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 
 class ElasticsearchClient implements AutoCloseable {
@@ -120,6 +124,41 @@ class ElasticsearchClient implements AutoCloseable {
         });
   }
 
+  /**
+   * Publishes the position of the latest exported record of the partition, overwriting the
+   * previously published one. The request is sent asynchronously, so the exporter is not blocked by
+   * it.
+   *
+   * @return a future which is completed once the position was published
+   */
+  public CompletableFuture<Void> putExportedPosition(final int partitionId, final long position) {
+    final var request =
+        new Request("PUT", "/" + indexRouter.exportedPositionIndex() + "/_doc/" + partitionId);
+    try {
+      request.setJsonEntity(MAPPER.writeValueAsString(new ExportedPosition(partitionId, position)));
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(
+          new ElasticsearchExporterException("Failed to put exported position", e));
+    }
+
+    final var result = new CompletableFuture<Void>();
+    client.performRequestAsync(
+        request,
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            result.complete(null);
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            result.completeExceptionally(
+                new ElasticsearchExporterException("Failed to put exported position", exception));
+          }
+        });
+    return result;
+  }
+
   /**
    * Returns whether the exporter should call {@link #flush()} or not.
    *
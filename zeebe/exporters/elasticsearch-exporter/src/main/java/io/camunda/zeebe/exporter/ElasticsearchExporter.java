@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
@@ -55,11 +56,15 @@ public class ElasticsearchExporter implements Exporter {
   private MeterRegistry registry;
 
   private long lastPosition = -1;
+  private long publishedPosition = -1;
+  private CompletableFuture<Long> positionPublication = CompletableFuture.completedFuture(-1L);
+  private int partitionId;
   private boolean indexTemplatesCreated;
 
   @Override
   public void configure(final Context context) {
     log = context.getLogger();
+    partitionId = context.getPartitionId();
     configuration =
         context.getConfiguration().instantiate(ElasticsearchExporterConfiguration.class);
     log.debug("Exporter configured with {}", configuration);
@@ -209,6 +214,34 @@ public class ElasticsearchExporter implements Exporter {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
     final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
     controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata);
+    publishExportedPosition();
+  }
+
+  private void publishExportedPosition() {
+    // at most one publication is in flight, so a slow cluster is not flooded with requests and the
+    // exporter never waits for one; the position of a later flush supersedes the skipped ones
+    if (!configuration.index.exportedPosition || !positionPublication.isDone()) {
+      return;
+    }
+
+    publishedPosition = positionPublication.join();
+    if (lastPosition <= publishedPosition) {
+      return;
+    }
+
+    final long position = lastPosition;
+    final long previousPosition = publishedPosition;
+    positionPublication =
+        client
+            .putExportedPosition(partitionId, position)
+            .thenApply(ok -> position)
+            .exceptionally(
+                error -> {
+                  // the position is only a hint for the importers, so it is published again on
+                  // the next flush
+                  log.debug("Failed to publish exported position {}", position, error);
+                  return previousPosition;
+                });
   }
 
   private byte[] serializeExporterMetadata(final ElasticsearchExporterMetadata metadata) {
@@ -163,6 +163,10 @@ public class ElasticsearchExporterConfiguration {
     // update index template on startup
     public boolean createTemplate = true;
 
+    // publish the position of the latest exported record per partition, see
+    // RecordIndexRouter#exportedPositionIndex()
+    public boolean exportedPosition = false;
+
     // record types to export
     public boolean command = false;
     public boolean event = true;
@@ -233,6 +237,8 @@ public class ElasticsearchExporterConfiguration {
           + '\''
           + ", createTemplate="
           + createTemplate
+          + ", exportedPosition="
+          + exportedPosition
           + ", command="
           + command
           + ", event="
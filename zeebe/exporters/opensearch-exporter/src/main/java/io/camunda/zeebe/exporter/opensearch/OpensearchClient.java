@@ -13,6 +13,7 @@ import io.camunda.zeebe.exporter.opensearch.dto.BulkIndexAction;
 import io.camunda.zeebe.exporter.opensearch.dto.BulkIndexResponse;
 import io.camunda.zeebe.exporter.opensearch.dto.BulkIndexResponse.Error;
 import io.camunda.zeebe.exporter.opensearch.dto.DeleteStateManagementPolicyResponse;
+import io.camunda.zeebe.exporter.opensearch.dto.ExportedPosition;
 import io.camunda.zeebe.exporter.opensearch.dto.GetIndexStateManagementPolicyResponse;
 import io.camunda.zeebe.exporter.opensearch.dto.IndexPolicyResponse;
 import io.camunda.zeebe.exporter.opensearch.dto.PutIndexStateManagementPolicyRequest;
@@ -35,9 +36,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseListener;
 import org.opensearch.client.RestClient;
 
 public class OpensearchClient implements AutoCloseable {
@@ -125,6 +129,41 @@ public class OpensearchClient implements AutoCloseable {
     }
   }
 
+  /**
+   * Publishes the position of the latest exported record of the partition, overwriting the
+   * previously published one. The request is sent asynchronously, so the exporter is not blocked by
+   * it.
+   *
+   * @return a future which is completed once the position was published
+   */
+  public CompletableFuture<Void> putExportedPosition(final int partitionId, final long position) {
+    final var request =
+        new Request("PUT", "/" + indexRouter.exportedPositionIndex() + "/_doc/" + partitionId);
+    try {
+      request.setJsonEntity(MAPPER.writeValueAsString(new ExportedPosition(partitionId, position)));
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(
+          new OpensearchExporterException("Failed to put exported position", e));
+    }
+
+    final var result = new CompletableFuture<Void>();
+    client.performRequestAsync(
+        request,
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            result.complete(null);
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            result.completeExceptionally(
+                new OpensearchExporterException("Failed to put exported position", exception));
+          }
+        });
+    return result;
+  }
+
   /**
    * Returns whether the exporter should call {@link #flush()} or not.
    *
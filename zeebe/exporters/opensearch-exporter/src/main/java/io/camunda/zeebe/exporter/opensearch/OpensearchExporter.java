@@ -19,6 +19,7 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,11 +39,15 @@ public class OpensearchExporter implements Exporter {
   private OpensearchRecordCounters recordCounters;
 
   private long lastPosition = -1;
+  private long publishedPosition = -1;
+  private CompletableFuture<Long> positionPublication = CompletableFuture.completedFuture(-1L);
+  private int partitionId;
   private boolean indexTemplatesCreated;
 
   @Override
   public void configure(final Context context) {
     log = context.getLogger();
+    partitionId = context.getPartitionId();
     configuration = context.getConfiguration().instantiate(OpensearchExporterConfiguration.class);
     log.debug("Exporter configured with {}", configuration);
 
@@ -171,6 +176,34 @@ public class OpensearchExporter implements Exporter {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
     final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
     controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata);
+    publishExportedPosition();
+  }
+
+  private void publishExportedPosition() {
+    // at most one publication is in flight, so a slow cluster is not flooded with requests and the
+    // exporter never waits for one; the position of a later flush supersedes the skipped ones
+    if (!configuration.index.exportedPosition || !positionPublication.isDone()) {
+      return;
+    }
+
+    publishedPosition = positionPublication.join();
+    if (lastPosition <= publishedPosition) {
+      return;
+    }
+
+    final long position = lastPosition;
+    final long previousPosition = publishedPosition;
+    positionPublication =
+        client
+            .putExportedPosition(partitionId, position)
+            .thenApply(ok -> position)
+            .exceptionally(
+                error -> {
+                  // the position is only a hint for the importers, so it is published again on
+                  // the next flush
+                  log.debug("Failed to publish exported position {}", position, error);
+                  return previousPosition;
+                });
   }
 
   private byte[] serializeExporterMetadata(final OpensearchExporterMetadata metadata) {
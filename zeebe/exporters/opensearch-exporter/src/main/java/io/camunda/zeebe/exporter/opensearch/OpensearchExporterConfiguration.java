@@ -152,6 +152,10 @@ public class OpensearchExporterConfiguration {
     // update index template on startup
     public boolean createTemplate = true;
 
+    // publish the position of the latest exported record per partition, see
+    // RecordIndexRouter#exportedPositionIndex()
+    public boolean exportedPosition = false;
+
     // record types to export
     public boolean command = false;
     public boolean event = true;
@@ -222,6 +226,8 @@ public class OpensearchExporterConfiguration {
           + '\''
           + ", createTemplate="
           + createTemplate
+          + ", exportedPosition="
+          + exportedPosition
           + ", command="
           + command
           + ", event="
@@ -68,6 +68,15 @@ final class RecordIndexRouter {
         + version;
   }
 
+  /**
+   * Returns the index holding one document per partition with the position of the latest exported
+   * record, e.g. "my-super-prefix_exported-position". Importers poll it to learn about new records
+   * without searching the record indices.
+   */
+  String exportedPositionIndex() {
+    return config.prefix + INDEX_DELIMITER + "exported-position";
+  }
+
   /**
    * Returns the search pattern for this value type, which consists of the index followed by a
    * separator and a wildcard, without the date. This allows one to search for this pattern and get
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -34,6 +35,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -350,6 +352,129 @@ final class OpensearchExporterTest {
       assertThat(controller.getPosition()).isEqualTo(10L);
     }
 
+    @Test
+    void shouldPublishExportedPositionOnFlush() {
+      // given
+      config.index.exportedPosition = true;
+      final var record =
+          ImmutableRecord.builder()
+              .withPosition(10L)
+              .withValueType(ValueType.PROCESS_INSTANCE)
+              .build();
+      when(client.putExportedPosition(anyInt(), anyLong()))
+          .thenReturn(CompletableFuture.completedFuture(null));
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+
+      // when
+      exporter.export(record);
+
+      // then
+      verify(client, times(1)).putExportedPosition(context.getPartitionId(), 10L);
+    }
+
+    @Test
+    void shouldNotPublishUnchangedExportedPosition() {
+      // given
+      config.index.exportedPosition = true;
+      config.bulk.delay = 10;
+      final var record =
+          ImmutableRecord.builder()
+              .withPosition(10L)
+              .withValueType(ValueType.PROCESS_INSTANCE)
+              .build();
+      when(client.putExportedPosition(anyInt(), anyLong()))
+          .thenReturn(CompletableFuture.completedFuture(null));
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      exporter.export(record);
+
+      // when
+      controller.runScheduledTasks(Duration.ofSeconds(10));
+
+      // then
+      verify(client, times(1)).putExportedPosition(context.getPartitionId(), 10L);
+    }
+
+    @Test
+    void shouldNotPublishExportedPositionWhilePreviousIsInFlight() {
+      // given
+      config.index.exportedPosition = true;
+      final var publication = new CompletableFuture<Void>();
+      when(client.putExportedPosition(anyInt(), anyLong())).thenReturn(publication);
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      exporter.export(
+          ImmutableRecord.builder()
+              .withPosition(10L)
+              .withValueType(ValueType.PROCESS_INSTANCE)
+              .build());
+
+      // when
+      exporter.export(
+          ImmutableRecord.builder()
+              .withPosition(11L)
+              .withValueType(ValueType.PROCESS_INSTANCE)
+              .build());
+      publication.complete(null);
+      exporter.export(
+          ImmutableRecord.builder()
+              .withPosition(12L)
+              .withValueType(ValueType.PROCESS_INSTANCE)
+              .build());
+
+      // then
+      verify(client, times(1)).putExportedPosition(context.getPartitionId(), 10L);
+      verify(client, never()).putExportedPosition(context.getPartitionId(), 11L);
+      verify(client, times(1)).putExportedPosition(context.getPartitionId(), 12L);
+    }
+
+    @Test
+    void shouldPublishExportedPositionAgainAfterFailure() {
+      // given
+      config.index.exportedPosition = true;
+      config.bulk.delay = 10;
+      when(client.putExportedPosition(anyInt(), anyLong()))
+          .thenReturn(CompletableFuture.failedFuture(new RuntimeException("expected")))
+          .thenReturn(CompletableFuture.completedFuture(null));
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      exporter.export(
+          ImmutableRecord.builder()
+              .withPosition(10L)
+              .withValueType(ValueType.PROCESS_INSTANCE)
+              .build());
+
+      // when
+      controller.runScheduledTasks(Duration.ofSeconds(10));
+
+      // then
+      verify(client, times(2)).putExportedPosition(context.getPartitionId(), 10L);
+    }
+
+    @Test
+    void shouldNotPublishExportedPositionByDefault() {
+      // given
+      final var record =
+          ImmutableRecord.builder()
+              .withPosition(10L)
+              .withValueType(ValueType.PROCESS_INSTANCE)
+              .build();
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+
+      // when
+      exporter.export(record);
+
+      // then
+      verify(client, never()).putExportedPosition(anyInt(), anyLong());
+    }
+
     @Test
     void shouldNotUpdatePositionOnFlushErrors() {
       // given
@@ -15,15 +15,17 @@ import io.camunda.zeebe.broker.client.api.BrokerClusterState;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
+import io.camunda.zeebe.gateway.grpc.GrpcErrorMapper;
+import io.camunda.zeebe.gateway.grpc.SerializedMessage;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobsCompletion;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
 import io.camunda.zeebe.gateway.interceptors.InterceptorUtil;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
-import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
@@ -33,6 +35,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -74,25 +79,32 @@ import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.util.VersionUtil;
 import io.grpc.Context;
+import io.grpc.Status;
 import io.grpc.stub.ServerCallStreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 public final class EndpointManager {
 
+  public static final int MAX_COMPLETE_JOBS = 1000;
+
+  private final GrpcErrorMapper errorMapper = new GrpcErrorMapper();
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
-  private final ActivateJobsHandler<ActivateJobsResponse> activateJobsHandler;
+  private final ActivateJobsHandler<SerializedMessage> activateJobsHandler;
   private final RequestRetryHandler requestRetryHandler;
   private final StreamJobsHandler streamJobsHandler;
   private final MultiTenancyCfg multiTenancy;
 
   public EndpointManager(
       final BrokerClient brokerClient,
-      final ActivateJobsHandler<ActivateJobsResponse> activateJobsHandler,
+      final ActivateJobsHandler<SerializedMessage> activateJobsHandler,
       final StreamJobsHandler streamJobsHandler,
       final MultiTenancyCfg multiTenancy) {
     this.brokerClient = brokerClient;
@@ -175,7 +187,8 @@ public final class EndpointManager {
     try {
       final JobActivationProperties brokerRequest =
           RequestMapper.toJobActivationProperties(request);
-      streamJobsHandler.handle(request.getType(), brokerRequest, responseObserver);
+      streamJobsHandler.handle(
+          request.getType(), brokerRequest, request.getMsgPackVariables(), responseObserver);
     } catch (final Exception e) {
       responseObserver.onError(e);
     }
@@ -183,7 +196,7 @@ public final class EndpointManager {
 
   public void activateJobs(
       final ActivateJobsRequest request,
-      final ServerStreamObserver<ActivateJobsResponse> responseObserver) {
+      final ServerStreamObserver<SerializedMessage> responseObserver) {
     try {
       final BrokerActivateJobsRequest brokerRequest =
           (BrokerActivateJobsRequest)
@@ -218,6 +231,69 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  /**
+   * Completes every job on its own and responds with the result of each job once all of them are
+   * done. At most a few broker requests per partition are in flight for one call at the same time,
+   * see {@link JobsCompletion}.
+   */
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    final int jobCount = request.getJobsCount();
+    if (jobCount > MAX_COMPLETE_JOBS) {
+      responseObserver.onError(
+          new IllegalArgumentException(
+              "Expected to complete at most %d jobs at once, but got %d jobs"
+                  .formatted(MAX_COMPLETE_JOBS, jobCount)));
+      return;
+    }
+
+    // the broker requests are mapped up front, as the authorized tenants are only available in the
+    // gRPC context of the calling thread, not in the callbacks of the broker client
+    final List<Supplier<CompletionStage<CompleteJobResult>>> jobs = new ArrayList<>(jobCount);
+    for (final CompleteJobRequest job : request.getJobsList()) {
+      try {
+        final var brokerRequest = mapToBrokerRequest(job, RequestMapper::toCompleteJobRequest);
+        jobs.add(() -> completeJob(job.getJobKey(), brokerRequest));
+      } catch (final Exception e) {
+        final CompleteJobResult failedResult = toFailedJobResult(job.getJobKey(), e);
+        jobs.add(() -> CompletableFuture.completedFuture(failedResult));
+      }
+    }
+
+    JobsCompletion.completeJobs(jobs, topologyManager.getTopology())
+        .whenComplete(
+            (results, error) -> {
+              if (error != null) {
+                responseObserver.onError(error);
+                return;
+              }
+              responseObserver.onNext(
+                  CompleteJobsResponse.newBuilder().addAllResults(results).build());
+              responseObserver.onCompleted();
+            });
+  }
+
+  private CompletableFuture<CompleteJobResult> completeJob(
+      final long jobKey, final BrokerRequest<?> brokerRequest) {
+    final var result = new CompletableFuture<CompleteJobResult>();
+    brokerClient.sendRequestWithRetry(
+        brokerRequest,
+        (key, response) ->
+            result.complete(CompleteJobResult.newBuilder().setJobKey(jobKey).build()),
+        error -> result.complete(toFailedJobResult(jobKey, error)));
+    return result;
+  }
+
+  private CompleteJobResult toFailedJobResult(final long jobKey, final Throwable error) {
+    final Status status = errorMapper.mapError(error).getStatus();
+    return CompleteJobResult.newBuilder()
+        .setJobKey(jobKey)
+        .setCode(status.getCode().value())
+        .setMessage(status.getDescription() == null ? "" : status.getDescription())
+        .build();
+  }
+
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
       final ServerStreamObserver<CreateProcessInstanceResponse> responseObserver) {
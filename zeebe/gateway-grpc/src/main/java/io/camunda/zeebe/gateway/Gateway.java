@@ -12,6 +12,8 @@ import static java.util.concurrent.Executors.newThreadPerTaskExecutor;
 import com.google.rpc.Code;
 import io.camunda.identity.sdk.IdentityConfiguration;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.gateway.grpc.ActivatedJobEncoder;
+import io.camunda.zeebe.gateway.grpc.SerializedMessage;
 import io.camunda.zeebe.gateway.health.GatewayHealthManager;
 import io.camunda.zeebe.gateway.health.Status;
 import io.camunda.zeebe.gateway.health.impl.GatewayHealthManagerImpl;
@@ -21,15 +23,17 @@ import io.camunda.zeebe.gateway.impl.configuration.IdentityCfg;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
 import io.camunda.zeebe.gateway.impl.configuration.NetworkCfg;
 import io.camunda.zeebe.gateway.impl.configuration.SecurityCfg;
+import io.camunda.zeebe.gateway.impl.flowcontrol.FairQueuingLimiter;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
 import io.camunda.zeebe.gateway.interceptors.impl.ContextInjectingInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.DecoratedInterceptor;
+import io.camunda.zeebe.gateway.interceptors.impl.FairQueuingInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.IdentityInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.InterceptorRepository;
-import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.metrics.FairQueuingMetrics;
 import io.camunda.zeebe.gateway.query.impl.QueryApiImpl;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.scheduler.Actor;
@@ -189,7 +193,7 @@ public final class Gateway implements CloseableSilently {
   }
 
   private Server createServer(
-      final ActivateJobsHandler<ActivateJobsResponse> activateJobsHandler,
+      final ActivateJobsHandler<SerializedMessage> activateJobsHandler,
       final StreamJobsHandler streamJobsHandler) {
     final NetworkCfg network = gatewayCfg.getNetwork();
     final MultiTenancyCfg multiTenancy = gatewayCfg.getMultiTenancy();
@@ -200,7 +204,9 @@ public final class Gateway implements CloseableSilently {
 
     final var endpointManager =
         new EndpointManager(brokerClient, activateJobsHandler, streamJobsHandler, multiTenancy);
-    final var gatewayGrpcService = new GatewayGrpcService(endpointManager);
+    // user interceptors may inspect the responses, so they get the actual response messages
+    final var gatewayGrpcService =
+        new GatewayGrpcService(endpointManager, gatewayCfg.getInterceptors().isEmpty());
     return buildServer(serverBuilder, gatewayGrpcService);
   }
 
@@ -327,15 +333,15 @@ public final class Gateway implements CloseableSilently {
     }
   }
 
-  private CompletableFuture<ActivateJobsHandler<ActivateJobsResponse>>
+  private CompletableFuture<ActivateJobsHandler<SerializedMessage>>
       createAndStartActivateJobsHandler(final BrokerClient brokerClient) {
     final var handler = buildActivateJobsHandler(brokerClient);
     return submitActorToActivateJobs(handler);
   }
 
-  private CompletableFuture<ActivateJobsHandler<ActivateJobsResponse>> submitActorToActivateJobs(
-      final ActivateJobsHandler<ActivateJobsResponse> handler) {
-    final var future = new CompletableFuture<ActivateJobsHandler<ActivateJobsResponse>>();
+  private CompletableFuture<ActivateJobsHandler<SerializedMessage>> submitActorToActivateJobs(
+      final ActivateJobsHandler<SerializedMessage> handler) {
+    final var future = new CompletableFuture<ActivateJobsHandler<SerializedMessage>>();
     final var actor =
         Actor.newActor()
             .name("ActivateJobsHandler")
@@ -345,7 +351,7 @@ public final class Gateway implements CloseableSilently {
     return future;
   }
 
-  private ActivateJobsHandler<ActivateJobsResponse> buildActivateJobsHandler(
+  private ActivateJobsHandler<SerializedMessage> buildActivateJobsHandler(
       final BrokerClient brokerClient) {
     if (gatewayCfg.getLongPolling().isEnabled()) {
       return buildLongPollingHandler(brokerClient);
@@ -353,20 +359,22 @@ public final class Gateway implements CloseableSilently {
       return new RoundRobinActivateJobsHandler<>(
           brokerClient,
           gatewayCfg.getNetwork().getMaxMessageSize().toBytes(),
-          ResponseMapper::toActivateJobsResponse,
-          REQUEST_CANCELED_EXCEPTION_PROVIDER);
+          new ActivatedJobEncoder()::toActivateJobsResponse,
+          REQUEST_CANCELED_EXCEPTION_PROVIDER,
+          gatewayCfg.getLongPolling().getPartitionFanOut());
     }
   }
 
-  private LongPollingActivateJobsHandler<ActivateJobsResponse> buildLongPollingHandler(
+  private LongPollingActivateJobsHandler<SerializedMessage> buildLongPollingHandler(
       final BrokerClient brokerClient) {
-    return LongPollingActivateJobsHandler.<ActivateJobsResponse>newBuilder()
+    return LongPollingActivateJobsHandler.<SerializedMessage>newBuilder()
         .setBrokerClient(brokerClient)
         .setMaxMessageSize(gatewayCfg.getNetwork().getMaxMessageSize().toBytes())
         .setLongPollingTimeout(gatewayCfg.getLongPolling().getTimeout())
         .setProbeTimeoutMillis(gatewayCfg.getLongPolling().getProbeTimeout())
         .setMinEmptyResponses(gatewayCfg.getLongPolling().getMinEmptyResponses())
-        .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
+        .setPartitionFanOut(gatewayCfg.getLongPolling().getPartitionFanOut())
+        .setActivationResultMapper(new ActivatedJobEncoder()::toActivateJobsResponse)
         .setNoJobsReceivedExceptionProvider(NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
         .setRequestCanceledExceptionProvider(REQUEST_CANCELED_EXCEPTION_PROVIDER)
         .build();
@@ -384,6 +392,12 @@ public final class Gateway implements CloseableSilently {
     Collections.reverse(interceptors);
     interceptors.add(new ContextInjectingInterceptor(queryApi));
     interceptors.add(MONITORING_SERVER_INTERCEPTOR);
+    if (gatewayCfg.getFairQueuing().isEnabled()) {
+      // runs after the identity interceptor, to queue the calls by their authorized tenants
+      interceptors.add(
+          new FairQueuingInterceptor(
+              new FairQueuingLimiter(gatewayCfg.getFairQueuing(), new FairQueuingMetrics("grpc"))));
+    }
     if (AuthMode.IDENTITY == gatewayCfg.getSecurity().getAuthentication().getMode()) {
       final var zeebeIdentityCfg = gatewayCfg.getSecurity().getAuthentication().getIdentity();
       if (isZeebeIdentityConfigurationNotNull(zeebeIdentityCfg)) {
@@ -8,6 +8,8 @@
 package io.camunda.zeebe.gateway;
 
 import io.camunda.zeebe.gateway.grpc.ErrorMappingStreamObserver;
+import io.camunda.zeebe.gateway.grpc.SerializedMessageMarshaller;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayImplBase;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
@@ -18,6 +20,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -53,21 +57,48 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutResponse;
+import io.grpc.ServerServiceDefinition;
 import io.grpc.stub.StreamObserver;
+import java.util.Set;
 
 public class GatewayGrpcService extends GatewayImplBase {
   private final EndpointManager endpointManager;
+  private final boolean serializedActivateJobsResponses;
 
-  public GatewayGrpcService(final EndpointManager endpointManager) {
+  /**
+   * @param serializedActivateJobsResponses whether the activate jobs responses, which are encoded
+   *     directly from the broker's job records, are passed on to the transport as they are; must be
+   *     false if any interceptor may inspect the responses, in which case they are parsed into
+   *     {@link ActivateJobsResponse} messages first
+   */
+  public GatewayGrpcService(
+      final EndpointManager endpointManager, final boolean serializedActivateJobsResponses) {
     this.endpointManager = endpointManager;
+    this.serializedActivateJobsResponses = serializedActivateJobsResponses;
+  }
+
+  @Override
+  public ServerServiceDefinition bindService() {
+    if (!serializedActivateJobsResponses) {
+      return super.bindService();
+    }
+
+    // activated jobs are encoded directly from the broker's job records, see ActivatedJobEncoder
+    return SerializedMessageMarshaller.acceptSerializedResponses(
+        super.bindService(), Set.of(GatewayGrpc.getActivateJobsMethod().getFullMethodName()));
   }
 
   @Override
   public void activateJobs(
       final ActivateJobsRequest request,
       final StreamObserver<ActivateJobsResponse> responseObserver) {
+    final var serializedResponseObserver =
+        serializedActivateJobsResponses
+            ? SerializedMessageMarshaller.serializedResponses(responseObserver)
+            : SerializedMessageMarshaller.parsedResponses(
+                responseObserver, GatewayGrpc.getActivateJobsMethod().getResponseMarshaller());
     endpointManager.activateJobs(
-        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+        request, ErrorMappingStreamObserver.ofStreamObserver(serializedResponseObserver));
   }
 
   @Override
@@ -94,6 +125,14 @@ public class GatewayGrpcService extends GatewayImplBase {
         request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    endpointManager.completeJobs(
+        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
@@ -166,8 +166,11 @@ public final class RequestMapper extends RequestUtil {
 
   public static BrokerCompleteJobRequest toCompleteJobRequest(
       final CompleteJobRequest grpcRequest) {
-    return new BrokerCompleteJobRequest(
-        grpcRequest.getJobKey(), ensureJsonSet(grpcRequest.getVariables()));
+    final DirectBuffer variables =
+        grpcRequest.getVariablesMsgPack().isEmpty()
+            ? ensureJsonSet(grpcRequest.getVariables())
+            : ensureMsgPackSet(grpcRequest.getVariablesMsgPack().toByteArray());
+    return new BrokerCompleteJobRequest(grpcRequest.getJobKey(), variables);
   }
 
   public static BrokerCreateProcessInstanceRequest toCreateProcessInstanceRequest(
@@ -261,7 +264,8 @@ public final class RequestMapper extends RequestUtil {
         .setWorker(grpcRequest.getWorker())
         .setMaxJobsToActivate(grpcRequest.getMaxJobsToActivate())
         .setVariables(grpcRequest.getFetchVariableList())
-        .setTenantIds(tenantIds);
+        .setTenantIds(tenantIds)
+        .setMsgPackVariables(grpcRequest.getMsgPackVariables());
   }
 
   public static BrokerResolveIncidentRequest toResolveIncidentRequest(
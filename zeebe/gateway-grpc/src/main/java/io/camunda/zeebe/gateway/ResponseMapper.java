@@ -10,10 +10,7 @@ package io.camunda.zeebe.gateway;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
-import io.camunda.zeebe.gateway.impl.job.JobActivationResponse;
-import io.camunda.zeebe.gateway.impl.job.JobActivationResult;
-import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
-import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import com.google.protobuf.UnsafeByteOperations;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
@@ -42,7 +39,6 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutResponse;
-import io.camunda.zeebe.msgpack.value.LongValue;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.decision.DecisionEvaluationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
@@ -58,9 +54,6 @@ import io.camunda.zeebe.protocol.impl.record.value.resource.ResourceDeletionReco
 import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
 import io.camunda.zeebe.protocol.record.value.EvaluatedDecisionValue;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 import org.agrona.DirectBuffer;
 
 public final class ResponseMapper {
@@ -287,76 +280,32 @@ public final class ResponseMapper {
     return SetVariablesResponse.newBuilder().setKey(key).build();
   }
 
-  /**
-   * While converting the broker response to the gRPC response, the response size is checked. If the
-   * response size exceeds the maximum response size, exceeding jobs are added to the list of
-   * exceeding jobs to be reactivated.
-   *
-   * <p>This is because the jobs returned from the broker is in MessagePack format and while
-   * converting them to gRPC response the size of the response may increase (e.g. we do JSON and
-   * String conversions see: {@link #toActivatedJob(long, JobRecord)}). That will cause the response
-   * size to exceed the maximum response size allowed by the gateway and the gateway will log a
-   * Stream Error indicating that streaming out the activated jobs failed.
-   *
-   * <p>If we do not respect the actual max response size, Zeebe Java Client rejects the response
-   * containing the activated jobs and the client cancels the channel/stream/connection as well.
-   * Leaving failed jobs non-activatable until their configured timeout.
-   *
-   * @param activationResponse the response for job activation, containing the key of the request,
-   *     the broker response, and the maximum size of the response
-   * @return job activation result, allowing access to the response and a list of jobs that could
-   *     not be included in the response because the response size exceeded the maximum response
-   *     size
-   */
-  public static JobActivationResult<ActivateJobsResponse> toActivateJobsResponse(
-      final JobActivationResponse activationResponse) {
-    final Iterator<LongValue> jobKeys = activationResponse.brokerResponse().jobKeys().iterator();
-    final Iterator<JobRecord> jobs = activationResponse.brokerResponse().jobs().iterator();
-
-    long currentResponseSize = 0L;
-    final List<ActivatedJob> sizeExceedingJobs = new ArrayList<>();
-    final List<ActivatedJob> responseJobs = new ArrayList<>();
-
-    while (jobKeys.hasNext() && jobs.hasNext()) {
-      final LongValue jobKey = jobKeys.next();
-      final JobRecord job = jobs.next();
-      final ActivatedJob activatedJob = toActivatedJob(jobKey.getValue(), job);
-
-      final int activatedJobSize = activatedJob.getSerializedSize();
-      if (currentResponseSize + activatedJobSize <= activationResponse.maxResponseSize()) {
-        responseJobs.add(activatedJob);
-        currentResponseSize += activatedJobSize;
-      } else {
-        sizeExceedingJobs.add(activatedJob);
-      }
-    }
-
-    ActivateJobsResponse response =
-        ActivateJobsResponse.newBuilder().addAllJobs(responseJobs).build();
-    // Response size can still exceed the maximum response size because of the metadata added on
-    // building the response. Therefore, we check the response size again and if the response size
-    // is still exceeding the maximum response size, we remove the last added job from the response
-    // and add it to the list of jobs to be reactivated.
-    // We do this until the response size is below the maximum response size.
-    while (!responseJobs.isEmpty()
-        && response.getSerializedSize() > activationResponse.maxResponseSize()) {
-      sizeExceedingJobs.add(responseJobs.removeLast());
-      response = ActivateJobsResponse.newBuilder().addAllJobs(responseJobs).build();
-    }
-
-    return new GrcpJobActivationResult(response, sizeExceedingJobs);
+  public static ActivatedJob toActivatedJob(
+      final io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob brokerResponse) {
+    return toActivatedJob(brokerResponse, false);
   }
 
   public static ActivatedJob toActivatedJob(
-      final io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob brokerResponse) {
+      final io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob brokerResponse,
+      final boolean msgPackVariables) {
     final long jobKey = brokerResponse.jobKey();
     final JobRecord job = brokerResponse.jobRecord();
 
-    return toActivatedJob(jobKey, job);
+    return toActivatedJob(jobKey, job, msgPackVariables);
   }
 
-  private static ActivatedJob toActivatedJob(final long jobKey, final JobRecord job) {
-    return ActivatedJob.newBuilder()
+  private static ActivatedJob toActivatedJob(
+      final long jobKey, final JobRecord job, final boolean msgPackVariables) {
+    final ActivatedJob.Builder builder = ActivatedJob.newBuilder();
+    if (msgPackVariables) {
+      // the variables are passed on as they are stored by the broker
+      builder.setVariablesMsgPack(
+          UnsafeByteOperations.unsafeWrap(bufferAsArray(job.getVariablesBuffer())));
+    } else {
+      builder.setVariables(bufferAsJson(job.getVariablesBuffer()));
+    }
+
+    return builder
         .setKey(jobKey)
         .setType(bufferAsString(job.getTypeBuffer()))
         .setBpmnProcessId(job.getBpmnProcessId())
@@ -369,7 +318,6 @@ public final class ResponseMapper {
         .setWorker(bufferAsString(job.getWorkerBuffer()))
         .setRetries(job.getRetries())
         .setDeadline(job.getDeadline())
-        .setVariables(bufferAsJson(job.getVariablesBuffer()))
         .setTenantId(job.getTenantId())
         .build();
   }
@@ -406,43 +354,6 @@ public final class ResponseMapper {
     return MsgPackConverter.convertToJson(bufferAsArray(customHeaders));
   }
 
-  static class GrcpJobActivationResult implements JobActivationResult<ActivateJobsResponse> {
-
-    private final ActivateJobsResponse response;
-    private final List<GatewayOuterClass.ActivatedJob> sizeExceedingJobs;
-
-    GrcpJobActivationResult(
-        final ActivateJobsResponse response,
-        final List<GatewayOuterClass.ActivatedJob> sizeExceedingJobs) {
-      this.response = response;
-      this.sizeExceedingJobs = sizeExceedingJobs;
-    }
-
-    @Override
-    public int getJobsCount() {
-      return response.getJobsCount();
-    }
-
-    @Override
-    public List<ActivatedJob> getJobs() {
-      return response.getJobsList().stream()
-          .map(j -> new ActivatedJob(j.getKey(), j.getRetries()))
-          .toList();
-    }
-
-    @Override
-    public ActivateJobsResponse getActivateJobsResponse() {
-      return response;
-    }
-
-    @Override
-    public List<ActivatedJob> getJobsToDefer() {
-      return sizeExceedingJobs.stream()
-          .map(j -> new ActivatedJob(j.getKey(), j.getRetries()))
-          .toList();
-    }
-  }
-
   @FunctionalInterface
   public interface BrokerResponseMapper<BrokerResponseDto, GrpcResponseT> {
     GrpcResponseT apply(long key, BrokerResponseDto responseDto);
@@ -0,0 +1,271 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.grpc;
+
+import io.camunda.zeebe.gateway.impl.job.JobActivationResponse;
+import io.camunda.zeebe.gateway.impl.job.JobActivationResult;
+import io.camunda.zeebe.gateway.impl.job.JobActivationResult.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.msgpack.value.LongValue;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackTranscoder;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Encodes activated jobs in the protobuf wire format of {@link ActivateJobsResponse}, directly from
+ * the buffers of the broker's job records. Compared to building the response from {@link
+ * io.camunda.zeebe.gateway.ResponseMapper#toActivatedJob}, no intermediate strings and message
+ * objects are created: string fields are copied as they are, and MessagePack documents are
+ * transcoded to JSON by a reused {@link MsgPackTranscoder}.
+ *
+ * <p>The output is the same as serializing the message built from the mapped jobs, i.e. fields are
+ * written in the order of their numbers, and fields with default values are omitted.
+ *
+ * <p>Instances are not thread-safe, as they reuse their buffers between calls.
+ */
+public final class ActivatedJobEncoder {
+
+  private static final int WIRE_TYPE_VARINT = 0;
+  private static final int WIRE_TYPE_LENGTH_DELIMITED = 2;
+
+  private final MsgPackTranscoder transcoder = new MsgPackTranscoder();
+  private final ExpandableArrayBuffer responseBuffer = new ExpandableArrayBuffer();
+  private final ExpandableArrayBuffer jobBuffer = new ExpandableArrayBuffer();
+
+  /**
+   * Encodes the activated jobs of the broker response, as long as the response stays within the
+   * maximum response size. Jobs which don't fit are returned as jobs to defer.
+   *
+   * @param activationResponse the response for job activation, containing the key of the request,
+   *     the broker response, and the maximum size of the response
+   * @return the job activation result, with the encoded response
+   */
+  public JobActivationResult<SerializedMessage> toActivateJobsResponse(
+      final JobActivationResponse activationResponse) {
+    final Iterator<LongValue> jobKeys = activationResponse.brokerResponse().jobKeys().iterator();
+    final Iterator<JobRecord> jobs = activationResponse.brokerResponse().jobs().iterator();
+
+    int responseLength = 0;
+    final List<ActivatedJob> responseJobs = new ArrayList<>();
+    final List<ActivatedJob> sizeExceedingJobs = new ArrayList<>();
+
+    while (jobKeys.hasNext() && jobs.hasNext()) {
+      final long jobKey = jobKeys.next().getValue();
+      final JobRecord job = jobs.next();
+      final var activatedJob = new ActivatedJob(jobKey, job.getRetries());
+      final int jobLength = encodeActivatedJob(jobKey, job, activationResponse.msgPackVariables());
+
+      int offset =
+          writeTag(
+              responseBuffer,
+              responseLength,
+              ActivateJobsResponse.JOBS_FIELD_NUMBER,
+              WIRE_TYPE_LENGTH_DELIMITED);
+      offset = writeVarint(responseBuffer, offset, jobLength);
+      if (offset + jobLength <= activationResponse.maxResponseSize()) {
+        responseBuffer.putBytes(offset, jobBuffer, 0, jobLength);
+        responseLength = offset + jobLength;
+        responseJobs.add(activatedJob);
+      } else {
+        // the written tag and length are overwritten by the next job which fits
+        sizeExceedingJobs.add(activatedJob);
+      }
+    }
+
+    final byte[] response = new byte[responseLength];
+    responseBuffer.getBytes(0, response);
+    return new SerializedJobActivationResult(
+        new SerializedMessage(response), responseJobs, sizeExceedingJobs);
+  }
+
+  /** Writes the job into the job buffer, and returns its length. */
+  private int encodeActivatedJob(
+      final long jobKey, final JobRecord job, final boolean msgPackVariables) {
+    final MutableDirectBuffer buffer = jobBuffer;
+    int offset = 0;
+    offset =
+        writeVarintField(buffer, offset, GatewayOuterClass.ActivatedJob.KEY_FIELD_NUMBER, jobKey);
+    offset =
+        writeBytesField(
+            buffer, offset, GatewayOuterClass.ActivatedJob.TYPE_FIELD_NUMBER, job.getTypeBuffer());
+    offset =
+        writeVarintField(
+            buffer,
+            offset,
+            GatewayOuterClass.ActivatedJob.PROCESSINSTANCEKEY_FIELD_NUMBER,
+            job.getProcessInstanceKey());
+    offset =
+        writeBytesField(
+            buffer,
+            offset,
+            GatewayOuterClass.ActivatedJob.BPMNPROCESSID_FIELD_NUMBER,
+            job.getBpmnProcessIdBuffer());
+    offset =
+        writeVarintField(
+            buffer,
+            offset,
+            GatewayOuterClass.ActivatedJob.PROCESSDEFINITIONVERSION_FIELD_NUMBER,
+            job.getProcessDefinitionVersion());
+    offset =
+        writeVarintField(
+            buffer,
+            offset,
+            GatewayOuterClass.ActivatedJob.PROCESSDEFINITIONKEY_FIELD_NUMBER,
+            job.getProcessDefinitionKey());
+    offset =
+        writeBytesField(
+            buffer,
+            offset,
+            GatewayOuterClass.ActivatedJob.ELEMENTID_FIELD_NUMBER,
+            job.getElementIdBuffer());
+    offset =
+        writeVarintField(
+            buffer,
+            offset,
+            GatewayOuterClass.ActivatedJob.ELEMENTINSTANCEKEY_FIELD_NUMBER,
+            job.getElementInstanceKey());
+    offset =
+        writeBytesField(
+            buffer,
+            offset,
+            GatewayOuterClass.ActivatedJob.CUSTOMHEADERS_FIELD_NUMBER,
+            transcoder.msgPackToJson(job.getCustomHeadersBuffer()));
+    offset =
+        writeBytesField(
+            buffer,
+            offset,
+            GatewayOuterClass.ActivatedJob.WORKER_FIELD_NUMBER,
+            job.getWorkerBuffer());
+    offset =
+        writeVarintField(
+            buffer, offset, GatewayOuterClass.ActivatedJob.RETRIES_FIELD_NUMBER, job.getRetries());
+    offset =
+        writeVarintField(
+            buffer,
+            offset,
+            GatewayOuterClass.ActivatedJob.DEADLINE_FIELD_NUMBER,
+            job.getDeadline());
+    if (!msgPackVariables) {
+      offset =
+          writeBytesField(
+              buffer,
+              offset,
+              GatewayOuterClass.ActivatedJob.VARIABLES_FIELD_NUMBER,
+              transcoder.msgPackToJson(job.getVariablesBuffer()));
+    }
+    offset =
+        writeBytesField(
+            buffer,
+            offset,
+            GatewayOuterClass.ActivatedJob.TENANTID_FIELD_NUMBER,
+            job.getTenantIdBuffer());
+    if (msgPackVariables) {
+      // the variables are passed on as they are stored by the broker
+      offset =
+          writeBytesField(
+              buffer,
+              offset,
+              GatewayOuterClass.ActivatedJob.VARIABLESMSGPACK_FIELD_NUMBER,
+              job.getVariablesBuffer());
+    }
+
+    return offset;
+  }
+
+  /** Writes an int32 or int64 field, which proto3 omits if it has the default value. */
+  private static int writeVarintField(
+      final MutableDirectBuffer buffer, final int offset, final int field, final long value) {
+    if (value == 0) {
+      return offset;
+    }
+
+    final int valueOffset = writeTag(buffer, offset, field, WIRE_TYPE_VARINT);
+    return writeVarint(buffer, valueOffset, value);
+  }
+
+  /** Writes a string or bytes field, which proto3 omits if it is empty. */
+  private static int writeBytesField(
+      final MutableDirectBuffer buffer,
+      final int offset,
+      final int field,
+      final DirectBuffer value) {
+    final int length = value.capacity();
+    if (length == 0) {
+      return offset;
+    }
+
+    int valueOffset = writeTag(buffer, offset, field, WIRE_TYPE_LENGTH_DELIMITED);
+    valueOffset = writeVarint(buffer, valueOffset, length);
+    buffer.putBytes(valueOffset, value, 0, length);
+    return valueOffset + length;
+  }
+
+  private static int writeTag(
+      final MutableDirectBuffer buffer, final int offset, final int field, final int wireType) {
+    return writeVarint(buffer, offset, ((long) field << 3) | wireType);
+  }
+
+  /**
+   * Writes the value as base 128 varint. Negative int32 values are sign-extended, as protobuf does,
+   * and take ten bytes like negative int64 values.
+   */
+  private static int writeVarint(
+      final MutableDirectBuffer buffer, final int offset, final long value) {
+    int position = offset;
+    long remaining = value;
+    while ((remaining & ~0x7FL) != 0) {
+      buffer.putByte(position++, (byte) ((remaining & 0x7F) | 0x80));
+      remaining >>>= 7;
+    }
+    buffer.putByte(position++, (byte) remaining);
+    return position;
+  }
+
+  private static final class SerializedJobActivationResult
+      implements JobActivationResult<SerializedMessage> {
+
+    private final SerializedMessage response;
+    private final List<ActivatedJob> jobs;
+    private final List<ActivatedJob> sizeExceedingJobs;
+
+    private SerializedJobActivationResult(
+        final SerializedMessage response,
+        final List<ActivatedJob> jobs,
+        final List<ActivatedJob> sizeExceedingJobs) {
+      this.response = response;
+      this.jobs = jobs;
+      this.sizeExceedingJobs = sizeExceedingJobs;
+    }
+
+    @Override
+    public int getJobsCount() {
+      return jobs.size();
+    }
+
+    @Override
+    public List<ActivatedJob> getJobs() {
+      return jobs;
+    }
+
+    @Override
+    public SerializedMessage getActivateJobsResponse() {
+      return response;
+    }
+
+    @Override
+    public List<ActivatedJob> getJobsToDefer() {
+      return sizeExceedingJobs;
+    }
+  }
+}
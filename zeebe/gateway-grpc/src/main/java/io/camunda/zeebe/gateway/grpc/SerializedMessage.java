@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.grpc;
+
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A response message which is already encoded in the protobuf wire format. It is passed on to the
+ * transport as it is by the {@link SerializedMessageMarshaller}, without building and serializing
+ * the generated message class.
+ */
+public final class SerializedMessage {
+
+  private final byte[] bytes;
+
+  public SerializedMessage(final byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  public int getLength() {
+    return bytes.length;
+  }
+
+  /**
+   * @return a stream of the encoded message, which the transport drains directly into its own
+   *     buffers
+   */
+  public InputStream toInputStream() {
+    return new DrainableInputStream(bytes);
+  }
+
+  private static final class DrainableInputStream extends ByteArrayInputStream
+      implements Drainable, KnownLength {
+
+    private DrainableInputStream(final byte[] bytes) {
+      super(bytes);
+    }
+
+    @Override
+    public int drainTo(final OutputStream target) throws IOException {
+      final int length = count - pos;
+      target.write(buf, pos, length);
+      pos = count;
+      return length;
+    }
+  }
+}
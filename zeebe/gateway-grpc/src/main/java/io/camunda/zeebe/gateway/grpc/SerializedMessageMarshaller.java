@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.grpc;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Marshals the responses of a method, which can be either {@link SerializedMessage} instances or
+ * instances of the method's response type. The former are streamed as they are, the latter are
+ * passed on to the method's own marshaller.
+ *
+ * <p>Interceptors of such a method see the {@link SerializedMessage} instances as response
+ * messages. If an interceptor may inspect the responses, the method must not be bound with this
+ * marshaller, and the responses must be parsed into the method's response type instead, see {@link
+ * #parsedResponses(StreamObserver, Marshaller)}.
+ *
+ * @param <T> the response type of the method
+ */
+public final class SerializedMessageMarshaller<T> implements Marshaller<Object> {
+
+  private final Marshaller<T> delegate;
+
+  public SerializedMessageMarshaller(final Marshaller<T> delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public InputStream stream(final Object value) {
+    if (value instanceof final SerializedMessage message) {
+      return message.toInputStream();
+    }
+
+    return delegate.stream((T) value);
+  }
+
+  @Override
+  public Object parse(final InputStream stream) {
+    return delegate.parse(stream);
+  }
+
+  /**
+   * Returns a copy of the given service definition, where the given methods accept {@link
+   * SerializedMessage} responses too.
+   *
+   * @param service the service definition to copy
+   * @param fullMethodNames the full names of the methods which should accept serialized responses
+   * @return the new service definition
+   */
+  public static ServerServiceDefinition acceptSerializedResponses(
+      final ServerServiceDefinition service, final Set<String> fullMethodNames) {
+    final var serviceDescriptor = service.getServiceDescriptor();
+    final var descriptorBuilder =
+        ServiceDescriptor.newBuilder(serviceDescriptor.getName())
+            .setSchemaDescriptor(serviceDescriptor.getSchemaDescriptor());
+    final List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+
+    for (final ServerMethodDefinition<?, ?> method : service.getMethods()) {
+      final var fullMethodName = method.getMethodDescriptor().getFullMethodName();
+      final ServerMethodDefinition<?, ?> boundMethod =
+          fullMethodNames.contains(fullMethodName) ? acceptSerializedResponses(method) : method;
+      descriptorBuilder.addMethod(boundMethod.getMethodDescriptor());
+      methods.add(boundMethod);
+    }
+
+    final var serviceBuilder = ServerServiceDefinition.builder(descriptorBuilder.build());
+    for (final ServerMethodDefinition<?, ?> method : methods) {
+      serviceBuilder.addMethod(method);
+    }
+    return serviceBuilder.build();
+  }
+
+  /**
+   * Returns the given observer as an observer of {@link SerializedMessage} responses. Must only be
+   * used for the calls of methods, which were bound by {@link
+   * #acceptSerializedResponses(ServerServiceDefinition, Set)}.
+   */
+  @SuppressWarnings("unchecked")
+  public static StreamObserver<SerializedMessage> serializedResponses(
+      final StreamObserver<?> responseObserver) {
+    return (StreamObserver<SerializedMessage>) responseObserver;
+  }
+
+  /**
+   * Returns the given observer as an observer of {@link SerializedMessage} responses, which parses
+   * every response into the method's response type before passing it on. Used for the calls of
+   * methods, which do not accept serialized responses.
+   *
+   * @param responseObserver the observer to wrap, must be a {@link ServerCallStreamObserver}
+   * @param responseMarshaller the marshaller of the method's response type
+   */
+  public static <T> StreamObserver<SerializedMessage> parsedResponses(
+      final StreamObserver<T> responseObserver, final Marshaller<T> responseMarshaller) {
+    return new ParsingStreamObserver<>(
+        (ServerCallStreamObserver<T>) responseObserver, responseMarshaller);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <ReqT, RespT> ServerMethodDefinition<ReqT, Object> acceptSerializedResponses(
+      final ServerMethodDefinition<ReqT, RespT> method) {
+    final MethodDescriptor<ReqT, RespT> descriptor = method.getMethodDescriptor();
+    final MethodDescriptor<ReqT, Object> boundDescriptor =
+        descriptor.toBuilder(
+                descriptor.getRequestMarshaller(),
+                new SerializedMessageMarshaller<>(descriptor.getResponseMarshaller()))
+            .build();
+    return ServerMethodDefinition.create(
+        boundDescriptor,
+        (ServerCallHandler<ReqT, Object>)
+            (ServerCallHandler<ReqT, ?>) method.getServerCallHandler());
+  }
+
+  private static final class ParsingStreamObserver<T>
+      extends ServerCallStreamObserver<SerializedMessage> {
+
+    private final ServerCallStreamObserver<T> delegate;
+    private final Marshaller<T> responseMarshaller;
+
+    private ParsingStreamObserver(
+        final ServerCallStreamObserver<T> delegate, final Marshaller<T> responseMarshaller) {
+      this.delegate = delegate;
+      this.responseMarshaller = responseMarshaller;
+    }
+
+    @Override
+    public void onNext(final SerializedMessage value) {
+      delegate.onNext(responseMarshaller.parse(value.toInputStream()));
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+      delegate.onError(t);
+    }
+
+    @Override
+    public void onCompleted() {
+      delegate.onCompleted();
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return delegate.isCancelled();
+    }
+
+    @Override
+    public void setOnCancelHandler(final Runnable onCancelHandler) {
+      delegate.setOnCancelHandler(onCancelHandler);
+    }
+
+    @Override
+    public void setCompression(final String compression) {
+      delegate.setCompression(compression);
+    }
+
+    @Override
+    public boolean isReady() {
+      return delegate.isReady();
+    }
+
+    @Override
+    public void setOnReadyHandler(final Runnable onReadyHandler) {
+      delegate.setOnReadyHandler(onReadyHandler);
+    }
+
+    @Override
+    public void disableAutoInboundFlowControl() {
+      delegate.disableAutoInboundFlowControl();
+    }
+
+    @Override
+    public void request(final int count) {
+      delegate.request(count);
+    }
+
+    @Override
+    public void setMessageCompression(final boolean enable) {
+      delegate.setMessageCompression(enable);
+    }
+
+    @Override
+    public void setOnCloseHandler(final Runnable onCloseHandler) {
+      delegate.setOnCloseHandler(onCloseHandler);
+    }
+  }
+}
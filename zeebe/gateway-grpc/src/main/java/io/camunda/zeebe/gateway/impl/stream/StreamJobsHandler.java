@@ -44,6 +44,14 @@ public class StreamJobsHandler extends Actor {
       final String jobType,
       final JobActivationProperties jobActivationProperties,
       final ServerCallStreamObserver<ActivatedJob> responseObserver) {
+    handle(jobType, jobActivationProperties, false, responseObserver);
+  }
+
+  public void handle(
+      final String jobType,
+      final JobActivationProperties jobActivationProperties,
+      final boolean msgPackVariables,
+      final ServerCallStreamObserver<ActivatedJob> responseObserver) {
     // TODO(#14452): move validations to RequestMapper and convert
     //  to exceptions that can be used in the GrpcErrorMapper
     if (jobType.isBlank()) {
@@ -59,15 +67,16 @@ public class StreamJobsHandler extends Actor {
       return;
     }
 
-    handleInternal(jobType, jobActivationProperties, responseObserver);
+    handleInternal(jobType, jobActivationProperties, msgPackVariables, responseObserver);
   }
 
   private void handleInternal(
       final String jobType,
       final JobActivationProperties jobActivationProperties,
+      final boolean msgPackVariables,
       final ServerCallStreamObserver<ActivatedJob> responseObserver) {
     final var streamType = wrapString(jobType);
-    final var consumer = new JobStreamConsumer(responseObserver, actor);
+    final var consumer = new JobStreamConsumer(responseObserver, actor, msgPackVariables);
     final var cleaner = new AsyncJobStreamRemover(jobStreamer, actor);
 
     // setting the handlers has to be done before the call is started, so we cannot do it in the
@@ -118,13 +127,22 @@ public class StreamJobsHandler extends Actor {
   static final class JobStreamConsumer implements ClientStreamConsumer {
     private final ServerCallStreamObserver<ActivatedJob> responseObserver;
     private final ConcurrencyControl executor;
+    private final boolean msgPackVariables;
 
     @VisibleForTesting("Allow unit testing behavior")
     JobStreamConsumer(
         final ServerCallStreamObserver<ActivatedJob> responseObserver,
         final ConcurrencyControl executor) {
+      this(responseObserver, executor, false);
+    }
+
+    JobStreamConsumer(
+        final ServerCallStreamObserver<ActivatedJob> responseObserver,
+        final ConcurrencyControl executor,
+        final boolean msgPackVariables) {
       this.responseObserver = responseObserver;
       this.executor = executor;
+      this.msgPackVariables = msgPackVariables;
     }
 
     @Override
@@ -158,7 +176,7 @@ public class StreamJobsHandler extends Actor {
       // fail push on serialization errors, but no need to close the client stream
       try {
         deserializedJob.wrap(payload);
-        activatedJob = ResponseMapper.toActivatedJob(deserializedJob);
+        activatedJob = ResponseMapper.toActivatedJob(deserializedJob, msgPackVariables);
       } catch (final Exception e) {
         result.completeExceptionally(e);
         return;
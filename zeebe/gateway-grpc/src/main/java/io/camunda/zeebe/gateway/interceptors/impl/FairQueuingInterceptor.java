@@ -0,0 +1,153 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.interceptors.impl;
+
+import io.camunda.zeebe.gateway.impl.flowcontrol.FairQueuingLimiter;
+import io.camunda.zeebe.gateway.impl.flowcontrol.FairQueuingLimiter.Outcome;
+import io.camunda.zeebe.gateway.impl.flowcontrol.FairQueuingLimiter.Permit;
+import io.camunda.zeebe.gateway.interceptors.InterceptorUtil;
+import io.grpc.Context;
+import io.grpc.Context.CancellationListener;
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCall;
+import io.grpc.ServerCall.Listener;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Queues unary calls fairly per tenant, or per client if the tenants of the caller are unknown, by
+ * means of a {@link FairQueuingLimiter}. Calls wait for their permit by blocking, which is cheap as
+ * the gRPC executor runs every call on its own virtual thread.
+ *
+ * <p>Streaming calls, e.g. long polling job activations and job streams, are held open for a long
+ * time, and are therefore not limited.
+ *
+ * <p>The interceptor is expected to run after the {@link IdentityInterceptor}, which injects the
+ * authorized tenants of the caller.
+ */
+public final class FairQueuingInterceptor implements ServerInterceptor {
+  private static final String UNKNOWN_CLIENT = "unknown";
+
+  private final FairQueuingLimiter limiter;
+
+  public FairQueuingInterceptor(final FairQueuingLimiter limiter) {
+    this.limiter = limiter;
+  }
+
+  @Override
+  public <ReqT, RespT> Listener<ReqT> interceptCall(
+      final ServerCall<ReqT, RespT> call,
+      final Metadata headers,
+      final ServerCallHandler<ReqT, RespT> next) {
+    if (call.getMethodDescriptor().getType() != MethodType.UNARY) {
+      return next.startCall(call, headers);
+    }
+
+    final var context = Context.current();
+    final var permitFuture = limiter.acquire(keyOf(call, context));
+    final CancellationListener cancellationListener = ignored -> permitFuture.cancel(false);
+    context.addListener(cancellationListener, Runnable::run);
+
+    final Permit permit;
+    try {
+      permit = permitFuture.get();
+    } catch (final CancellationException e) {
+      return deny(call, Status.CANCELLED.withDescription("Call was cancelled while queued"));
+    } catch (final ExecutionException e) {
+      return deny(call, Status.RESOURCE_EXHAUSTED.withDescription(e.getCause().getMessage()));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      permitFuture.cancel(false);
+      return deny(call, Status.UNAVAILABLE.withDescription("Interrupted while queued"));
+    } finally {
+      context.removeListener(cancellationListener);
+    }
+
+    try {
+      return new PermitReleasingListener<>(
+          next.startCall(new PermitReleasingCall<>(call, permit), headers), permit);
+    } catch (final RuntimeException e) {
+      permit.release(Outcome.IGNORED);
+      throw e;
+    }
+  }
+
+  private String keyOf(final ServerCall<?, ?> call, final Context context) {
+    final var tenants = InterceptorUtil.getAuthorizedTenantsKey().get(context);
+    if (tenants != null && !tenants.isEmpty()) {
+      return String.join(",", tenants);
+    }
+
+    // a client may open several connections, so only the host identifies it
+    if (call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR)
+        instanceof final InetSocketAddress address) {
+      return address.getHostString();
+    }
+    return UNKNOWN_CLIENT;
+  }
+
+  private <ReqT> Listener<ReqT> deny(final ServerCall<ReqT, ?> call, final Status status) {
+    call.close(status, new Metadata());
+    return new Listener<>() {};
+  }
+
+  private static Outcome outcomeOf(final Status status) {
+    if (status.isOk()) {
+      return Outcome.SUCCESS;
+    }
+    return status.getCode() == Code.RESOURCE_EXHAUSTED ? Outcome.DROPPED : Outcome.IGNORED;
+  }
+
+  private static final class PermitReleasingCall<ReqT, RespT>
+      extends SimpleForwardingServerCall<ReqT, RespT> {
+    private final Permit permit;
+
+    private PermitReleasingCall(final ServerCall<ReqT, RespT> delegate, final Permit permit) {
+      super(delegate);
+      this.permit = permit;
+    }
+
+    @Override
+    public void close(final Status status, final Metadata trailers) {
+      permit.release(outcomeOf(status));
+      super.close(status, trailers);
+    }
+  }
+
+  /** Releases the permit if the call is cancelled, in which case it may never be closed. */
+  private static final class PermitReleasingListener<ReqT>
+      extends SimpleForwardingServerCallListener<ReqT> {
+    private final Permit permit;
+
+    private PermitReleasingListener(final Listener<ReqT> delegate, final Permit permit) {
+      super(delegate);
+      this.permit = permit;
+    }
+
+    @Override
+    public void onCancel() {
+      permit.release(Outcome.IGNORED);
+      super.onCancel();
+    }
+
+    @Override
+    public void onComplete() {
+      permit.release(Outcome.IGNORED);
+      super.onComplete();
+    }
+  }
+}
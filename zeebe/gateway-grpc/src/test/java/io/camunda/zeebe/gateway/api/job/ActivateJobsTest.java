@@ -28,6 +28,7 @@ import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.test.util.JsonUtil;
+import io.camunda.zeebe.test.util.MsgPackUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
@@ -182,4 +183,28 @@ public final class ActivateJobsTest extends GatewayTest {
         .isEqualTo(Status.INVALID_ARGUMENT.getCode());
     assertThat(callCounter).hasValue(1);
   }
+
+  @Test
+  public void shouldReturnMsgPackVariables() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+
+    final String jobType = "testJob";
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType(jobType)
+            .setMaxJobsToActivate(1)
+            .setMsgPackVariables(true)
+            .build();
+    stub.addAvailableJobs(jobType, 1);
+
+    // when
+    final ActivateJobsResponse response = client.activateJobs(request).next();
+
+    // then
+    final ActivatedJob job = response.getJobs(0);
+    assertThat(job.getVariables()).isEmpty();
+    MsgPackUtil.assertEquality(job.getVariablesMsgPack().toByteArray(), stub.getVariables());
+  }
 }
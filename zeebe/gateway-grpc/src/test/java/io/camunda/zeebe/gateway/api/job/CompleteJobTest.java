@@ -8,7 +8,9 @@
 package io.camunda.zeebe.gateway.api.job;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.protobuf.ByteString;
 import io.camunda.zeebe.gateway.api.util.GatewayTest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
@@ -18,6 +20,8 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.test.util.JsonUtil;
 import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import java.util.Collections;
 import org.junit.Test;
 
@@ -70,4 +74,48 @@ public final class CompleteJobTest extends GatewayTest {
     final JobRecord brokerRequestValue = brokerRequest.getRequestWriter();
     MsgPackUtil.assertEqualityExcluding(brokerRequestValue.getVariablesBuffer(), "{}");
   }
+
+  @Test
+  public void shouldPassOnMsgPackVariables() {
+    // given
+    final CompleteJobStub stub = new CompleteJobStub();
+    stub.registerWith(brokerClient);
+
+    final String variables = JsonUtil.toJson(Collections.singletonMap("key", "value"));
+    final CompleteJobRequest request =
+        CompleteJobRequest.newBuilder()
+            .setJobKey(stub.getKey())
+            .setVariablesMsgPack(ByteString.copyFrom(MsgPackUtil.asMsgPackReturnArray(variables)))
+            .build();
+
+    // when
+    final CompleteJobResponse response = client.completeJob(request);
+
+    // then
+    assertThat(response).isNotNull();
+
+    final BrokerCompleteJobRequest brokerRequest = brokerClient.getSingleBrokerRequest();
+    final JobRecord brokerRequestValue = brokerRequest.getRequestWriter();
+    MsgPackUtil.assertEqualityExcluding(brokerRequestValue.getVariablesBuffer(), variables);
+  }
+
+  @Test
+  public void shouldRejectInvalidMsgPackVariables() {
+    // given
+    final CompleteJobStub stub = new CompleteJobStub();
+    stub.registerWith(brokerClient);
+
+    // a map with one entry, but without the entry
+    final CompleteJobRequest request =
+        CompleteJobRequest.newBuilder()
+            .setJobKey(stub.getKey())
+            .setVariablesMsgPack(ByteString.copyFrom(new byte[] {(byte) 0x81}))
+            .build();
+
+    // when/then
+    assertThatThrownBy(() -> client.completeJob(request))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.INVALID_ARGUMENT.getCode());
+  }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejectionResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.EndpointManager;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  @Test
+  public void shouldCompleteAllJobs() {
+    // given
+    final CompleteJobStub stub = new CompleteJobStub();
+    stub.registerWith(brokerClient);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(1).setVariables("{\"a\":1}"))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(2))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CompleteJobResult::getJobKey, CompleteJobResult::getCode)
+        .containsExactly(tuple(1L, Status.Code.OK.value()), tuple(2L, Status.Code.OK.value()));
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(2)
+        .allSatisfy(
+            brokerRequest ->
+                assertThat(((BrokerCompleteJobRequest) brokerRequest).getIntent())
+                    .isEqualTo(JobIntent.COMPLETE));
+  }
+
+  @Test
+  public void shouldReturnResultOfEachJob() {
+    // given
+    brokerClient.registerHandler(
+        BrokerCompleteJobRequest.class,
+        (RequestHandler<BrokerCompleteJobRequest, BrokerResponse<JobRecord>>)
+            brokerRequest ->
+                brokerRequest.getKey() == 2
+                    ? new BrokerRejectionResponse<>(
+                        new BrokerRejection(
+                            JobIntent.COMPLETE, 2, RejectionType.NOT_FOUND, "expected"))
+                    : new BrokerResponse<>(new JobRecord(), 0, brokerRequest.getKey()));
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(1))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(2))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(3))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CompleteJobResult::getJobKey, CompleteJobResult::getCode)
+        .containsExactly(
+            tuple(1L, Status.Code.OK.value()),
+            tuple(2L, Status.Code.NOT_FOUND.value()),
+            tuple(3L, Status.Code.OK.value()));
+    assertThat(response.getResults(1).getMessage()).contains("expected");
+  }
+
+  @Test
+  public void shouldCompleteAllJobsOfMaximalRequest() {
+    // given - more jobs than requests are in flight at once
+    final CompleteJobStub stub = new CompleteJobStub();
+    stub.registerWith(brokerClient);
+
+    final CompleteJobsRequest.Builder request = CompleteJobsRequest.newBuilder();
+    for (int i = 0; i < EndpointManager.MAX_COMPLETE_JOBS; i++) {
+      request.addJobs(CompleteJobRequest.newBuilder().setJobKey(i));
+    }
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request.build());
+
+    // then
+    assertThat(response.getResultsList())
+        .hasSize(EndpointManager.MAX_COMPLETE_JOBS)
+        .allMatch(result -> result.getCode() == Status.Code.OK.value());
+    assertThat(response.getResultsList()).extracting(CompleteJobResult::getJobKey).isSorted();
+    assertThat(brokerClient.getBrokerRequests()).hasSize(EndpointManager.MAX_COMPLETE_JOBS);
+  }
+
+  @Test
+  public void shouldRespondToEmptyRequest() {
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(CompleteJobsRequest.getDefaultInstance());
+
+    // then
+    assertThat(response.getResultsList()).isEmpty();
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  @Test
+  public void shouldRejectTooManyJobs() {
+    // given
+    final CompleteJobsRequest.Builder request = CompleteJobsRequest.newBuilder();
+    for (int i = 0; i <= EndpointManager.MAX_COMPLETE_JOBS; i++) {
+      request.addJobs(CompleteJobRequest.newBuilder().setJobKey(i));
+    }
+
+    // when/then
+    assertThatThrownBy(() -> client.completeJobs(request.build()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.INVALID_ARGUMENT.getCode());
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+}
@@ -15,7 +15,8 @@ import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.gateway.EndpointManager;
 import io.camunda.zeebe.gateway.Gateway;
 import io.camunda.zeebe.gateway.GatewayGrpcService;
-import io.camunda.zeebe.gateway.ResponseMapper;
+import io.camunda.zeebe.gateway.grpc.ActivatedJobEncoder;
+import io.camunda.zeebe.gateway.grpc.SerializedMessage;
 import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
@@ -26,7 +27,6 @@ import io.camunda.zeebe.gateway.interceptors.impl.IdentityInterceptor;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayBlockingStub;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
-import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.scheduler.Actor;
@@ -90,7 +90,7 @@ public final class StubbedGateway {
     final MultiTenancyCfg multiTenancy = config.getMultiTenancy();
     final EndpointManager endpointManager =
         new EndpointManager(brokerClient, activateJobsHandler, clientStreamAdapter, multiTenancy);
-    final GatewayGrpcService gatewayGrpcService = new GatewayGrpcService(endpointManager);
+    final GatewayGrpcService gatewayGrpcService = new GatewayGrpcService(endpointManager, true);
 
     final InProcessServerBuilder serverBuilder =
         InProcessServerBuilder.forName(SERVER_NAME)
@@ -135,7 +135,7 @@ public final class StubbedGateway {
     future.join();
   }
 
-  private ActivateJobsHandler<ActivateJobsResponse> buildActivateJobsHandler(
+  private ActivateJobsHandler<SerializedMessage> buildActivateJobsHandler(
       final BrokerClient brokerClient) {
     if (config.getLongPolling().isEnabled()) {
       return buildLongPollingHandler(brokerClient);
@@ -143,17 +143,17 @@ public final class StubbedGateway {
       return new RoundRobinActivateJobsHandler<>(
           brokerClient,
           config.getNetwork().getMaxMessageSize().toBytes(),
-          ResponseMapper::toActivateJobsResponse,
+          new ActivatedJobEncoder()::toActivateJobsResponse,
           Gateway.REQUEST_CANCELED_EXCEPTION_PROVIDER);
     }
   }
 
-  private LongPollingActivateJobsHandler<ActivateJobsResponse> buildLongPollingHandler(
+  private LongPollingActivateJobsHandler<SerializedMessage> buildLongPollingHandler(
       final BrokerClient brokerClient) {
-    return LongPollingActivateJobsHandler.<ActivateJobsResponse>newBuilder()
+    return LongPollingActivateJobsHandler.<SerializedMessage>newBuilder()
         .setBrokerClient(brokerClient)
         .setMaxMessageSize(config.getNetwork().getMaxMessageSize().toBytes())
-        .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
+        .setActivationResultMapper(new ActivatedJobEncoder()::toActivateJobsResponse)
         .setNoJobsReceivedExceptionProvider(Gateway.NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
         .setRequestCanceledExceptionProvider(Gateway.REQUEST_CANCELED_EXCEPTION_PROVIDER)
         .build();
@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.ResponseMapper;
+import io.camunda.zeebe.gateway.impl.job.JobActivationResponse;
+import io.camunda.zeebe.gateway.impl.job.JobActivationResult.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.IOException;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class ActivatedJobEncoderTest {
+
+  private final ActivatedJobEncoder encoder = new ActivatedJobEncoder();
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldEncodeLikeResponseMapper(final boolean msgPackVariables) throws IOException {
+    // given
+    final var activationResponse =
+        new JobActivationResponse(1L, jobBatch(3), Long.MAX_VALUE, msgPackVariables);
+
+    // when
+    final var result = encoder.toActivateJobsResponse(activationResponse);
+
+    // then
+    final var expected = mappedResponse(activationResponse);
+    assertThat(result.getJobsCount()).isEqualTo(3);
+    assertThat(result.getActivateJobsResponse().toInputStream().readAllBytes())
+        .isEqualTo(expected.toByteArray());
+  }
+
+  @Test
+  void shouldDeferJobsExceedingMaxResponseSize() throws IOException {
+    // given
+    final var jobBatch = jobBatch(3);
+    final int maxResponseSize =
+        mappedResponse(new JobActivationResponse(1L, jobBatch, Long.MAX_VALUE)).getSerializedSize()
+            - 1;
+
+    // when
+    final var result =
+        encoder.toActivateJobsResponse(new JobActivationResponse(1L, jobBatch, maxResponseSize));
+
+    // then
+    final var response =
+        ActivateJobsResponse.parseFrom(result.getActivateJobsResponse().toInputStream());
+    assertThat(response.getJobsList()).extracting("key").containsExactly(10L, 11L);
+    assertThat(result.getJobs()).extracting(ActivatedJob::key).containsExactly(10L, 11L);
+    assertThat(result.getJobsToDefer()).containsExactly(new ActivatedJob(12L, 3));
+    assertThat(result.getActivateJobsResponse().getLength()).isLessThanOrEqualTo(maxResponseSize);
+  }
+
+  @Test
+  void shouldEncodeEmptyResponse() {
+    // when
+    final var result =
+        encoder.toActivateJobsResponse(new JobActivationResponse(1L, jobBatch(0), 1024));
+
+    // then
+    assertThat(result.getJobsCount()).isZero();
+    assertThat(result.getActivateJobsResponse().getLength()).isZero();
+  }
+
+  private ActivateJobsResponse mappedResponse(final JobActivationResponse activationResponse) {
+    final var response = ActivateJobsResponse.newBuilder();
+    final var jobKeys = activationResponse.brokerResponse().jobKeys().iterator();
+    final var jobs = activationResponse.brokerResponse().jobs().iterator();
+    while (jobKeys.hasNext() && jobs.hasNext()) {
+      final var job =
+          new ActivatedJobImpl().setJobKey(jobKeys.next().getValue()).setRecord(jobs.next());
+      response.addJobs(ResponseMapper.toActivatedJob(job, activationResponse.msgPackVariables()));
+    }
+    return response.build();
+  }
+
+  private JobBatchRecord jobBatch(final int jobCount) {
+    final var jobBatch = new JobBatchRecord().setType("test").setWorker("worker");
+    for (int i = 0; i < jobCount; i++) {
+      jobBatch.jobKeys().add().setValue(10L + i);
+      jobBatch
+          .jobs()
+          .add()
+          .setType("test")
+          .setWorker("worker")
+          .setRetries(3)
+          .setDeadline(123L)
+          .setProcessInstanceKey(1L)
+          .setBpmnProcessId("process")
+          .setProcessDefinitionVersion(1)
+          .setProcessDefinitionKey(2L)
+          .setElementId("task")
+          .setElementInstanceKey(3L)
+          .setCustomHeaders(
+              new UnsafeBuffer(MsgPackConverter.convertToMsgPack("{\"header\":\"ünïcode\"}")))
+          .setVariables(
+              BufferUtil.wrapArray(
+                  MsgPackConverter.convertToMsgPack("{\"foo\":" + i + ",\"bar\":[true,null]}")));
+    }
+    return jobBatch;
+  }
+}
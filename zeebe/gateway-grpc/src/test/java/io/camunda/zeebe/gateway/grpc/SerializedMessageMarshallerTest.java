@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.grpc.stub.ServerCallStreamObserver;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+final class SerializedMessageMarshallerTest {
+
+  private final ActivateJobsResponse response =
+      ActivateJobsResponse.newBuilder()
+          .addJobs(ActivatedJob.newBuilder().setKey(1L).setType("test").setVariables("{}"))
+          .build();
+
+  @Test
+  void shouldStreamSerializedMessageAsItIs() throws IOException {
+    // given
+    final var marshaller =
+        new SerializedMessageMarshaller<>(
+            GatewayGrpc.getActivateJobsMethod().getResponseMarshaller());
+
+    // when
+    final var serialized = marshaller.stream(new SerializedMessage(response.toByteArray()));
+    final var mapped = marshaller.stream(response);
+
+    // then
+    assertThat(serialized.readAllBytes())
+        .isEqualTo(mapped.readAllBytes())
+        .isEqualTo(response.toByteArray());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldPassParsedResponsesOn() {
+    // given
+    final ServerCallStreamObserver<ActivateJobsResponse> responseObserver =
+        mock(ServerCallStreamObserver.class);
+    final var observer =
+        SerializedMessageMarshaller.parsedResponses(
+            responseObserver, GatewayGrpc.getActivateJobsMethod().getResponseMarshaller());
+
+    // when
+    observer.onNext(new SerializedMessage(response.toByteArray()));
+
+    // then
+    verify(responseObserver).onNext(response);
+  }
+}
@@ -20,6 +20,7 @@ import io.camunda.zeebe.auth.impl.Authorization;
 import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
 import io.camunda.zeebe.gateway.api.deployment.DeployResourceStub;
 import io.camunda.zeebe.gateway.api.job.ActivateJobsStub;
+import io.camunda.zeebe.gateway.api.job.CompleteJobStub;
 import io.camunda.zeebe.gateway.api.job.TestStreamObserver;
 import io.camunda.zeebe.gateway.api.process.CreateProcessInstanceStub;
 import io.camunda.zeebe.gateway.api.signal.BroadcastSignalStub;
@@ -29,6 +30,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionMetadata;
@@ -45,6 +49,8 @@ import io.grpc.Status;
 import java.time.Duration;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.awaitility.Awaitility;
 import org.junit.Before;
@@ -585,4 +591,44 @@ public class MultiTenancyEnabledTest extends GatewayTest {
     // then
     assertThat(response.getTenantId()).isEqualTo("tenant-b");
   }
+
+  @Test
+  public void completeJobsRequestShouldContainAuthorizedTenantsForEveryJob() {
+    // given - more jobs than are completed at once, so that most of them are sent from the
+    // response callbacks of the broker client, where the gRPC context of the call is not attached
+    when(gateway.getIdentityMock().tenants().forToken(anyString()))
+        .thenReturn(List.of(new Tenant("tenant-a", "A"), new Tenant("tenant-b", "B")));
+    new CompleteJobStub().registerWith(brokerClient);
+    final ExecutorService responseExecutor = Executors.newSingleThreadExecutor();
+    brokerClient.respondOn(responseExecutor);
+
+    final int jobCount =
+        brokerClient.getTopologyManager().getTopology().getPartitionsCount() * 4 + 1;
+    final CompleteJobsRequest.Builder request = CompleteJobsRequest.newBuilder();
+    for (int i = 0; i < jobCount; i++) {
+      request.addJobs(CompleteJobRequest.newBuilder().setJobKey(i));
+    }
+
+    // when
+    final CompleteJobsResponse response;
+    try {
+      response = client.completeJobs(request.build());
+    } finally {
+      responseExecutor.shutdownNow();
+    }
+
+    // then
+    assertThat(response.getResultsList())
+        .hasSize(jobCount)
+        .allMatch(result -> result.getCode() == Status.Code.OK.value());
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(jobCount)
+        .allSatisfy(
+            brokerRequest ->
+                assertThat(
+                        ((BrokerExecuteCommand<?>) brokerRequest).getAuthorization().toDecodedMap())
+                    .hasEntrySatisfying(
+                        Authorization.AUTHORIZED_TENANTS,
+                        v -> assertThat(v).asList().containsExactly("tenant-a", "tenant-b")));
+  }
 }
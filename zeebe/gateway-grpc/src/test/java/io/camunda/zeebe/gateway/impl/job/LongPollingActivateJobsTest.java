@@ -27,7 +27,6 @@ import io.camunda.zeebe.broker.client.api.dto.BrokerRejectionResponse;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.gateway.Gateway;
 import io.camunda.zeebe.gateway.RequestMapper;
-import io.camunda.zeebe.gateway.ResponseMapper;
 import io.camunda.zeebe.gateway.api.job.ActivateJobsStub;
 import io.camunda.zeebe.gateway.api.job.FailJobStub;
 import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
@@ -94,7 +93,7 @@ public final class LongPollingActivateJobsTest {
             .setLongPollingTimeout(LONG_POLLING_TIMEOUT)
             .setProbeTimeoutMillis(PROBE_TIMEOUT)
             .setMinEmptyResponses(FAILED_RESPONSE_THRESHOLD)
-            .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
+            .setActivationResultMapper(ParsedJobActivationResults::toActivateJobsResponse)
             .setNoJobsReceivedExceptionProvider(Gateway.NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
             .setRequestCanceledExceptionProvider(Gateway.REQUEST_CANCELED_EXCEPTION_PROVIDER)
             .build();
@@ -260,7 +259,7 @@ public final class LongPollingActivateJobsTest {
             .setMaxMessageSize(MAX_MESSAGE_SIZE)
             .setLongPollingTimeout(20000)
             .setProbeTimeoutMillis(probeTimeout)
-            .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
+            .setActivationResultMapper(ParsedJobActivationResults::toActivateJobsResponse)
             .setNoJobsReceivedExceptionProvider(Gateway.NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
             .setRequestCanceledExceptionProvider(Gateway.REQUEST_CANCELED_EXCEPTION_PROVIDER)
             .build();
@@ -289,7 +288,7 @@ public final class LongPollingActivateJobsTest {
             .setMaxMessageSize(MAX_MESSAGE_SIZE)
             .setLongPollingTimeout(longPollingTimeout)
             .setProbeTimeoutMillis(probeTimeout)
-            .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
+            .setActivationResultMapper(ParsedJobActivationResults::toActivateJobsResponse)
             .setNoJobsReceivedExceptionProvider(Gateway.NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
             .setRequestCanceledExceptionProvider(Gateway.REQUEST_CANCELED_EXCEPTION_PROVIDER)
             .build();
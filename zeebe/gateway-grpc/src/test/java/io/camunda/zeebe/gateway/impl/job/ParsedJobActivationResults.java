@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.gateway.grpc.ActivatedJobEncoder;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Maps job activation responses like the gateway does, with {@link ActivatedJobEncoder}, and parses
+ * the encoded response again, so that tests can inspect the activated jobs.
+ */
+final class ParsedJobActivationResults {
+
+  private ParsedJobActivationResults() {}
+
+  static JobActivationResult<ActivateJobsResponse> toActivateJobsResponse(
+      final JobActivationResponse activationResponse) {
+    final var result = new ActivatedJobEncoder().toActivateJobsResponse(activationResponse);
+    try {
+      final var response =
+          ActivateJobsResponse.parseFrom(result.getActivateJobsResponse().toInputStream());
+      return new ParsedJobActivationResult(response, result.getJobs(), result.getJobsToDefer());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private record ParsedJobActivationResult(
+      ActivateJobsResponse response, List<ActivatedJob> jobs, List<ActivatedJob> jobsToDefer)
+      implements JobActivationResult<ActivateJobsResponse> {
+
+    @Override
+    public int getJobsCount() {
+      return jobs.size();
+    }
+
+    @Override
+    public List<ActivatedJob> getJobs() {
+      return jobs;
+    }
+
+    @Override
+    public ActivateJobsResponse getActivateJobsResponse() {
+      return response;
+    }
+
+    @Override
+    public List<ActivatedJob> getJobsToDefer() {
+      return jobsToDefer;
+    }
+  }
+}
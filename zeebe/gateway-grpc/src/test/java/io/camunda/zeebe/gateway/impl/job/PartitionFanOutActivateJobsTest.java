@@ -0,0 +1,217 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejectionResponse;
+import io.camunda.zeebe.gateway.Gateway;
+import io.camunda.zeebe.gateway.RequestMapper;
+import io.camunda.zeebe.gateway.api.job.ActivateJobsStub;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.testing.ActorSchedulerRule;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.util.unit.DataSize;
+
+public final class PartitionFanOutActivateJobsTest {
+
+  private static final String TYPE = "test";
+  private static final int PARTITION_FAN_OUT = 4;
+  private static final long MAX_MESSAGE_SIZE = DataSize.ofMegabytes(4).toBytes();
+
+  @Rule public final ActorSchedulerRule actorSchedulerRule = new ActorSchedulerRule();
+  private final StubbedBrokerClient brokerClient = new StubbedBrokerClient();
+  private final ActivateJobsStub activateJobsStub = new ActivateJobsStub();
+  private RoundRobinActivateJobsHandler<ActivateJobsResponse> handler;
+  private int partitionsCount;
+
+  @Before
+  public void setup() {
+    handler =
+        new RoundRobinActivateJobsHandler<>(
+            brokerClient,
+            MAX_MESSAGE_SIZE,
+            ParsedJobActivationResults::toActivateJobsResponse,
+            Gateway.REQUEST_CANCELED_EXCEPTION_PROVIDER,
+            PARTITION_FAN_OUT);
+    submitActorToActivateJobs(handler);
+
+    activateJobsStub.registerWith(brokerClient);
+    activateJobsStub.addAvailableJobs(TYPE, 0);
+
+    partitionsCount = brokerClient.getTopologyManager().getTopology().getPartitionsCount();
+  }
+
+  @Test
+  public void shouldSplitJobsToActivateBetweenPartitions() {
+    // given
+    final ServerStreamObserver<ActivateJobsResponse> responseObserver =
+        spy(ServerStreamObserver.class);
+
+    // when
+    activateJobs(8, responseObserver);
+
+    // then
+    verify(responseObserver, timeout(5000)).onCompleted();
+    final var requests = getActivateJobsRequests();
+    assertThat(requests).hasSize(partitionsCount);
+    assertThat(requests.subList(0, PARTITION_FAN_OUT))
+        .extracting(request -> request.getRequestWriter().getMaxJobsToActivate())
+        .containsOnly(2);
+    assertThat(requests)
+        .extracting(BrokerActivateJobsRequest::getPartitionId)
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void shouldNotActivateMoreJobsThanRequested() {
+    // given
+    activateJobsStub.addAvailableJobs(TYPE, 100);
+    final ServerStreamObserver<ActivateJobsResponse> responseObserver =
+        spy(ServerStreamObserver.class);
+
+    // when
+    activateJobs(10, responseObserver);
+
+    // then
+    verify(responseObserver, timeout(5000)).onCompleted();
+    final var responses = ArgumentCaptor.forClass(ActivateJobsResponse.class);
+    verify(responseObserver, atLeastOnce()).onNext(responses.capture());
+    assertThat(responses.getAllValues())
+        .flatExtracting(ActivateJobsResponse::getJobsList)
+        .hasSize(10);
+    assertThat(getActivateJobsRequests()).hasSize(PARTITION_FAN_OUT);
+  }
+
+  @Test
+  public void shouldActivateAllJobsOnSinglePartition() {
+    // given
+    final int partitionWithJobs = 1;
+    brokerClient.registerHandler(
+        BrokerActivateJobsRequest.class,
+        (final BrokerActivateJobsRequest request) -> {
+          activateJobsStub.addAvailableJobs(
+              TYPE, request.getPartitionId() == partitionWithJobs ? 100 : 0);
+          return activateJobsStub.handle(request);
+        });
+    final ServerStreamObserver<ActivateJobsResponse> responseObserver =
+        spy(ServerStreamObserver.class);
+
+    // when
+    activateJobs(8, responseObserver);
+
+    // then
+    verify(responseObserver, timeout(5000)).onCompleted();
+    final var responses = ArgumentCaptor.forClass(ActivateJobsResponse.class);
+    verify(responseObserver, atLeastOnce()).onNext(responses.capture());
+    assertThat(responses.getAllValues())
+        .flatExtracting(ActivateJobsResponse::getJobsList)
+        .hasSize(8);
+  }
+
+  @Test
+  public void shouldActivateOnPartitionsWithRecentJobsFirst() {
+    // given
+    final int partitionWithJobs = 5;
+    brokerClient.registerHandler(
+        BrokerActivateJobsRequest.class,
+        (final BrokerActivateJobsRequest request) -> {
+          activateJobsStub.addAvailableJobs(
+              TYPE, request.getPartitionId() == partitionWithJobs ? 1 : 0);
+          return activateJobsStub.handle(request);
+        });
+
+    final ServerStreamObserver<ActivateJobsResponse> firstObserver =
+        spy(ServerStreamObserver.class);
+    activateJobs(1, firstObserver);
+    verify(firstObserver, timeout(5000)).onCompleted();
+    brokerClient.getBrokerRequests().clear();
+
+    // when
+    final ServerStreamObserver<ActivateJobsResponse> secondObserver =
+        spy(ServerStreamObserver.class);
+    activateJobs(1, secondObserver);
+
+    // then
+    verify(secondObserver, timeout(5000)).onCompleted();
+    assertThat(getActivateJobsRequests())
+        .extracting(BrokerActivateJobsRequest::getPartitionId)
+        .containsExactly(partitionWithJobs);
+  }
+
+  @Test
+  public void shouldFailOnRejection() {
+    // given
+    brokerClient.registerHandler(
+        BrokerActivateJobsRequest.class,
+        (final BrokerActivateJobsRequest request) ->
+            new BrokerRejectionResponse<>(
+                new BrokerRejection(
+                    Intent.UNKNOWN, 1, RejectionType.INVALID_ARGUMENT, "expected")));
+    final ServerStreamObserver<ActivateJobsResponse> responseObserver =
+        spy(ServerStreamObserver.class);
+
+    // when
+    activateJobs(8, responseObserver);
+
+    // then
+    verify(responseObserver, timeout(5000)).onError(any(BrokerRejectionException.class));
+    verify(responseObserver, never()).onCompleted();
+  }
+
+  private void activateJobs(
+      final int maxJobsToActivate,
+      final ServerStreamObserver<ActivateJobsResponse> responseObserver) {
+    final var request =
+        RequestMapper.toActivateJobsRequest(
+            ActivateJobsRequest.newBuilder()
+                .setType(TYPE)
+                .setMaxJobsToActivate(maxJobsToActivate)
+                .build());
+    handler.activateJobs(request, responseObserver, cancelHandler -> {}, 0);
+  }
+
+  private List<BrokerActivateJobsRequest> getActivateJobsRequests() {
+    return brokerClient.getBrokerRequests().stream()
+        .filter(BrokerActivateJobsRequest.class::isInstance)
+        .map(BrokerActivateJobsRequest.class::cast)
+        .toList();
+  }
+
+  private void submitActorToActivateJobs(
+      final RoundRobinActivateJobsHandler<ActivateJobsResponse> handler) {
+    final var future = new CompletableFuture<>();
+    final var actor =
+        Actor.newActor()
+            .name("FanOutHandler-Test")
+            .actorStartedHandler(handler.andThen(future::complete))
+            .build();
+    actorSchedulerRule.submitActor(actor);
+    future.join();
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.interceptors.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.camunda.zeebe.gateway.impl.configuration.FairQueuingCfg;
+import io.camunda.zeebe.gateway.impl.flowcontrol.FairQueuingLimiter;
+import io.camunda.zeebe.gateway.interceptors.InterceptorUtil;
+import io.camunda.zeebe.gateway.metrics.FairQueuingMetrics;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+final class FairQueuingInterceptorTest {
+
+  private final FairQueuingCfg cfg =
+      new FairQueuingCfg().setInitialLimit(1).setMinLimit(1).setMaxLimit(10).setMaxQueueSize(0);
+  private final FairQueuingLimiter limiter =
+      new FairQueuingLimiter(cfg, new FairQueuingMetrics("test"));
+  private final FairQueuingInterceptor interceptor = new FairQueuingInterceptor(limiter);
+
+  @Test
+  void shouldReleasePermitOnClose() {
+    // given
+    final var call = new CapturingServerCall(MethodType.UNARY);
+    final AtomicReference<ServerCall<Object, Object>> startedCall = new AtomicReference<>();
+    interceptor.interceptCall(
+        call,
+        new Metadata(),
+        (next, headers) -> {
+          startedCall.set(next);
+          return null;
+        });
+
+    // when
+    startedCall.get().close(Status.OK, new Metadata());
+
+    // then
+    assertThat(limiter.getInFlight()).isZero();
+    assertThat(limiter.getLimit()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldDecreaseLimitIfCallIsRejectedDueToBackpressure() {
+    // given
+    limiter.acquire("warm-up").join().release(FairQueuingLimiter.Outcome.SUCCESS);
+    final var call = new CapturingServerCall(MethodType.UNARY);
+    final AtomicReference<ServerCall<Object, Object>> startedCall = new AtomicReference<>();
+    interceptor.interceptCall(
+        call,
+        new Metadata(),
+        (next, headers) -> {
+          startedCall.set(next);
+          return null;
+        });
+
+    // when
+    startedCall.get().close(Status.RESOURCE_EXHAUSTED, new Metadata());
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectCallIfQueueIsFull() {
+    // given
+    limiter.acquire("unknown").join();
+    final var call = new CapturingServerCall(MethodType.UNARY);
+
+    // when
+    interceptor.interceptCall(call, new Metadata(), failingNextHandler());
+
+    // then
+    assertThat(call.closeStatus.get().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+  }
+
+  @Test
+  void shouldQueueCallsByAuthorizedTenants() {
+    // given
+    limiter.acquire("unknown").join();
+    final var call = new CapturingServerCall(MethodType.UNARY);
+
+    // when
+    InterceptorUtil.setAuthorizedTenants(List.of("tenant-a", "tenant-b"))
+        .run(() -> interceptor.interceptCall(call, new Metadata(), failingNextHandler()));
+
+    // then
+    assertThat(call.closeStatus.get().getDescription()).contains("'tenant-a,tenant-b'");
+  }
+
+  @Test
+  void shouldNotLimitStreamingCalls() {
+    // given
+    limiter.acquire("unknown").join();
+    final var call = new CapturingServerCall(MethodType.SERVER_STREAMING);
+    final AtomicReference<ServerCall<Object, Object>> startedCall = new AtomicReference<>();
+
+    // when
+    interceptor.interceptCall(
+        call,
+        new Metadata(),
+        (next, headers) -> {
+          startedCall.set(next);
+          return null;
+        });
+
+    // then
+    assertThat(startedCall).hasValue(call);
+    assertThat(call.closeStatus).hasNullValue();
+  }
+
+  private static ServerCallHandler<Object, Object> failingNextHandler() {
+    return (call, headers) -> {
+      throw new AssertionError("Expected the call to be rejected, but it was started");
+    };
+  }
+
+  private static final class CapturingServerCall extends NoopServerCall<Object, Object> {
+    private final AtomicReference<Status> closeStatus = new AtomicReference<>();
+    private final MethodDescriptor<Object, Object> methodDescriptor;
+
+    @SuppressWarnings("unchecked")
+    private CapturingServerCall(final MethodType type) {
+      methodDescriptor =
+          MethodDescriptor.newBuilder(mock(Marshaller.class), mock(Marshaller.class))
+              .setType(type)
+              .setFullMethodName("gateway_protocol.Gateway/Test")
+              .build();
+    }
+
+    @Override
+    public void close(final Status status, final Metadata trailers) {
+      closeStatus.set(status);
+    }
+
+    @Override
+    public MethodDescriptor<Object, Object> getMethodDescriptor() {
+      return methodDescriptor;
+    }
+  }
+}
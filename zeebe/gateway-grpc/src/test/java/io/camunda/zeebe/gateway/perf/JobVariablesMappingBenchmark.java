@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.perf;
+
+import com.google.protobuf.ByteString;
+import io.camunda.zeebe.gateway.RequestMapper;
+import io.camunda.zeebe.gateway.ResponseMapper;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the gateway CPU time spent on the variables of a single job, when activating and
+ * completing it with JSON variables compared to MessagePack variables, for payloads from 1KB to
+ * 1MB.
+ *
+ * <p>Run it with the JMH runner, e.g. {@code org.openjdk.jmh.Main JobVariablesMappingBenchmark}.
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JobVariablesMappingBenchmark {
+
+  @Param({"1024", "65536", "1048576"})
+  public int payloadSize;
+
+  @Param({"false", "true"})
+  public boolean msgPackVariables;
+
+  private ActivatedJobImpl brokerJob;
+  private CompleteJobRequest completeJobRequest;
+
+  @Setup
+  public void setup() {
+    final String json = createVariables(payloadSize);
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack(json);
+
+    final JobRecord job =
+        new JobRecord()
+            .setType("benchmark")
+            .setWorker("worker")
+            .setVariables(new UnsafeBuffer(msgPack));
+    brokerJob = new ActivatedJobImpl().setJobKey(1L).setRecord(job);
+
+    final CompleteJobRequest.Builder builder = CompleteJobRequest.newBuilder().setJobKey(1L);
+    if (msgPackVariables) {
+      builder.setVariablesMsgPack(ByteString.copyFrom(msgPack));
+    } else {
+      builder.setVariables(json);
+    }
+    completeJobRequest = builder.build();
+  }
+
+  @Benchmark
+  public ActivatedJob measureActivatedJobMapping() {
+    return ResponseMapper.toActivatedJob(brokerJob, msgPackVariables);
+  }
+
+  @Benchmark
+  public BrokerCompleteJobRequest measureCompleteJobMapping() {
+    return RequestMapper.toCompleteJobRequest(completeJobRequest);
+  }
+
+  /** Creates a flat JSON document of string variables with roughly the given size. */
+  private static String createVariables(final int size) {
+    final StringBuilder json = new StringBuilder("{");
+    final String value = "x".repeat(100);
+    for (int i = 0; json.length() < size; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("\"var").append(i).append("\":\"").append(value).append('"');
+    }
+    return json.append('}').toString();
+  }
+}
@@ -10,10 +10,12 @@ package io.camunda.zeebe.gateway.rest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobActivationRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobErrorRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobUpdateRequest;
+import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobsCompletionRequest;
 import static io.camunda.zeebe.gateway.rest.validator.UserTaskRequestValidator.validateAssignmentRequest;
 import static io.camunda.zeebe.gateway.rest.validator.UserTaskRequestValidator.validateUpdateRequest;
 
 import io.camunda.service.JobServices.ActivateJobsRequest;
+import io.camunda.service.JobServices.CompleteJobRequest;
 import io.camunda.service.security.auth.Authentication;
 import io.camunda.service.security.auth.Authentication.Builder;
 import io.camunda.zeebe.auth.api.JwtAuthorizationBuilder;
@@ -24,6 +26,8 @@ import io.camunda.zeebe.gateway.protocol.rest.JobCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobFailRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobUpdateRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobsCompletionItem;
+import io.camunda.zeebe.gateway.protocol.rest.JobsCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.UserTaskAssignmentRequest;
 import io.camunda.zeebe.gateway.protocol.rest.UserTaskCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.UserTaskUpdateRequest;
@@ -132,6 +136,19 @@ public class RequestMapper {
         jobKey, getMapOrEmpty(completionRequest, JobCompletionRequest::getVariables));
   }
 
+  public static Either<ProblemDetail, List<CompleteJobRequest>> toJobsCompletionRequest(
+      final JobsCompletionRequest completionRequest) {
+    return getResult(
+        validateJobsCompletionRequest(completionRequest),
+        () ->
+            completionRequest.getJobs().stream()
+                .map(
+                    job ->
+                        new CompleteJobRequest(
+                            job.getJobKey(), getMapOrEmpty(job, JobsCompletionItem::getVariables)))
+                .toList());
+  }
+
   public static Either<ProblemDetail, UpdateJobRequest> toJobUpdateRequest(
       final JobUpdateRequest updateRequest, final long jobKey) {
     final var validationJobUpdateResponse = validateJobUpdateRequest(updateRequest);
@@ -246,7 +263,5 @@ public class RequestMapper {
   public record ErrorJobRequest(
       long jobKey, String errorCode, String errorMessage, Map<String, Object> variables) {}
 
-  public record CompleteJobRequest(long jobKey, Map<String, Object> variables) {}
-
   public record UpdateJobRequest(long jobKey, Integer retries, Long timeout) {}
 }
@@ -12,6 +12,8 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResult;
 import io.camunda.zeebe.gateway.protocol.rest.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
+import io.camunda.zeebe.gateway.protocol.rest.JobCompletionResult;
+import io.camunda.zeebe.gateway.protocol.rest.ProblemDetail;
 import io.camunda.zeebe.msgpack.value.LongValue;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import java.util.Collections;
@@ -56,6 +58,22 @@ public final class ResponseMapper {
         .tenantId(job.getTenantId());
   }
 
+  public static JobCompletionResult toJobCompletionResult(
+      final long jobKey, final Throwable error) {
+    final JobCompletionResult result = new JobCompletionResult().jobKey(jobKey);
+    RestErrorMapper.getProblem(error, RestErrorMapper.DEFAULT_REJECTION_MAPPER)
+        .ifPresent(
+            problem ->
+                result.problem(
+                    new ProblemDetail()
+                        .type(problem.getType())
+                        .title(problem.getTitle())
+                        .status(problem.getStatus())
+                        .detail(problem.getDetail())
+                        .instance(problem.getInstance())));
+    return result;
+  }
+
   static class RestJobActivationResult implements JobActivationResult<JobActivationResponse> {
 
     private final JobActivationResponse response;
@@ -54,11 +54,15 @@ public class RestErrorMapper {
 
   public static <T> Optional<ResponseEntity<T>> getResponse(
       final Throwable error, final Function<BrokerRejection, ProblemDetail> rejectionMapper) {
+    return getProblem(error, rejectionMapper).map(RestErrorMapper::mapProblemToResponse);
+  }
+
+  public static Optional<ProblemDetail> getProblem(
+      final Throwable error, final Function<BrokerRejection, ProblemDetail> rejectionMapper) {
     return Optional.ofNullable(error)
         .map(e -> mapErrorToProblem(e, rejectionMapper))
         .or(() -> mapBrokerErrorToProblem(error))
-        .or(() -> mapRejectionToProblem(error, rejectionMapper))
-        .map(RestErrorMapper::mapProblemToResponse);
+        .or(() -> mapRejectionToProblem(error, rejectionMapper));
   }
 
   public static ProblemDetail mapErrorToProblem(
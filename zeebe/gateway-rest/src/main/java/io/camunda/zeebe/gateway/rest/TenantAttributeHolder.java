@@ -10,6 +10,7 @@ package io.camunda.zeebe.gateway.rest;
 import static io.camunda.zeebe.protocol.record.value.TenantOwned.DEFAULT_TENANT_IDENTIFIER;
 import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
 
+import jakarta.servlet.ServletRequest;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.web.context.request.RequestAttributes;
@@ -25,6 +26,18 @@ public final class TenantAttributeHolder {
     return getTenantsOrDefaultTenant(requestAttributes);
   }
 
+  /**
+   * Returns the tenant ids which were injected on authentication, without relying on the request
+   * context; useful in servlet filters. Empty if the tenants are unknown, e.g. if authentication is
+   * disabled.
+   */
+  public static Optional<List<String>> tenantIds(final ServletRequest request) {
+    return request.getAttribute(ATTRIBUTE_KEY) instanceof final Optional<?> tenants
+            && tenants.orElse(null) instanceof final List<?> ids
+        ? Optional.of(ids.stream().map(String.class::cast).toList())
+        : Optional.empty();
+  }
+
   public static void withTenantIds(final List<String> tenantIds) {
     final var requestAttributes = getCurrentRequestAttributes();
     final var tenantsOptional = Optional.ofNullable(tenantIds);
@@ -9,18 +9,22 @@ package io.camunda.zeebe.gateway.rest.controller;
 
 import io.camunda.service.JobServices;
 import io.camunda.service.JobServices.ActivateJobsRequest;
+import io.camunda.service.JobServices.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
 import io.camunda.zeebe.gateway.protocol.rest.JobCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobFailRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobUpdateRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobsCompletionRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobsCompletionResponse;
 import io.camunda.zeebe.gateway.rest.RequestMapper;
-import io.camunda.zeebe.gateway.rest.RequestMapper.CompleteJobRequest;
 import io.camunda.zeebe.gateway.rest.RequestMapper.ErrorJobRequest;
 import io.camunda.zeebe.gateway.rest.RequestMapper.FailJobRequest;
 import io.camunda.zeebe.gateway.rest.RequestMapper.UpdateJobRequest;
+import io.camunda.zeebe.gateway.rest.ResponseMapper;
 import io.camunda.zeebe.gateway.rest.RestErrorMapper;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
@@ -86,6 +90,16 @@ public class JobController {
     return completeJob(RequestMapper.toJobCompletionRequest(completionRequest, jobKey));
   }
 
+  @PostMapping(
+      path = "/completion",
+      produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE},
+      consumes = MediaType.APPLICATION_JSON_VALUE)
+  public CompletableFuture<ResponseEntity<Object>> completeJobs(
+      @RequestBody final JobsCompletionRequest completionRequest) {
+    return RequestMapper.toJobsCompletionRequest(completionRequest)
+        .fold(this::completeJobs, RestErrorMapper::mapProblemToCompletedResponse);
+  }
+
   @PatchMapping(
       path = "/{jobKey}",
       produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE},
@@ -144,6 +158,15 @@ public class JobController {
                 .completeJob(completeJobRequest.jobKey(), completeJobRequest.variables()));
   }
 
+  private CompletableFuture<ResponseEntity<Object>> completeJobs(
+      final List<CompleteJobRequest> completeJobRequests) {
+    return jobServices
+        .withAuthentication(RequestMapper.getAuthentication())
+        .completeJobs(completeJobRequests, ResponseMapper::toJobCompletionResult)
+        .<ResponseEntity<Object>>thenApply(
+            results -> ResponseEntity.ok(new JobsCompletionResponse().results(results)));
+  }
+
   private CompletableFuture<ResponseEntity<Object>> updateJob(
       final UpdateJobRequest updateJobRequest) {
     return RequestMapper.executeServiceMethodWithNoContentResult(
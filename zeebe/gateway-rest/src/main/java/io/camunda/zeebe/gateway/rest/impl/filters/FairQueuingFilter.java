@@ -0,0 +1,254 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.rest.impl.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.gateway.impl.flowcontrol.FairQueuingLimiter;
+import io.camunda.zeebe.gateway.impl.flowcontrol.FairQueuingLimiter.Outcome;
+import io.camunda.zeebe.gateway.impl.flowcontrol.FairQueuingLimiter.Permit;
+import io.camunda.zeebe.gateway.rest.RestErrorMapper;
+import io.camunda.zeebe.gateway.rest.TenantAttributeHolder;
+import io.camunda.zeebe.protocol.record.ErrorCode;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Queues REST requests fairly per tenant, or per client if the tenants of the caller are unknown,
+ * by means of a {@link FairQueuingLimiter}. If too many requests of the same key are queued
+ * already, the request is rejected with {@code 429 Too Many Requests}.
+ *
+ * <p>Queued requests don't block a request thread: the request is put into asynchronous mode, and
+ * dispatched again once its permit is granted. The filter must therefore be registered for the
+ * {@code ASYNC} dispatcher type as well; on that dispatch, it continues the filter chain with the
+ * granted permit.
+ *
+ * <p>Job activations are long polling requests, which are held open for a long time, and are
+ * therefore not limited.
+ *
+ * <p>The filter is expected to run after the authentication, which injects the authorized tenants
+ * of the caller. It must only be registered for the {@link #URL_PATTERNS} of the REST API, so that
+ * e.g. the actuator endpoints and the web applications are never queued.
+ */
+public final class FairQueuingFilter extends OncePerRequestFilter {
+  /** The paths of the REST API, including the endpoints which are still available on v1. */
+  public static final String[] URL_PATTERNS = {"/v2/*", "/v1/topology", "/v1/user-tasks/*"};
+
+  private static final String JOB_ACTIVATION_PATH = "/jobs/activation";
+  private static final String PERMIT_ATTRIBUTE = FairQueuingFilter.class.getName() + ".PERMIT";
+  private static final String QUEUE_FULL_DETAIL =
+      "Expected to queue request, but too many requests of the same tenant or client are queued"
+          + " already";
+
+  private final FairQueuingLimiter limiter;
+  private final ObjectMapper objectMapper;
+
+  public FairQueuingFilter(final FairQueuingLimiter limiter, final ObjectMapper objectMapper) {
+    this.limiter = limiter;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(final HttpServletRequest request) {
+    return request.getRequestURI().endsWith(JOB_ACTIVATION_PATH);
+  }
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    // queued requests are continued by an async dispatch
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      final HttpServletRequest request,
+      final HttpServletResponse response,
+      final FilterChain filterChain)
+      throws ServletException, IOException {
+    if (isAsyncDispatch(request)) {
+      final var permit = (Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+      if (permit == null) {
+        // e.g. the dispatch of an asynchronously produced result, which holds its permit already
+        filterChain.doFilter(request, response);
+        return;
+      }
+
+      request.removeAttribute(PERMIT_ATTRIBUTE);
+      doFilterWithPermit(request, response, filterChain, permit);
+      return;
+    }
+
+    final var permitFuture = limiter.acquire(keyOf(request));
+    if (!permitFuture.isDone()) {
+      queue(request, response, permitFuture);
+      return;
+    }
+
+    final Permit permit;
+    try {
+      permit = permitFuture.join();
+    } catch (final CompletionException e) {
+      reject(request, response);
+      return;
+    }
+    doFilterWithPermit(request, response, filterChain, permit);
+  }
+
+  private void doFilterWithPermit(
+      final HttpServletRequest request,
+      final HttpServletResponse response,
+      final FilterChain filterChain,
+      final Permit permit)
+      throws ServletException, IOException {
+    var released = true;
+    try {
+      filterChain.doFilter(request, response);
+      if (request.isAsyncStarted()) {
+        // the response is written later, e.g. once the broker replied
+        request.getAsyncContext().addListener(new PermitReleasingListener(permit, response));
+        released = false;
+      }
+    } finally {
+      if (released) {
+        permit.release(outcomeOf(response.getStatus()));
+      }
+    }
+  }
+
+  /**
+   * Frees the request thread while the request waits for its permit, and dispatches the request
+   * again once the permit is granted. Queued requests are only ever completed with a permit, or
+   * cancelled.
+   */
+  private void queue(
+      final HttpServletRequest request,
+      final HttpServletResponse response,
+      final CompletableFuture<Permit> permitFuture) {
+    final var asyncContext = request.startAsync(request, response);
+    asyncContext.addListener(new QueuedRequestListener(request, response, permitFuture));
+    permitFuture.thenAccept(permit -> dispatch(asyncContext, request, permit));
+  }
+
+  private void dispatch(
+      final AsyncContext asyncContext, final HttpServletRequest request, final Permit permit) {
+    request.setAttribute(PERMIT_ATTRIBUTE, permit);
+    try {
+      asyncContext.dispatch();
+    } catch (final IllegalStateException e) {
+      // the request completed in the meantime, e.g. as it timed out
+      request.removeAttribute(PERMIT_ATTRIBUTE);
+      permit.release(Outcome.IGNORED);
+    }
+  }
+
+  private String keyOf(final HttpServletRequest request) {
+    return TenantAttributeHolder.tenantIds(request)
+        .filter(tenants -> !tenants.isEmpty())
+        .map(tenants -> String.join(",", tenants))
+        .orElseGet(request::getRemoteAddr);
+  }
+
+  private void reject(final HttpServletRequest request, final HttpServletResponse response)
+      throws IOException {
+    final var problem =
+        RestErrorMapper.createProblemDetail(
+            HttpStatus.TOO_MANY_REQUESTS, QUEUE_FULL_DETAIL, ErrorCode.RESOURCE_EXHAUSTED.name());
+    problem.setInstance(URI.create(request.getRequestURI()));
+
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    response.getWriter().write(objectMapper.writeValueAsString(problem));
+  }
+
+  private static Outcome outcomeOf(final int status) {
+    if (status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+      return Outcome.DROPPED;
+    }
+    return status < HttpStatus.BAD_REQUEST.value() ? Outcome.SUCCESS : Outcome.IGNORED;
+  }
+
+  /**
+   * Stops waiting for a permit if the queued request times out or fails, e.g. because the client
+   * went away. A timed out request is rejected like a request which could not be queued.
+   */
+  private final class QueuedRequestListener implements AsyncListener {
+    private final HttpServletRequest request;
+    private final HttpServletResponse response;
+    private final CompletableFuture<Permit> permitFuture;
+
+    private QueuedRequestListener(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final CompletableFuture<Permit> permitFuture) {
+      this.request = request;
+      this.response = response;
+      this.permitFuture = permitFuture;
+    }
+
+    @Override
+    public void onComplete(final AsyncEvent event) {
+      permitFuture.cancel(false);
+    }
+
+    @Override
+    public void onTimeout(final AsyncEvent event) throws IOException {
+      if (permitFuture.cancel(false)) {
+        reject(request, response);
+        event.getAsyncContext().complete();
+      }
+    }
+
+    @Override
+    public void onError(final AsyncEvent event) {
+      permitFuture.cancel(false);
+    }
+
+    @Override
+    public void onStartAsync(final AsyncEvent event) {
+      // the request was dispatched with its permit, which is released by the next filter run
+    }
+  }
+
+  private record PermitReleasingListener(Permit permit, HttpServletResponse response)
+      implements AsyncListener {
+
+    @Override
+    public void onComplete(final AsyncEvent event) {
+      permit.release(outcomeOf(response.getStatus()));
+    }
+
+    @Override
+    public void onTimeout(final AsyncEvent event) {
+      permit.release(Outcome.IGNORED);
+    }
+
+    @Override
+    public void onError(final AsyncEvent event) {
+      permit.release(Outcome.IGNORED);
+    }
+
+    @Override
+    public void onStartAsync(final AsyncEvent event) {
+      // keep listening, in case the request is dispatched asynchronously once more
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
@@ -10,12 +10,15 @@ package io.camunda.zeebe.gateway.rest.validator;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_AT_LEAST_ONE_FIELD;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_EMPTY_ATTRIBUTE;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_INVALID_ATTRIBUTE_VALUE;
+import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_TOO_MANY_ITEMS;
 import static io.camunda.zeebe.gateway.rest.validator.RequestValidator.createProblemDetail;
 
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobChangeset;
 import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobUpdateRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobsCompletionItem;
+import io.camunda.zeebe.gateway.protocol.rest.JobsCompletionRequest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +26,8 @@ import org.springframework.http.ProblemDetail;
 
 public final class JobRequestValidator {
 
+  public static final int MAX_JOBS_TO_COMPLETE = 1000;
+
   public static Optional<ProblemDetail> validateJobActivationRequest(
       final JobActivationRequest activationRequest) {
     final List<String> violations = new ArrayList<>();
@@ -56,6 +61,24 @@ public final class JobRequestValidator {
     return createProblemDetail(violations);
   }
 
+  public static Optional<ProblemDetail> validateJobsCompletionRequest(
+      final JobsCompletionRequest completionRequest) {
+    final List<String> violations = new ArrayList<>();
+    final List<JobsCompletionItem> jobs = completionRequest.getJobs();
+    if (jobs == null) {
+      violations.add(ERROR_MESSAGE_EMPTY_ATTRIBUTE.formatted("jobs"));
+    } else {
+      if (jobs.size() > MAX_JOBS_TO_COMPLETE) {
+        violations.add(
+            ERROR_MESSAGE_TOO_MANY_ITEMS.formatted("jobs", jobs.size(), MAX_JOBS_TO_COMPLETE));
+      }
+      if (jobs.stream().anyMatch(job -> job.getJobKey() == null)) {
+        violations.add(ERROR_MESSAGE_EMPTY_ATTRIBUTE.formatted("jobKey"));
+      }
+    }
+    return createProblemDetail(violations);
+  }
+
   public static Optional<ProblemDetail> validateJobUpdateRequest(
       final JobUpdateRequest updateRequest) {
     final List<String> violations = new ArrayList<>();
@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.filters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.impl.configuration.FairQueuingCfg;
+import io.camunda.zeebe.gateway.impl.flowcontrol.FairQueuingLimiter;
+import io.camunda.zeebe.gateway.impl.flowcontrol.FairQueuingLimiter.Outcome;
+import io.camunda.zeebe.gateway.metrics.FairQueuingMetrics;
+import io.camunda.zeebe.gateway.rest.impl.filters.FairQueuingFilter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FairQueuingFilterTest {
+
+  private final FairQueuingCfg cfg =
+      new FairQueuingCfg().setInitialLimit(1).setMinLimit(1).setMaxLimit(10).setMaxQueueSize(1);
+  private final FairQueuingLimiter limiter =
+      new FairQueuingLimiter(cfg, new FairQueuingMetrics("test"));
+  private final FairQueuingFilter filter =
+      new FairQueuingFilter(limiter, Jackson2ObjectMapperBuilder.json().build());
+  private final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v2/test");
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  @Test
+  void shouldReleasePermitAfterRequest() throws Exception {
+    // when
+    filter.doFilter(request, response, (req, res) -> ((HttpServletResponse) res).setStatus(204));
+
+    // then
+    assertThat(limiter.getInFlight()).isZero();
+    assertThat(limiter.getLimit()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReleasePermitOnceAsyncRequestCompletes() throws Exception {
+    // given
+    request.setAsyncSupported(true);
+    filter.doFilter(request, response, (req, res) -> req.startAsync());
+    assertThat(limiter.getInFlight()).isOne();
+
+    // when
+    response.setStatus(HttpServletResponse.SC_TOO_MANY_REQUESTS);
+    request.getAsyncContext().complete();
+
+    // then
+    assertThat(limiter.getInFlight()).isZero();
+    assertThat(limiter.getLimit()).isOne();
+  }
+
+  @Test
+  void shouldQueueRequestWithoutBlocking() throws Exception {
+    // given
+    limiter.acquire(request.getRemoteAddr()).join();
+    final var chainInvoked = new AtomicBoolean();
+    request.setAsyncSupported(true);
+
+    // when
+    filter.doFilter(request, response, markInvoked(chainInvoked));
+
+    // then
+    assertThat(request.isAsyncStarted()).isTrue();
+    assertThat(chainInvoked).isFalse();
+    assertThat(limiter.getQueued(request.getRemoteAddr())).isOne();
+  }
+
+  @Test
+  void shouldContinueQueuedRequestOnceGranted() throws Exception {
+    // given
+    final var permit = limiter.acquire(request.getRemoteAddr()).join();
+    final var chainInvoked = new AtomicBoolean();
+    request.setAsyncSupported(true);
+    filter.doFilter(request, response, markInvoked(chainInvoked));
+
+    // when
+    permit.release(Outcome.IGNORED);
+
+    // then - the request is dispatched again, and continued with the granted permit
+    final var asyncContext = (MockAsyncContext) request.getAsyncContext();
+    assertThat(asyncContext.getDispatchedPath()).isEqualTo("/v2/test");
+    assertThat(limiter.getInFlight()).isOne();
+
+    request.setAsyncStarted(false);
+    request.setDispatcherType(DispatcherType.ASYNC);
+    filter.doFilter(request, response, markInvoked(chainInvoked));
+    assertThat(chainInvoked).isTrue();
+    assertThat(limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  void shouldRejectQueuedRequestOnTimeout() throws Exception {
+    // given
+    limiter.acquire(request.getRemoteAddr()).join();
+    request.setAsyncSupported(true);
+    filter.doFilter(request, response, markInvoked(new AtomicBoolean()));
+    final var asyncContext = (MockAsyncContext) request.getAsyncContext();
+
+    // when
+    for (final var listener : asyncContext.getListeners()) {
+      listener.onTimeout(new AsyncEvent(asyncContext, request, response));
+    }
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_TOO_MANY_REQUESTS);
+    assertThat(limiter.getQueued(request.getRemoteAddr())).isZero();
+    assertThat(limiter.getInFlight()).isOne();
+  }
+
+  @Test
+  void shouldRejectRequestIfQueueIsFull() throws Exception {
+    // given
+    limiter.acquire(request.getRemoteAddr()).join();
+    limiter.acquire(request.getRemoteAddr());
+    final var chainInvoked = new AtomicBoolean();
+
+    // when
+    filter.doFilter(request, response, markInvoked(chainInvoked));
+
+    // then
+    assertThat(chainInvoked).isFalse();
+    assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_TOO_MANY_REQUESTS);
+    assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    assertThat(response.getContentAsString())
+        .contains("\"title\":\"RESOURCE_EXHAUSTED\"")
+        .contains("\"instance\":\"/v2/test\"");
+  }
+
+  @Test
+  void shouldNotLimitJobActivation() throws Exception {
+    // given
+    limiter.acquire(request.getRemoteAddr()).join();
+    request.setRequestURI("/v2/jobs/activation");
+    final var chainInvoked = new AtomicBoolean();
+
+    // when
+    filter.doFilter(request, response, markInvoked(chainInvoked));
+
+    // then
+    assertThat(chainInvoked).isTrue();
+  }
+
+  private static FilterChain markInvoked(final AtomicBoolean invoked) {
+    return (req, res) -> invoked.set(true);
+  }
+}
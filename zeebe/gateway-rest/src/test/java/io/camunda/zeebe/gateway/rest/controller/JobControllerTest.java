@@ -11,15 +11,25 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import io.camunda.service.CamundaServiceException;
 import io.camunda.service.JobServices;
+import io.camunda.service.JobServices.CompleteJobRequest;
 import io.camunda.service.security.auth.Authentication;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
 import io.camunda.zeebe.gateway.rest.RestControllerTest;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.LongFunction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -338,6 +348,141 @@ public class JobControllerTest extends RestControllerTest {
     Mockito.verify(jobServices).completeJob(1L, Map.of("foo", "bar"));
   }
 
+  @Test
+  void shouldCompleteJobs() {
+    // given
+    final var rejection =
+        new CamundaServiceException(
+            new BrokerRejection(JobIntent.COMPLETE, 2L, RejectionType.NOT_FOUND, "Job not found"));
+    mockCompleteJobs(jobKey -> jobKey == 2L ? new CompletionException(rejection) : null);
+
+    final var request =
+        """
+        {
+          "jobs": [
+            {
+              "jobKey": 1,
+              "variables": {
+                "foo": "bar"
+              }
+            },
+            {
+              "jobKey": 2
+            }
+          ]
+        }""";
+    final var expectedBody =
+        """
+        {
+          "results": [
+            {
+              "jobKey": 1
+            },
+            {
+              "jobKey": 2,
+              "problem": {
+                "type": "about:blank",
+                "status": 404,
+                "title": "NOT_FOUND",
+                "detail": "Command 'COMPLETE' rejected with code 'NOT_FOUND': Job not found"
+              }
+            }
+          ]
+        }""";
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_BASE_URL + "/completion")
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json(expectedBody, true);
+
+    Mockito.verify(jobServices)
+        .completeJobs(
+            eq(
+                List.of(
+                    new CompleteJobRequest(1L, Map.of("foo", "bar")),
+                    new CompleteJobRequest(2L, Map.of()))),
+            any());
+  }
+
+  @Test
+  void shouldCompleteNoJobs() {
+    // given
+    mockCompleteJobs(jobKey -> null);
+
+    final var request =
+        """
+        {
+          "jobs": []
+        }""";
+
+    // when/then - like the gRPC API, an empty batch is not an error
+    webClient
+        .post()
+        .uri(JOBS_BASE_URL + "/completion")
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json(
+            """
+            {
+              "results": []
+            }""",
+            true);
+  }
+
+  @Test
+  void shouldRejectCompleteJobsWithoutJobKey() {
+    // given
+    final var request =
+        """
+        {
+          "jobs": [
+            {
+              "variables": {}
+            }
+          ]
+        }""";
+    final var expectedBody =
+        """
+        {
+          "type": "about:blank",
+          "status": 400,
+          "title": "INVALID_ARGUMENT",
+          "detail": "No jobKey provided.",
+          "instance": "%s"
+        }"""
+            .formatted(JOBS_BASE_URL + "/completion");
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_BASE_URL + "/completion")
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectHeader()
+        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .expectBody()
+        .json(expectedBody);
+
+    Mockito.verify(jobServices, Mockito.never()).completeJobs(any(), any());
+  }
+
   @Test
   void shouldUpdateJob() {
     // given
@@ -523,4 +668,20 @@ public class JobControllerTest extends RestControllerTest {
         .expectBody()
         .json(expectedBody);
   }
+
+  private void mockCompleteJobs(final LongFunction<Throwable> errorByJobKey) {
+    when(jobServices.completeJobs(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final List<CompleteJobRequest> requests = invocation.getArgument(0);
+              final BiFunction<Long, Throwable, ?> resultMapper = invocation.getArgument(1);
+              return CompletableFuture.completedFuture(
+                  requests.stream()
+                      .map(
+                          request ->
+                              resultMapper.apply(
+                                  request.jobKey(), errorByJobKey.apply(request.jobKey())))
+                      .toList());
+            });
+  }
 }
@@ -10,6 +10,8 @@ package io.camunda.zeebe.gateway;
 import static org.agrona.LangUtil.rethrowUnchecked;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgpackException;
 import io.camunda.zeebe.msgpack.value.DocumentValue;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import org.agrona.DirectBuffer;
@@ -45,4 +47,29 @@ public class RequestUtil {
       }
     }
   }
+
+  /**
+   * Passes the given MessagePack document on as is, instead of converting it from JSON. The
+   * document is only scanned once to make sure it is well-formed.
+   *
+   * @throws IllegalArgumentException if the value is not a MessagePack document
+   */
+  public static DirectBuffer ensureMsgPackSet(final byte[] value) {
+    final var buffer = new UnsafeBuffer(value);
+    final var reader = new MsgPackReader().wrap(buffer, 0, buffer.capacity());
+    try {
+      reader.skipValue();
+    } catch (final MsgpackException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Invalid MessagePack document: " + e.getMessage(), e);
+    }
+    if (reader.getOffset() != buffer.capacity()) {
+      throw new IllegalArgumentException(
+          "Invalid MessagePack document: expected a single value of %d bytes, but it ended at %d"
+              .formatted(buffer.capacity(), reader.getOffset()));
+    }
+
+    final DocumentValue document = new DocumentValue();
+    document.wrap(buffer, 0, buffer.capacity());
+    return document.getValue();
+  }
 }
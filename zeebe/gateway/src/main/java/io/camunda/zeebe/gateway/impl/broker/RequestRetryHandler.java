@@ -39,16 +39,15 @@ import org.slf4j.LoggerFactory;
 public final class RequestRetryHandler {
   private static final Logger LOGGER = LoggerFactory.getLogger(RequestRetryHandler.class);
 
-  private final RequestDispatchStrategy roundRobinDispatchStrategy =
-      RequestDispatchStrategy.roundRobin();
-
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
+  private final RequestDispatchStrategy dispatchStrategy;
 
   public RequestRetryHandler(
       final BrokerClient brokerClient, final BrokerTopologyManager topologyManager) {
     this.brokerClient = brokerClient;
     this.topologyManager = topologyManager;
+    dispatchStrategy = brokerClient.getDispatchStrategy();
   }
 
   public <BrokerResponseT> void sendRequest(
@@ -151,7 +150,7 @@ public final class RequestRetryHandler {
   }
 
   private PartitionIdIterator partitionIdIteratorForType(final int partitionsCount) {
-    final int nextPartitionId = roundRobinDispatchStrategy.determinePartition(topologyManager);
+    final int nextPartitionId = dispatchStrategy.determinePartition(topologyManager);
     return new PartitionIdIterator(nextPartitionId, partitionsCount, topologyManager);
   }
 }
@@ -20,6 +20,8 @@ import org.agrona.DirectBuffer;
 public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBatchRecord> {
 
   private final JobBatchRecord requestDto = new JobBatchRecord();
+  // not sent to the broker, only affects how the gateway maps the activated jobs
+  private boolean msgPackVariables;
 
   public BrokerActivateJobsRequest(final String jobType) {
     super(ValueType.JOB_BATCH, JobBatchIntent.ACTIVATE);
@@ -55,6 +57,27 @@ public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBat
     return this;
   }
 
+  public boolean isMsgPackVariables() {
+    return msgPackVariables;
+  }
+
+  public BrokerActivateJobsRequest setMsgPackVariables(final boolean msgPackVariables) {
+    this.msgPackVariables = msgPackVariables;
+    return this;
+  }
+
+  /**
+   * Creates a copy of this request, including its authorization, which can be sent to another
+   * partition concurrently with this request.
+   */
+  public BrokerActivateJobsRequest copy() {
+    final var copy = new BrokerActivateJobsRequest(requestDto.getType());
+    copy.requestDto.wrap(BufferUtil.createCopy(requestDto));
+    copy.msgPackVariables = msgPackVariables;
+    copy.request.setAuthorization(request.getAuthorization());
+    return copy;
+  }
+
   @Override
   public JobBatchRecord getRequestWriter() {
     return requestDto;
@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import org.springframework.util.unit.DataSize;
 
 public final class ClusterCfg {
 
@@ -42,6 +43,9 @@ public final class ClusterCfg {
   private MembershipCfg membership = new MembershipCfg();
   private SecurityCfg security = new SecurityCfg();
   private CompressionAlgorithm messageCompression = CompressionAlgorithm.NONE;
+  private boolean messageCoalescing = false;
+  private DataSize messageCoalescingBudget = DataSize.ofKilobytes(64);
+  private boolean loadAwareDispatch = false;
 
   public String getMemberId() {
     return memberId;
@@ -99,7 +103,9 @@ public final class ClusterCfg {
   @Deprecated(since = "8.1.0", forRemoval = true)
   public ClusterCfg setContactPoint(final String contactPoint) {
     GATEWAY_CFG_LOGGER.warn(
-        "Configuring deprecated property 'contactPoint', will use 'initialContactPoints'. Please consider to migrate to 'initialContactPoints' property, which allows to set a list of contact points.");
+        "Configuring deprecated property 'contactPoint', will use 'initialContactPoints'. Please"
+            + " consider to migrate to 'initialContactPoints' property, which allows to set a list"
+            + " of contact points.");
     setInitialContactPoints(Collections.singletonList(contactPoint));
     return this;
   }
@@ -147,6 +153,30 @@ public final class ClusterCfg {
     messageCompression = compressionAlgorithm;
   }
 
+  public boolean isMessageCoalescing() {
+    return messageCoalescing;
+  }
+
+  public void setMessageCoalescing(final boolean messageCoalescing) {
+    this.messageCoalescing = messageCoalescing;
+  }
+
+  public DataSize getMessageCoalescingBudget() {
+    return messageCoalescingBudget;
+  }
+
+  public void setMessageCoalescingBudget(final DataSize messageCoalescingBudget) {
+    this.messageCoalescingBudget = messageCoalescingBudget;
+  }
+
+  public boolean isLoadAwareDispatch() {
+    return loadAwareDispatch;
+  }
+
+  public void setLoadAwareDispatch(final boolean loadAwareDispatch) {
+    this.loadAwareDispatch = loadAwareDispatch;
+  }
+
   public List<String> getInitialContactPoints() {
     return initialContactPoints;
   }
@@ -167,7 +197,10 @@ public final class ClusterCfg {
         port,
         membership,
         security,
-        messageCompression);
+        messageCompression,
+        messageCoalescing,
+        messageCoalescingBudget,
+        loadAwareDispatch);
   }
 
   @Override
@@ -187,7 +220,10 @@ public final class ClusterCfg {
         && Objects.equals(host, that.host)
         && Objects.equals(membership, that.membership)
         && Objects.equals(security, that.security)
-        && Objects.equals(messageCompression, that.messageCompression);
+        && Objects.equals(messageCompression, that.messageCompression)
+        && messageCoalescing == that.messageCoalescing
+        && Objects.equals(messageCoalescingBudget, that.messageCoalescingBudget)
+        && loadAwareDispatch == that.loadAwareDispatch;
   }
 
   @Override
@@ -214,6 +250,12 @@ public final class ClusterCfg {
         + security
         + ", messageCompression="
         + messageCompression
+        + ", messageCoalescing="
+        + messageCoalescing
+        + ", messageCoalescingBudget="
+        + messageCoalescingBudget
+        + ", loadAwareDispatch="
+        + loadAwareDispatch
         + '}';
   }
 }
@@ -23,6 +23,12 @@ public final class ConfigurationDefaults {
   public static final boolean DEFAULT_LONG_POLLING_ENABLED = true;
   public static final long DEFAULT_LONG_POLLING_TIMEOUT = 10_000;
   public static final int DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD = 3;
+  public static final int DEFAULT_LONG_POLLING_PARTITION_FAN_OUT = 1;
+  public static final boolean DEFAULT_FAIR_QUEUING_ENABLED = false;
+  public static final int DEFAULT_FAIR_QUEUING_INITIAL_LIMIT = 100;
+  public static final int DEFAULT_FAIR_QUEUING_MIN_LIMIT = 10;
+  public static final int DEFAULT_FAIR_QUEUING_MAX_LIMIT = 1000;
+  public static final int DEFAULT_FAIR_QUEUING_MAX_QUEUE_SIZE = 100;
   public static final boolean DEFAULT_TLS_ENABLED = false;
   public static final long DEFAULT_PROBE_TIMEOUT = 10_000; // 10 seconds
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public final class FairQueuingCfg {
+
+  private boolean enabled = ConfigurationDefaults.DEFAULT_FAIR_QUEUING_ENABLED;
+  private int initialLimit = ConfigurationDefaults.DEFAULT_FAIR_QUEUING_INITIAL_LIMIT;
+  private int minLimit = ConfigurationDefaults.DEFAULT_FAIR_QUEUING_MIN_LIMIT;
+  private int maxLimit = ConfigurationDefaults.DEFAULT_FAIR_QUEUING_MAX_LIMIT;
+  private int maxQueueSize = ConfigurationDefaults.DEFAULT_FAIR_QUEUING_MAX_QUEUE_SIZE;
+  private Map<String, Integer> weights = new HashMap<>();
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public FairQueuingCfg setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+    return this;
+  }
+
+  public int getInitialLimit() {
+    return initialLimit;
+  }
+
+  public FairQueuingCfg setInitialLimit(final int initialLimit) {
+    this.initialLimit = initialLimit;
+    return this;
+  }
+
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  public FairQueuingCfg setMinLimit(final int minLimit) {
+    this.minLimit = minLimit;
+    return this;
+  }
+
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  public FairQueuingCfg setMaxLimit(final int maxLimit) {
+    this.maxLimit = maxLimit;
+    return this;
+  }
+
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  public FairQueuingCfg setMaxQueueSize(final int maxQueueSize) {
+    this.maxQueueSize = maxQueueSize;
+    return this;
+  }
+
+  public Map<String, Integer> getWeights() {
+    return weights;
+  }
+
+  public FairQueuingCfg setWeights(final Map<String, Integer> weights) {
+    this.weights = weights;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(enabled, initialLimit, minLimit, maxLimit, maxQueueSize, weights);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final FairQueuingCfg that = (FairQueuingCfg) o;
+    return enabled == that.enabled
+        && initialLimit == that.initialLimit
+        && minLimit == that.minLimit
+        && maxLimit == that.maxLimit
+        && maxQueueSize == that.maxQueueSize
+        && Objects.equals(weights, that.weights);
+  }
+
+  @Override
+  public String toString() {
+    return "FairQueuingCfg{"
+        + "enabled="
+        + enabled
+        + ", initialLimit="
+        + initialLimit
+        + ", minLimit="
+        + minLimit
+        + ", maxLimit="
+        + maxLimit
+        + ", maxQueueSize="
+        + maxQueueSize
+        + ", weights="
+        + weights
+        + '}';
+  }
+}
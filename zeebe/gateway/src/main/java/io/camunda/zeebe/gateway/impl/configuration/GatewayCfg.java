@@ -18,6 +18,7 @@ public class GatewayCfg {
   private ThreadsCfg threads = new ThreadsCfg();
   private SecurityCfg security = new SecurityCfg();
   private LongPollingCfg longPolling = new LongPollingCfg();
+  private FairQueuingCfg fairQueuing = new FairQueuingCfg();
   private List<InterceptorCfg> interceptors = new ArrayList<>();
   private List<FilterCfg> filters = new ArrayList<>();
   private MultiTenancyCfg multiTenancy = new MultiTenancyCfg();
@@ -75,6 +76,15 @@ public class GatewayCfg {
     return this;
   }
 
+  public FairQueuingCfg getFairQueuing() {
+    return fairQueuing;
+  }
+
+  public GatewayCfg setFairQueuing(final FairQueuingCfg fairQueuing) {
+    this.fairQueuing = fairQueuing;
+    return this;
+  }
+
   public List<InterceptorCfg> getInterceptors() {
     return interceptors;
   }
@@ -102,7 +112,7 @@ public class GatewayCfg {
   @Override
   public int hashCode() {
     return Objects.hash(
-        network, cluster, threads, security, longPolling, interceptors, multiTenancy);
+        network, cluster, threads, security, longPolling, fairQueuing, interceptors, multiTenancy);
   }
 
   @Override
@@ -119,6 +129,7 @@ public class GatewayCfg {
         && Objects.equals(threads, that.threads)
         && Objects.equals(security, that.security)
         && Objects.equals(longPolling, that.longPolling)
+        && Objects.equals(fairQueuing, that.fairQueuing)
         && Objects.equals(interceptors, that.interceptors)
         && Objects.equals(multiTenancy, that.multiTenancy);
   }
@@ -136,6 +147,8 @@ public class GatewayCfg {
         + security
         + ", longPolling="
         + longPolling
+        + ", fairQueuing="
+        + fairQueuing
         + ", interceptors="
         + interceptors
         + ", multiTenancy="
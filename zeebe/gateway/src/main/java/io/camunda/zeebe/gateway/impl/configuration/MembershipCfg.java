@@ -21,6 +21,9 @@ public final class MembershipCfg {
   private static final int DEFAULT_SUSPECT_PROBES = 3;
   private static final Duration DEFAULT_FAILURE_TIMEOUT = Duration.ofMillis(10_000);
   private static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(10_000);
+  private static final boolean DEFAULT_PIGGYBACK_UPDATES = false;
+  private static final int DEFAULT_MAX_PIGGYBACK_UPDATES = 8;
+  private static final int DEFAULT_RETRANSMIT_MULTIPLIER = 4;
 
   private boolean broadcastUpdates = DEFAULT_BROADCAST_UPDATES;
   private boolean broadcastDisputes = DEFAULT_BROADCAST_DISPUTES;
@@ -32,6 +35,9 @@ public final class MembershipCfg {
   private int suspectProbes = DEFAULT_SUSPECT_PROBES;
   private Duration failureTimeout = DEFAULT_FAILURE_TIMEOUT;
   private Duration syncInterval = DEFAULT_SYNC_INTERVAL;
+  private boolean piggybackUpdates = DEFAULT_PIGGYBACK_UPDATES;
+  private int maxPiggybackUpdates = DEFAULT_MAX_PIGGYBACK_UPDATES;
+  private int retransmitMultiplier = DEFAULT_RETRANSMIT_MULTIPLIER;
 
   public boolean isBroadcastUpdates() {
     return broadcastUpdates;
@@ -123,6 +129,33 @@ public final class MembershipCfg {
     return this;
   }
 
+  public boolean isPiggybackUpdates() {
+    return piggybackUpdates;
+  }
+
+  public MembershipCfg setPiggybackUpdates(final boolean piggybackUpdates) {
+    this.piggybackUpdates = piggybackUpdates;
+    return this;
+  }
+
+  public int getMaxPiggybackUpdates() {
+    return maxPiggybackUpdates;
+  }
+
+  public MembershipCfg setMaxPiggybackUpdates(final int maxPiggybackUpdates) {
+    this.maxPiggybackUpdates = maxPiggybackUpdates;
+    return this;
+  }
+
+  public int getRetransmitMultiplier() {
+    return retransmitMultiplier;
+  }
+
+  public MembershipCfg setRetransmitMultiplier(final int retransmitMultiplier) {
+    this.retransmitMultiplier = retransmitMultiplier;
+    return this;
+  }
+
   @Override
   public int hashCode() {
     int result = (broadcastUpdates ? 1 : 0);
@@ -135,6 +168,9 @@ public final class MembershipCfg {
     result = 31 * result + suspectProbes;
     result = 31 * result + (failureTimeout != null ? failureTimeout.hashCode() : 0);
     result = 31 * result + (syncInterval != null ? syncInterval.hashCode() : 0);
+    result = 31 * result + (piggybackUpdates ? 1 : 0);
+    result = 31 * result + maxPiggybackUpdates;
+    result = 31 * result + retransmitMultiplier;
     return result;
   }
 
@@ -164,6 +200,15 @@ public final class MembershipCfg {
     if (suspectProbes != that.suspectProbes) {
       return false;
     }
+    if (piggybackUpdates != that.piggybackUpdates) {
+      return false;
+    }
+    if (maxPiggybackUpdates != that.maxPiggybackUpdates) {
+      return false;
+    }
+    if (retransmitMultiplier != that.retransmitMultiplier) {
+      return false;
+    }
     if (gossipInterval != null
         ? !gossipInterval.equals(that.gossipInterval)
         : that.gossipInterval != null) {
@@ -212,6 +257,12 @@ public final class MembershipCfg {
         + failureTimeout
         + ", syncInterval="
         + syncInterval
+        + ", piggybackUpdates="
+        + piggybackUpdates
+        + ", maxPiggybackUpdates="
+        + maxPiggybackUpdates
+        + ", retransmitMultiplier="
+        + retransmitMultiplier
         + '}';
   }
 }
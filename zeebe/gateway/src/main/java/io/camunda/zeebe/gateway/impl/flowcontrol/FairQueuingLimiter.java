@@ -0,0 +1,227 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.flowcontrol;
+
+import io.camunda.zeebe.gateway.impl.configuration.FairQueuingCfg;
+import io.camunda.zeebe.gateway.metrics.FairQueuingMetrics;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the number of requests which the gateway processes concurrently, and queues the requests
+ * above the limit fairly between keys, e.g. tenants or clients. A single busy key can then only
+ * delay its own requests, instead of the requests of every other key.
+ *
+ * <p>The limit adapts to the load which the brokers can take: it grows by one with every limit of
+ * successful requests, and shrinks by {@link #BACKOFF_RATIO} whenever a broker rejects a request
+ * due to backpressure (additive increase, multiplicative decrease).
+ *
+ * <p>Queued requests are granted by start-time fair queuing: every queued request is tagged with
+ * the virtual time at which it would start, if each key received its weighted share, and the
+ * request with the lowest tag is granted first. A key with a weight of 2 is therefore granted twice
+ * as many requests as a key with a weight of 1, while both are queued. Each key can queue up to
+ * {@link FairQueuingCfg#getMaxQueueSize()} requests, further requests are rejected right away.
+ */
+public final class FairQueuingLimiter {
+
+  static final double BACKOFF_RATIO = 0.9;
+  private static final int DEFAULT_WEIGHT = 1;
+
+  private final double minLimit;
+  private final double maxLimit;
+  private final int maxQueueSize;
+  private final Map<String, Integer> weights;
+  private final FairQueuingMetrics metrics;
+  private final LongSupplier nanoClock;
+
+  private final PriorityQueue<QueuedRequest> queue =
+      new PriorityQueue<>(
+          Comparator.comparingDouble(QueuedRequest::startTag)
+              .thenComparingLong(QueuedRequest::sequence));
+  private final Map<String, KeyState> keys = new HashMap<>();
+  private double limit;
+  private int inFlight;
+  private double virtualTime;
+  private long sequence;
+
+  public FairQueuingLimiter(final FairQueuingCfg cfg, final FairQueuingMetrics metrics) {
+    this(cfg, metrics, System::nanoTime);
+  }
+
+  FairQueuingLimiter(
+      final FairQueuingCfg cfg, final FairQueuingMetrics metrics, final LongSupplier nanoClock) {
+    minLimit = Math.max(1, cfg.getMinLimit());
+    maxLimit = Math.max(minLimit, cfg.getMaxLimit());
+    maxQueueSize = cfg.getMaxQueueSize();
+    weights = Map.copyOf(cfg.getWeights());
+    this.metrics = metrics;
+    this.nanoClock = nanoClock;
+    limit = Math.min(maxLimit, Math.max(minLimit, cfg.getInitialLimit()));
+    metrics.setLimit(getLimit());
+  }
+
+  /**
+   * Acquires a permit to process a request of the given key. The returned future is completed as
+   * soon as the request may be processed, and the permit must then be released once the request is
+   * done. If the key has already queued too many requests, the future is completed exceptionally
+   * with a {@link QueueFullException}.
+   *
+   * <p>A caller which isn't interested in the permit anymore, e.g. because the request was
+   * cancelled, can cancel the future; if it was granted concurrently, the permit is released.
+   */
+  public CompletableFuture<Permit> acquire(final String key) {
+    final QueuedRequest request;
+    synchronized (this) {
+      if (queue.isEmpty() && inFlight < limit) {
+        inFlight++;
+        metrics.setInFlight(inFlight);
+        metrics.granted();
+        return CompletableFuture.completedFuture(new Permit());
+      }
+
+      if (getQueued(key) >= maxQueueSize) {
+        metrics.rejected();
+        return CompletableFuture.failedFuture(new QueueFullException(key));
+      }
+
+      final var state = keys.computeIfAbsent(key, k -> new KeyState());
+      final double startTag = Math.max(virtualTime, state.finishTag);
+      state.finishTag = startTag + 1.0 / Math.max(1, weights.getOrDefault(key, DEFAULT_WEIGHT));
+      state.queued++;
+      request =
+          new QueuedRequest(
+              key, startTag, sequence++, nanoClock.getAsLong(), new CompletableFuture<>());
+      queue.add(request);
+      metrics.queued();
+      metrics.setQueued(queue.size());
+    }
+
+    request.future.whenComplete(
+        (permit, error) -> {
+          if (permit == null) {
+            onCancelled(request);
+          }
+        });
+    return request.future;
+  }
+
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  public synchronized int getQueued(final String key) {
+    final var state = keys.get(key);
+    return state == null ? 0 : state.queued;
+  }
+
+  private void onCancelled(final QueuedRequest request) {
+    synchronized (this) {
+      if (queue.remove(request)) {
+        onDequeued(request.key);
+      }
+    }
+  }
+
+  private void onReleased(final Outcome outcome) {
+    final var granted = new ArrayList<QueuedRequest>();
+    synchronized (this) {
+      inFlight--;
+      switch (outcome) {
+        case SUCCESS -> limit = Math.min(maxLimit, limit + 1 / limit);
+        case DROPPED -> limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        default -> {}
+      }
+
+      while (inFlight < limit && !queue.isEmpty()) {
+        final var request = queue.poll();
+        virtualTime = request.startTag;
+        onDequeued(request.key);
+        inFlight++;
+        granted.add(request);
+      }
+
+      metrics.setLimit(getLimit());
+      metrics.setInFlight(inFlight);
+    }
+
+    // complete outside the lock, as the callers continue processing the request right away
+    final long now = nanoClock.getAsLong();
+    for (final var request : granted) {
+      final var permit = new Permit();
+      if (request.future.complete(permit)) {
+        metrics.granted();
+        metrics.observeWaitTime(now - request.queuedAt);
+      } else {
+        permit.release(Outcome.IGNORED);
+      }
+    }
+  }
+
+  private void onDequeued(final String key) {
+    final var state = keys.get(key);
+    state.queued--;
+    metrics.setQueued(queue.size());
+    if (state.queued == 0) {
+      keys.remove(key);
+    }
+  }
+
+  /** The outcome of a request, which adapts the limit. */
+  public enum Outcome {
+    /** The request was processed, which increases the limit. */
+    SUCCESS,
+    /** The request was rejected due to backpressure, which decreases the limit. */
+    DROPPED,
+    /** The request failed for other reasons, e.g. it was invalid; the limit stays as it is. */
+    IGNORED
+  }
+
+  /** Permits processing a single request; releasing it more than once has no effect. */
+  public final class Permit {
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Permit() {}
+
+    public void release(final Outcome outcome) {
+      if (released.compareAndSet(false, true)) {
+        onReleased(outcome);
+      }
+    }
+  }
+
+  /** Signals that a request was rejected, as its key has already queued too many requests. */
+  public static final class QueueFullException extends RuntimeException {
+    public QueueFullException(final String key) {
+      super(
+          "Expected to queue request of '%s', but too many requests are queued already"
+              .formatted(key));
+    }
+  }
+
+  private static final class KeyState {
+    private int queued;
+    private double finishTag;
+  }
+
+  private record QueuedRequest(
+      String key,
+      double startTag,
+      long sequence,
+      long queuedAt,
+      CompletableFuture<Permit> future) {}
+}
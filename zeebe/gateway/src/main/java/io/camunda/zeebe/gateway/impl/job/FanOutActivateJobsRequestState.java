@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * Tracks an activate jobs request which is sent to multiple partitions at the same time. The jobs
+ * left to activate are split between the in-flight partition requests, such that no more jobs than
+ * requested are activated in total.
+ */
+final class FanOutActivateJobsRequestState {
+
+  private final Deque<Integer> partitions;
+  private final int maxInflightRequests;
+  // the jobs which are neither activated nor requested by an in-flight partition request
+  private int unassignedAmount;
+  private int inflightRequests;
+  private boolean resourceExhaustedWasPresent;
+  private boolean closed;
+
+  FanOutActivateJobsRequestState(
+      final Collection<Integer> partitions,
+      final int maxInflightRequests,
+      final int remainingAmount) {
+    this.partitions = new ArrayDeque<>(partitions);
+    this.maxInflightRequests = maxInflightRequests;
+    unassignedAmount = remainingAmount;
+  }
+
+  boolean shouldActivateJobs() {
+    return !closed
+        && unassignedAmount > 0
+        && !partitions.isEmpty()
+        && inflightRequests < maxInflightRequests;
+  }
+
+  /**
+   * Assigns a share of the jobs left to activate to the next partition request. Must only be called
+   * if {@link #shouldActivateJobs()} returns true.
+   *
+   * @return the number of jobs to activate on the next partition
+   */
+  int assignNextAmount() {
+    final var requestsToSend = Math.min(maxInflightRequests - inflightRequests, partitions.size());
+    final var amount = Math.ceilDiv(unassignedAmount, requestsToSend);
+    unassignedAmount -= amount;
+    inflightRequests++;
+    return amount;
+  }
+
+  int nextPartition() {
+    return partitions.poll();
+  }
+
+  /**
+   * A partition which activated all jobs assigned to it, or whose response was truncated, may have
+   * more jobs available, and is asked again before any other partition.
+   *
+   * @param truncated whether the partition's response was truncated
+   */
+  void onPartitionActivated(
+      final int partitionId,
+      final int assignedAmount,
+      final int activatedAmount,
+      final boolean truncated) {
+    inflightRequests--;
+    unassignedAmount += assignedAmount - activatedAmount;
+    if (truncated || activatedAmount >= assignedAmount) {
+      partitions.addFirst(partitionId);
+    }
+  }
+
+  void onPartitionFailed(final int assignedAmount, final boolean wasResourceExhausted) {
+    inflightRequests--;
+    unassignedAmount += assignedAmount;
+    resourceExhaustedWasPresent |= wasResourceExhausted;
+  }
+
+  boolean isCompleted() {
+    return inflightRequests == 0 && !shouldActivateJobs();
+  }
+
+  boolean isClosed() {
+    return closed;
+  }
+
+  /** Stops activating jobs, e.g. because the request was rejected or canceled. */
+  void close() {
+    closed = true;
+  }
+
+  int getRemainingAmount() {
+    return unassignedAmount;
+  }
+
+  boolean wasResourceExhaustedPresent() {
+    return resourceExhaustedWasPresent;
+  }
+}
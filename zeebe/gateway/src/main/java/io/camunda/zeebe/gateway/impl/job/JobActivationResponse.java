@@ -9,5 +9,15 @@ package io.camunda.zeebe.gateway.impl.job;
 
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 
+/**
+ * @param msgPackVariables whether the job variables should be passed on as MessagePack, instead of
+ *     being converted to JSON
+ */
 public record JobActivationResponse(
-    long key, JobBatchRecord brokerResponse, long maxResponseSize) {}
+    long key, JobBatchRecord brokerResponse, long maxResponseSize, boolean msgPackVariables) {
+
+  public JobActivationResponse(
+      final long key, final JobBatchRecord brokerResponse, final long maxResponseSize) {
+    this(key, brokerResponse, maxResponseSize, false);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Completes the jobs of a batch in request order, with a bounded number of jobs in flight at the
+ * same time, as the whole batch holds only a single request permit of the gateway. Every finished
+ * job completes the next one, on the thread which finished it, so that the number of jobs in flight
+ * stays the same.
+ *
+ * @param <T> the result of a single job
+ */
+public final class JobsCompletion<T> {
+
+  /** The number of jobs of one batch, per partition, which are completed at the same time. */
+  public static final int MAX_IN_FLIGHT_JOBS_PER_PARTITION = 4;
+
+  private final List<? extends Supplier<? extends CompletionStage<T>>> jobs;
+  private final Object[] results;
+  private final AtomicInteger nextJob = new AtomicInteger();
+  private final AtomicInteger remainingJobs;
+  private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+
+  private JobsCompletion(final List<? extends Supplier<? extends CompletionStage<T>>> jobs) {
+    this.jobs = jobs;
+    results = new Object[jobs.size()];
+    remainingJobs = new AtomicInteger(jobs.size());
+  }
+
+  /**
+   * @param jobs completes a job each; the returned stage holds the result of the job, also if the
+   *     job was not completed
+   * @param topology the current topology of the cluster, which bounds the number of jobs in flight
+   * @return the results of the jobs, in the order of the given jobs
+   */
+  public static <T> CompletableFuture<List<T>> completeJobs(
+      final List<? extends Supplier<? extends CompletionStage<T>>> jobs,
+      final BrokerClusterState topology) {
+    if (jobs.isEmpty()) {
+      return CompletableFuture.completedFuture(List.of());
+    }
+
+    final var completion = new JobsCompletion<T>(jobs);
+    final int maxInFlight = Math.min(jobs.size(), maxInFlightJobs(topology));
+    for (int i = 0; i < maxInFlight; i++) {
+      completion.completeNextJob();
+    }
+    return completion.result;
+  }
+
+  private static int maxInFlightJobs(final BrokerClusterState topology) {
+    final int partitionsCount = topology == null ? 0 : topology.getPartitionsCount();
+    return Math.max(1, partitionsCount) * MAX_IN_FLIGHT_JOBS_PER_PARTITION;
+  }
+
+  private void completeNextJob() {
+    int index;
+    while ((index = nextJob.getAndIncrement()) < results.length) {
+      final int jobIndex = index;
+      final CompletableFuture<T> job = jobs.get(jobIndex).get().toCompletableFuture();
+      if (job.isDone() && !job.isCompletedExceptionally()) {
+        // e.g. the job was rejected before it was sent, continue without growing the stack
+        onJobDone(jobIndex, job.join());
+        continue;
+      }
+
+      job.whenComplete(
+          (jobResult, error) -> {
+            if (error != null) {
+              result.completeExceptionally(error);
+              return;
+            }
+            onJobDone(jobIndex, jobResult);
+            completeNextJob();
+          });
+      return;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void onJobDone(final int index, final T jobResult) {
+    results[index] = jobResult;
+    if (remainingJobs.decrementAndGet() == 0) {
+      result.complete((List<T>) Arrays.asList(results));
+    }
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.gateway.impl.job;
 
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_PARTITION_FAN_OUT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_TIMEOUT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_PROBE_TIMEOUT;
 import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
@@ -62,11 +63,16 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       final int failedAttemptThreshold,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Exception> noJobsReceivedExceptionProvider,
-      final Function<String, Throwable> requestCanceledExceptionProvider) {
+      final Function<String, Throwable> requestCanceledExceptionProvider,
+      final int partitionFanOut) {
     this.brokerClient = brokerClient;
     activateJobsHandler =
         new RoundRobinActivateJobsHandler<>(
-            brokerClient, maxMessageSize, activationResultMapper, requestCanceledExceptionProvider);
+            brokerClient,
+            maxMessageSize,
+            activationResultMapper,
+            requestCanceledExceptionProvider,
+            partitionFanOut);
     this.noJobsReceivedExceptionProvider = noJobsReceivedExceptionProvider;
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
@@ -383,6 +389,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
     private Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
     private Function<String, Exception> noJobsReceivedExceptionProvider;
     private Function<String, Throwable> requestCanceledExceptionProvider;
+    private int partitionFanOut = DEFAULT_LONG_POLLING_PARTITION_FAN_OUT;
 
     public Builder<T> setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -427,6 +434,11 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       return this;
     }
 
+    public Builder<T> setPartitionFanOut(final int partitionFanOut) {
+      this.partitionFanOut = partitionFanOut;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler<T> build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
       return new LongPollingActivateJobsHandler<>(
@@ -437,7 +449,8 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
           minEmptyResponses,
           activationResultMapper,
           noJobsReceivedExceptionProvider,
-          requestCanceledExceptionProvider);
+          requestCanceledExceptionProvider,
+          partitionFanOut);
     }
   }
 }
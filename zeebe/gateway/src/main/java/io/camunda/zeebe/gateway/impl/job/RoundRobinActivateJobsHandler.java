@@ -22,8 +22,12 @@ import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.util.Either;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -32,6 +36,10 @@ import java.util.function.Function;
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
  * partition-IDs to determine the next partition to use.
+ *
+ * <p>With a partition fan-out greater than one, up to that many partitions are asked at the same
+ * time. The partitions which returned jobs of the requested type on the previous activations are
+ * asked first, the others follow in round-robin order.
  */
 public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandler<T> {
 
@@ -43,10 +51,13 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
 
   private final Map<String, RoundRobinDispatchStrategy> jobTypeToNextPartitionId =
       new ConcurrentHashMap<>();
+  // only accessed from the actor
+  private final Map<String, Set<Integer>> jobTypeToPartitionsWithJobs = new HashMap<>();
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final long maxMessageSize;
   private final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
+  private final int partitionFanOut;
 
   private ActorControl actor;
   private final Function<String, Throwable> requestCanceledExceptionProvider;
@@ -56,11 +67,28 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final long maxMessageSize,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Throwable> requestCanceledExceptionProvider) {
+    this(brokerClient, maxMessageSize, activationResultMapper, requestCanceledExceptionProvider, 1);
+  }
+
+  /**
+   * @param partitionFanOut the maximum number of partitions to activate jobs on at the same time
+   */
+  public RoundRobinActivateJobsHandler(
+      final BrokerClient brokerClient,
+      final long maxMessageSize,
+      final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
+      final Function<String, Throwable> requestCanceledExceptionProvider,
+      final int partitionFanOut) {
+    if (partitionFanOut < 1) {
+      throw new IllegalArgumentException(
+          "Expected partition fan-out to be at least 1, but was " + partitionFanOut);
+    }
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
     this.maxMessageSize = maxMessageSize;
     this.activationResultMapper = activationResultMapper;
     this.requestCanceledExceptionProvider = requestCanceledExceptionProvider;
+    this.partitionFanOut = partitionFanOut;
   }
 
   @Override
@@ -98,10 +126,21 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
     final var jobType = request.getType();
     final var maxJobsToActivate = request.getMaxJobsToActivate();
     final var partitionIterator = partitionIdIteratorForType(jobType, partitionsCount);
+    final var delegate = new ResponseObserverDelegate(onError, onCompleted);
+
+    if (partitionFanOut > 1) {
+      actor.run(
+          () -> {
+            final var partitions = orderByRecentJobs(jobType, partitionIterator);
+            final var requestState =
+                new FanOutActivateJobsRequestState(partitions, partitionFanOut, maxJobsToActivate);
+            activateJobsInParallel(request, requestState, delegate);
+          });
+      return;
+    }
 
     final var requestState =
         new InflightActivateJobsRequestState(partitionIterator, maxJobsToActivate);
-    final var delegate = new ResponseObserverDelegate(onError, onCompleted);
 
     activateJobs(request, requestState, delegate);
   }
@@ -159,40 +198,13 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
     actor.run(
         () -> {
           final var response = brokerResponse.getResponse();
-          final JobActivationResult<T> jobActivationResult =
-              activationResultMapper.apply(
-                  new JobActivationResponse(brokerResponse.getKey(), response, maxMessageSize));
-
-          final List<ActivatedJob> jobsToDefer = jobActivationResult.getJobsToDefer();
-          if (!jobsToDefer.isEmpty()) {
-            final var jobKeys = jobsToDefer.stream().map(ActivatedJob::key).toList();
-            final var jobType = request.getType();
-            final var reason = String.format(MAX_MESSAGE_SIZE_EXCEEDED_MSG, maxMessageSize);
-
-            logResponseNotSent(jobType, jobKeys, reason);
-            reactivateJobs(jobsToDefer, reason);
-          }
-
-          final T activateJobsResponse = jobActivationResult.getActivateJobsResponse();
-          final var jobsCount = jobActivationResult.getJobsCount();
-          final var jobsActivated = jobsCount > 0;
-          if (jobsActivated) {
-            final var result = request.tryToSendActivatedJobs(activateJobsResponse);
-            final var responseWasSent = result.getOrElse(false);
-
-            if (!responseWasSent) {
-              final var activatedJobsToReactivate = jobActivationResult.getJobs();
-              final var jobKeys = response.getJobKeys();
-              final var jobType = request.getType();
-              final var reason = createReasonMessage(result);
-
-              logResponseNotSent(jobType, jobKeys, reason);
-              reactivateJobs(activatedJobsToReactivate, reason);
-              cancelActivateJobsRequest(reason, delegate);
-              return;
-            }
+          final var sendResult = sendActivatedJobs(request, brokerResponse);
+          if (sendResult.isLeft()) {
+            cancelActivateJobsRequest(sendResult.getLeft(), delegate);
+            return;
           }
 
+          final var jobsCount = sendResult.get();
           final var remainingJobsToActivate = requestState.getRemainingAmount() - jobsCount;
           final var shouldPollCurrentPartitionAgain = response.getTruncated();
 
@@ -202,6 +214,192 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         });
   }
 
+  /**
+   * Maps the activated jobs to a response, and sends it to the client. Jobs which can't be sent are
+   * reactivated.
+   *
+   * @return the number of sent jobs, or the reason why they couldn't be sent, in which case the
+   *     request should be canceled
+   */
+  private Either<String, Integer> sendActivatedJobs(
+      final InflightActivateJobsRequest<T> request,
+      final BrokerResponse<JobBatchRecord> brokerResponse) {
+    final var response = brokerResponse.getResponse();
+    final JobActivationResult<T> jobActivationResult =
+        activationResultMapper.apply(
+            new JobActivationResponse(
+                brokerResponse.getKey(),
+                response,
+                maxMessageSize,
+                request.getRequest().isMsgPackVariables()));
+
+    final List<ActivatedJob> jobsToDefer = jobActivationResult.getJobsToDefer();
+    if (!jobsToDefer.isEmpty()) {
+      final var jobKeys = jobsToDefer.stream().map(ActivatedJob::key).toList();
+      final var jobType = request.getType();
+      final var reason = String.format(MAX_MESSAGE_SIZE_EXCEEDED_MSG, maxMessageSize);
+
+      logResponseNotSent(jobType, jobKeys, reason);
+      reactivateJobs(jobsToDefer, reason);
+    }
+
+    final T activateJobsResponse = jobActivationResult.getActivateJobsResponse();
+    final var jobsCount = jobActivationResult.getJobsCount();
+    final var jobsActivated = jobsCount > 0;
+    if (jobsActivated) {
+      final var result = request.tryToSendActivatedJobs(activateJobsResponse);
+      final var responseWasSent = result.getOrElse(false);
+
+      if (!responseWasSent) {
+        final var activatedJobsToReactivate = jobActivationResult.getJobs();
+        final var jobKeys = response.getJobKeys();
+        final var jobType = request.getType();
+        final var reason = createReasonMessage(result);
+
+        logResponseNotSent(jobType, jobKeys, reason);
+        reactivateJobs(activatedJobsToReactivate, reason);
+        return Either.left(reason);
+      }
+    }
+
+    return Either.right(jobsCount);
+  }
+
+  private void activateJobsInParallel(
+      final InflightActivateJobsRequest<T> request,
+      final FanOutActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate) {
+    if (requestState.isClosed()) {
+      return;
+    }
+
+    if (!request.isOpen()) {
+      requestState.close();
+      return;
+    }
+
+    while (requestState.shouldActivateJobs()) {
+      final var amount = requestState.assignNextAmount();
+      final var partitionId = requestState.nextPartition();
+      final var brokerRequest = request.getRequest().copy();
+      brokerRequest.setPartitionId(partitionId);
+      brokerRequest.setMaxJobsToActivate(amount);
+
+      brokerClient
+          .sendRequest(brokerRequest)
+          .whenComplete(
+              (brokerResponse, error) ->
+                  actor.run(
+                      () -> {
+                        if (error == null) {
+                          handlePartitionResponse(
+                              request, requestState, delegate, partitionId, amount, brokerResponse);
+                        } else {
+                          handlePartitionError(
+                              request, requestState, delegate, partitionId, amount, error);
+                        }
+                      }));
+    }
+
+    if (requestState.isCompleted()) {
+      // enough jobs activated or no more partitions left to check
+      requestState.close();
+      delegate.onCompleted(
+          requestState.getRemainingAmount(), requestState.wasResourceExhaustedPresent());
+    }
+  }
+
+  private void handlePartitionResponse(
+      final InflightActivateJobsRequest<T> request,
+      final FanOutActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate,
+      final int partitionId,
+      final int assignedAmount,
+      final BrokerResponse<JobBatchRecord> brokerResponse) {
+    final var response = brokerResponse.getResponse();
+    if (requestState.isClosed()) {
+      // the request was already rejected or canceled, nobody is waiting for these jobs
+      final var reason = "the request was already closed";
+      final var jobKeys = response.getJobKeys();
+      final var jobs = response.getJobs();
+      final var activatedJobs = new ArrayList<ActivatedJob>(jobKeys.size());
+      for (int i = 0; i < jobKeys.size(); i++) {
+        activatedJobs.add(new ActivatedJob(jobKeys.get(i), jobs.get(i).getRetries()));
+      }
+
+      logResponseNotSent(request.getType(), jobKeys, reason);
+      reactivateJobs(activatedJobs, reason);
+      return;
+    }
+
+    final var sendResult = sendActivatedJobs(request, brokerResponse);
+    if (sendResult.isLeft()) {
+      requestState.close();
+      cancelActivateJobsRequest(sendResult.getLeft(), delegate);
+      return;
+    }
+
+    final var jobsCount = sendResult.get();
+    final var partitionsWithJobs =
+        jobTypeToPartitionsWithJobs.computeIfAbsent(request.getType(), t -> new LinkedHashSet<>());
+    if (jobsCount > 0) {
+      partitionsWithJobs.add(partitionId);
+    } else {
+      partitionsWithJobs.remove(partitionId);
+    }
+
+    requestState.onPartitionActivated(
+        partitionId, assignedAmount, jobsCount, response.getTruncated());
+    activateJobsInParallel(request, requestState, delegate);
+  }
+
+  private void handlePartitionError(
+      final InflightActivateJobsRequest<T> request,
+      final FanOutActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate,
+      final int partitionId,
+      final int assignedAmount,
+      final Throwable error) {
+    if (requestState.isClosed()) {
+      return;
+    }
+
+    if (isRejection(error)) {
+      requestState.close();
+      delegate.onError(error);
+      return;
+    }
+
+    final var wasResourceExhausted = wasResourceExhausted(error);
+    if (!wasResourceExhausted) {
+      logErrorResponse(partitionId, request.getType(), error);
+    }
+
+    requestState.onPartitionFailed(assignedAmount, wasResourceExhausted);
+    activateJobsInParallel(request, requestState, delegate);
+  }
+
+  /**
+   * Returns the partitions of the iterator, where the partitions which returned jobs of the given
+   * type on the previous activations come first.
+   */
+  private List<Integer> orderByRecentJobs(
+      final String jobType, final PartitionIdIterator partitionIterator) {
+    final var partitionsWithJobs = jobTypeToPartitionsWithJobs.getOrDefault(jobType, Set.of());
+    final var partitions = new ArrayList<Integer>();
+    final var otherPartitions = new ArrayList<Integer>();
+    partitionIterator.forEachRemaining(
+        partitionId -> {
+          if (partitionsWithJobs.contains(partitionId)) {
+            partitions.add(partitionId);
+          } else {
+            otherPartitions.add(partitionId);
+          }
+        });
+    partitions.addAll(otherPartitions);
+    return partitions;
+  }
+
   private String createReasonMessage(final Either<Exception, Boolean> resultValue) {
     final String errorMessage;
     if (resultValue.isLeft()) {
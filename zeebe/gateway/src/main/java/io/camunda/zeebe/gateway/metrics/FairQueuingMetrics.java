@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+/**
+ * Metrics of the fair queuing of gateway requests. They are not labeled by the key of a request, as
+ * keys may be client addresses, of which there are arbitrarily many.
+ */
+public final class FairQueuingMetrics {
+
+  private static final Gauge LIMIT =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("gateway_fair_queuing_limit")
+          .help("Current adaptive limit of concurrently processed requests")
+          .labelNames("api")
+          .register();
+
+  private static final Gauge IN_FLIGHT =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("gateway_fair_queuing_inflight")
+          .help("Number of requests which are currently processed")
+          .labelNames("api")
+          .register();
+
+  private static final Gauge QUEUED =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("gateway_fair_queuing_queued")
+          .help("Number of requests which currently wait for a permit")
+          .labelNames("api")
+          .register();
+
+  private static final Counter REQUESTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_fair_queuing_requests_total")
+          .help("Number of requests by the outcome of acquiring a permit")
+          .labelNames("api", "result")
+          .register();
+
+  private static final Histogram WAIT_TIME =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("gateway_fair_queuing_wait_time")
+          .help("Time in seconds which requests waited for a permit")
+          .labelNames("api")
+          .register();
+
+  private final String api;
+
+  public FairQueuingMetrics(final String api) {
+    this.api = api;
+  }
+
+  public void setLimit(final int limit) {
+    LIMIT.labels(api).set(limit);
+  }
+
+  public void setInFlight(final int inFlight) {
+    IN_FLIGHT.labels(api).set(inFlight);
+  }
+
+  public void setQueued(final int queued) {
+    QUEUED.labels(api).set(queued);
+  }
+
+  public void granted() {
+    REQUESTS.labels(api, "granted").inc();
+  }
+
+  public void queued() {
+    REQUESTS.labels(api, "queued").inc();
+  }
+
+  public void rejected() {
+    REQUESTS.labels(api, "rejected").inc();
+  }
+
+  public void observeWaitTime(final long waitTimeNanos) {
+    WAIT_TIME.labels(api).observe(waitTimeNanos / 1e9);
+  }
+}
@@ -16,17 +16,19 @@ import io.camunda.zeebe.broker.client.api.BrokerResponseConsumer;
 import io.camunda.zeebe.broker.client.api.BrokerResponseException;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
 import io.camunda.zeebe.broker.client.api.IllegalBrokerResponseException;
+import io.camunda.zeebe.broker.client.api.RequestDispatchStrategy;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -37,7 +39,11 @@ public final class StubbedBrokerClient implements BrokerClient {
 
   private final Map<Class<?>, RequestHandler<?, ?>> requestHandlers = new HashMap<>();
 
-  private final List<BrokerRequest<?>> brokerRequests = new ArrayList<>();
+  private final List<BrokerRequest<?>> brokerRequests = new CopyOnWriteArrayList<>();
+
+  private Executor responseExecutor = Runnable::run;
+
+  private final RequestDispatchStrategy dispatchStrategy = RequestDispatchStrategy.roundRobin();
 
   public StubbedBrokerClient() {}
 
@@ -92,6 +98,13 @@ public final class StubbedBrokerClient implements BrokerClient {
       final BrokerResponseConsumer<T> responseConsumer,
       final Consumer<Throwable> throwableConsumer) {
     brokerRequests.add(request);
+    responseExecutor.execute(() -> respond(request, responseConsumer, throwableConsumer));
+  }
+
+  private <T> void respond(
+      final BrokerRequest<T> request,
+      final BrokerResponseConsumer<T> responseConsumer,
+      final Consumer<Throwable> throwableConsumer) {
     try {
       final RequestHandler requestHandler = requestHandlers.get(request.getClass());
       final BrokerResponse<T> response = requestHandler.handle(request);
@@ -120,6 +133,11 @@ public final class StubbedBrokerClient implements BrokerClient {
     return topologyManager;
   }
 
+  @Override
+  public RequestDispatchStrategy getDispatchStrategy() {
+    return dispatchStrategy;
+  }
+
   @Override
   public void subscribeJobAvailableNotification(
       final String topic, final Consumer<String> handler) {
@@ -132,6 +150,11 @@ public final class StubbedBrokerClient implements BrokerClient {
     requestHandlers.put(requestType, requestHandler);
   }
 
+  /** Invokes the response callbacks on the given executor instead of the calling thread. */
+  public void respondOn(final Executor executor) {
+    responseExecutor = executor;
+  }
+
   public void notifyJobsAvailable(final String type) {
     jobsAvailableHandler.accept(type);
   }
@@ -50,6 +50,11 @@ public final class GatewayCfgTest {
         .setPrivateKeyPath(new File("privateKeyPath"));
     CUSTOM_CFG.getThreads().setManagementThreads(100);
     CUSTOM_CFG.getLongPolling().setEnabled(false);
+    CUSTOM_CFG
+        .getFairQueuing()
+        .setEnabled(true)
+        .setMaxQueueSize(50)
+        .setWeights(Map.of("tenant-a", 2));
     CUSTOM_CFG.getMultiTenancy().setEnabled(true);
     CUSTOM_CFG.getInterceptors().add(new InterceptorCfg());
     CUSTOM_CFG.getInterceptors().get(0).setId("example");
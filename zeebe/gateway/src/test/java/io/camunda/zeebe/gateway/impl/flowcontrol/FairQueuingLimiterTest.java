@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.flowcontrol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.impl.configuration.FairQueuingCfg;
+import io.camunda.zeebe.gateway.impl.flowcontrol.FairQueuingLimiter.Outcome;
+import io.camunda.zeebe.gateway.impl.flowcontrol.FairQueuingLimiter.Permit;
+import io.camunda.zeebe.gateway.impl.flowcontrol.FairQueuingLimiter.QueueFullException;
+import io.camunda.zeebe.gateway.metrics.FairQueuingMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+
+public final class FairQueuingLimiterTest {
+
+  private final FairQueuingCfg cfg =
+      new FairQueuingCfg().setInitialLimit(1).setMinLimit(1).setMaxLimit(10).setMaxQueueSize(10);
+
+  @Test
+  public void shouldGrantRequestsUpToLimit() {
+    // given
+    final var limiter = createLimiter(cfg.setInitialLimit(2));
+
+    // when
+    final var first = limiter.acquire("a");
+    final var second = limiter.acquire("a");
+    final var third = limiter.acquire("a");
+
+    // then
+    assertThat(first).isCompleted();
+    assertThat(second).isCompleted();
+    assertThat(third).isNotDone();
+    assertThat(limiter.getQueued("a")).isOne();
+  }
+
+  @Test
+  public void shouldGrantQueuedRequestOnRelease() {
+    // given
+    final var limiter = createLimiter(cfg);
+    final var permit = limiter.acquire("a").join();
+    final var queued = limiter.acquire("a");
+
+    // when
+    permit.release(Outcome.IGNORED);
+
+    // then
+    assertThat(queued).isCompleted();
+    assertThat(limiter.getInFlight()).isOne();
+    assertThat(limiter.getQueued("a")).isZero();
+  }
+
+  @Test
+  public void shouldAlternateBetweenKeysWithEqualWeight() {
+    // given
+    final var limiter = createLimiter(cfg);
+    final var permit = limiter.acquire("busy").join();
+    final var granted = new ArrayList<String>();
+    for (int i = 0; i < 3; i++) {
+      track(limiter.acquire("busy"), "busy", granted);
+    }
+    track(limiter.acquire("other"), "other", granted);
+
+    // when
+    releaseAll(permit, granted, 4);
+
+    // then
+    assertThat(granted).containsExactly("busy", "other", "busy", "busy");
+  }
+
+  @Test
+  public void shouldGrantRequestsByWeight() {
+    // given
+    final var limiter = createLimiter(cfg.setWeights(Map.of("heavy", 2)));
+    final var permit = limiter.acquire("light").join();
+    final var granted = new ArrayList<String>();
+    for (int i = 0; i < 3; i++) {
+      track(limiter.acquire("light"), "light", granted);
+      track(limiter.acquire("heavy"), "heavy", granted);
+    }
+
+    // when
+    releaseAll(permit, granted, 6);
+
+    // then
+    assertThat(granted.subList(0, 3)).containsExactlyInAnyOrder("light", "heavy", "heavy");
+    assertThat(granted).containsOnly("light", "heavy").hasSize(6);
+  }
+
+  @Test
+  public void shouldRejectRequestIfQueueOfKeyIsFull() {
+    // given
+    final var limiter = createLimiter(cfg.setMaxQueueSize(1));
+    limiter.acquire("a");
+    limiter.acquire("a");
+
+    // when
+    final var rejected = limiter.acquire("a");
+    final var otherKey = limiter.acquire("b");
+
+    // then
+    assertThat(rejected).isCompletedExceptionally();
+    assertThat(rejected.exceptionNow()).isInstanceOf(QueueFullException.class);
+    assertThat(otherKey).isNotDone();
+  }
+
+  @Test
+  public void shouldRemoveCancelledRequestFromQueue() {
+    // given
+    final var limiter = createLimiter(cfg);
+    final var permit = limiter.acquire("a").join();
+    final var cancelled = limiter.acquire("a");
+    final var queued = limiter.acquire("b");
+
+    // when
+    cancelled.cancel(false);
+    permit.release(Outcome.IGNORED);
+
+    // then
+    assertThat(limiter.getQueued("a")).isZero();
+    assertThat(queued).isCompleted();
+    assertThat(limiter.getInFlight()).isOne();
+  }
+
+  @Test
+  public void shouldIncreaseLimitOnSuccess() {
+    // given
+    final var limiter = createLimiter(cfg);
+
+    // when
+    limiter.acquire("a").join().release(Outcome.SUCCESS);
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldDecreaseLimitOnBackpressure() {
+    // given
+    final var limiter = createLimiter(cfg.setInitialLimit(10));
+
+    // when
+    limiter.acquire("a").join().release(Outcome.DROPPED);
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(9);
+  }
+
+  @Test
+  public void shouldNotDecreaseLimitBelowMinimum() {
+    // given
+    final var limiter = createLimiter(cfg.setInitialLimit(2).setMinLimit(2));
+
+    // when
+    limiter.acquire("a").join().release(Outcome.DROPPED);
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldReleasePermitOnlyOnce() {
+    // given
+    final var limiter = createLimiter(cfg.setInitialLimit(2));
+    final var permit = limiter.acquire("a").join();
+    limiter.acquire("a");
+
+    // when
+    permit.release(Outcome.IGNORED);
+    permit.release(Outcome.IGNORED);
+
+    // then
+    assertThat(limiter.getInFlight()).isOne();
+  }
+
+  private FairQueuingLimiter createLimiter(final FairQueuingCfg cfg) {
+    return new FairQueuingLimiter(cfg, new FairQueuingMetrics("test"), () -> 0L);
+  }
+
+  private void track(
+      final CompletableFuture<Permit> future, final String key, final List<String> granted) {
+    future.thenAccept(
+        permit -> {
+          granted.add(key);
+          permit.release(Outcome.IGNORED);
+        });
+  }
+
+  private void releaseAll(final Permit permit, final List<String> granted, final int expected) {
+    permit.release(Outcome.IGNORED);
+    assertThat(granted).hasSize(expected);
+  }
+}
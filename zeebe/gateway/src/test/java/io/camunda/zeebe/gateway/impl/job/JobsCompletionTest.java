@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.broker.client.impl.BrokerClusterStateImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class JobsCompletionTest {
+
+  private final BrokerClusterStateImpl topology = new BrokerClusterStateImpl();
+  private final List<CompletableFuture<Integer>> startedJobs = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    topology.setPartitionsCount(2);
+  }
+
+  @Test
+  public void shouldCompleteAtMostFewJobsPerPartitionAtOnce() {
+    // given
+    final var jobs = pendingJobs(20);
+
+    // when
+    final var results = JobsCompletion.completeJobs(jobs, topology);
+
+    // then
+    assertThat(startedJobs).hasSize(2 * JobsCompletion.MAX_IN_FLIGHT_JOBS_PER_PARTITION);
+    startedJobs.get(0).complete(0);
+    assertThat(startedJobs).hasSize(2 * JobsCompletion.MAX_IN_FLIGHT_JOBS_PER_PARTITION + 1);
+    assertThat(results).isNotDone();
+  }
+
+  @Test
+  public void shouldReturnResultsInOrderOfJobs() {
+    // given
+    final var results = JobsCompletion.completeJobs(pendingJobs(20), topology);
+
+    // when - the running jobs finish in reverse order of their start
+    while (!results.isDone()) {
+      final var runningJobs = new ArrayList<>(startedJobs);
+      for (int i = runningJobs.size() - 1; i >= 0; i--) {
+        runningJobs.get(i).complete(i);
+      }
+    }
+
+    // then
+    assertThat(results).isCompletedWithValue(IntStream.range(0, 20).boxed().toList());
+  }
+
+  @Test
+  public void shouldCompleteJobsWhichFinishImmediately() {
+    // given
+    final List<Supplier<CompletionStage<Integer>>> jobs = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      final int result = i;
+      jobs.add(() -> CompletableFuture.completedFuture(result));
+    }
+
+    // when
+    final var results = JobsCompletion.completeJobs(jobs, topology);
+
+    // then
+    assertThat(results).isCompleted();
+    assertThat(results.join()).hasSize(100_000).isSorted();
+  }
+
+  @Test
+  public void shouldCompleteEmptyBatch() {
+    // when
+    final var results = JobsCompletion.completeJobs(pendingJobs(0), topology);
+
+    // then
+    assertThat(results).isCompletedWithValue(List.of());
+  }
+
+  @Test
+  public void shouldFailIfJobFails() {
+    // given
+    final var results = JobsCompletion.completeJobs(pendingJobs(2), topology);
+
+    // when
+    startedJobs.get(0).completeExceptionally(new IllegalStateException("expected"));
+
+    // then
+    assertThat(results).isCompletedExceptionally();
+  }
+
+  private List<Supplier<CompletionStage<Integer>>> pendingJobs(final int count) {
+    final List<Supplier<CompletionStage<Integer>>> jobs = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      jobs.add(
+          () -> {
+            final var job = new CompletableFuture<Integer>();
+            startedJobs.add(job);
+            return job;
+          });
+    }
+    return jobs;
+  }
+}
@@ -22,6 +22,7 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.util.Either;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.TreeMap;
@@ -120,29 +121,50 @@ public final class FlowControl implements AppendListener {
 
   private Either<Rejection, InFlightEntry> tryAcquireInternal(
       final WriteContext context, final List<LogAppendEntryMetadata> batchMetadata) {
-    final Listener requestListener;
+    final List<Listener> requestListeners;
     switch (context) {
       case final Internal ignored -> {
         // Internal commands are always accepted for incident response and maintenance.
         return Either.right(new InFlightEntry(metrics, batchMetadata, null));
       }
-      case UserCommand(final var intent) -> {
-        requestListener = processingLimiter.acquire(intent).orElse(null);
-        if (requestListener == null) {
+      case final UserCommand ignored -> {
+        requestListeners = tryAcquireRequests(batchMetadata);
+        if (requestListeners == null) {
           return Either.left(Rejection.RequestLimitExhausted);
         }
       }
-      default -> requestListener = null;
+      default -> requestListeners = null;
     }
 
     if (writeRateLimiter != null && !writeRateLimiter.tryAcquire(batchMetadata.size())) {
-      if (requestListener != null) {
-        requestListener.onIgnore();
+      if (requestListeners != null) {
+        requestListeners.forEach(Listener::onIgnore);
       }
       return Either.left(Rejection.WriteRateLimitExhausted);
     }
 
-    return Either.right(new InFlightEntry(metrics, batchMetadata, requestListener));
+    return Either.right(new InFlightEntry(metrics, batchMetadata, requestListeners));
+  }
+
+  /**
+   * Acquires one in-flight request per user command of the batch, as several commands may be
+   * appended together. Either all or none of them are acquired, as the batch is appended as a
+   * whole. Writers of coalesced commands split a rejected batch to admit the commands that still
+   * fit.
+   *
+   * @return the acquired request listeners, or null if the request limit is exhausted
+   */
+  private List<Listener> tryAcquireRequests(final List<LogAppendEntryMetadata> batchMetadata) {
+    final var requestListeners = new ArrayList<Listener>(batchMetadata.size());
+    for (final var metadata : batchMetadata) {
+      final var requestListener = processingLimiter.acquire(metadata.intent()).orElse(null);
+      if (requestListener == null) {
+        requestListeners.forEach(Listener::onIgnore);
+        return null;
+      }
+      requestListeners.add(requestListener);
+    }
+    return requestListeners;
   }
 
   public void onAppend(final InFlightEntry entry, final long highestPosition) {
@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.netflix.concurrency.limits.limit.FixedLimit;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl.Rejection;
+import io.camunda.zeebe.logstreams.impl.log.LogAppendEntryMetadata;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class FlowControlTest {
+  private static final WriteContext USER_COMMAND =
+      WriteContext.userCommand(ProcessInstanceCreationIntent.CREATE);
+
+  private final FlowControl flowControl =
+      new FlowControl(new LogStreamMetrics(1), FixedLimit.of(2), RateLimit.disabled());
+
+  @Test
+  void shouldAcceptUserCommandsWithinRequestLimit() {
+    // when
+    final var result = flowControl.tryAcquire(USER_COMMAND, commands(2));
+
+    // then
+    assertThat(result.isRight()).isTrue();
+  }
+
+  @Test
+  void shouldAcquireOneRequestPerUserCommand() {
+    // when
+    final var result = flowControl.tryAcquire(USER_COMMAND, commands(3));
+
+    // then
+    assertThat(result.isLeft()).isTrue();
+    assertThat(result.getLeft()).isEqualTo(Rejection.RequestLimitExhausted);
+  }
+
+  @Test
+  void shouldReleaseRequestsOfRejectedUserCommands() {
+    // given
+    flowControl.tryAcquire(USER_COMMAND, commands(3));
+
+    // when
+    final var result = flowControl.tryAcquire(USER_COMMAND, commands(2));
+
+    // then
+    assertThat(result.isRight()).isTrue();
+  }
+
+  @Test
+  void shouldRejectUserCommandsAboveRemainingRequestLimit() {
+    // given
+    flowControl.tryAcquire(USER_COMMAND, commands(1));
+
+    // when
+    final var result = flowControl.tryAcquire(USER_COMMAND, commands(2));
+
+    // then
+    assertThat(result.isLeft()).isTrue();
+  }
+
+  private static List<LogAppendEntryMetadata> commands(final int count) {
+    return Collections.nCopies(
+        count,
+        new LogAppendEntryMetadata(
+            RecordType.COMMAND,
+            ValueType.PROCESS_INSTANCE_CREATION,
+            ProcessInstanceCreationIntent.CREATE));
+  }
+}
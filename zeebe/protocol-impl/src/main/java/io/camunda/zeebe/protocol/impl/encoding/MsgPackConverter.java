@@ -36,7 +36,7 @@ import org.msgpack.jackson.dataformat.MessagePackFactory;
 
 public final class MsgPackConverter {
 
-  private static final StreamReadConstraints JSON_STREAM_CONSTRAINTS =
+  static final StreamReadConstraints JSON_STREAM_CONSTRAINTS =
       StreamReadConstraints.builder()
           .maxStringLength(Integer.MAX_VALUE)
           .maxNumberLength(Integer.MAX_VALUE)
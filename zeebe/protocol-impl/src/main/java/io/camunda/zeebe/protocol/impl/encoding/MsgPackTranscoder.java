@@ -0,0 +1,438 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.Feature;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.JsonToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.msgpack.spec.MsgpackException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.io.DirectBufferInputStream;
+
+/**
+ * Transcodes documents between JSON text and MessagePack by streaming the tokens of one format
+ * straight into the other. Compared to {@link MsgPackConverter}, no object mapper and no
+ * intermediate byte arrays are involved: JSON is tokenized by a shared {@link JsonFactory}, and
+ * both formats are written into buffers which are reused by the next call.
+ *
+ * <p>Instances are not thread-safe, and the returned buffers are only valid until the next call of
+ * the same instance.
+ */
+public final class MsgPackTranscoder {
+
+  private static final JsonFactory JSON_FACTORY =
+      new JsonFactory()
+          .configure(Feature.ALLOW_SINGLE_QUOTES, true)
+          .setStreamReadConstraints(MsgPackConverter.JSON_STREAM_CONSTRAINTS);
+
+  // the length of a map32 or array32 header, reserved while the size of a container is unknown
+  private static final int RESERVED_HEADER_LENGTH = 5;
+  private static final int INITIAL_DEPTH = 16;
+  private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+  private final ExpandableArrayBuffer msgPackBuffer = new ExpandableArrayBuffer();
+  private final ExpandableArrayBuffer jsonBuffer = new ExpandableArrayBuffer();
+  private final UnsafeBuffer resultView = new UnsafeBuffer(0, 0);
+  private final DirectBufferInputStream jsonInputStream = new DirectBufferInputStream();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+
+  // the currently open containers: the offsets of their reserved MessagePack headers, and their
+  // element count so far (JSON to MessagePack) or their remaining elements (MessagePack to JSON)
+  private int[] containerOffsets = new int[INITIAL_DEPTH];
+  private int[] containerSizes = new int[INITIAL_DEPTH];
+  private boolean[] containerIsMap = new boolean[INITIAL_DEPTH];
+  private int depth;
+  private int jsonOffset;
+
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+  ///////////////////////////////////// JSON to MSGPACK //////////////////////////////////////////
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * @param json the JSON document
+   * @return a view of the MessagePack document, valid until the next call
+   * @throws IllegalArgumentException if the JSON document is not valid
+   */
+  public DirectBuffer jsonToMsgPack(final String json) {
+    try (final JsonParser parser = JSON_FACTORY.createParser(json)) {
+      return writeMsgPack(parser);
+    } catch (final IOException | IllegalArgumentException e) {
+      throw new IllegalArgumentException("Failed to convert JSON to MessagePack", e);
+    }
+  }
+
+  /**
+   * @param json the UTF-8 encoded JSON document
+   * @return a view of the MessagePack document, valid until the next call
+   * @throws IllegalArgumentException if the JSON document is not valid
+   */
+  public DirectBuffer jsonToMsgPack(final DirectBuffer json) {
+    final byte[] array = json.byteArray();
+    try (final JsonParser parser =
+        array != null
+            ? JSON_FACTORY.createParser(array, json.wrapAdjustment(), json.capacity())
+            : JSON_FACTORY.createParser(wrapInputStream(json))) {
+      return writeMsgPack(parser);
+    } catch (final IOException | IllegalArgumentException e) {
+      throw new IllegalArgumentException("Failed to convert JSON to MessagePack", e);
+    }
+  }
+
+  private DirectBuffer writeMsgPack(final JsonParser parser) throws IOException {
+    writer.wrap(msgPackBuffer, 0);
+    depth = 0;
+
+    JsonToken token = parser.nextToken();
+    if (token == null || !(token.isStructStart() || token.isScalarValue())) {
+      throw new IllegalArgumentException(
+          "Document does not begin with an object, an array, or a scalar value");
+    }
+
+    do {
+      if (token == JsonToken.FIELD_NAME) {
+        // map sizes are counted by their keys
+        containerSizes[depth - 1]++;
+        writeString(parser);
+      } else if (token.isStructEnd()) {
+        closeContainer();
+      } else {
+        if (depth > 0 && !containerIsMap[depth - 1]) {
+          containerSizes[depth - 1]++;
+        }
+        writeValue(parser, token);
+      }
+    } while (depth > 0 && (token = parser.nextToken()) != null);
+
+    if (depth > 0) {
+      throw new IllegalArgumentException("Unexpected end of JSON document");
+    }
+
+    resultView.wrap(msgPackBuffer, 0, writer.getOffset());
+    return resultView;
+  }
+
+  private void writeValue(final JsonParser parser, final JsonToken token) throws IOException {
+    switch (token) {
+      case START_OBJECT -> openContainer(true);
+      case START_ARRAY -> openContainer(false);
+      case VALUE_STRING -> writeString(parser);
+      case VALUE_NUMBER_INT -> writeInteger(parser);
+      case VALUE_NUMBER_FLOAT -> writer.writeFloat(parser.getDoubleValue());
+      case VALUE_TRUE -> writer.writeBoolean(true);
+      case VALUE_FALSE -> writer.writeBoolean(false);
+      case VALUE_NULL -> writer.writeNil();
+      default -> throw new IllegalArgumentException("Unexpected JSON token " + token);
+    }
+  }
+
+  private void openContainer(final boolean isMap) {
+    ensureDepthCapacity();
+
+    final int headerOffset = writer.getOffset();
+    containerOffsets[depth] = headerOffset;
+    containerSizes[depth] = 0;
+    containerIsMap[depth] = isMap;
+    depth++;
+
+    writer.wrap(msgPackBuffer, headerOffset + RESERVED_HEADER_LENGTH);
+  }
+
+  private void ensureDepthCapacity() {
+    if (depth == containerOffsets.length) {
+      containerOffsets = Arrays.copyOf(containerOffsets, depth * 2);
+      containerSizes = Arrays.copyOf(containerSizes, depth * 2);
+      containerIsMap = Arrays.copyOf(containerIsMap, depth * 2);
+    }
+  }
+
+  /**
+   * Writes the header of the container now that its size is known. Unless it needs the full header,
+   * the content is moved to follow the shorter header, so that the result is encoded the same as by
+   * other MessagePack writers.
+   */
+  private void closeContainer() {
+    depth--;
+    final int headerOffset = containerOffsets[depth];
+    final int size = containerSizes[depth];
+    final boolean isMap = containerIsMap[depth];
+
+    final int headerLength =
+        isMap
+            ? MsgPackWriter.getEncodedMapHeaderLenght(size)
+            : MsgPackWriter.getEncodedArrayHeaderLenght(size);
+    final int contentOffset = headerOffset + RESERVED_HEADER_LENGTH;
+    final int contentLength = writer.getOffset() - contentOffset;
+
+    if (headerLength < RESERVED_HEADER_LENGTH && contentLength > 0) {
+      final byte[] bytes = msgPackBuffer.byteArray();
+      System.arraycopy(bytes, contentOffset, bytes, headerOffset + headerLength, contentLength);
+    }
+
+    writer.wrap(msgPackBuffer, headerOffset);
+    if (isMap) {
+      writer.writeMapHeader(size);
+    } else {
+      writer.writeArrayHeader(size);
+    }
+    writer.wrap(msgPackBuffer, headerOffset + headerLength + contentLength);
+  }
+
+  private void writeInteger(final JsonParser parser) throws IOException {
+    final NumberType numberType = parser.getNumberType();
+    if (numberType == NumberType.BIG_INTEGER) {
+      // the engine reads integers as signed 64 bit values only
+      throw new IllegalArgumentException(
+          "Expected an integer within the range of a long, but was " + parser.getText());
+    }
+    writer.writeInteger(parser.getLongValue());
+  }
+
+  /** Encodes the text of the current token as UTF-8 directly into the MessagePack buffer. */
+  private void writeString(final JsonParser parser) throws IOException {
+    final char[] chars = parser.getTextCharacters();
+    final int offset = parser.getTextOffset();
+    final int length = parser.getTextLength();
+
+    final int encodedLength = getUtf8Length(chars, offset, length);
+    writer.writeStringHeader(encodedLength);
+
+    int position = writer.getOffset();
+    msgPackBuffer.checkLimit(position + encodedLength);
+    final byte[] bytes = msgPackBuffer.byteArray();
+
+    for (int i = offset; i < offset + length; i++) {
+      final char c = chars[i];
+      if (c < 0x80) {
+        bytes[position++] = (byte) c;
+      } else if (c < 0x800) {
+        bytes[position++] = (byte) (0xC0 | (c >> 6));
+        bytes[position++] = (byte) (0x80 | (c & 0x3F));
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < offset + length
+          && Character.isLowSurrogate(chars[i + 1])) {
+        final int codePoint = Character.toCodePoint(c, chars[++i]);
+        bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+        bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+      } else if (Character.isSurrogate(c)) {
+        // unpaired surrogates are replaced, as by String#getBytes
+        bytes[position++] = '?';
+      } else {
+        bytes[position++] = (byte) (0xE0 | (c >> 12));
+        bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        bytes[position++] = (byte) (0x80 | (c & 0x3F));
+      }
+    }
+
+    writer.wrap(msgPackBuffer, position);
+  }
+
+  private static int getUtf8Length(final char[] chars, final int offset, final int length) {
+    int encodedLength = length;
+    for (int i = offset; i < offset + length; i++) {
+      final char c = chars[i];
+      if (c >= 0x80) {
+        if (c < 0x800) {
+          encodedLength += 1;
+        } else if (Character.isHighSurrogate(c)
+            && i + 1 < offset + length
+            && Character.isLowSurrogate(chars[i + 1])) {
+          // four bytes for both chars
+          encodedLength += 2;
+          i++;
+        } else if (!Character.isSurrogate(c)) {
+          encodedLength += 2;
+        }
+      }
+    }
+    return encodedLength;
+  }
+
+  private DirectBufferInputStream wrapInputStream(final DirectBuffer buffer) {
+    jsonInputStream.wrap(buffer);
+    return jsonInputStream;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+  ///////////////////////////////////// MSGPACK to JSON //////////////////////////////////////////
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * @param msgPack the MessagePack document
+   * @return a view of the UTF-8 encoded JSON document, valid until the next call
+   * @throws IllegalArgumentException if the MessagePack document is not valid
+   */
+  public DirectBuffer msgPackToJson(final DirectBuffer msgPack) {
+    reader.wrap(msgPack, 0, msgPack.capacity());
+    jsonOffset = 0;
+    depth = 0;
+
+    try {
+      writeJson();
+    } catch (final MsgpackException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Failed to convert MessagePack to JSON", e);
+    }
+
+    resultView.wrap(jsonBuffer, 0, jsonOffset);
+    return resultView;
+  }
+
+  /**
+   * @param msgPack the MessagePack document
+   * @return the JSON document
+   * @throws IllegalArgumentException if the MessagePack document is not valid
+   */
+  public String msgPackToJsonString(final DirectBuffer msgPack) {
+    final DirectBuffer json = msgPackToJson(msgPack);
+    return json.getStringWithoutLengthUtf8(0, json.capacity());
+  }
+
+  private void writeJson() {
+    do {
+      if (depth > 0) {
+        final int remaining = containerSizes[depth - 1];
+        if (remaining == 0) {
+          depth--;
+          writeJsonByte(containerIsMap[depth] ? '}' : ']');
+          continue;
+        }
+        // no previous element could end with an opening bracket
+        final byte previous = jsonBuffer.getByte(jsonOffset - 1);
+        if (previous != '{' && previous != '[') {
+          writeJsonByte(',');
+        }
+        containerSizes[depth - 1]--;
+
+        if (containerIsMap[depth - 1]) {
+          writeJsonKey(reader.readToken());
+          writeJsonByte(':');
+        }
+      }
+
+      final MsgPackToken token = reader.readToken();
+      switch (token.getType()) {
+        case MAP -> openJsonContainer(true, token.getSize());
+        case ARRAY -> openJsonContainer(false, token.getSize());
+        case STRING -> writeJsonString(token.getValueBuffer());
+        case INTEGER -> jsonOffset += jsonBuffer.putLongAscii(jsonOffset, token.getIntegerValue());
+        case FLOAT -> writeJsonFloat(token);
+        case BOOLEAN -> writeJsonAscii(token.getBooleanValue() ? "true" : "false");
+        case NIL -> writeJsonAscii("null");
+        case BINARY -> writeJsonBinary(token.getValueBuffer());
+        default ->
+            throw new IllegalArgumentException("Unexpected MessagePack token " + token.getType());
+      }
+    } while (depth > 0);
+  }
+
+  private void openJsonContainer(final boolean isMap, final int size) {
+    ensureDepthCapacity();
+    containerSizes[depth] = size;
+    containerIsMap[depth] = isMap;
+    depth++;
+
+    writeJsonByte(isMap ? '{' : '[');
+  }
+
+  private void writeJsonKey(final MsgPackToken key) {
+    switch (key.getType()) {
+      case STRING -> writeJsonString(key.getValueBuffer());
+      case INTEGER -> {
+        writeJsonByte('"');
+        jsonOffset += jsonBuffer.putLongAscii(jsonOffset, key.getIntegerValue());
+        writeJsonByte('"');
+      }
+      default -> throw new IllegalArgumentException("Unexpected MessagePack key " + key.getType());
+    }
+  }
+
+  private void writeJsonFloat(final MsgPackToken token) {
+    final double value = token.getFloatValue();
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      // not valid as JSON numbers
+      writeJsonByte('"');
+      writeJsonAscii(Double.toString(value));
+      writeJsonByte('"');
+    } else if (token.getTotalLength() == 5) {
+      // a float32 is printed with its own precision, like the value was written
+      writeJsonAscii(Float.toString((float) value));
+    } else {
+      writeJsonAscii(Double.toString(value));
+    }
+  }
+
+  /** Escapes the UTF-8 encoded string bytes, copying the runs which need no escaping at once. */
+  private void writeJsonString(final DirectBuffer value) {
+    writeJsonByte('"');
+
+    final int length = value.capacity();
+    int runStart = 0;
+    for (int i = 0; i < length; i++) {
+      final byte b = value.getByte(i);
+      if (b == '"' || b == '\\' || (b >= 0 && b < 0x20)) {
+        jsonBuffer.putBytes(jsonOffset, value, runStart, i - runStart);
+        jsonOffset += i - runStart;
+        runStart = i + 1;
+        writeJsonEscape(b);
+      }
+    }
+    jsonBuffer.putBytes(jsonOffset, value, runStart, length - runStart);
+    jsonOffset += length - runStart;
+
+    writeJsonByte('"');
+  }
+
+  private void writeJsonEscape(final byte b) {
+    writeJsonByte('\\');
+    switch (b) {
+      case '"', '\\' -> writeJsonByte(b);
+      case '\n' -> writeJsonByte('n');
+      case '\r' -> writeJsonByte('r');
+      case '\t' -> writeJsonByte('t');
+      case '\b' -> writeJsonByte('b');
+      case '\f' -> writeJsonByte('f');
+      default -> {
+        writeJsonAscii("u00");
+        writeJsonByte(HEX_DIGITS[b >> 4]);
+        writeJsonByte(HEX_DIGITS[b & 0xF]);
+      }
+    }
+  }
+
+  /** Binary values are written as Base64 strings, like Jackson does. */
+  private void writeJsonBinary(final DirectBuffer value) {
+    writeJsonByte('"');
+    final byte[] bytes = new byte[value.capacity()];
+    value.getBytes(0, bytes);
+    final byte[] encoded = Base64.getEncoder().encode(bytes);
+    jsonBuffer.putBytes(jsonOffset, encoded);
+    jsonOffset += encoded.length;
+    writeJsonByte('"');
+  }
+
+  private void writeJsonAscii(final String value) {
+    jsonOffset += jsonBuffer.putStringWithoutLengthAscii(jsonOffset, value);
+  }
+
+  private void writeJsonByte(final int b) {
+    jsonBuffer.putByte(jsonOffset++, (byte) b);
+  }
+}
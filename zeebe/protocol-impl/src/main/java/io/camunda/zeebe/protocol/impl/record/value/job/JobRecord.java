@@ -410,6 +410,11 @@ public final class JobRecord extends UnifiedRecordValue implements JobRecordValu
     return bufferAsString(tenantIdProp.getValue());
   }
 
+  @JsonIgnore
+  public DirectBuffer getTenantIdBuffer() {
+    return tenantIdProp.getValue();
+  }
+
   public JobRecord setTenantId(final String tenantId) {
     tenantIdProp.setValue(tenantId);
     return this;
@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class MsgPackTranscoderTest {
+
+  private final MsgPackTranscoder transcoder = new MsgPackTranscoder();
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "{}",
+        "[]",
+        "{\"key1\":1,\"key2\":2}",
+        "[1,-1,-33,200,70000,-70000,5000000000,-5000000000]",
+        "{\"s\":\"\\\"q\\\\ \\n\\t\\u0001 äöü 😀 /\",\"n\":null,\"t\":true,\"f\":false}",
+        "{\"x\":{\"y\":[{},[],{\"z\":[1,[2,[3]]]}]}}",
+        "\"text\"",
+        "123",
+        "null"
+      })
+  void shouldConvertJsonLikeConverter(final String json) {
+    // when
+    final DirectBuffer msgPack = transcoder.jsonToMsgPack(json);
+
+    // then
+    assertThat(BufferUtil.bufferAsArray(msgPack))
+        .isEqualTo(MsgPackConverter.convertToMsgPack(json));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "{}",
+        "[]",
+        "{\"key1\":1,\"key2\":2}",
+        "[1,-1,-33,200,70000,-70000,5000000000,-5000000000]",
+        "{\"s\":\"\\\"q\\\\ \\n\\t\\u0001 äöü 😀 /\",\"n\":null,\"t\":true,\"f\":false}",
+        "{\"x\":{\"y\":[{},[],{\"z\":[1,[2,[3]]]}]}}",
+        "[1.5,0.1,-2.25,1.0E10]",
+        "\"text\"",
+        "123",
+        "null"
+      })
+  void shouldConvertMsgPackLikeConverter(final String json) {
+    // given
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack(json);
+
+    // when
+    final String result = transcoder.msgPackToJsonString(new UnsafeBuffer(msgPack));
+
+    // then
+    assertThat(result).isEqualTo(MsgPackConverter.convertToJson(msgPack));
+  }
+
+  @Test
+  void shouldConvertFloats() {
+    // given
+    final String json = "{\"a\":1.5,\"b\":0.1,\"c\":-2.25,\"d\":1.0E10}";
+
+    // when
+    final DirectBuffer msgPack = transcoder.jsonToMsgPack(json);
+
+    // then - floats may be written with 32 bit if they fit, so compare the values only
+    assertThat(MsgPackConverter.convertToJson(msgPack)).isEqualTo(json);
+    assertThat(transcoder.msgPackToJsonString(msgPack)).isEqualTo(json);
+  }
+
+  @Test
+  void shouldConvertLargeContainers() {
+    // given - containers which need 16 and 32 bit headers
+    final String json =
+        IntStream.range(0, 70_000)
+            .mapToObj(i -> "{\"v" + i + "\":" + i + "}")
+            .collect(Collectors.joining(",", "[", "]"));
+
+    // when
+    final DirectBuffer msgPack = transcoder.jsonToMsgPack(json);
+
+    // then
+    assertThat(BufferUtil.bufferAsArray(msgPack))
+        .isEqualTo(MsgPackConverter.convertToMsgPack(json));
+    assertThat(transcoder.msgPackToJsonString(msgPack)).isEqualTo(json);
+  }
+
+  @Test
+  void shouldConvertUtf8EncodedJson() {
+    // given
+    final String json = "{\"key\":\"välue\"}";
+    final DirectBuffer jsonBuffer = new UnsafeBuffer(json.getBytes(StandardCharsets.UTF_8));
+
+    // when
+    final DirectBuffer msgPack = transcoder.jsonToMsgPack(jsonBuffer);
+
+    // then
+    assertThat(BufferUtil.bufferAsArray(msgPack))
+        .isEqualTo(MsgPackConverter.convertToMsgPack(json));
+  }
+
+  @Test
+  void shouldReuseBuffers() {
+    // given
+    transcoder.jsonToMsgPack("{\"key\":\"" + "x".repeat(1024) + "\"}");
+    transcoder.msgPackToJson(new UnsafeBuffer(MsgPackConverter.convertToMsgPack("[1,2,3]")));
+
+    // when
+    final DirectBuffer msgPack = transcoder.jsonToMsgPack("{\"a\":1}");
+
+    // then
+    assertThat(BufferUtil.bufferAsArray(msgPack))
+        .isEqualTo(MsgPackConverter.convertToMsgPack("{\"a\":1}"));
+    assertThat(transcoder.msgPackToJsonString(msgPack)).isEqualTo("{\"a\":1}");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "}", "{\"a\":", "[1,2", "99999999999999999999999"})
+  void shouldRejectInvalidJson(final String json) {
+    assertThatThrownBy(() -> transcoder.jsonToMsgPack(json))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Failed to convert JSON to MessagePack");
+  }
+
+  @Test
+  void shouldRejectInvalidMsgPack() {
+    // given - a map header without entries
+    final DirectBuffer msgPack = new UnsafeBuffer(new byte[] {(byte) 0x81});
+
+    // then
+    assertThatThrownBy(() -> transcoder.msgPackToJson(msgPack))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Failed to convert MessagePack to JSON");
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.encoding.perf;
+
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackTranscoder;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link MsgPackTranscoder} with the {@link MsgPackConverter}, converting documents
+ * from 1KB to 1MB from JSON to MessagePack and back.
+ *
+ * <p>Run it with the JMH runner, e.g. {@code org.openjdk.jmh.Main MsgPackTranscoderBenchmark};
+ * adding {@code -prof gc} shows the allocation rate of both.
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class MsgPackTranscoderBenchmark {
+
+  @Param({"1024", "65536", "1048576"})
+  public int documentSize;
+
+  private final MsgPackTranscoder transcoder = new MsgPackTranscoder();
+  private String json;
+  private byte[] msgPack;
+  private DirectBuffer msgPackBuffer;
+
+  @Setup
+  public void setup() {
+    json = createDocument(documentSize);
+    msgPack = MsgPackConverter.convertToMsgPack(json);
+    msgPackBuffer = new UnsafeBuffer(msgPack);
+  }
+
+  @Benchmark
+  public byte[] measureConverterJsonToMsgPack() {
+    return MsgPackConverter.convertToMsgPack(json);
+  }
+
+  @Benchmark
+  public DirectBuffer measureTranscoderJsonToMsgPack() {
+    return transcoder.jsonToMsgPack(json);
+  }
+
+  @Benchmark
+  public String measureConverterMsgPackToJson() {
+    return MsgPackConverter.convertToJson(msgPack);
+  }
+
+  @Benchmark
+  public DirectBuffer measureTranscoderMsgPackToJson() {
+    return transcoder.msgPackToJson(msgPackBuffer);
+  }
+
+  /** Creates a document of objects with mixed values, with roughly the given size. */
+  private static String createDocument(final int size) {
+    final StringBuilder json = new StringBuilder("{\"items\":[");
+    for (int i = 0; json.length() < size; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"id\":")
+          .append(i)
+          .append(",\"name\":\"item-")
+          .append(i)
+          .append("\",\"price\":")
+          .append(i * 0.25)
+          .append(",\"active\":")
+          .append(i % 2 == 0)
+          .append(",\"tags\":[\"a\",\"b\",\"c\"],\"note\":null}");
+    }
+    return json.append("]}").toString();
+  }
+}
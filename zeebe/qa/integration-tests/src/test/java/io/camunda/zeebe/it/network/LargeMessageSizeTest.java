@@ -208,7 +208,7 @@ public final class LargeMessageSizeTest {
   @Test
   public void
       shouldActivateJobsByRespectingMaxMessageSizeWhenActualSizeIsBiggerThanMaxMessageSize() {
-    // Numbers to test ResponseMapper.toActivateJobsResponse() method's if check where the actual
+    // Numbers to test the size check of ActivatedJobEncoder#toActivateJobsResponse where the actual
     // response size is bigger than the max message size when the response is built with metadata.
     // When we set jobVariableSize to 144, it produces ActivatedJob of size 1020 bytes.
     // 5 jobs of 1020 bytes equals to 5100 bytes (the configured maxMessageSize).